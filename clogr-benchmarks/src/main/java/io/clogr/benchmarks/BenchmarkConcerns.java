@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import io.clogr.logback.LogbackLoggingConcern;
+
+/**
+ * Logging concerns shared by the benchmarks and by the {@link CsarExecutorService} that runs benchmarks in a Csar thread-scoped concern.
+ * @author Garret Wilson
+ */
+public final class BenchmarkConcerns {
+
+	private BenchmarkConcerns() {
+	}
+
+	/**
+	 * Returns the shared Logback logging concern used for benchmarking. The root logger is set to {@link Level#INFO} and has a single {@link NOPAppender}
+	 * attached, so that {@link Level#DEBUG} calls are disabled and {@link Level#INFO} calls are enabled but produce no output.
+	 * @return The shared Logback logging concern.
+	 */
+	public static LogbackLoggingConcern logback() {
+		return LogbackHolder.LOGBACK_LOGGING_CONCERN;
+	}
+
+	/** Lazy holder of the shared Logback logging concern. */
+	private static final class LogbackHolder {
+
+		static final LogbackLoggingConcern LOGBACK_LOGGING_CONCERN;
+
+		static {
+			LOGBACK_LOGGING_CONCERN = new LogbackLoggingConcern();
+			final NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+			appender.setContext(LOGBACK_LOGGING_CONCERN);
+			appender.start();
+			LOGBACK_LOGGING_CONCERN.getRootLogger().addAppender(appender);
+			LOGBACK_LOGGING_CONCERN.getRootLogger().setLevel(Level.INFO);
+		}
+
+	}
+
+}
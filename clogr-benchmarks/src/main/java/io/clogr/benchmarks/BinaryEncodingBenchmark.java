@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks encoding events, comparing a {@link PatternLayoutEncoder} with a {@link BinaryEncoder}, both encoding the same cycle of events from several
+ * loggers and threads with increasing timestamps. The average encoded size of each event, including the dictionary definitions of
+ * the binary encoder amortized over many events, is printed when the benchmark is set up. Run with the GC profiler (<code>-prof gc</code>) to compare allocation per event.
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryEncodingBenchmark {
+
+	/** The pattern of the pattern layout encoder, matching the text layout of the decoded binary log. */
+	private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSS'Z',UTC} %-5level [%thread] %logger - %msg%n";
+
+	private PatternLayoutEncoder patternLayoutEncoder;
+
+	private BinaryEncoder binaryEncoder;
+
+	/** The events to encode in turn. */
+	private LoggingEvent[] events;
+
+	private int eventIndex = 0;
+
+	private long timestamp = System.currentTimeMillis();
+
+	/** The number of events to encode when measuring the average encoded size of events. */
+	private static final int SIZE_SAMPLE_COUNT = 10_000;
+
+	/** Creates and starts the encoders, creates the events, and prints the average encoded size of events; then starts a binary log file. */
+	@Setup
+	public void setup() {
+		final LoggerContext loggerContext = new LoggerContext();
+		patternLayoutEncoder = new PatternLayoutEncoder();
+		patternLayoutEncoder.setContext(loggerContext);
+		patternLayoutEncoder.setPattern(PATTERN);
+		patternLayoutEncoder.start();
+		binaryEncoder = new BinaryEncoder();
+		binaryEncoder.setContext(loggerContext);
+		binaryEncoder.start();
+		final String[] loggerNames = {"com.example.order.OrderService", "com.example.order.OrderRepository", "com.example.http.RequestHandler",
+				"com.example.payment.PaymentGateway"};
+		final String[] threadNames = {"http-worker-1", "http-worker-2", "scheduler-1"};
+		final String[] templates = {"Processing order {} for customer {}.", "Request {} completed in {} ms with status {}.", "Cache hit ratio {}.",
+				"Payment of {} authorized: {}."};
+		final Object[][] argumentArrays = {{123_456L, "customer-789"}, {"GET /orders/123456", 12, 200}, {0.875}, {49.95, true}};
+		events = new LoggingEvent[loggerNames.length * threadNames.length];
+		for(int i = 0; i < events.length; i++) {
+			final LoggingEvent event = new LoggingEvent();
+			event.setLevel(i % 5 == 0 ? Level.WARN : Level.INFO);
+			event.setLoggerName(loggerNames[i % loggerNames.length]);
+			event.setThreadName(threadNames[i % threadNames.length]);
+			event.setMessage(templates[i % templates.length]);
+			event.setArgumentArray(argumentArrays[i % argumentArrays.length]);
+			events[i] = event;
+		}
+		long patternLayoutByteCount = 0;
+		long binaryByteCount = binaryEncoder.headerBytes().length;
+		for(int i = 0; i < SIZE_SAMPLE_COUNT; i++) {
+			final LoggingEvent event = nextEvent();
+			patternLayoutByteCount += patternLayoutEncoder.encode(event).length;
+			binaryByteCount += binaryEncoder.encode(event).length;
+		}
+		System.out.printf("%n# Bytes per event: pattern layout %.1f, binary %.1f%n", (double)patternLayoutByteCount / SIZE_SAMPLE_COUNT,
+				(double)binaryByteCount / SIZE_SAMPLE_COUNT);
+		binaryEncoder.headerBytes();
+	}
+
+	/** @return The next event to encode, with a new timestamp. */
+	private LoggingEvent nextEvent() {
+		final LoggingEvent event = events[eventIndex];
+		eventIndex = (eventIndex + 1) % events.length;
+		event.setTimeStamp(timestamp++);
+		return event;
+	}
+
+	/**
+	 * Encodes an event using a pattern layout encoder.
+	 * @return The encoded bytes.
+	 */
+	@Benchmark
+	public byte[] patternLayoutEncoder() {
+		return patternLayoutEncoder.encode(nextEvent());
+	}
+
+	/**
+	 * Encodes an event using a binary encoder, returning a new byte array.
+	 * @return The encoded bytes.
+	 */
+	@Benchmark
+	public byte[] binaryEncoder() {
+		return binaryEncoder.encode(nextEvent());
+	}
+
+	/**
+	 * Encodes an event using a binary encoder, writing from the encoder's reusable buffer to an output stream as done by {@link BinaryFileAppender}.
+	 * @throws IOException if an error occurs writing the event.
+	 */
+	@Benchmark
+	public void binaryEncoderToStream() throws IOException {
+		binaryEncoder.encode(nextEvent(), OutputStream.nullOutputStream());
+	}
+
+}
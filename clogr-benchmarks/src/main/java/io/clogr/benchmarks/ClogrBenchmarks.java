@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.*;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs the Clogr benchmarks with each power-of-two number of threads from one up to the number of available processors, both with and without a Csar
+ * thread-scoped logging concern, reporting allocation using the JMH GC profiler.
+ * <p>
+ * Any arguments are passed to JMH as command-line options; for example a regular expression may be passed to select the benchmarks to run. To run benchmarks
+ * with JMH directly instead, use <code>java -cp benchmarks.jar org.openjdk.jmh.Main</code>.
+ * </p>
+ * @author Garret Wilson
+ * @see CsarExecutorService
+ */
+public class ClogrBenchmarks {
+
+	/**
+	 * Main program entry point.
+	 * @param args Command-line arguments passed to JMH.
+	 * @throws CommandLineOptionException if the arguments could not be parsed.
+	 * @throws RunnerException if there was an error running the benchmarks.
+	 */
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+		final Options commandLineOptions = new CommandLineOptions(args);
+		final int maxThreadCount = Runtime.getRuntime().availableProcessors();
+		final List<Integer> threadCounts = new ArrayList<>();
+		for(int threadCount = 1; threadCount < maxThreadCount; threadCount *= 2) {
+			threadCounts.add(threadCount);
+		}
+		threadCounts.add(maxThreadCount);
+		for(final boolean isCsarScoped : List.of(false, true)) {
+			for(final int threadCount : threadCounts) {
+				System.out.printf("%n# Clogr benchmarks: threads %d, %s concern%n", threadCount, isCsarScoped ? "Csar thread-scoped" : "default");
+				final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions).threads(threadCount).addProfiler(GCProfiler.class);
+				if(isCsarScoped) {
+					optionsBuilder.jvmArgsAppend("-Djmh.executor=CUSTOM", "-Djmh.executor.class=" + CsarExecutorService.class.getName());
+				}
+				new Runner(optionsBuilder.build()).run();
+			}
+		}
+	}
+
+}
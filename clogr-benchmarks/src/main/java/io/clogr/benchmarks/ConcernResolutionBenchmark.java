@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.clogr.*;
+
+/**
+ * Benchmarks resolution of the current logging concern.
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcernResolutionBenchmark {
+
+	/** Registers the benchmark Logback logging concern as the default logging concern. */
+	@Setup
+	public void setup() {
+		Clogr.setDefaultLoggingConcern(BenchmarkConcerns.logback());
+	}
+
+	/**
+	 * Resolves the logging concern for the current thread.
+	 * @return The logging concern.
+	 * @see Clogr#getLoggingConcern()
+	 */
+	@Benchmark
+	public LoggingConcern getLoggingConcern() {
+		return Clogr.getLoggingConcern();
+	}
+
+}
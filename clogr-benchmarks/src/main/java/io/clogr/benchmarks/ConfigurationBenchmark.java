@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ch.qos.logback.core.joran.spi.JoranException;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks configuring a logging concern from Logback XML compared with configuring it from a cached, previously parsed configuration model.
+ * @author Garret Wilson
+ * @see ConfigurationModelCache
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationBenchmark {
+
+	/** A typical tenant configuration template. */
+	private static final byte[] CONFIGURATION = ("<configuration>\n" //
+			+ "  <appender name=\"NOP\" class=\"ch.qos.logback.core.helpers.NOPAppender\" />\n" //
+			+ "  <appender name=\"ASYNC\" class=\"io.clogr.logback.RingBufferAsyncAppender\">\n" //
+			+ "    <bufferSize>1024</bufferSize>\n" //
+			+ "    <appender-ref ref=\"NOP\" />\n" //
+			+ "  </appender>\n" //
+			+ "  <logger name=\"tenant.${tenant}\" level=\"DEBUG\" />\n" //
+			+ "  <logger name=\"org.example\" level=\"WARN\" />\n" //
+			+ "  <root level=\"INFO\"><appender-ref ref=\"ASYNC\" /></root>\n" //
+			+ "</configuration>\n").getBytes(UTF_8);
+
+	private static final Map<String, String> PROPERTIES = Map.of("tenant", "benchmark");
+
+	private final ConfigurationModelCache configurationModelCache = new ConfigurationModelCache();
+
+	/** Configures a new logging concern by parsing the XML configuration. */
+	@Benchmark
+	public LogbackLoggingConcern xml() throws JoranException {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		PROPERTIES.forEach(loggingConcern::putProperty);
+		loggingConcern.configure(new ByteArrayInputStream(CONFIGURATION));
+		loggingConcern.stop();
+		return loggingConcern;
+	}
+
+	/** Configures a new logging concern using a cached configuration model. */
+	@Benchmark
+	public LogbackLoggingConcern cachedModel() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		loggingConcern.configure(configurationModelCache.getModel(CONFIGURATION), PROPERTIES);
+		loggingConcern.stop();
+		return loggingConcern;
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.clogr.Clogr;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks selection of the current Logback logger context by {@link ClogrContextSelector}, which Logback would perform for each logging event if context
+ * selection were supported.
+ * <p>
+ * The context selector does not cache its selection, because the current logging concern must be resolved on each call in any case, and resolution
+ * dominates the cost of selection. This benchmark therefore compares the selector with a bare cast of the resolved concern, measuring the cost of the check
+ * that falls back to the default logger context for concerns not backed by Logback.
+ * </p>
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextSelectorBenchmark {
+
+	private final ClogrContextSelector contextSelector = new ClogrContextSelector(new LoggerContext());
+
+	/** Registers the benchmark Logback logging concern as the default logging concern. */
+	@Setup
+	public void setup() {
+		Clogr.setDefaultLoggingConcern(BenchmarkConcerns.logback());
+	}
+
+	/**
+	 * Baseline selecting the logger context by resolving and casting the current logging concern, without checking whether the concern is backed by Logback.
+	 * @return The selected logger context.
+	 */
+	@Benchmark
+	public LoggerContext castGetLoggerContext() {
+		return ((LoggerContextLoggingConcern)Clogr.getLoggingConcern()).getLoggerContext();
+	}
+
+	/**
+	 * Selects the logger context using the context selector.
+	 * @return The selected logger context.
+	 * @see ClogrContextSelector#getLoggerContext()
+	 */
+	@Benchmark
+	public LoggerContext getLoggerContext() {
+		return contextSelector.getLoggerContext();
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.csar.Csar;
+
+/**
+ * Executor service for running JMH benchmark threads with a Csar thread-scoped logging concern.
+ * <p>
+ * Benchmark threads are created using {@link Csar#createThread(String, Runnable, io.csar.Concern...)} with the concern returned by
+ * {@link BenchmarkConcerns#logback()}, so that concern lookups from benchmark code are resolved from the thread group rather than from the Csar default
+ * concerns. Install this executor by passing <code>-Djmh.executor=CUSTOM -Djmh.executor.class=io.clogr.benchmarks.CsarExecutorService</code> to the forked
+ * JVM.
+ * </p>
+ * @author Garret Wilson
+ */
+public class CsarExecutorService extends ThreadPoolExecutor {
+
+	/**
+	 * Constructor as required by the JMH <code>CUSTOM</code> executor type.
+	 * @param maxThreads The maximum number of benchmark threads.
+	 * @param prefix The prefix to use for thread names.
+	 */
+	public CsarExecutorService(final int maxThreads, final String prefix) {
+		super(maxThreads, maxThreads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new ThreadFactory() {
+			private final AtomicInteger threadCount = new AtomicInteger();
+
+			@Override
+			public Thread newThread(final Runnable runnable) {
+				final Thread thread = Csar.createThread(prefix + "-csar-" + threadCount.incrementAndGet(), runnable, BenchmarkConcerns.logback());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+}
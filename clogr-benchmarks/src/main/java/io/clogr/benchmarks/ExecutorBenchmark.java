@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.clogr.*;
+
+/**
+ * Benchmarks the throughput of executors that propagate the logging concern compared with unwrapped executors. Each operation submits a batch of tasks that
+ * each log at an enabled level, and waits for the batch to complete.
+ * @author Garret Wilson
+ * @see Clogr#wrap(ExecutorService)
+ * @see Clogr#newForkJoinPool(int)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorBenchmark {
+
+	/** The number of tasks submitted in each operation. */
+	private static final int BATCH_SIZE = 1000;
+
+	@Param({"1", "4"})
+	private int threadCount;
+
+	private ExecutorService executorService;
+
+	private ExecutorService wrappedExecutorService;
+
+	private ForkJoinPool forkJoinPool;
+
+	private ForkJoinPool clogrForkJoinPool;
+
+	/** Registers the benchmark Logback logging concern as the default logging concern and creates the executors. */
+	@Setup
+	public void setup() {
+		Clogr.setDefaultLoggingConcern(BenchmarkConcerns.logback());
+		executorService = Executors.newFixedThreadPool(threadCount);
+		wrappedExecutorService = Clogr.wrap(Executors.newFixedThreadPool(threadCount));
+		forkJoinPool = new ForkJoinPool(threadCount);
+		clogrForkJoinPool = Clogr.newForkJoinPool(threadCount);
+	}
+
+	/** Shuts down the executors. */
+	@TearDown
+	public void tearDown() {
+		executorService.shutdown();
+		wrappedExecutorService.shutdown();
+		forkJoinPool.shutdown();
+		clogrForkJoinPool.shutdown();
+	}
+
+	/**
+	 * Submits a batch of logging tasks to an executor and waits for them to complete.
+	 * @param executor The executor to which to submit the tasks.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	private static void runBatch(final Executor executor) throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
+		for(int i = 0; i < BATCH_SIZE; i++) {
+			final int value = i;
+			executor.execute(() -> {
+				Clogr.getLogger(ExecutorBenchmark.class).info("Value {}.", value);
+				latch.countDown();
+			});
+		}
+		latch.await();
+	}
+
+	/**
+	 * Runs a parallel stream of logging operations within a fork/join pool.
+	 * @param forkJoinPool The pool in which to run the stream.
+	 * @return The sum of the items processed.
+	 * @throws InterruptedException if interrupted while waiting.
+	 * @throws ExecutionException if the stream fails.
+	 */
+	private static long runParallelStream(final ForkJoinPool forkJoinPool) throws InterruptedException, ExecutionException {
+		return forkJoinPool.submit(() -> IntStream.range(0, BATCH_SIZE).parallel().mapToLong(value -> {
+			Clogr.getLogger(ExecutorBenchmark.class).info("Value {}.", value);
+			return value;
+		}).sum()).get();
+	}
+
+	/** Submits a batch of tasks to an unwrapped executor service. */
+	@Benchmark
+	public void executorService() throws InterruptedException {
+		runBatch(executorService);
+	}
+
+	/** Submits a batch of tasks to an executor service propagating the logging concern. */
+	@Benchmark
+	public void wrappedExecutorService() throws InterruptedException {
+		runBatch(wrappedExecutorService);
+	}
+
+	/** Runs a parallel stream in a fork/join pool using the default worker threads. */
+	@Benchmark
+	public long forkJoinPool() throws InterruptedException, ExecutionException {
+		return runParallelStream(forkJoinPool);
+	}
+
+	/** Runs a parallel stream in a fork/join pool with worker threads bound to the logging concern. */
+	@Benchmark
+	public long clogrForkJoinPool() throws InterruptedException, ExecutionException {
+		return runParallelStream(clogrForkJoinPool);
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks enabled logging calls writing to a file, comparing a Logback logging concern using a {@link FileAppender} and {@link PatternLayoutEncoder} with a
+ * {@link GarbageFreeLoggingConcern} using a {@link GarbageFreeFileAppender} and {@link GarbageFreeEncoder}. Run with the GC profiler (<code>-prof gc</code>)
+ * to compare allocation per call; in steady state the garbage-free configuration should report no allocation.
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GarbageFreeBenchmark {
+
+	private final Integer value = 42;
+
+	private Path directory;
+
+	private LogbackLoggingConcern standardLoggingConcern;
+
+	private LogbackLoggingConcern garbageFreeLogbackLoggingConcern;
+
+	private Logger standardLogger;
+
+	private Logger garbageFreeLogger;
+
+	/**
+	 * Creates the logging concerns, each writing to a file in a temporary directory without flushing after each event.
+	 * @throws IOException if the temporary directory could not be created.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("clogr-benchmark");
+		standardLoggingConcern = new LogbackLoggingConcern();
+		final PatternLayoutEncoder patternLayoutEncoder = new PatternLayoutEncoder();
+		patternLayoutEncoder.setContext(standardLoggingConcern);
+		patternLayoutEncoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS'Z',UTC} %-5level [%thread] %logger - %msg%n");
+		patternLayoutEncoder.start();
+		addFileAppender(standardLoggingConcern, new FileAppender<>(), patternLayoutEncoder, directory.resolve("standard.log"));
+		standardLogger = standardLoggingConcern.getLogger(GarbageFreeBenchmark.class);
+		garbageFreeLogbackLoggingConcern = new LogbackLoggingConcern();
+		final GarbageFreeEncoder garbageFreeEncoder = new GarbageFreeEncoder();
+		garbageFreeEncoder.setContext(garbageFreeLogbackLoggingConcern);
+		garbageFreeEncoder.start();
+		addFileAppender(garbageFreeLogbackLoggingConcern, new GarbageFreeFileAppender(), garbageFreeEncoder, directory.resolve("garbage-free.log"));
+		garbageFreeLogger = new GarbageFreeLoggingConcern(garbageFreeLogbackLoggingConcern).getLogger(GarbageFreeBenchmark.class);
+	}
+
+	/**
+	 * Configures and attaches a file appender to the root logger of a logging concern, setting the root logger to the {@link Level#INFO} level.
+	 * @param loggingConcern The logging concern.
+	 * @param appender The file appender.
+	 * @param encoder The started encoder.
+	 * @param file The log file.
+	 */
+	private static void addFileAppender(final LogbackLoggingConcern loggingConcern, final FileAppender<ILoggingEvent> appender,
+			final ch.qos.logback.core.encoder.Encoder<ILoggingEvent> encoder, final Path file) {
+		appender.setContext(loggingConcern);
+		appender.setName("file");
+		appender.setFile(file.toString());
+		appender.setEncoder(encoder);
+		appender.setImmediateFlush(false);
+		appender.start();
+		loggingConcern.getRootLogger().addAppender(appender);
+		loggingConcern.getRootLogger().setLevel(Level.INFO);
+	}
+
+	/**
+	 * Stops the logging concerns and deletes the log files.
+	 * @throws IOException if the files could not be deleted.
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		standardLoggingConcern.stop();
+		garbageFreeLogbackLoggingConcern.stop();
+		try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for(final Path file : files) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	/** Logs with one argument using a standard Logback logger. */
+	@Benchmark
+	public void standard() {
+		standardLogger.info("Value {}.", value);
+	}
+
+	/** Logs with one argument using a garbage-free logger. */
+	@Benchmark
+	public void garbageFree() {
+		garbageFreeLogger.info("Value {}.", value);
+	}
+
+	/** Logs with one argument via the SLF4J fluent API using a standard Logback logger. */
+	@Benchmark
+	public void standardFluent() {
+		standardLogger.atInfo().addArgument(value).log("Value {}.");
+	}
+
+	/** Logs with one argument via the SLF4J fluent API using a garbage-free logger. */
+	@Benchmark
+	public void garbageFreeFluent() {
+		garbageFreeLogger.atInfo().addArgument(value).log("Value {}.");
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.event.Level;
+
+import io.clogr.logback.LogbackLoggingConcern;
+
+/**
+ * Benchmarks applying a large map of log levels to a logger hierarchy in which no loggers have explicit levels, one logger at a time in ancestors-first order
+ * compared with a bulk update. Applying levels ancestors-first causes the effective levels of each subtree to be recomputed once for each ancestor updated.
+ * @author Garret Wilson
+ * @see io.clogr.LoggingConcern#setLogLevels(Map)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LevelUpdateBenchmark {
+
+	/** The number of levels in each update. */
+	private static final int LEVEL_COUNT = 2000;
+
+	private final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+
+	private final Map<String, Level> levelMap = new LinkedHashMap<>(); //ancestors first
+
+	/** Creates a logger hierarchy of packages and classes and the level maps to apply to it. */
+	@Setup
+	public void setup() {
+		final List<String> loggerNames = new ArrayList<>();
+		for(int i = 0; loggerNames.size() < LEVEL_COUNT; i++) { //e.g. `com.example.p3`, `com.example.p3.q1`, `com.example.p3.q1.Class4`
+			final String packageName = "com.example.p" + (i / 50);
+			final String subpackageName = packageName + ".q" + (i / 10 % 5);
+			loggerNames.add(packageName);
+			loggerNames.add(subpackageName);
+			loggerNames.add(subpackageName + ".Class" + i);
+		}
+		for(int i = 0; i < LEVEL_COUNT; i++) {
+			levelMap.put(loggerNames.get(i), i % 2 == 0 ? Level.DEBUG : Level.WARN);
+		}
+		for(int i = 0; i < LEVEL_COUNT * 10; i++) { //loggers without explicit levels, whose effective levels must be recomputed
+			loggingConcern.getLogger(loggerNames.get(i % LEVEL_COUNT) + ".Inner" + i);
+		}
+	}
+
+	/** Clears the explicit levels of all loggers before each update. */
+	@Setup(org.openjdk.jmh.annotations.Level.Invocation)
+	public void resetLevels() {
+		loggingConcern.reset();
+	}
+
+	/** Sets each level individually, in the order of the map. */
+	@Benchmark
+	public void individual() {
+		levelMap.forEach((loggerName, level) -> loggingConcern.setLogLevel(loggingConcern.getLogger(loggerName), level));
+	}
+
+	/** Sets all levels using a bulk update. */
+	@Benchmark
+	public void bulk() {
+		loggingConcern.setLogLevels(levelMap);
+	}
+
+}
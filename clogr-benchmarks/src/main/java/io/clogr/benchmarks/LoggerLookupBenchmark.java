@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.*;
+
+import io.clogr.*;
+
+/**
+ * Benchmarks retrieval of a logger via Clogr compared with retrieving a logger directly from SLF4J and from the logging concerns themselves.
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerLookupBenchmark {
+
+	/** A class that retrieves its logger using {@link Clogged}. */
+	public static class CloggedObject implements Clogged {
+	}
+
+	private final CloggedObject cloggedObject = new CloggedObject();
+
+	/** Registers the benchmark Logback logging concern as the default logging concern. */
+	@Setup
+	public void setup() {
+		Clogr.setDefaultLoggingConcern(BenchmarkConcerns.logback());
+	}
+
+	/**
+	 * Baseline retrieving a logger directly from SLF4J.
+	 * @return The logger.
+	 * @see LoggerFactory#getLogger(Class)
+	 */
+	@Benchmark
+	public Logger loggerFactoryGetLogger() {
+		return LoggerFactory.getLogger(LoggerLookupBenchmark.class);
+	}
+
+	/**
+	 * Retrieves a logger via Clogr for the current concern.
+	 * @return The logger.
+	 * @see Clogr#getLogger(Class)
+	 */
+	@Benchmark
+	public Logger clogrGetLogger() {
+		return Clogr.getLogger(LoggerLookupBenchmark.class);
+	}
+
+	/**
+	 * Retrieves a logger via the {@link Clogged} mixin.
+	 * @return The logger.
+	 * @see Clogged#getLogger()
+	 */
+	@Benchmark
+	public Logger cloggedGetLogger() {
+		return cloggedObject.getLogger();
+	}
+
+	/**
+	 * Retrieves a logger directly from the default logging concern, which delegates to SLF4J.
+	 * @return The logger.
+	 * @see LoggingConcern#DEFAULT
+	 */
+	@Benchmark
+	public Logger defaultLoggingConcernGetLogger() {
+		return LoggingConcern.DEFAULT.getLogger(LoggerLookupBenchmark.class);
+	}
+
+	/**
+	 * Retrieves a logger directly from a Logback logging concern.
+	 * @return The logger.
+	 * @see io.clogr.logback.LogbackLoggingConcern
+	 */
+	@Benchmark
+	public Logger logbackLoggingConcernGetLogger() {
+		return BenchmarkConcerns.logback().getLogger(LoggerLookupBenchmark.class);
+	}
+
+}
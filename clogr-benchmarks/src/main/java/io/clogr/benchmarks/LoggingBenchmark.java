@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+
+import io.clogr.*;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks logging calls at disabled and enabled levels. Enabled calls go to a no-op appender, so that the cost measured is that of Clogr and Logback
+ * rather than of output.
+ * @author Garret Wilson
+ * @see BenchmarkConcerns#logback()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+	private Logger staticLogger;
+
+	private Logger overrideEnabledLogger;
+
+	private final Logger dynamicLogger = Clogr.dynamicLogger(LoggingBenchmark.class);
+
+	/**
+	 * Per-thread source of argument values, so that threads of a multi-threaded run do not contend on a shared counter.
+	 * @author Garret Wilson
+	 */
+	@State(Scope.Thread)
+	public static class Values {
+
+		private long value = 0;
+
+		/** @return The next argument value. */
+		long next() {
+			return value++;
+		}
+
+	}
+
+	/** Registers the benchmark Logback logging concern as the default logging concern and retrieves a logger to be held as if in a static variable. */
+	@Setup
+	public void setup() {
+		Clogr.setDefaultLoggingConcern(BenchmarkConcerns.logback());
+		staticLogger = BenchmarkConcerns.logback().getLogger(LoggingBenchmark.class);
+		final LogbackLoggingConcern overrideEnabledLoggingConcern = new LogbackLoggingConcern();
+		overrideEnabledLoggingConcern.getRootLogger().setLevel(ch.qos.logback.classic.Level.INFO);
+		LogLevelOverrideTurboFilter.enable(overrideEnabledLoggingConcern);
+		overrideEnabledLogger = overrideEnabledLoggingConcern.getLogger(LoggingBenchmark.class);
+	}
+
+	/**
+	 * Logs at a disabled level using a logger held in a variable.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void staticLoggerDisabled(final Values values) {
+		staticLogger.debug("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at an enabled level using a logger held in a variable.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void staticLoggerEnabled(final Values values) {
+		staticLogger.info("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at a disabled level using a logger held in a variable, from a logging concern with log level overrides enabled but none in effect.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void overrideEnabledLoggerDisabled(final Values values) {
+		overrideEnabledLogger.debug("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at a disabled level using a dynamic logger held in a variable.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void dynamicLoggerDisabled(final Values values) {
+		dynamicLogger.debug("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at an enabled level using a dynamic logger held in a variable.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void dynamicLoggerEnabled(final Values values) {
+		dynamicLogger.info("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at a disabled level using a logger retrieved via Clogr for each call.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void clogrDisabled(final Values values) {
+		Clogr.getLogger(LoggingBenchmark.class).debug("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at an enabled level using a logger retrieved via Clogr for each call.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void clogrEnabled(final Values values) {
+		Clogr.getLogger(LoggingBenchmark.class).info("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at a disabled level using the SLF4J 2 fluent API with a logger retrieved via Clogr for each call.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void clogrFluentDisabled(final Values values) {
+		Clogr.getLogger(LoggingBenchmark.class).atDebug().log("Value {}.", values.next());
+	}
+
+	/**
+	 * Logs at an enabled level using the SLF4J 2 fluent API with a logger retrieved via Clogr for each call.
+	 * @param values The per-thread argument values.
+	 */
+	@Benchmark
+	public void clogrFluentEnabled(final Values values) {
+		Clogr.getLogger(LoggingBenchmark.class).atInfo().log("Value {}.", values.next());
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.core.FileAppender;
+import io.clogr.logback.*;
+
+/**
+ * Benchmarks enabled logging calls writing to a file, comparing a standard {@link FileAppender}, which writes each event using a system call, with a
+ * {@link MemoryMappedFileAppender}, which copies each event into a mapped region of the file. Both use the same {@link PatternLayoutEncoder} pattern. Run with
+ * several threads (e.g. <code>-t 4</code>) to compare contention between logging threads.
+ * @author Garret Wilson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoryMappedFileBenchmark {
+
+	/** The pattern of the encoders. */
+	private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSS'Z',UTC} %-5level [%thread] %logger - %msg%n";
+
+	private final Integer value = 42;
+
+	private Path directory;
+
+	private LogbackLoggingConcern fileLoggingConcern;
+
+	private LogbackLoggingConcern memoryMappedLoggingConcern;
+
+	private Logger fileLogger;
+
+	private Logger memoryMappedLogger;
+
+	/**
+	 * Creates the logging concerns, each writing to a file in a temporary directory.
+	 * @throws IOException if the temporary directory could not be created.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("clogr-benchmark");
+		fileLoggingConcern = new LogbackLoggingConcern();
+		final FileAppender<ch.qos.logback.classic.spi.ILoggingEvent> fileAppender = new FileAppender<>();
+		fileAppender.setContext(fileLoggingConcern);
+		fileAppender.setName("file");
+		fileAppender.setFile(directory.resolve("file.log").toString());
+		fileAppender.setEncoder(createEncoder(fileLoggingConcern));
+		fileAppender.start();
+		fileLoggingConcern.getRootLogger().addAppender(fileAppender);
+		fileLoggingConcern.getRootLogger().setLevel(Level.INFO);
+		fileLogger = fileLoggingConcern.getLogger(MemoryMappedFileBenchmark.class);
+		memoryMappedLoggingConcern = new LogbackLoggingConcern();
+		final MemoryMappedFileAppender memoryMappedFileAppender = new MemoryMappedFileAppender();
+		memoryMappedFileAppender.setContext(memoryMappedLoggingConcern);
+		memoryMappedFileAppender.setName("file");
+		memoryMappedFileAppender.setFile(directory.resolve("memory-mapped.log").toString());
+		memoryMappedFileAppender.setEncoder(createEncoder(memoryMappedLoggingConcern));
+		memoryMappedFileAppender.start();
+		memoryMappedLoggingConcern.getRootLogger().addAppender(memoryMappedFileAppender);
+		memoryMappedLoggingConcern.getRootLogger().setLevel(Level.INFO);
+		memoryMappedLogger = memoryMappedLoggingConcern.getLogger(MemoryMappedFileBenchmark.class);
+	}
+
+	/**
+	 * Creates and starts a pattern layout encoder.
+	 * @param loggingConcern The logging concern.
+	 * @return The started encoder.
+	 */
+	private static PatternLayoutEncoder createEncoder(final LogbackLoggingConcern loggingConcern) {
+		final PatternLayoutEncoder patternLayoutEncoder = new PatternLayoutEncoder();
+		patternLayoutEncoder.setContext(loggingConcern);
+		patternLayoutEncoder.setPattern(PATTERN);
+		patternLayoutEncoder.start();
+		return patternLayoutEncoder;
+	}
+
+	/**
+	 * Stops the logging concerns and deletes the log files.
+	 * @throws IOException if the files could not be deleted.
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		fileLoggingConcern.stop();
+		memoryMappedLoggingConcern.stop();
+		try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for(final Path file : files) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	/** Logs with one argument to a standard file appender. */
+	@Benchmark
+	public void fileAppender() {
+		fileLogger.info("Value {}.", value);
+	}
+
+	/** Logs with one argument to a memory-mapped file appender. */
+	@Benchmark
+	public void memoryMappedFileAppender() {
+		memoryMappedLogger.info("Value {}.", value);
+	}
+
+}
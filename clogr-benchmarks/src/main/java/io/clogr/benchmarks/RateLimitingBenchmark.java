@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import io.clogr.RateLimitingLoggingConcern;
+import io.clogr.RateLimitingLoggingConcern.Rule;
+
+/**
+ * Benchmarks logging calls through a {@link RateLimitingLoggingConcern}, both from a single thread and from several threads logging from the same call site.
+ * Messages have no arguments, so that any allocation reported by the GC profiler for suppressed calls would be that of the rate limiting itself.
+ * @author Garret Wilson
+ * @see BenchmarkConcerns#logback()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitingBenchmark {
+
+	private Logger plainLogger;
+
+	private Logger unlimitedLogger;
+
+	private Logger limitedLogger;
+
+	/** Creates a rate-limiting logging concern decorating the benchmark Logback logging concern, and retrieves loggers to be held as if in static variables. */
+	@Setup
+	public void setup() {
+		plainLogger = BenchmarkConcerns.logback().getLoggerFactory().getLogger("benchmark.plain");
+		final RateLimitingLoggingConcern loggingConcern = new RateLimitingLoggingConcern(BenchmarkConcerns.logback());
+		loggingConcern.addRule(Rule.rateLimit("benchmark.limited", Level.ERROR, 1.0, 1));
+		unlimitedLogger = loggingConcern.getLoggerFactory().getLogger("benchmark.unlimited");
+		limitedLogger = loggingConcern.getLoggerFactory().getLogger("benchmark.limited");
+	}
+
+	/** Logs at an enabled level without a rate-limiting logging concern, as a baseline. */
+	@Benchmark
+	public void plain() {
+		plainLogger.info("Message.");
+	}
+
+	/** Logs at an enabled level using a logger to which no rule applies. */
+	@Benchmark
+	public void unlimited() {
+		unlimitedLogger.info("Message.");
+	}
+
+	/** Logs at an enabled level using a logger whose events are nearly all suppressed. */
+	@Benchmark
+	public void limited() {
+		limitedLogger.info("Message.");
+	}
+
+	/** Logs at an enabled level from several threads using a logger whose events are nearly all suppressed. */
+	@Benchmark
+	@Threads(4)
+	public void limitedContended() {
+		limitedLogger.info("Message.");
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback.provider;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.clogr.*;
+import io.clogr.logback.LoggerContextLoggingConcern;
+
+/**
+ * Logging concern that defers creating the logging concern it delegates to, and thus configuring the underlying logging implementation, until the logging
+ * concern is first used.
+ * <p>
+ * Every logging concern method is forwarded to the delegate. This class is also a {@link LoggerContextLoggingConcern}, so that code such as the
+ * {@link io.clogr.logback.ClogrContextSelector} that recognizes a Logback logging concern will recognize it as well.
+ * </p>
+ * @author Garret Wilson
+ */
+final class LazyLoggingConcern implements LoggerContextLoggingConcern {
+
+	private final Supplier<? extends LoggingConcern> delegateSupplier;
+
+	/** The logging concern to which calls are delegated, or <code>null</code> if it has not yet been created. */
+	@Nullable
+	private volatile LoggingConcern delegate = null;
+
+	/**
+	 * Constructor.
+	 * @param delegateSupplier The strategy for creating the logging concern to which calls will be delegated; called at most once.
+	 * @throws NullPointerException if the given supplier is <code>null</code>.
+	 */
+	LazyLoggingConcern(@Nonnull final Supplier<? extends LoggingConcern> delegateSupplier) {
+		this.delegateSupplier = requireNonNull(delegateSupplier);
+	}
+
+	/** @return Whether the delegate logging concern has been created. */
+	boolean isInitialized() {
+		return delegate != null;
+	}
+
+	/**
+	 * Returns the logging concern to which calls are delegated, creating it if needed.
+	 * @return The delegate logging concern.
+	 */
+	LoggingConcern getDelegate() {
+		LoggingConcern loggingConcern = delegate;
+		if(loggingConcern == null) {
+			synchronized(this) {
+				loggingConcern = delegate;
+				if(loggingConcern == null) {
+					loggingConcern = requireNonNull(delegateSupplier.get());
+					delegate = loggingConcern;
+				}
+			}
+		}
+		return loggingConcern;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns {@link LoggingConcern} without creating the delegate, because Csar requests the concern type when registering the
+	 *           concern during discovery.
+	 */
+	@Override
+	public Class<LoggingConcern> getConcernType() {
+		return LoggingConcern.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the logger context of the delegate if it is a {@link LoggerContextLoggingConcern}; otherwise it returns the logger
+	 *           context of the delegate root logger, which for this Logback provider is a Logback logger.
+	 * @throws ClassCastException if the delegate root logger is not a Logback logger.
+	 */
+	@Override
+	public LoggerContext getLoggerContext() {
+		final LoggingConcern loggingConcern = getDelegate();
+		return loggingConcern instanceof LoggerContextLoggingConcern ? ((LoggerContextLoggingConcern)loggingConcern).getLoggerContext()
+				: ((ch.qos.logback.classic.Logger)loggingConcern.getRootLogger()).getLoggerContext();
+	}
+
+	@Override
+	public ILoggerFactory getLoggerFactory() {
+		return getDelegate().getLoggerFactory();
+	}
+
+	@Override
+	public Logger getLogger(final Class<?> contextClass) {
+		final boolean wasInitialized = isInitialized();
+		final Logger logger = getDelegate().getLogger(contextClass);
+		if(!wasInitialized) {
+			StartupTimings.recordFirstLogger();
+		}
+		return logger;
+	}
+
+	@Override
+	public ch.qos.logback.classic.Logger getRootLogger() {
+		return (ch.qos.logback.classic.Logger)getDelegate().getRootLogger();
+	}
+
+	@Override
+	public void setLogLevel(final Logger logger, final Level level) {
+		getDelegate().setLogLevel(logger, level);
+	}
+
+	@Override
+	public void setLogLevel(final Level level) {
+		getDelegate().setLogLevel(level);
+	}
+
+	@Override
+	public void setLogLevels(final Map<String, Level> levels) {
+		getDelegate().setLogLevels(levels);
+	}
+
+	@Override
+	public Optional<LoggingMetrics> findMetrics() {
+		return getDelegate().findMetrics();
+	}
+
+}
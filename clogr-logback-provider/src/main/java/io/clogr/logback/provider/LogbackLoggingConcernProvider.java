@@ -53,8 +53,38 @@ public class LogbackLoggingConcernProvider implements ConcernProvider {
 		System.setProperty(LOGBACK_CONTEXT_SELECTOR, ClogrContextSelector.class.getName());
 	}
 
+	/**
+	 * The system property which, if set to <code>true</code>, causes the logging concern to be created and Logback to be configured in a background thread
+	 * immediately after discovery, rather than waiting until the logging concern is first used.
+	 */
+	public static final String WARM_UP_PROPERTY = "clogr.logback.warmUp";
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns a logging concern that defers querying the Logback context selector and creating the actual logging concern until
+	 *           the logging concern is first used, lowering startup latency for programs that may log little or not at all. If the {@value #WARM_UP_PROPERTY}
+	 *           system property is set to <code>true</code>, the actual logging concern is created in a background daemon thread.
+	 * @see StartupTimings
+	 */
 	@Override
 	public Stream<Concern> concerns() {
+		StartupTimings.recordDiscoveryStart();
+		final LazyLoggingConcern lazyLoggingConcern = new LazyLoggingConcern(LogbackLoggingConcernProvider::createLoggingConcern);
+		if(Boolean.getBoolean(WARM_UP_PROPERTY)) {
+			final Thread warmUpThread = new Thread(lazyLoggingConcern::getDelegate, "clogr-logback-warm-up");
+			warmUpThread.setDaemon(true);
+			warmUpThread.start();
+		}
+		StartupTimings.recordDiscoveryEnd();
+		return Stream.of(lazyLoggingConcern);
+	}
+
+	/**
+	 * Creates the actual Logback logging concern and initializes the underlying logging implementation, including loading the Logback configuration.
+	 * @return A new logging concern for Logback.
+	 */
+	static LoggingConcern createLoggingConcern() {
+		StartupTimings.recordConfigurationStart();
 		final LoggingConcern logbackLoggingConcern;
 		//get the current context selector, which if `LOGBACK_CONTEXT_SELECTOR` were followed our `ClogrContextSelector` might have been installed
 		final ContextSelector contextSelector = ContextSelectorStaticBinder.getSingleton().getContextSelector();
@@ -68,7 +98,9 @@ public void setLogLevel(final Logger logger, final Level level) {
 				}
 			};
 		}
-		return Stream.of(logbackLoggingConcern);
+		logbackLoggingConcern.getRootLogger(); //initialize SLF4J and Logback as part of configuration
+		StartupTimings.recordConfigurationEnd();
+		return logbackLoggingConcern;
 	}
 
 }
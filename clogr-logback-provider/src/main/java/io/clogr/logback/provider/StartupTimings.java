@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback.provider;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Records how long the phases of Logback logging startup take when using {@link LogbackLoggingConcernProvider}, so that the latency of discovery,
+ * configuration, and first logger access can be measured separately.
+ * <ul>
+ * <li><dfn>Discovery</dfn> is the time spent by the provider creating its logging concern during Csar concern provider discovery.</li>
+ * <li><dfn>Configuration</dfn> is the time spent creating the actual logging concern and initializing SLF4J and Logback, including reading the Logback
+ * configuration.</li>
+ * <li><dfn>First logger latency</dfn> is the time from the start of discovery until the first logger is returned from the logging concern.</li>
+ * </ul>
+ * @apiNote Phases that have not yet occurred are reported as empty.
+ * @author Garret Wilson
+ */
+public final class StartupTimings {
+
+	private StartupTimings() {
+	}
+
+	/** The value indicating that a time has not been recorded. */
+	private static final long NONE = Long.MIN_VALUE;
+
+	private static volatile long discoveryStartNanos = NONE;
+
+	private static volatile long discoveryEndNanos = NONE;
+
+	private static volatile long configurationStartNanos = NONE;
+
+	private static volatile long configurationEndNanos = NONE;
+
+	private static volatile long firstLoggerNanos = NONE;
+
+	/** Records the start of provider discovery. */
+	static void recordDiscoveryStart() {
+		discoveryStartNanos = System.nanoTime();
+	}
+
+	/** Records the end of provider discovery. */
+	static void recordDiscoveryEnd() {
+		discoveryEndNanos = System.nanoTime();
+	}
+
+	/** Records the start of logging configuration. */
+	static void recordConfigurationStart() {
+		configurationStartNanos = System.nanoTime();
+	}
+
+	/** Records the end of logging configuration. */
+	static void recordConfigurationEnd() {
+		configurationEndNanos = System.nanoTime();
+	}
+
+	/** Records that the first logger has been returned. Only the first call has any effect. */
+	static void recordFirstLogger() {
+		if(firstLoggerNanos == NONE) {
+			firstLoggerNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Determines the duration between two recorded times.
+	 * @param startNanos The start time, or {@link #NONE} if not recorded.
+	 * @param endNanos The end time, or {@link #NONE} if not recorded.
+	 * @return The duration between the times, which will be empty if either time has not been recorded.
+	 */
+	private static Optional<Duration> findDuration(final long startNanos, final long endNanos) {
+		if(startNanos == NONE || endNanos == NONE) {
+			return Optional.empty();
+		}
+		return Optional.of(Duration.ofNanos(endNanos - startNanos));
+	}
+
+	/** @return The time spent during Csar provider discovery creating the logging concern, if discovery has occurred. */
+	public static Optional<Duration> findDiscoveryDuration() {
+		return findDuration(discoveryStartNanos, discoveryEndNanos);
+	}
+
+	/** @return The time spent creating the logging concern and configuring SLF4J and Logback, if configuration has occurred. */
+	public static Optional<Duration> findConfigurationDuration() {
+		return findDuration(configurationStartNanos, configurationEndNanos);
+	}
+
+	/** @return The time from the start of discovery until the first logger was returned, if a logger has been returned. */
+	public static Optional<Duration> findFirstLoggerLatency() {
+		return findDuration(discoveryStartNanos, firstLoggerNanos);
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback.provider;
+
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import org.slf4j.event.Level;
+
+import io.clogr.LoggingConcern;
+import io.clogr.logback.LoggerContextLoggingConcern;
+import io.csar.*;
+
+/**
+ * Tests of the lazy logging concern returned by {@link LogbackLoggingConcernProvider}.
+ * @author Garret Wilson
+ */
+public class LazyLoggingConcernTest {
+
+	/**
+	 * @see LogbackLoggingConcernProvider#concerns()
+	 * @see StartupTimings
+	 */
+	@Test
+	public void testConcernInitializedOnFirstLogger() {
+		final List<Concern> concerns = new LogbackLoggingConcernProvider().concerns().collect(toList());
+		assertThat(concerns, hasSize(1));
+		final LazyLoggingConcern loggingConcern = (LazyLoggingConcern)concerns.get(0);
+		assertThat(loggingConcern.isInitialized(), is(false));
+		assertThat(StartupTimings.findDiscoveryDuration().isPresent(), is(true));
+		assertThat(loggingConcern.getLogger(LazyLoggingConcernTest.class).getName(), is(LazyLoggingConcernTest.class.getName()));
+		assertThat(loggingConcern.isInitialized(), is(true));
+		assertThat(loggingConcern.getLogger(LazyLoggingConcernTest.class), is(instanceOf(ch.qos.logback.classic.Logger.class)));
+		assertThat(StartupTimings.findConfigurationDuration().isPresent(), is(true));
+		assertThat(StartupTimings.findFirstLoggerLatency().isPresent(), is(true));
+	}
+
+	/**
+	 * Tests that discovering and registering the logging concern through Csar does not initialize it.
+	 * @see LazyLoggingConcern#getConcernType()
+	 */
+	@Test
+	public void testCsarDiscoveryDoesNotInitialize() {
+		final LoggingConcern loggingConcern = Csar.findConcern(LoggingConcern.class).orElseThrow();
+		assertThat(loggingConcern, is(instanceOf(LazyLoggingConcern.class)));
+		final LazyLoggingConcern lazyLoggingConcern = (LazyLoggingConcern)loggingConcern;
+		assertThat(lazyLoggingConcern.isInitialized(), is(false));
+		assertThat(lazyLoggingConcern.getConcernType(), is(LoggingConcern.class));
+		assertThat(lazyLoggingConcern.isInitialized(), is(false));
+		lazyLoggingConcern.getLogger(LazyLoggingConcernTest.class);
+		assertThat(lazyLoggingConcern.isInitialized(), is(true));
+	}
+
+	/**
+	 * Tests that the lazy logging concern is recognized as a Logback logging concern and forwards to the logger context of its delegate.
+	 * @see LazyLoggingConcern#getLoggerContext()
+	 * @see LazyLoggingConcern#setLogLevels(Map)
+	 */
+	@Test
+	public void testForwardsToLoggerContext() {
+		final LazyLoggingConcern loggingConcern = new LazyLoggingConcern(LogbackLoggingConcernProvider::createLoggingConcern);
+		assertThat(loggingConcern, is(instanceOf(LoggerContextLoggingConcern.class)));
+		final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger)loggingConcern.getLogger(LazyLoggingConcernTest.class);
+		assertThat(loggingConcern.getLoggerContext(), is(sameInstance(logger.getLoggerContext())));
+		assertThat(loggingConcern.getRootLogger().getLoggerContext(), is(sameInstance(logger.getLoggerContext())));
+		final ch.qos.logback.classic.Level originalLevel = logger.getLevel();
+		try {
+			loggingConcern.setLogLevels(Map.of(LazyLoggingConcernTest.class.getName(), Level.TRACE));
+			assertThat(logger.getLevel(), is(ch.qos.logback.classic.Level.TRACE));
+		} finally {
+			logger.setLevel(originalLevel);
+		}
+	}
+
+}
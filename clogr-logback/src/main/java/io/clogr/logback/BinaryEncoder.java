@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static io.clogr.logback.GarbageFreeEncoder.*;
+
+import java.io.*;
+import java.util.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.*;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Encoder that writes events in a compact binary format, which may be converted back to text or JSON using {@link BinaryLogDecoder}.
+ * <p>
+ * Logger names, message templates, and thread names are interned into dictionaries that last for the current file; the first use of each string writes a
+ * definition record, and later events refer to the string by its index. Each event timestamp is written as the difference from the timestamp of the previous
+ * event. Message arguments are written with their types: integral numbers as variable-length integers, floating-point numbers in their binary form, booleans
+ * as a single tag, and other arguments as strings. The message is never formatted on the logging thread. Stack traces are written as text. The MDC, markers,
+ * and key-value pairs of events are not encoded.
+ * </p>
+ * <p>
+ * The dictionaries and the timestamp base are reset by the header written at the start of each file, so that a file, or each segment appended to a file, may
+ * be decoded independently. Each dictionary holds at most {@value #MAX_DICTIONARY_SIZE} strings; further strings are written inline.
+ * </p>
+ * <p>
+ * Because each record may depend on the records before it, events must be written in the order in which they are encoded. Use this encoder with a
+ * {@link BinaryFileAppender}, which encodes and writes each event while holding its stream lock, or behind a {@link RingBufferAsyncAppender}, whose single
+ * worker thread encodes and writes events in order. A plain {@link ch.qos.logback.core.FileAppender} called from several threads may write events in a
+ * different order than they were encoded.
+ * </p>
+ * <pre>{@code
+ * <appender name="FILE" class="io.clogr.logback.BinaryFileAppender">
+ *   <file>app.clogb</file>
+ *   <encoder class="io.clogr.logback.BinaryEncoder" />
+ * </appender>
+ * }</pre>
+ * @implSpec Integers are written as unsigned LEB128 variable-length integers, using zigzag encoding for signed values. Strings are written as their UTF-8 byte
+ *           length followed by their UTF-8 bytes. Each record begins with a tag byte:
+ *           <dl>
+ *           <dt>{@value #TAG_HEADER}</dt>
+ *           <dd>Header: the magic bytes <code>CLGB</code>, the format version, and the base timestamp in milliseconds. Resets the dictionaries.</dd>
+ *           <dt>{@value #TAG_DEFINE_LOGGER}, {@value #TAG_DEFINE_TEMPLATE}, {@value #TAG_DEFINE_THREAD}</dt>
+ *           <dd>Definition: a string to add as the next entry of the logger name, message template, or thread name dictionary, respectively.</dd>
+ *           <dt>{@value #TAG_EVENT}</dt>
+ *           <dd>Event: the signed timestamp delta; the level as a byte from <code>0</code> for <code>TRACE</code> to <code>4</code> for <code>ERROR</code>;
+ *           references to the logger name, thread name, and message template, each either <code>0</code> followed by an inline string or a dictionary index
+ *           plus one; the argument count followed by each argument as a type byte and any value; and <code>0</code>, or <code>1</code> followed by the stack
+ *           trace.</dd>
+ *           </dl>
+ * @author Garret Wilson
+ * @see BinaryFileAppender
+ * @see BinaryLogDecoder
+ */
+public class BinaryEncoder extends EncoderBase<ILoggingEvent> {
+
+	/** The magic bytes identifying the format. */
+	static final byte[] MAGIC = {'C', 'L', 'G', 'B'};
+
+	/** The version of the format. */
+	static final int VERSION = 1;
+
+	/** The maximum number of strings in each dictionary. */
+	public static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+	static final int TAG_HEADER = 0;
+	static final int TAG_DEFINE_LOGGER = 1;
+	static final int TAG_DEFINE_TEMPLATE = 2;
+	static final int TAG_DEFINE_THREAD = 3;
+	static final int TAG_EVENT = 4;
+
+	static final int ARGUMENT_NULL = 0;
+	static final int ARGUMENT_LONG = 1;
+	static final int ARGUMENT_DOUBLE = 2;
+	static final int ARGUMENT_FLOAT = 3;
+	static final int ARGUMENT_FALSE = 4;
+	static final int ARGUMENT_TRUE = 5;
+	static final int ARGUMENT_STRING = 6;
+
+	/** The levels in the order of their encoded values. */
+	static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+	/** The logger name dictionary, mapping each string to its index. */
+	private final Map<String, Integer> loggerNames = new HashMap<>();
+
+	/** The message template dictionary, mapping each string to its index. */
+	private final Map<String, Integer> templates = new HashMap<>();
+
+	/** The thread name dictionary, mapping each string to its index. */
+	private final Map<String, Integer> threadNames = new HashMap<>();
+
+	/** The timestamp of the previous event, or the base timestamp of the header. */
+	private long previousTimestamp = 0;
+
+	/** The reusable output buffer. */
+	private final Output output = new Output();
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation resets the dictionaries and returns a header with the current time as its base timestamp.
+	 */
+	@Override
+	public synchronized byte[] headerBytes() {
+		loggerNames.clear();
+		templates.clear();
+		threadNames.clear();
+		previousTimestamp = System.currentTimeMillis();
+		output.reset();
+		output.writeByte(TAG_HEADER);
+		for(final byte magicByte : MAGIC) {
+			output.writeByte(magicByte);
+		}
+		output.writeVarLong(VERSION);
+		output.writeVarLong(previousTimestamp);
+		return Arrays.copyOf(output.bytes, output.length);
+	}
+
+	@Override
+	public synchronized byte[] encode(final ILoggingEvent event) {
+		output.reset();
+		writeEvent(event);
+		return Arrays.copyOf(output.bytes, output.length);
+	}
+
+	/**
+	 * Encodes an event, writing the encoded bytes to the given output stream using a single write call while holding the lock of this encoder.
+	 * @implNote This method does not allocate unless an argument requires conversion to a string, the event has a throwable, a dictionary grows, or the buffers
+	 *           must grow.
+	 * @param event The event to encode.
+	 * @param outputStream The output stream to which to write the encoded event.
+	 * @throws IOException if an error occurs writing to the output stream.
+	 */
+	public synchronized void encode(@Nonnull final ILoggingEvent event, @Nonnull final OutputStream outputStream) throws IOException {
+		output.reset();
+		writeEvent(event);
+		outputStream.write(output.bytes, 0, output.length);
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	/**
+	 * Writes an event, preceded by any needed dictionary definitions, to the output buffer.
+	 * @param event The event to write.
+	 */
+	private void writeEvent(@Nonnull final ILoggingEvent event) {
+		final String loggerName = String.valueOf(event.getLoggerName());
+		final String threadName = String.valueOf(event.getThreadName());
+		final String template = String.valueOf(event.getMessage());
+		final int loggerReference = define(loggerNames, TAG_DEFINE_LOGGER, loggerName);
+		final int threadReference = define(threadNames, TAG_DEFINE_THREAD, threadName);
+		final int templateReference = define(templates, TAG_DEFINE_TEMPLATE, template);
+		output.writeByte(TAG_EVENT);
+		final long timestamp = event.getTimeStamp();
+		output.writeVarLong(zigzag(timestamp - previousTimestamp));
+		previousTimestamp = timestamp;
+		output.writeByte(levelValue(event.getLevel()));
+		writeReference(loggerReference, loggerName);
+		writeReference(threadReference, threadName);
+		writeReference(templateReference, template);
+		final Object[] arguments = event.getArgumentArray();
+		if(arguments == null) {
+			output.writeVarLong(0);
+		} else {
+			output.writeVarLong(arguments.length);
+			for(final Object argument : arguments) {
+				writeArgument(argument);
+			}
+		}
+		final IThrowableProxy throwableProxy = event.getThrowableProxy();
+		if(throwableProxy == null) {
+			output.writeByte(0);
+		} else {
+			output.writeByte(1);
+			output.writeString(ThrowableProxyUtil.asString(throwableProxy));
+		}
+	}
+
+	/**
+	 * Determines the encoded value of a level.
+	 * @param level The level.
+	 * @return The index of the level in {@link #LEVELS}.
+	 */
+	private static int levelValue(@Nonnull final Level level) {
+		switch(level.toInt()) {
+			case Level.TRACE_INT:
+				return 0;
+			case Level.DEBUG_INT:
+				return 1;
+			case Level.INFO_INT:
+				return 2;
+			case Level.WARN_INT:
+				return 3;
+			default:
+				return 4;
+		}
+	}
+
+	/**
+	 * Looks up a string in a dictionary, adding it and writing a definition if it is not yet present and the dictionary is not full.
+	 * @param dictionary The dictionary.
+	 * @param tag The tag of the definition.
+	 * @param string The string.
+	 * @return The reference to the string: its index plus one, or <code>0</code> if the string is to be written inline.
+	 */
+	private int define(@Nonnull final Map<String, Integer> dictionary, final int tag, @Nonnull final String string) {
+		final Integer index = dictionary.get(string);
+		if(index != null) {
+			return index + 1;
+		}
+		final int size = dictionary.size();
+		if(size >= MAX_DICTIONARY_SIZE) {
+			return 0;
+		}
+		dictionary.put(string, size);
+		output.writeByte(tag);
+		output.writeString(string);
+		return size + 1;
+	}
+
+	/**
+	 * Writes a string reference.
+	 * @param reference The reference to the string as returned by {@link #define(Map, int, String)}.
+	 * @param string The string to write inline if the reference is <code>0</code>.
+	 */
+	private void writeReference(final int reference, @Nonnull final String string) {
+		output.writeVarLong(reference);
+		if(reference == 0) {
+			output.writeString(string);
+		}
+	}
+
+	/**
+	 * Writes a message argument with its type.
+	 * @param argument The argument, which may be <code>null</code>.
+	 */
+	private void writeArgument(@Nullable final Object argument) {
+		if(argument == null) {
+			output.writeByte(ARGUMENT_NULL);
+		} else if(argument instanceof Integer || argument instanceof Long || argument instanceof Short || argument instanceof Byte) {
+			output.writeByte(ARGUMENT_LONG);
+			output.writeVarLong(zigzag(((Number)argument).longValue()));
+		} else if(argument instanceof Double) {
+			output.writeByte(ARGUMENT_DOUBLE);
+			output.writeFixed(Double.doubleToRawLongBits(((Double)argument).doubleValue()), Long.BYTES);
+		} else if(argument instanceof Float) {
+			output.writeByte(ARGUMENT_FLOAT);
+			output.writeFixed(Float.floatToRawIntBits(((Float)argument).floatValue()), Integer.BYTES);
+		} else if(argument instanceof Boolean) {
+			output.writeByte(((Boolean)argument).booleanValue() ? ARGUMENT_TRUE : ARGUMENT_FALSE);
+		} else {
+			output.writeByte(ARGUMENT_STRING);
+			if(argument instanceof CharSequence) {
+				output.writeString((CharSequence)argument);
+			} else {
+				final StringBuilder text = output.text;
+				text.setLength(0);
+				appendArgument(text, argument);
+				output.writeString(text);
+			}
+		}
+	}
+
+	/**
+	 * Encodes a signed value so that values of small magnitude have small unsigned encodings.
+	 * @param value The signed value.
+	 * @return The zigzag encoding of the value.
+	 * @see BinaryLogDecoder#unzigzag(long)
+	 */
+	static long zigzag(final long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	/**
+	 * Reusable, growable buffers for encoding records.
+	 * @author Garret Wilson
+	 */
+	private static final class Output {
+
+		/** Text buffer for converting arguments to strings. */
+		private final StringBuilder text = new StringBuilder(64);
+
+		/** Buffer for encoding strings as UTF-8. */
+		private byte[] utf8Bytes = new byte[256];
+
+		private byte[] bytes = new byte[512];
+
+		private int length = 0;
+
+		/** Discards the contents of the buffer. */
+		void reset() {
+			length = 0;
+		}
+
+		/**
+		 * Ensures that the buffer has room for the given number of additional bytes.
+		 * @param count The number of additional bytes.
+		 */
+		private void ensureCapacity(final int count) {
+			if(length + count > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(length + count, bytes.length * 2));
+			}
+		}
+
+		/**
+		 * Writes a single byte.
+		 * @param value The byte value.
+		 */
+		void writeByte(final int value) {
+			ensureCapacity(1);
+			bytes[length++] = (byte)value;
+		}
+
+		/**
+		 * Writes an unsigned variable-length integer.
+		 * @param value The value, treated as unsigned.
+		 */
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while((value & ~0x7FL) != 0) {
+				bytes[length++] = (byte)(value & 0x7F | 0x80);
+				value >>>= 7;
+			}
+			bytes[length++] = (byte)value;
+		}
+
+		/**
+		 * Writes a fixed-length big-endian integer.
+		 * @param value The value.
+		 * @param byteCount The number of low-order bytes of the value to write.
+		 */
+		void writeFixed(final long value, final int byteCount) {
+			ensureCapacity(byteCount);
+			for(int shift = (byteCount - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+				bytes[length++] = (byte)(value >>> shift);
+			}
+		}
+
+		/**
+		 * Writes a string as its UTF-8 byte length followed by its UTF-8 bytes.
+		 * @param string The string.
+		 */
+		void writeString(@Nonnull final CharSequence string) {
+			final int maxByteCount = string.length() * 3;
+			if(utf8Bytes.length < maxByteCount) {
+				utf8Bytes = new byte[Math.max(maxByteCount, utf8Bytes.length * 2)];
+			}
+			final int byteCount = encodeUtf8(string, utf8Bytes);
+			writeVarLong(byteCount);
+			ensureCapacity(byteCount);
+			System.arraycopy(utf8Bytes, 0, bytes, length, byteCount);
+			length += byteCount;
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.io.*;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.status.ErrorStatus;
+
+/**
+ * File appender that encodes events using a {@link BinaryEncoder} while holding the stream lock, so that events are written in the order in which they are
+ * encoded, as the binary format requires, and writes them directly from the encoder's reusable buffer without allocating a byte array.
+ * <p>
+ * With any other encoder, or in prudent mode, this appender behaves as a normal {@link FileAppender}.
+ * </p>
+ * @implNote The stream lock is always acquired before the lock of the encoder, as when the file appender writes the encoder header upon opening a file.
+ * @author Garret Wilson
+ * @see BinaryLogDecoder
+ */
+public class BinaryFileAppender extends FileAppender<ILoggingEvent> {
+
+	@Override
+	protected void subAppend(final ILoggingEvent event) {
+		if(!(getEncoder() instanceof BinaryEncoder) || isPrudent()) {
+			super.subAppend(event);
+			return;
+		}
+		if(!isStarted()) {
+			return;
+		}
+		streamWriteLock.lock();
+		try {
+			final OutputStream outputStream = getOutputStream();
+			((BinaryEncoder)getEncoder()).encode(event, outputStream);
+			if(isImmediateFlush()) {
+				outputStream.flush();
+			}
+		} catch(final IOException ioException) {
+			started = false;
+			addStatus(new ErrorStatus("IO failure in appender", this, ioException));
+		} finally {
+			streamWriteLock.unlock();
+		}
+	}
+
+}
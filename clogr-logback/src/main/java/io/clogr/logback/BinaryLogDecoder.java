@@ -0,0 +1,401 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static io.clogr.logback.BinaryEncoder.*;
+import static io.clogr.logback.GarbageFreeEncoder.*;
+import static io.clogr.logback.JsonEncoder.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.util.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.CoreConstants;
+
+/**
+ * Streaming decoder of logs written by {@link BinaryEncoder}, reading one event at a time and converting events to text or to JSON.
+ * <p>
+ * Text output uses the layout of {@link GarbageFreeEncoder}, and JSON output uses the layout and escaping of {@link JsonEncoder}. Because the binary log
+ * records no markers, MDC, or key-value pairs, JSON output has only the properties <code>timestamp</code>, <code>level</code>, <code>thread</code>,
+ * <code>logger</code>, <code>message</code>, and, if present, <code>stackTrace</code>.
+ * </p>
+ * <p>
+ * The decoder may be run from the command line to convert a file, writing to standard output:
+ * </p>
+ * <pre>{@code
+ * java -cp ... io.clogr.logback.BinaryLogDecoder [--json] app.clogb
+ * }</pre>
+ * @author Garret Wilson
+ * @see BinaryEncoder
+ */
+public class BinaryLogDecoder implements Closeable {
+
+	private final DataInputStream inputStream;
+
+	private final List<String> loggerNames = new ArrayList<>();
+
+	private final List<String> templates = new ArrayList<>();
+
+	private final List<String> threadNames = new ArrayList<>();
+
+	/** Whether a header has been read. */
+	private boolean headerRead = false;
+
+	/** The timestamp of the previous event, or the base timestamp of the header. */
+	private long previousTimestamp = 0;
+
+	/**
+	 * Input stream constructor.
+	 * @param inputStream The input stream from which to read the encoded log; it will be buffered by the decoder.
+	 */
+	public BinaryLogDecoder(@Nonnull final InputStream inputStream) {
+		this.inputStream = new DataInputStream(new BufferedInputStream(requireNonNull(inputStream)));
+	}
+
+	/**
+	 * Reads the next event, processing any headers and dictionary definitions that precede it.
+	 * @return The next event, or <code>null</code> if the end of the input has been reached.
+	 * @throws EOFException if the input ends within a record.
+	 * @throws IOException if an error occurs reading the input or the input is not in the binary log format.
+	 */
+	@Nullable
+	public Event next() throws IOException {
+		int tag;
+		while((tag = inputStream.read()) >= 0) {
+			if(tag != TAG_HEADER && !headerRead) {
+				throw new IOException("Binary log does not begin with a header.");
+			}
+			switch(tag) {
+				case TAG_HEADER:
+					readHeader();
+					break;
+				case TAG_DEFINE_LOGGER:
+					loggerNames.add(readString());
+					break;
+				case TAG_DEFINE_TEMPLATE:
+					templates.add(readString());
+					break;
+				case TAG_DEFINE_THREAD:
+					threadNames.add(readString());
+					break;
+				case TAG_EVENT:
+					return readEvent();
+				default:
+					throw new IOException("Unknown binary log record tag " + tag + ".");
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the remainder of a header, resetting the dictionaries.
+	 * @throws IOException if an error occurs reading the input or the header is invalid.
+	 */
+	private void readHeader() throws IOException {
+		final byte[] magic = new byte[MAGIC.length];
+		inputStream.readFully(magic);
+		if(!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Invalid binary log header.");
+		}
+		final long version = readVarLong();
+		if(version != VERSION) {
+			throw new IOException("Unsupported binary log version " + version + ".");
+		}
+		previousTimestamp = readVarLong();
+		loggerNames.clear();
+		templates.clear();
+		threadNames.clear();
+		headerRead = true;
+	}
+
+	/**
+	 * Reads the remainder of an event.
+	 * @return The event.
+	 * @throws IOException if an error occurs reading the input or the event is invalid.
+	 */
+	private Event readEvent() throws IOException {
+		final long timestamp = previousTimestamp + unzigzag(readVarLong());
+		previousTimestamp = timestamp;
+		final int levelValue = inputStream.readUnsignedByte();
+		if(levelValue >= LEVELS.length) {
+			throw new IOException("Invalid binary log level " + levelValue + ".");
+		}
+		final String loggerName = readReference(loggerNames);
+		final String threadName = readReference(threadNames);
+		final String template = readReference(templates);
+		final int argumentCount = (int)readVarLong();
+		final Object[] arguments = new Object[argumentCount];
+		for(int i = 0; i < argumentCount; i++) {
+			arguments[i] = readArgument();
+		}
+		final String throwable = inputStream.readUnsignedByte() != 0 ? readString() : null;
+		return new Event(timestamp, LEVELS[levelValue], loggerName, threadName, template, arguments, throwable);
+	}
+
+	/**
+	 * Reads a string reference.
+	 * @param dictionary The dictionary to which the reference refers.
+	 * @return The referenced or inline string.
+	 * @throws IOException if an error occurs reading the input or the reference is invalid.
+	 */
+	private String readReference(@Nonnull final List<String> dictionary) throws IOException {
+		final long reference = readVarLong();
+		if(reference == 0) {
+			return readString();
+		}
+		if(reference > dictionary.size()) {
+			throw new IOException("Undefined binary log dictionary reference " + reference + ".");
+		}
+		return dictionary.get((int)reference - 1);
+	}
+
+	/**
+	 * Reads a typed message argument.
+	 * @return The argument, which may be a {@link Long}, {@link Double}, {@link Float}, {@link Boolean}, {@link String}, or <code>null</code>.
+	 * @throws IOException if an error occurs reading the input or the argument is invalid.
+	 */
+	@Nullable
+	private Object readArgument() throws IOException {
+		final int type = inputStream.readUnsignedByte();
+		switch(type) {
+			case ARGUMENT_NULL:
+				return null;
+			case ARGUMENT_LONG:
+				return unzigzag(readVarLong());
+			case ARGUMENT_DOUBLE:
+				return Double.longBitsToDouble(inputStream.readLong());
+			case ARGUMENT_FLOAT:
+				return Float.intBitsToFloat(inputStream.readInt());
+			case ARGUMENT_FALSE:
+				return Boolean.FALSE;
+			case ARGUMENT_TRUE:
+				return Boolean.TRUE;
+			case ARGUMENT_STRING:
+				return readString();
+			default:
+				throw new IOException("Unknown binary log argument type " + type + ".");
+		}
+	}
+
+	/**
+	 * Reads a string as its UTF-8 byte length followed by its UTF-8 bytes.
+	 * @return The string.
+	 * @throws IOException if an error occurs reading the input.
+	 */
+	private String readString() throws IOException {
+		final long length = readVarLong();
+		if(length > Integer.MAX_VALUE) {
+			throw new IOException("Invalid binary log string length " + length + ".");
+		}
+		final byte[] bytes = new byte[(int)length];
+		inputStream.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	/**
+	 * Reads an unsigned variable-length integer.
+	 * @return The value.
+	 * @throws IOException if an error occurs reading the input or the integer is too long.
+	 */
+	private long readVarLong() throws IOException {
+		long value = 0;
+		for(int shift = 0; shift < Long.SIZE; shift += 7) {
+			final int b = inputStream.readUnsignedByte();
+			value |= (long)(b & 0x7F) << shift;
+			if((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Invalid binary log variable-length integer.");
+	}
+
+	/**
+	 * Decodes a zigzag-encoded signed value.
+	 * @param value The zigzag encoding of the value.
+	 * @return The signed value.
+	 * @see BinaryEncoder#zigzag(long)
+	 */
+	static long unzigzag(final long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	@Override
+	public void close() throws IOException {
+		inputStream.close();
+	}
+
+	/**
+	 * Appends the text of an event in the layout of {@link GarbageFreeEncoder}.
+	 * @param text The string builder to which to append.
+	 * @param event The decoded event.
+	 */
+	public static void appendText(@Nonnull final StringBuilder text, @Nonnull final Event event) {
+		appendTimestamp(text, event.getTimestamp());
+		text.append(' ');
+		final String levelString = event.getLevel().levelStr;
+		text.append(levelString);
+		for(int i = levelString.length(); i < 5; i++) {
+			text.append(' ');
+		}
+		text.append(" [").append(event.getThreadName()).append("] ").append(event.getLoggerName()).append(" - ");
+		appendFormattedMessage(text, event.getMessage(), event.arguments);
+		text.append(CoreConstants.LINE_SEPARATOR);
+		event.findThrowable().ifPresent(throwable -> text.append(throwable).append(CoreConstants.LINE_SEPARATOR));
+	}
+
+	/**
+	 * Appends an event as a JSON object on a single line in the layout of {@link JsonEncoder}.
+	 * @param text The string builder to which to append.
+	 * @param event The decoded event.
+	 */
+	public static void appendJson(@Nonnull final StringBuilder text, @Nonnull final Event event) {
+		text.append("{\"timestamp\":\"");
+		appendTimestamp(text, event.getTimestamp());
+		text.append("\",\"level\":\"").append(event.getLevel().levelStr).append('"');
+		text.append(",\"thread\":");
+		appendQuotedString(text, event.getThreadName());
+		text.append(",\"logger\":");
+		appendQuotedString(text, event.getLoggerName());
+		final int messageStart = text.length();
+		appendFormattedMessage(text, event.getMessage(), event.arguments);
+		final String message = text.substring(messageStart);
+		text.setLength(messageStart);
+		text.append(",\"message\":");
+		appendQuotedString(text, message);
+		event.findThrowable().ifPresent(throwable -> {
+			text.append(",\"stackTrace\":");
+			appendQuotedString(text, throwable);
+		});
+		text.append('}').append(CoreConstants.LINE_SEPARATOR);
+	}
+
+	/**
+	 * Converts a binary log file to text or, with the <code>--json</code> option, to JSON, writing the result to standard output.
+	 * @param args The command-line arguments: <code>[--json] &lt;file&gt;</code>.
+	 * @throws IOException if an error occurs reading the file or writing the output.
+	 */
+	public static void main(final String... args) throws IOException {
+		final boolean json = args.length == 2 && args[0].equals("--json");
+		if(args.length != (json ? 2 : 1)) {
+			System.err.println("Usage: BinaryLogDecoder [--json] <file>");
+			System.exit(2);
+			return;
+		}
+		try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(args[args.length - 1]));
+				final Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, UTF_8))) {
+			final StringBuilder text = new StringBuilder(256);
+			Event event;
+			while((event = decoder.next()) != null) {
+				text.setLength(0);
+				if(json) {
+					appendJson(text, event);
+				} else {
+					appendText(text, event);
+				}
+				writer.append(text);
+			}
+		}
+	}
+
+	/**
+	 * An event decoded from a binary log.
+	 * @author Garret Wilson
+	 */
+	public static final class Event {
+
+		private final long timestamp;
+
+		private final Level level;
+
+		private final String loggerName;
+
+		private final String threadName;
+
+		private final String message;
+
+		private final Object[] arguments;
+
+		@Nullable
+		private final String throwable;
+
+		/**
+		 * Constructor.
+		 * @param timestamp The timestamp in milliseconds since the epoch.
+		 * @param level The level.
+		 * @param loggerName The logger name.
+		 * @param threadName The thread name.
+		 * @param message The message template.
+		 * @param arguments The message arguments.
+		 * @param throwable The stack trace, or <code>null</code> if the event had no throwable.
+		 */
+		Event(final long timestamp, @Nonnull final Level level, @Nonnull final String loggerName, @Nonnull final String threadName, @Nonnull final String message,
+				@Nonnull final Object[] arguments, @Nullable final String throwable) {
+			this.timestamp = timestamp;
+			this.level = level;
+			this.loggerName = loggerName;
+			this.threadName = threadName;
+			this.message = message;
+			this.arguments = arguments;
+			this.throwable = throwable;
+		}
+
+		/** @return The timestamp in milliseconds since the epoch. */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/** @return The level. */
+		public Level getLevel() {
+			return level;
+		}
+
+		/** @return The logger name. */
+		public String getLoggerName() {
+			return loggerName;
+		}
+
+		/** @return The thread name. */
+		public String getThreadName() {
+			return threadName;
+		}
+
+		/** @return The message template, before arguments are substituted. */
+		public String getMessage() {
+			return message;
+		}
+
+		/**
+		 * Returns the message arguments. Integral arguments are decoded as {@link Long}, and arguments of types other than numbers and booleans as their
+		 * {@link String} form.
+		 * @return The message arguments.
+		 */
+		public Object[] getArguments() {
+			return arguments.clone();
+		}
+
+		/** @return The stack trace of the event's throwable, if the event had a throwable. */
+		public Optional<String> findThrowable() {
+			return Optional.ofNullable(throwable);
+		}
+
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.*;
+
+/**
+ * An immutable logging event captured from another event on the logging thread, deferring message formatting until the formatted message is first requested,
+ * typically on a background thread.
+ * <p>
+ * Capturing records the values of the original event that depend on the logging thread or that may change after the logging call, such as the thread name
+ * and the MDC property map, along with the message template and a snapshot of the arguments. The formatted message is not determined during capture.
+ * </p>
+ * @author Garret Wilson
+ * @see RingBufferAsyncAppender#isDeferredFormatting()
+ */
+final class CapturedLoggingEvent implements ILoggingEvent {
+
+	private final String threadName;
+
+	private final Level level;
+
+	@Nullable
+	private final String message;
+
+	@Nullable
+	private final Object[] argumentArray;
+
+	private final String loggerName;
+
+	private final LoggerContextVO loggerContextVO;
+
+	@Nullable
+	private final IThrowableProxy throwableProxy;
+
+	@Nullable
+	private final StackTraceElement[] callerData;
+
+	@Nullable
+	private final List<Marker> markerList;
+
+	private final Map<String, String> mdcPropertyMap;
+
+	private final Instant instant;
+
+	private final long sequenceNumber;
+
+	@Nullable
+	private final List<KeyValuePair> keyValuePairs;
+
+	/** The formatted message, determined when first requested. */
+	@Nullable
+	private volatile String formattedMessage = null;
+
+	/**
+	 * Captures an event.
+	 * @param event The event to capture, which may be reused or modified after this constructor returns.
+	 * @param includeCallerData Whether caller data should be extracted from the event.
+	 * @param argumentSnapshot The function for making a snapshot of each argument and key-value pair value that may be retained beyond the logging call.
+	 */
+	CapturedLoggingEvent(@Nonnull final ILoggingEvent event, final boolean includeCallerData, @Nonnull final UnaryOperator<Object> argumentSnapshot) {
+		threadName = event.getThreadName();
+		level = event.getLevel();
+		message = event.getMessage();
+		final Object[] arguments = event.getArgumentArray();
+		if(arguments != null) {
+			argumentArray = new Object[arguments.length];
+			for(int i = 0; i < arguments.length; i++) {
+				argumentArray[i] = argumentSnapshot.apply(arguments[i]);
+			}
+		} else {
+			argumentArray = null;
+		}
+		loggerName = event.getLoggerName();
+		loggerContextVO = event.getLoggerContextVO();
+		throwableProxy = event.getThrowableProxy();
+		callerData = includeCallerData ? event.getCallerData() : null;
+		final List<Marker> markers = event.getMarkerList();
+		markerList = markers != null ? List.copyOf(markers) : null;
+		mdcPropertyMap = event.getMDCPropertyMap();
+		instant = event.getInstant();
+		sequenceNumber = event.getSequenceNumber();
+		final List<KeyValuePair> pairs = event.getKeyValuePairs();
+		if(pairs != null) {
+			final List<KeyValuePair> pairSnapshots = new ArrayList<>(pairs.size());
+			for(final KeyValuePair pair : pairs) {
+				pairSnapshots.add(new KeyValuePair(pair.key, argumentSnapshot.apply(pair.value)));
+			}
+			keyValuePairs = pairSnapshots;
+		} else {
+			keyValuePairs = null;
+		}
+	}
+
+	@Override
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@Override
+	public Level getLevel() {
+		return level;
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public Object[] getArgumentArray() {
+		return argumentArray;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote The message is formatted from the template and argument snapshots when first requested, and cached.
+	 */
+	@Override
+	public String getFormattedMessage() {
+		String formattedMessage = this.formattedMessage;
+		if(formattedMessage == null) {
+			formattedMessage = argumentArray != null ? MessageFormatter.arrayFormat(message, argumentArray).getMessage() : message;
+			this.formattedMessage = formattedMessage;
+		}
+		return formattedMessage;
+	}
+
+	@Override
+	public String getLoggerName() {
+		return loggerName;
+	}
+
+	@Override
+	public LoggerContextVO getLoggerContextVO() {
+		return loggerContextVO;
+	}
+
+	@Override
+	public IThrowableProxy getThrowableProxy() {
+		return throwableProxy;
+	}
+
+	@Override
+	public StackTraceElement[] getCallerData() {
+		return callerData != null ? callerData : CallerData.EMPTY_CALLER_DATA_ARRAY;
+	}
+
+	@Override
+	public boolean hasCallerData() {
+		return callerData != null;
+	}
+
+	@Override
+	public List<Marker> getMarkerList() {
+		return markerList;
+	}
+
+	@Override
+	public Map<String, String> getMDCPropertyMap() {
+		return mdcPropertyMap;
+	}
+
+	@Deprecated
+	@Override
+	public Map<String, String> getMdc() {
+		return mdcPropertyMap;
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return instant.toEpochMilli();
+	}
+
+	@Override
+	public int getNanoseconds() {
+		return instant.getNano();
+	}
+
+	@Override
+	public Instant getInstant() {
+		return instant;
+	}
+
+	@Override
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	@Override
+	public List<KeyValuePair> getKeyValuePairs() {
+		return keyValuePairs;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation does nothing, as all values that could change have already been captured. In particular it does not format the message.
+	 */
+	@Override
+	public void prepareForDeferredProcessing() {
+	}
+
+}
@@ -16,28 +16,141 @@
 
 package io.clogr.logback;
 
-import static java.util.Collections.*;
+import static java.util.Comparator.*;
 import static java.util.Objects.*;
+import static java.util.concurrent.TimeUnit.*;
+import static java.util.stream.Collectors.*;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
 
 import javax.annotation.*;
 
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.selector.ContextSelector;
-import io.clogr.Clogr;
+import io.clogr.*;
 
 /**
  * A Logback context selector that uses Clogr to get the current logging context.
+ * <p>
+ * This context selector also maintains a registry of named logger contexts, such as for separate tenants. A named context is created lazily using the
+ * {@link #getLoggerContextFactory() logger context factory} the first time it is requested via {@link #getLoggerContext(String)}, and is looked up without
+ * locking thereafter. To bound memory and file handle usage, named contexts may be evicted when they have not been requested for longer than the
+ * {@link #getIdleTimeout() idle timeout}, or when there are more than the {@link #getMaxContextCount() maximum number of contexts}, in which case the least
+ * recently requested contexts are evicted. An evicted context is stopped, which stops its appenders.
+ * </p>
+ * <p>
+ * Eviction never takes place on the thread requesting a context. Once the first named context has been created, the scheduled executor service of the
+ * {@link #getDefaultLoggerContext() default logger context} checks for contexts to evict every {@link #getEvictionInterval() eviction interval}, and
+ * immediately whenever the creation of a new named context exceeds the maximum context count. Because the executor belongs to the default logger context,
+ * background eviction ends when that context is stopped, and the selector itself holds no thread. Eviction may also be requested explicitly by calling
+ * {@link #evictContexts()}.
+ * </p>
  * @apiNote As of Logback 1.3.0-alpha4 Logback no longer supports the {@link ContextSelector} mechanism for logging separation. See
  *          <a href="https://jira.qos.ch/browse/LOGBACK-1196">LOGBACK-1196</a> to track whether it will be reinstated in the future.
- * @implSpec This implementation does not support named contexts and returns an empty list.
+ * @apiNote A named context that is evicted while another thread is still using it will no longer produce output for that thread. Callers should not retain
+ *          named contexts but should request them again from this selector as needed.
  * @author Garret Wilson
  */
 public class ClogrContextSelector implements ContextSelector {
 
+	/** The default factory for named logger contexts, which creates a new, unconfigured {@link LogbackLoggingConcern} with the given name. */
+	public static final Function<String, LoggerContext> DEFAULT_LOGGER_CONTEXT_FACTORY = name -> {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		loggingConcern.setName(name);
+		return loggingConcern;
+	};
+
 	private final LoggerContext defaultLoggerContext;
 
+	private final ConcurrentMap<String, NamedContext> namedContexts = new ConcurrentHashMap<>();
+
+	/** The default interval at which named contexts are checked for eviction. */
+	public static final Duration DEFAULT_EVICTION_INTERVAL = Duration.ofSeconds(10);
+
+	/**
+	 * The executor of the default logger context on which background eviction has been scheduled, or <code>null</code> if eviction is not scheduled; guarded by
+	 * <code>this</code>.
+	 */
+	@Nullable
+	private ScheduledExecutorService evictionExecutor = null;
+
+	private volatile Function<String, ? extends LoggerContext> loggerContextFactory = DEFAULT_LOGGER_CONTEXT_FACTORY;
+
+	/** @return The strategy for creating a new logger context with a given name. */
+	public Function<String, ? extends LoggerContext> getLoggerContextFactory() {
+		return loggerContextFactory;
+	}
+
+	/**
+	 * Sets the strategy for creating a new logger context with a given name, for example to create a {@link LogbackLoggingConcern} configured for a particular
+	 * tenant. The factory is responsible for starting and configuring the context as needed.
+	 * @param loggerContextFactory The factory for creating a new named logger context.
+	 */
+	public void setLoggerContextFactory(@Nonnull final Function<String, ? extends LoggerContext> loggerContextFactory) {
+		this.loggerContextFactory = requireNonNull(loggerContextFactory);
+	}
+
+	private volatile int maxContextCount = Integer.MAX_VALUE;
+
+	/** @return The maximum number of named contexts to retain; by default unlimited. */
+	public int getMaxContextCount() {
+		return maxContextCount;
+	}
+
+	/**
+	 * Sets the maximum number of named contexts to retain. When more contexts are present, the least recently requested contexts will be evicted.
+	 * @param maxContextCount The maximum number of named contexts to retain.
+	 * @throws IllegalArgumentException if the given count is not positive.
+	 */
+	public void setMaxContextCount(final int maxContextCount) {
+		if(maxContextCount < 1) {
+			throw new IllegalArgumentException("Maximum context count must be positive: " + maxContextCount);
+		}
+		this.maxContextCount = maxContextCount;
+	}
+
+	@Nullable
+	private volatile Duration idleTimeout = null;
+
+	/** @return The time after which a named context that has not been requested will be evicted, if any; by default named contexts are not evicted when idle. */
+	public Optional<Duration> getIdleTimeout() {
+		return Optional.ofNullable(idleTimeout);
+	}
+
+	/**
+	 * Sets the time after which a named context that has not been requested will be evicted.
+	 * @param idleTimeout The idle timeout, or <code>null</code> if named contexts should not be evicted when idle.
+	 * @throws IllegalArgumentException if the given timeout is negative.
+	 */
+	public void setIdleTimeout(@Nullable final Duration idleTimeout) {
+		if(idleTimeout != null && idleTimeout.isNegative()) {
+			throw new IllegalArgumentException("Idle timeout cannot be negative: " + idleTimeout);
+		}
+		this.idleTimeout = idleTimeout;
+	}
+
+	private volatile Duration evictionInterval = DEFAULT_EVICTION_INTERVAL;
+
+	/** @return The interval at which named contexts are checked in the background for eviction; by default {@link #DEFAULT_EVICTION_INTERVAL}. */
+	public Duration getEvictionInterval() {
+		return evictionInterval;
+	}
+
+	/**
+	 * Sets the interval at which named contexts are checked in the background for eviction. The new interval takes effect after the next check.
+	 * @param evictionInterval The eviction interval.
+	 * @throws IllegalArgumentException if the given interval is not positive.
+	 */
+	public void setEvictionInterval(@Nonnull final Duration evictionInterval) {
+		if(evictionInterval.isNegative() || evictionInterval.isZero()) {
+			throw new IllegalArgumentException("Eviction interval must be positive: " + evictionInterval);
+		}
+		this.evictionInterval = evictionInterval;
+	}
+
 	/**
 	 * Logger context constructor.
 	 * @param loggerContext The default logger context.
@@ -53,39 +166,188 @@ public LoggerContext getDefaultLoggerContext() {
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation uses Clogr to retrieve the current logger context.
-	 * @throws ClassCastException if the current logging concern is not an instance of {@link LoggerContextLoggingConcern}.
+	 * @implSpec This implementation uses Clogr to retrieve the current logger context. If the current logging concern is not a
+	 *           {@link LoggerContextLoggingConcern}, the {@link #getDefaultLoggerContext() default logger context} is returned.
+	 * @implNote The logging concern is resolved on each call so that any change in concern registration or binding is honored. No selection is cached: a shared
+	 *           cache would be rewritten on every call when threads log in alternating concerns, and a per-thread cache would still need the resolved concern to
+	 *           validate its entry, saving only the check of the concern type.
 	 * @see Clogr#getLoggingConcern()
 	 */
 	@Override
 	public LoggerContext getLoggerContext() {
-		return ((LoggerContextLoggingConcern)Clogr.getLoggingConcern()).getLoggerContext();
+		final LoggingConcern loggingConcern = Clogr.getLoggingConcern();
+		return loggingConcern instanceof LoggerContextLoggingConcern ? ((LoggerContextLoggingConcern)loggingConcern).getLoggerContext() : defaultLoggerContext;
 	}
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation does not support named contexts and returns <code>null</code>.
+	 * @implSpec This implementation removes the named context from the registry without stopping it.
 	 */
 	@Override
 	public LoggerContext detachLoggerContext(final String loggerContextName) {
-		return null;
+		final NamedContext namedContext = namedContexts.remove(loggerContextName);
+		return namedContext != null ? namedContext.getLoggerContext() : null;
 	}
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation does not support named contexts and returns an empty list.
+	 * @implSpec This implementation returns the names of the named contexts currently in the registry.
 	 */
 	@Override
 	public List<String> getContextNames() {
-		return emptyList();
+		return new ArrayList<>(namedContexts.keySet());
 	}
 
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation does not support named contexts and returns <code>null</code>.
+	 * @implSpec This implementation returns the named context from the registry, creating it using the {@link #getLoggerContextFactory() logger context factory}
+	 *           if it is not present, and records the time of the request for purposes of eviction. If a new context is created, background eviction is
+	 *           started if needed, and eviction is requested in the background if the maximum context count has been exceeded.
+	 * @throws NullPointerException if the given name is <code>null</code>.
 	 */
+	@Override
 	public LoggerContext getLoggerContext(final String name) {
-		return null;
+		final NamedContext existingNamedContext = namedContexts.get(name);
+		if(existingNamedContext != null) {
+			existingNamedContext.touch();
+			return existingNamedContext.getLoggerContext();
+		}
+		final boolean[] created = new boolean[1];
+		final NamedContext namedContext = namedContexts.computeIfAbsent(name, contextName -> {
+			created[0] = true;
+			return new NamedContext(loggerContextFactory.apply(contextName));
+		});
+		if(created[0]) {
+			final ScheduledExecutorService evictionExecutor = getEvictionExecutor();
+			if(namedContexts.size() > maxContextCount) {
+				try {
+					evictionExecutor.execute(this::evictContexts);
+				} catch(final RejectedExecutionException rejectedExecutionException) {
+					//the default logger context is being stopped; eviction will resume on the next executor it provides
+				}
+			}
+		}
+		return namedContext.getLoggerContext();
+	}
+
+	/**
+	 * Returns the scheduled executor service of the default logger context, scheduling periodic eviction on it if it is not already scheduled there.
+	 * @implNote The default logger context shuts down its executor when it is stopped and creates a new one when next requested, in which case periodic eviction
+	 *           is scheduled anew on the new executor.
+	 * @return The background eviction executor.
+	 * @see LoggerContext#getScheduledExecutorService()
+	 */
+	private synchronized ScheduledExecutorService getEvictionExecutor() {
+		final ScheduledExecutorService executor = defaultLoggerContext.getScheduledExecutorService();
+		if(executor != evictionExecutor) {
+			evictionExecutor = executor;
+			scheduleEviction(executor);
+		}
+		return executor;
+	}
+
+	/**
+	 * Schedules the next periodic eviction after the current {@link #getEvictionInterval() eviction interval}. Must be called while holding the lock of this
+	 * selector.
+	 * @param executor The executor on which to schedule eviction.
+	 */
+	private void scheduleEviction(@Nonnull final ScheduledExecutorService executor) {
+		try {
+			executor.schedule(() -> evictPeriodically(executor), evictionInterval.toNanos(), NANOSECONDS);
+		} catch(final RejectedExecutionException rejectedExecutionException) { //the default logger context is being stopped
+			evictionExecutor = null;
+		}
+	}
+
+	/**
+	 * Evicts named contexts and schedules the next check, unless eviction has since been scheduled on another executor.
+	 * @param executor The executor on which this eviction was scheduled.
+	 */
+	private void evictPeriodically(@Nonnull final ScheduledExecutorService executor) {
+		try {
+			evictContexts();
+		} finally {
+			synchronized(this) {
+				if(executor == evictionExecutor) {
+					scheduleEviction(executor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts and stops any named contexts that have been idle longer than the idle timeout, as well as the least recently requested contexts in excess of the
+	 * maximum context count. This method is called periodically in the background, but may be called explicitly as well.
+	 * @apiNote Stopping a context stops its appenders, which may block while flushing output, so this method should not be called from a thread that is logging.
+	 * @return The names of the contexts that were evicted.
+	 * @see #getIdleTimeout()
+	 * @see #getMaxContextCount()
+	 */
+	public List<String> evictContexts() {
+		final List<String> evictedNames = new ArrayList<>();
+		final Duration idleTimeout = this.idleTimeout;
+		if(idleTimeout != null) {
+			final long now = System.nanoTime();
+			final long idleTimeoutNanos = idleTimeout.toNanos();
+			namedContexts.forEach((name, namedContext) -> {
+				if(now - namedContext.getLastAccessNanos() > idleTimeoutNanos) {
+					evict(name, namedContext, evictedNames);
+				}
+			});
+		}
+		final int excessCount = namedContexts.size() - maxContextCount;
+		if(excessCount > 0) {
+			final List<Map.Entry<String, NamedContext>> leastRecentlyRequested = namedContexts.entrySet().stream()
+					.sorted(comparingLong(entry -> entry.getValue().getLastAccessNanos())).limit(excessCount).collect(toList());
+			leastRecentlyRequested.forEach(entry -> evict(entry.getKey(), entry.getValue(), evictedNames));
+		}
+		return evictedNames;
+	}
+
+	/**
+	 * Evicts and stops a named context if it is still registered.
+	 * @param name The name of the context.
+	 * @param namedContext The registered context.
+	 * @param evictedNames The list to which to add the name if the context is evicted.
+	 */
+	private void evict(@Nonnull final String name, @Nonnull final NamedContext namedContext, @Nonnull final List<String> evictedNames) {
+		if(namedContexts.remove(name, namedContext)) {
+			namedContext.getLoggerContext().stop();
+			evictedNames.add(name);
+		}
+	}
+
+	/** A registered named context along with the time it was last requested. */
+	private static final class NamedContext {
+
+		private final LoggerContext loggerContext;
+
+		/** @return The named logger context. */
+		public LoggerContext getLoggerContext() {
+			return loggerContext;
+		}
+
+		private volatile long lastAccessNanos;
+
+		/** @return The {@link System#nanoTime()} value when the context was last requested. */
+		public long getLastAccessNanos() {
+			return lastAccessNanos;
+		}
+
+		/**
+		 * Constructor.
+		 * @param loggerContext The named logger context.
+		 */
+		NamedContext(@Nonnull final LoggerContext loggerContext) {
+			this.loggerContext = requireNonNull(loggerContext);
+			this.lastAccessNanos = System.nanoTime();
+		}
+
+		/** Records that the context has been requested. */
+		void touch() {
+			lastAccessNanos = System.nanoTime();
+		}
+
 	}
 
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+import static java.util.stream.Collectors.*;
+
+import java.io.*;
+import java.util.Map;
+
+import javax.annotation.*;
+
+import org.xml.sax.InputSource;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.event.SaxEventRecorder;
+import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.model.Model;
+import ch.qos.logback.core.status.*;
+
+/**
+ * A Logback configuration that has been parsed into a model, which can be applied to many logger contexts without parsing the configuration again.
+ * <p>
+ * The model is held in serialized form, which is immutable and may be shared safely among threads. Each time the configuration is applied, a new copy of the
+ * model is deserialized, as Logback marks a model as it is processed and thus a model instance cannot be processed more than once. Variables such as
+ * <code>${tenant}</code> in the configuration are not substituted when parsing, but when the model is applied, using the properties of the logger context to
+ * which it is applied.
+ * </p>
+ * @author Garret Wilson
+ * @see ConfigurationModelCache
+ */
+public final class ConfigurationModel {
+
+	/** The filter restricting deserialization to Logback model classes and the Java classes they use. */
+	private static final ObjectInputFilter DESERIALIZATION_FILTER = ObjectInputFilter.Config.createFilter("ch.qos.logback.**;java.lang.*;java.util.*;!*");
+
+	private final String key;
+
+	private final byte[] serializedModel;
+
+	/**
+	 * Constructor.
+	 * @param key The key identifying the configuration content.
+	 * @param serializedModel The serialized form of the model; not copied.
+	 * @throws NullPointerException if the given key and/or serialized model is <code>null</code>.
+	 */
+	ConfigurationModel(@Nonnull final String key, @Nonnull final byte[] serializedModel) {
+		this.key = requireNonNull(key);
+		this.serializedModel = requireNonNull(serializedModel);
+	}
+
+	/** @return The key identifying the configuration content, based upon a hash of the content. */
+	public String getKey() {
+		return key;
+	}
+
+	/** @return The serialized form of the model; must not be modified. */
+	byte[] getSerializedModel() {
+		return serializedModel;
+	}
+
+	/**
+	 * Parses Logback XML configuration content into a model.
+	 * @implSpec Parsing takes place in a throwaway logger context. Any errors reported to its status manager during parsing are included in the message of the
+	 *           resulting exception, as they would otherwise be discarded along with the context, and a model is never created if errors were reported.
+	 * @param key The key identifying the configuration content.
+	 * @param content The Logback XML configuration content.
+	 * @return The parsed configuration model.
+	 * @throws JoranException if the configuration could not be parsed, or if errors were reported while parsing.
+	 */
+	static ConfigurationModel parse(@Nonnull final String key, @Nonnull final byte[] content) throws JoranException {
+		final LoggerContext parseContext = new LoggerContext(); //parsing requires a context, but the model is independent of it
+		final JoranConfigurator configurator = new JoranConfigurator();
+		configurator.setContext(parseContext);
+		final Model model;
+		try {
+			final SaxEventRecorder saxEventRecorder = configurator.populateSaxEventRecorder(new InputSource(new ByteArrayInputStream(content)));
+			model = configurator.buildModelFromSaxEventList(saxEventRecorder.getSaxEventList());
+		} catch(final JoranException joranException) {
+			throw toParseException(parseContext, joranException);
+		}
+		if(new StatusUtil(parseContext).getHighestLevel(0) >= Status.ERROR) {
+			throw toParseException(parseContext, null);
+		}
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(model);
+		} catch(final IOException ioException) {
+			throw new JoranException("Unable to serialize Logback configuration model.", ioException);
+		}
+		return new ConfigurationModel(key, byteArrayOutputStream.toByteArray());
+	}
+
+	/**
+	 * Creates an exception reporting the errors in the status manager of the context used for parsing.
+	 * @param parseContext The context used for parsing.
+	 * @param cause The exception that caused parsing to fail, or <code>null</code> if parsing completed but errors were reported.
+	 * @return A new exception with a message including the error statuses.
+	 */
+	private static JoranException toParseException(@Nonnull final LoggerContext parseContext, @Nullable final JoranException cause) {
+		final String errorMessages = parseContext.getStatusManager().getCopyOfStatusList().stream().filter(status -> status.getLevel() == Status.ERROR)
+				.map(Status::getMessage).collect(joining("; "));
+		return new JoranException("Error parsing Logback configuration: " + (errorMessages.isEmpty() && cause != null ? cause.getMessage() : errorMessages),
+				cause);
+	}
+
+	/**
+	 * Creates a new copy of the model for processing.
+	 * @return A new instance of the model.
+	 * @throws IOException if the model could not be deserialized.
+	 */
+	Model newModel() throws IOException {
+		try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serializedModel))) {
+			objectInputStream.setObjectInputFilter(DESERIALIZATION_FILTER);
+			return (Model)objectInputStream.readObject();
+		} catch(final ClassNotFoundException | ClassCastException exception) {
+			throw new InvalidObjectException("Invalid Logback configuration model: " + exception.getMessage());
+		}
+	}
+
+	/**
+	 * Applies this configuration to a logger context.
+	 * @apiNote As with configuring from XML, if the logger context previously had a configuration that you want to replace, you must first call
+	 *          {@link LoggerContext#reset()}.
+	 * @param loggerContext The logger context to configure.
+	 * @param properties The properties to set in the logger context before applying the configuration, available for variable substitution.
+	 * @throws JoranException if the model could not be deserialized.
+	 */
+	public void apply(@Nonnull final LoggerContext loggerContext, @Nonnull final Map<String, String> properties) throws JoranException {
+		final Model model;
+		try {
+			model = newModel();
+		} catch(final IOException ioException) {
+			throw new JoranException("Unable to deserialize Logback configuration model.", ioException);
+		}
+		properties.forEach(loggerContext::putProperty);
+		final JoranConfigurator configurator = new JoranConfigurator();
+		configurator.setContext(loggerContext);
+		configurator.processModel(model);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + key + ")";
+	}
+
+}
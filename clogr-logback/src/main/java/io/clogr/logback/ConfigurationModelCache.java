@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.joran.spi.JoranException;
+
+/**
+ * Cache of parsed Logback configuration models, keyed by a hash of the configuration content, so that a configuration shared by many logging concerns need
+ * only be parsed once.
+ * <p>
+ * If a cache directory is given, each parsed model is also stored in that directory in compressed serialized form, and later loaded from there instead of
+ * parsing the configuration again, for example after the JVM restarts. The key includes the Logback version, so that a model stored by one version of Logback
+ * will not be used with another.
+ * </p>
+ * @apiNote The configuration content is hashed as a whole; configuration files referenced via <code>&lt;include&gt;</code> are not part of the key, and
+ *          changes to them will not be detected.
+ * @author Garret Wilson
+ * @see LogbackLoggingConcern#configure(ConfigurationModel, Map)
+ */
+public final class ConfigurationModelCache {
+
+	/** The extension of stored model files in the cache directory. */
+	public static final String MODEL_FILENAME_EXTENSION = "logback-model";
+
+	/** The algorithm for hashing configuration content. */
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/** The Logback version, used as part of the key so that models are not shared across Logback versions. */
+	private static final String LOGBACK_VERSION = Optional.ofNullable(LoggerContext.class.getPackage().getImplementationVersion()).orElse("");
+
+	@Nullable
+	private final Path directory;
+
+	private final ConcurrentMap<String, ConfigurationModel> models = new ConcurrentHashMap<>();
+
+	/** Constructor of a cache that holds models only in memory. */
+	public ConfigurationModelCache() {
+		this.directory = null;
+	}
+
+	/**
+	 * Constructor of a cache that additionally stores models in a directory.
+	 * @param directory The directory in which to store models; will be created if needed.
+	 * @throws NullPointerException if the given directory is <code>null</code>.
+	 */
+	public ConfigurationModelCache(@Nonnull final Path directory) {
+		this.directory = requireNonNull(directory);
+	}
+
+	/** @return The directory in which models are stored, if any. */
+	public Optional<Path> findDirectory() {
+		return Optional.ofNullable(directory);
+	}
+
+	/** @return The number of models held in memory. */
+	public int size() {
+		return models.size();
+	}
+
+	/** Removes all models held in memory. Models stored in the cache directory, if any, are not removed. */
+	public void clear() {
+		models.clear();
+	}
+
+	/**
+	 * Returns the model of the Logback configuration file at the given path, parsing it only if a model for the same content is not already cached.
+	 * @param path The path to the Logback configuration file.
+	 * @return The configuration model.
+	 * @throws IOException if there is an error reading the configuration.
+	 * @throws JoranException if the configuration could not be parsed.
+	 */
+	public ConfigurationModel getModel(@Nonnull final Path path) throws IOException, JoranException {
+		return getModel(Files.readAllBytes(path));
+	}
+
+	/**
+	 * Returns the model of the Logback configuration file at the given URL, parsing it only if a model for the same content is not already cached.
+	 * @param url The URL to the Logback configuration file.
+	 * @return The configuration model.
+	 * @throws IOException if there is an error reading the configuration.
+	 * @throws JoranException if the configuration could not be parsed.
+	 */
+	public ConfigurationModel getModel(@Nonnull final URL url) throws IOException, JoranException {
+		try (final InputStream inputStream = url.openStream()) {
+			return getModel(inputStream);
+		}
+	}
+
+	/**
+	 * Returns the model of the Logback configuration read from the given input stream, parsing it only if a model for the same content is not already cached.
+	 * @apiNote The input stream is not closed.
+	 * @param inputStream The input stream to the Logback configuration.
+	 * @return The configuration model.
+	 * @throws IOException if there is an error reading the configuration.
+	 * @throws JoranException if the configuration could not be parsed.
+	 */
+	public ConfigurationModel getModel(@Nonnull final InputStream inputStream) throws IOException, JoranException {
+		return getModel(inputStream.readAllBytes());
+	}
+
+	/**
+	 * Returns the model of the given Logback configuration content, parsing it only if a model for the same content is not already cached.
+	 * @param content The Logback XML configuration content.
+	 * @return The configuration model.
+	 * @throws IOException if there is an error storing the model in the cache directory.
+	 * @throws JoranException if the configuration could not be parsed.
+	 */
+	public ConfigurationModel getModel(@Nonnull final byte[] content) throws IOException, JoranException {
+		final String key = key(content);
+		final ConfigurationModel cachedModel = models.get(key);
+		if(cachedModel != null) {
+			return cachedModel;
+		}
+		ConfigurationModel model = loadStoredModel(key);
+		if(model == null) {
+			model = ConfigurationModel.parse(key, content);
+			storeModel(model);
+		}
+		final ConfigurationModel existingModel = models.putIfAbsent(key, model);
+		return existingModel != null ? existingModel : model;
+	}
+
+	/**
+	 * Determines the key of the given configuration content.
+	 * @param content The configuration content.
+	 * @return The hexadecimal hash of the Logback version and the configuration content.
+	 */
+	static String key(@Nonnull final byte[] content) {
+		final MessageDigest messageDigest;
+		try {
+			messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch(final NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IllegalStateException(noSuchAlgorithmException); //every Java platform is required to support SHA-256
+		}
+		messageDigest.update(LOGBACK_VERSION.getBytes(UTF_8));
+		messageDigest.update((byte)0);
+		return HexFormat.of().formatHex(messageDigest.digest(content));
+	}
+
+	/**
+	 * Determines the path at which a model is stored in the cache directory.
+	 * @param key The key of the model.
+	 * @return The path of the stored model, if there is a cache directory.
+	 */
+	private Optional<Path> findModelPath(@Nonnull final String key) {
+		return findDirectory().map(directory -> directory.resolve(key + "." + MODEL_FILENAME_EXTENSION));
+	}
+
+	/**
+	 * Loads a model stored in the cache directory.
+	 * @implNote A stored model that cannot be read is ignored, so that it will be parsed again and replaced.
+	 * @param key The key of the model.
+	 * @return The stored model, or <code>null</code> if there is no cache directory or no valid model is stored for the key.
+	 */
+	@Nullable
+	private ConfigurationModel loadStoredModel(@Nonnull final String key) {
+		final Path modelPath = findModelPath(key).filter(Files::isRegularFile).orElse(null);
+		if(modelPath == null) {
+			return null;
+		}
+		try (final InputStream inputStream = new GZIPInputStream(Files.newInputStream(modelPath))) {
+			final ConfigurationModel model = new ConfigurationModel(key, inputStream.readAllBytes());
+			model.newModel(); //verify that the model can be deserialized
+			return model;
+		} catch(final IOException ioException) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a model in the cache directory, if there is one. The model is written to a temporary file and then moved into place, so that a partially written
+	 * model is never loaded.
+	 * @param model The model to store.
+	 * @throws IOException if there is an error storing the model.
+	 */
+	private void storeModel(@Nonnull final ConfigurationModel model) throws IOException {
+		final Path modelPath = findModelPath(model.getKey()).orElse(null);
+		if(modelPath == null) {
+			return;
+		}
+		Files.createDirectories(directory);
+		final Path tempFile = Files.createTempFile(directory, model.getKey(), ".tmp");
+		try {
+			try (final OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+				outputStream.write(model.getSerializedModel());
+			}
+			Files.move(tempFile, modelPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import ch.qos.logback.core.status.*;
+
+/**
+ * Watches a Logback configuration file and reconfigures a logger context whenever the file changes, without interrupting logging.
+ * <p>
+ * Rather than resetting the logger context and configuring it in place, which would leave the context briefly without appenders, each configuration is loaded
+ * into a separate <dfn>staged</dfn> logger context. The watched logger context has a single forwarding appender on its root logger, which passes each event to
+ * the corresponding logger of the current staged context, so that the event reaches the appenders configured for that logger name. Once a new staged context
+ * has been configured, the logger levels it specifies are copied to the watched logger context, and the forwarding appender is switched to the new staged
+ * context with a single volatile write. Each event is therefore delivered using exactly one configuration, and no event is lost or duplicated during the
+ * switch. The previous staged context is stopped after a grace period, allowing events already being delivered to it to complete.
+ * </p>
+ * <p>
+ * Changes to the file are detected using a {@link WatchService} on the file's directory. Because editors commonly produce several file system events for a
+ * single save, reloading is debounced: the configuration is loaded only after no further changes have been detected for the debounce delay. Loading happens on
+ * a background thread; logging threads never wait for a reconfiguration in progress. If the new configuration cannot be loaded, the error is reported to the
+ * status manager of the watched logger context and the current configuration remains in effect.
+ * </p>
+ * @implNote Logger levels in the watched logger context are made to match those of the configuration file, so levels set programmatically on the watched
+ *           context will be overridden on reload. Level changes are applied just before the appenders are switched and are not atomic with the switch. Turbo
+ *           filters in the configuration file are not applied, as events are filtered by the watched logger context before reaching the staged context.
+ * @author Garret Wilson
+ * @see LogbackLoggingConcern#watchConfiguration(Path)
+ */
+public final class ConfigurationWatcher extends ContextAwareBase implements Closeable {
+
+	/** The default delay after the last detected change before the configuration is reloaded. */
+	public static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.ofMillis(250);
+
+	/** The delay after switching configurations before the previous staged logger context is stopped. */
+	public static final Duration RETIREMENT_GRACE_PERIOD = Duration.ofSeconds(1);
+
+	private final LoggerContext loggerContext;
+
+	private final Path path;
+
+	private final Duration debounceDelay;
+
+	private final StagedContextAppender stagedContextAppender;
+
+	private final WatchService watchService;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Thread watchThread;
+
+	/** The scheduled reload, if any, which will be canceled and rescheduled if another change is detected before it runs. */
+	@Nullable
+	private ScheduledFuture<?> pendingReload = null;
+
+	private final AtomicLong reloadCount = new AtomicLong();
+
+	/**
+	 * Constructor. The configuration is loaded immediately before watching begins.
+	 * @param loggerContext The logger context to reconfigure.
+	 * @param path The path to the Logback configuration file.
+	 * @param debounceDelay The delay after the last detected change before the configuration is reloaded.
+	 * @throws IOException if the file's directory cannot be watched.
+	 * @throws JoranException if the initial configuration could not be loaded.
+	 */
+	ConfigurationWatcher(@Nonnull final LoggerContext loggerContext, @Nonnull final Path path, @Nonnull final Duration debounceDelay)
+			throws IOException, JoranException {
+		this.loggerContext = requireNonNull(loggerContext);
+		this.path = path.toAbsolutePath();
+		this.debounceDelay = requireNonNull(debounceDelay);
+		setContext(loggerContext);
+		stagedContextAppender = new StagedContextAppender();
+		stagedContextAppender.setContext(loggerContext);
+		stagedContextAppender.setName(getClass().getSimpleName());
+		final LoggerContext stagedContext = loadConfiguration();
+		if(stagedContext == null) {
+			throw new JoranException("Unable to load Logback configuration from `" + this.path + "`.");
+		}
+		applyConfiguration(stagedContext);
+		stagedContextAppender.start();
+		loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(stagedContextAppender);
+		watchService = this.path.getFileSystem().newWatchService();
+		requireNonNull(this.path.getParent(), "Configuration file path has no parent directory.").register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "clogr-configuration-reload");
+			thread.setDaemon(true);
+			return thread;
+		});
+		watchThread = new Thread(this::watch, "clogr-configuration-watch");
+		watchThread.setDaemon(true);
+		watchThread.start();
+	}
+
+	/** @return The path to the Logback configuration file being watched. */
+	public Path getPath() {
+		return path;
+	}
+
+	/** @return The number of times the configuration has been successfully loaded and applied, including the initial configuration. */
+	public long getReloadCount() {
+		return reloadCount.get();
+	}
+
+	/** @return The staged logger context containing the current configuration, to which events are forwarded. */
+	public LoggerContext getStagedLoggerContext() {
+		return stagedContextAppender.stagedContext;
+	}
+
+	/** Watches for changes to the configuration file, scheduling reloads until the watch service is closed. */
+	private void watch() {
+		final Path fileName = path.getFileName();
+		try {
+			while(true) {
+				final WatchKey watchKey = watchService.take();
+				boolean changed = false;
+				for(final WatchEvent<?> event : watchKey.pollEvents()) {
+					changed |= event.kind() == OVERFLOW || fileName.equals(event.context());
+				}
+				if(changed) {
+					scheduleReload();
+				}
+				if(!watchKey.reset()) {
+					addWarn("No longer able to watch directory of `" + path + "`.");
+					break;
+				}
+			}
+		} catch(final InterruptedException | ClosedWatchServiceException exception) {
+			//the watcher has been closed
+		}
+	}
+
+	/** Schedules the configuration to be reloaded after the debounce delay, replacing any reload already scheduled. */
+	private synchronized void scheduleReload() {
+		if(pendingReload != null) {
+			pendingReload.cancel(false);
+		}
+		try {
+			pendingReload = scheduler.schedule(this::reload, debounceDelay.toNanos(), TimeUnit.NANOSECONDS);
+		} catch(final RejectedExecutionException rejectedExecutionException) {
+			//the watcher has been closed
+		}
+	}
+
+	/**
+	 * Loads the configuration file and, if it loads without errors, switches the watched logger context to use it.
+	 * @apiNote This method is called automatically when changes are detected, but may be called manually. It is called in the current thread.
+	 * @return <code>true</code> if the configuration was loaded and applied, or <code>false</code> if there was an error loading the configuration and the
+	 *         current configuration remains in effect.
+	 */
+	public synchronized boolean reload() {
+		final LoggerContext stagedContext = loadConfiguration();
+		if(stagedContext == null) {
+			return false;
+		}
+		final LoggerContext previousStagedContext = applyConfiguration(stagedContext);
+		if(previousStagedContext != null) {
+			try {
+				scheduler.schedule(previousStagedContext::stop, RETIREMENT_GRACE_PERIOD.toNanos(), TimeUnit.NANOSECONDS);
+			} catch(final RejectedExecutionException rejectedExecutionException) { //if the watcher has been closed, stop the context after waiting in this thread
+				try {
+					Thread.sleep(RETIREMENT_GRACE_PERIOD.toMillis());
+				} catch(final InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				previousStagedContext.stop();
+			}
+		}
+		addInfo("Reloaded Logback configuration from `" + path + "`.");
+		return true;
+	}
+
+	/**
+	 * Loads the configuration file into a new staged logger context.
+	 * @return The new staged logger context, or <code>null</code> if there were errors loading the configuration, which will have been reported.
+	 */
+	@Nullable
+	private LoggerContext loadConfiguration() {
+		final LoggerContext stagedContext = new LoggerContext();
+		stagedContext.setName(loggerContext.getName());
+		stagedContext.setMDCAdapter(loggerContext.getMDCAdapter());
+		loggerContext.getCopyOfPropertyMap().forEach(stagedContext::putProperty);
+		final JoranConfigurator configurator = new JoranConfigurator();
+		configurator.setContext(stagedContext);
+		try {
+			configurator.doConfigure(path.toFile());
+		} catch(final JoranException joranException) {
+			addError("Error loading Logback configuration from `" + path + "`; keeping current configuration.", joranException);
+			stagedContext.stop();
+			return null;
+		}
+		if(new StatusUtil(stagedContext).getHighestLevel(0) >= Status.ERROR) {
+			stagedContext.getStatusManager().getCopyOfStatusList().stream().filter(status -> status.getLevel() >= Status.ERROR)
+					.forEach(status -> addStatus(status));
+			addError("Errors loading Logback configuration from `" + path + "`; keeping current configuration.");
+			stagedContext.stop();
+			return null;
+		}
+		stagedContext.start();
+		return stagedContext;
+	}
+
+	/**
+	 * Makes the levels of the watched logger context match those of a staged logger context, and switches the forwarding appender to the staged context.
+	 * @param stagedContext The staged context containing the new configuration.
+	 * @return The previous staged logger context, or <code>null</code> if there was none.
+	 */
+	@Nullable
+	private LoggerContext applyConfiguration(@Nonnull final LoggerContext stagedContext) {
+		for(final Logger stagedLogger : stagedContext.getLoggerList()) {
+			final Level level = stagedLogger.getLevel();
+			if(level != null) {
+				loggerContext.getLogger(stagedLogger.getName()).setLevel(level);
+			}
+		}
+		for(final Logger logger : loggerContext.getLoggerList()) { //clear explicit levels that are no longer configured
+			if(logger.getLevel() != null && !Logger.ROOT_LOGGER_NAME.equals(logger.getName())) {
+				final Logger stagedLogger = stagedContext.exists(logger.getName());
+				if(stagedLogger == null || stagedLogger.getLevel() == null) {
+					logger.setLevel(null);
+				}
+			}
+		}
+		final LoggerContext previousStagedContext = stagedContextAppender.stagedContext;
+		stagedContextAppender.stagedContext = stagedContext;
+		reloadCount.incrementAndGet();
+		return previousStagedContext;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec Stops watching the configuration file. The current configuration remains in effect, and its staged logger context is stopped when the watched
+	 *           logger context stops or is reset.
+	 */
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		scheduler.shutdown();
+		try {
+			watchThread.join();
+		} catch(final InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Appender that forwards events to the logger of the same name in the current staged logger context.
+	 * @implNote This appender does not lock, and reads the staged context only once per event.
+	 */
+	private static final class StagedContextAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+		/** The staged logger context to which events are forwarded. */
+		private volatile LoggerContext stagedContext;
+
+		@Override
+		protected void append(final ILoggingEvent event) {
+			final LoggerContext currentStagedContext = stagedContext;
+			if(currentStagedContext != null) {
+				currentStagedContext.getLogger(event.getLoggerName()).callAppenders(event);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @implSpec This implementation also stops the current staged logger context, delivering any events it has buffered.
+		 */
+		@Override
+		public void stop() {
+			super.stop();
+			final LoggerContext currentStagedContext = stagedContext;
+			if(currentStagedContext != null) {
+				currentStagedContext.stop();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.*;
+import ch.qos.logback.core.*;
+import ch.qos.logback.core.spi.*;
+import ch.qos.logback.core.util.Duration;
+
+/**
+ * An appender that delivers events to attached appenders, suppressing events that repeat an earlier event within a time window and later delivering a single
+ * roll-up event reporting how many times the event was repeated.
+ * <p>
+ * Events are considered repeats if they have the same logger, level, message template, and throwable type, regardless of message arguments. The first event is
+ * delivered immediately; repeats within the {@link #getWindow() window} following it are counted and suppressed. Once the window has elapsed, a roll-up event
+ * at the same level and for the same logger is delivered with a message such as "Repeated 1234 time(s) within 10000 ms: …", after which the next repeat is
+ * again delivered as a first occurrence. Roll-up events are also delivered for any outstanding repeats when the appender is stopped.
+ * </p>
+ * <p>
+ * Repeats are tracked in a fingerprint table of fixed {@link #getTableSize() size}, so that memory use remains bounded regardless of the number of distinct
+ * messages. Distinct messages whose fingerprints map to the same slot replace each other, which only causes repeats to be delivered that would otherwise have
+ * been suppressed.
+ * </p>
+ * <p>
+ * This appender may be configured programmatically or via Logback configuration, with attached appenders specified using <code>appender-ref</code>:
+ * </p>
+ * <pre>{@code
+ * <appender name="DEDUPLICATE" class="io.clogr.logback.DeduplicatingAppender">
+ *   <window>10 seconds</window>
+ *   <tableSize>1024</tableSize>
+ *   <appender-ref ref="FILE" />
+ * </appender>
+ * }</pre>
+ * @implNote The table is updated using compare-and-set without locking. Counting a repeat allocates nothing; only a first occurrence allocates a table entry.
+ *           Expired entries are swept on the scheduled executor of the Logback context.
+ * @author Garret Wilson
+ */
+public class DeduplicatingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+	/** The default time window within which repeated events are suppressed. */
+	public static final Duration DEFAULT_WINDOW = Duration.buildBySeconds(10);
+
+	/** The default number of slots in the fingerprint table. */
+	public static final int DEFAULT_TABLE_SIZE = 1024;
+
+	/** The message template of roll-up events; the arguments are the repeat count, the elapsed milliseconds, and the formatted message of the first event. */
+	static final String ROLL_UP_MESSAGE = "Repeated {} time(s) within {} ms: {}";
+
+	private final AppenderAttachableImpl<ILoggingEvent> appenderAttachable = new AppenderAttachableImpl<>();
+
+	private final LongAdder suppressedCount = new LongAdder();
+
+	private Duration window = DEFAULT_WINDOW;
+
+	/** @return The time window following a first occurrence within which repeated events are suppressed. */
+	public Duration getWindow() {
+		return window;
+	}
+
+	/**
+	 * Sets the time window following a first occurrence within which repeated events are suppressed. Takes effect when the appender is started.
+	 * @param window The deduplication window.
+	 */
+	public void setWindow(@Nonnull final Duration window) {
+		this.window = requireNonNull(window);
+	}
+
+	private int tableSize = DEFAULT_TABLE_SIZE;
+
+	/** @return The number of slots in the fingerprint table, which will be rounded up to a power of two. */
+	public int getTableSize() {
+		return tableSize;
+	}
+
+	/**
+	 * Sets the number of slots in the fingerprint table. Takes effect when the appender is started.
+	 * @param tableSize The number of slots in the fingerprint table, which will be rounded up to a power of two.
+	 */
+	public void setTableSize(final int tableSize) {
+		this.tableSize = tableSize;
+	}
+
+	/** The fingerprint table, created when the appender is started. */
+	@Nullable
+	private volatile AtomicReferenceArray<Entry> table = null;
+
+	/** The window in nanoseconds, determined when the appender is started. */
+	private long windowNanos;
+
+	/** The scheduled sweep of expired entries, or <code>null</code> if the appender is not started. */
+	@Nullable
+	private ScheduledFuture<?> sweepFuture = null;
+
+	/** @return The number of events suppressed as repeats. */
+	public long getSuppressedCount() {
+		return suppressedCount.sum();
+	}
+
+	@Override
+	public void start() {
+		if(isStarted()) {
+			return;
+		}
+		if(tableSize < 1 || tableSize > 1 << 30) {
+			addError("Invalid table size " + tableSize + ".");
+			return;
+		}
+		windowNanos = TimeUnit.MILLISECONDS.toNanos(window.getMilliseconds());
+		if(windowNanos <= 0) {
+			addError("Invalid deduplication window " + window + ".");
+			return;
+		}
+		if(!appenderAttachable.iteratorForAppenders().hasNext()) {
+			addWarn("No appenders attached to " + getClass().getSimpleName() + " `" + getName() + "`.");
+		}
+		table = new AtomicReferenceArray<>(tableSize == 1 ? 1 : Integer.highestOneBit(tableSize - 1) << 1);
+		super.start();
+		sweepFuture = getContext().getScheduledExecutorService().scheduleAtFixedRate(this::sweep, windowNanos, windowNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delivers roll-up events for all outstanding repeats and then stops all attached appenders.
+	 */
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		super.stop();
+		final ScheduledFuture<?> sweepFuture = this.sweepFuture;
+		if(sweepFuture != null) {
+			sweepFuture.cancel(false);
+			this.sweepFuture = null;
+		}
+		final AtomicReferenceArray<Entry> table = this.table;
+		if(table != null) {
+			for(int i = 0; i < table.length(); i++) {
+				final Entry entry = table.getAndSet(i, null);
+				if(entry != null) {
+					rollUp(entry);
+				}
+			}
+		}
+		appenderAttachable.detachAndStopAllAppenders();
+	}
+
+	@Override
+	protected void append(final ILoggingEvent event) {
+		final AtomicReferenceArray<Entry> table = this.table;
+		if(table == null) {
+			return;
+		}
+		final String loggerName = event.getLoggerName();
+		final Level level = event.getLevel();
+		final String message = event.getMessage();
+		final IThrowableProxy throwableProxy = event.getThrowableProxy();
+		final String throwableClassName = throwableProxy != null ? throwableProxy.getClassName() : null;
+		final int index = fingerprint(loggerName, level, message, throwableClassName) & (table.length() - 1);
+		final long now = System.nanoTime();
+		while(true) {
+			final Entry entry = table.get(index);
+			if(entry != null && now - entry.startNanos < windowNanos && entry.matches(loggerName, level, message, throwableClassName)) {
+				if(entry.repeatCount.getAndIncrement() >= 0) {
+					suppressedCount.increment();
+					return;
+				}
+				continue; //the entry was rolled up concurrently and is being removed
+			}
+			final Entry newEntry = new Entry(event, throwableClassName, now);
+			if(table.compareAndSet(index, entry, newEntry)) {
+				if(entry != null) {
+					rollUp(entry);
+				}
+				appenderAttachable.appendLoopOnAppenders(event);
+				return;
+			}
+		}
+	}
+
+	/** Removes entries whose windows have elapsed from the table, delivering roll-up events for their repeats. */
+	private void sweep() {
+		final AtomicReferenceArray<Entry> table = this.table;
+		if(table == null) {
+			return;
+		}
+		final long now = System.nanoTime();
+		for(int i = 0; i < table.length(); i++) {
+			final Entry entry = table.get(i);
+			if(entry != null && now - entry.startNanos >= windowNanos && table.compareAndSet(i, entry, null)) {
+				rollUp(entry);
+			}
+		}
+	}
+
+	/**
+	 * Closes an entry removed from the table, delivering a roll-up event if the entry has recorded repeats.
+	 * @param entry The entry removed from the table.
+	 */
+	private void rollUp(@Nonnull final Entry entry) {
+		final long repeatCount = entry.repeatCount.getAndSet(Long.MIN_VALUE);
+		if(repeatCount <= 0) {
+			return;
+		}
+		final LoggingEvent rollUpEvent = new LoggingEvent();
+		rollUpEvent.setLoggerName(entry.loggerName);
+		rollUpEvent.setLevel(entry.level);
+		rollUpEvent.setMessage(ROLL_UP_MESSAGE);
+		rollUpEvent.setArgumentArray(new Object[] {repeatCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.startNanos), entry.formattedMessage});
+		rollUpEvent.setTimeStamp(System.currentTimeMillis());
+		rollUpEvent.setThreadName(Thread.currentThread().getName());
+		rollUpEvent.setMDCPropertyMap(entry.mdcPropertyMap);
+		if(getContext() instanceof LoggerContext) {
+			rollUpEvent.setLoggerContextRemoteView(((LoggerContext)getContext()).getLoggerContextRemoteView());
+		}
+		appenderAttachable.appendLoopOnAppenders(rollUpEvent);
+	}
+
+	/**
+	 * Computes the fingerprint of an event from the characteristics that identify repeats.
+	 * @implNote This method relies on the cached hash codes of strings, and does not allocate.
+	 * @param loggerName The logger name.
+	 * @param level The level.
+	 * @param message The message template, which may be <code>null</code>.
+	 * @param throwableClassName The class name of the throwable, or <code>null</code> if there is no throwable.
+	 * @return The fingerprint of the event.
+	 */
+	static int fingerprint(@Nonnull final String loggerName, @Nonnull final Level level, @Nullable final String message,
+			@Nullable final String throwableClassName) {
+		int hash = loggerName.hashCode();
+		hash = hash * 31 + level.toInt();
+		hash = hash * 31 + Objects.hashCode(message);
+		hash = hash * 31 + Objects.hashCode(throwableClassName);
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	@Override
+	public void addAppender(final Appender<ILoggingEvent> newAppender) {
+		appenderAttachable.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenderAttachable.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(final String name) {
+		return appenderAttachable.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(final Appender<ILoggingEvent> appender) {
+		return appenderAttachable.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenderAttachable.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(final Appender<ILoggingEvent> appender) {
+		return appenderAttachable.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(final String name) {
+		return appenderAttachable.detachAppender(name);
+	}
+
+	/**
+	 * A record of the first occurrence of an event in the fingerprint table, along with a count of its repeats.
+	 * @author Garret Wilson
+	 */
+	private static final class Entry {
+
+		private final String loggerName;
+
+		private final Level level;
+
+		@Nullable
+		private final String message;
+
+		@Nullable
+		private final String throwableClassName;
+
+		/** The formatted message of the first occurrence, for the roll-up event. */
+		private final String formattedMessage;
+
+		/** The MDC of the first occurrence, for the roll-up event. */
+		private final Map<String, String> mdcPropertyMap;
+
+		/** The time the window of this entry started, in terms of {@link System#nanoTime()}. */
+		private final long startNanos;
+
+		/** The number of repeats; set to a negative value once the entry is rolled up, so that no further repeats are counted. */
+		private final AtomicLong repeatCount = new AtomicLong();
+
+		/**
+		 * Constructor.
+		 * @param event The first occurrence of the event.
+		 * @param throwableClassName The class name of the throwable of the event, or <code>null</code> if there is no throwable.
+		 * @param startNanos The time the window starts, in terms of {@link System#nanoTime()}.
+		 */
+		Entry(@Nonnull final ILoggingEvent event, @Nullable final String throwableClassName, final long startNanos) {
+			this.loggerName = event.getLoggerName();
+			this.level = event.getLevel();
+			this.message = event.getMessage();
+			this.throwableClassName = throwableClassName;
+			this.formattedMessage = throwableClassName != null ? event.getFormattedMessage() + " (" + throwableClassName + ")" : event.getFormattedMessage();
+			this.mdcPropertyMap = event.getMDCPropertyMap();
+			this.startNanos = startNanos;
+		}
+
+		/**
+		 * Determines whether this entry records the first occurrence of an event with the given characteristics.
+		 * @param loggerName The logger name.
+		 * @param level The level.
+		 * @param message The message template, which may be <code>null</code>.
+		 * @param throwableClassName The class name of the throwable, or <code>null</code> if there is no throwable.
+		 * @return <code>true</code> if an event with the given characteristics is a repeat of this entry.
+		 */
+		boolean matches(@Nonnull final String loggerName, @Nonnull final Level level, @Nullable final String message, @Nullable final String throwableClassName) {
+			return this.level == level && this.loggerName.equals(loggerName) && Objects.equals(this.message, message)
+					&& Objects.equals(this.throwableClassName, throwableClassName);
+		}
+
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static io.clogr.logback.GarbageFreeEncoder.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+import javax.annotation.*;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Fixed-size ring buffer retaining the most recent events of a logging concern as compact pre-encoded text, so that the context leading up to a failure may
+ * be written out on demand.
+ * <p>
+ * Each event is encoded on the logging thread as a single line of UTF-8 text in the same layout as {@link GarbageFreeEncoder}, with any throwable summarized
+ * on the same line, and stored in a buffer allocated outside the Java heap using {@link ByteBuffer#allocateDirect(int)}. When the buffer is full the oldest
+ * events are overwritten. Events are usually recorded by a {@link FlightRecorderTurboFilter}, which sees events at all levels before the levels of their
+ * loggers are checked.
+ * </p>
+ * @implNote Events are formatted into reusable buffers of the logging thread, and the recorder lock is held only to copy the encoded bytes into the ring. Each
+ *           record is stored as a four-byte length followed by the encoded bytes; a record may wrap around the end of the buffer.
+ * @author Garret Wilson
+ * @see FlightRecorderTurboFilter
+ */
+public final class FlightRecorder {
+
+	/** The default capacity of the buffer in bytes. */
+	public static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+	/** The default maximum number of characters of an event to record; longer events are truncated. */
+	public static final int DEFAULT_MAX_EVENT_LENGTH = 2048;
+
+	/** The size of the length prefix of each record. */
+	private static final int LENGTH_SIZE = Integer.BYTES;
+
+	/** The reusable buffers of each thread. */
+	private static final ThreadLocal<Buffers> THREAD_BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+	private final ByteBuffer buffer;
+
+	private final int capacity;
+
+	private final int maxEventLength;
+
+	/** The total number of bytes ever written; the position of the next record, modulo the capacity. */
+	private long head = 0;
+
+	/** The position of the oldest retained record, modulo the capacity. */
+	private long tail = 0;
+
+	/** The number of records currently retained. */
+	private int recordCount = 0;
+
+	/**
+	 * Default capacity constructor.
+	 * @see #DEFAULT_CAPACITY
+	 */
+	public FlightRecorder() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Capacity constructor.
+	 * @param capacity The capacity of the buffer in bytes.
+	 * @throws IllegalArgumentException if the capacity is not large enough to hold at least one record.
+	 */
+	public FlightRecorder(final int capacity) {
+		this(capacity, DEFAULT_MAX_EVENT_LENGTH);
+	}
+
+	/**
+	 * Capacity and maximum event length constructor.
+	 * @param capacity The capacity of the buffer in bytes.
+	 * @param maxEventLength The maximum number of characters of an event to record; longer events are truncated.
+	 * @throws IllegalArgumentException if the capacity is not large enough to hold at least one record, or the maximum event length is not positive.
+	 */
+	public FlightRecorder(final int capacity, final int maxEventLength) {
+		if(capacity <= LENGTH_SIZE) {
+			throw new IllegalArgumentException("Flight recorder capacity " + capacity + " too small.");
+		}
+		if(maxEventLength <= 0) {
+			throw new IllegalArgumentException("Flight recorder maximum event length must be positive: " + maxEventLength);
+		}
+		this.capacity = capacity;
+		this.maxEventLength = maxEventLength;
+		this.buffer = ByteBuffer.allocateDirect(capacity);
+	}
+
+	/** @return The capacity of the buffer in bytes. */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/** @return The maximum number of characters of an event to record. */
+	public int getMaxEventLength() {
+		return maxEventLength;
+	}
+
+	/** @return The number of events currently retained. */
+	public synchronized int getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Records an event, overwriting the oldest events as needed to make room.
+	 * @implNote This method does not allocate unless an argument requires conversion to a string, the event has a throwable, or the buffers of the current
+	 *           thread must grow.
+	 * @param timestamp The time of the event in milliseconds since the epoch.
+	 * @param level The level of the event.
+	 * @param loggerName The name of the logger.
+	 * @param messagePattern The message template, which may contain SLF4J placeholders.
+	 * @param arguments The arguments of the message, if any.
+	 * @param throwable The throwable of the event, if any.
+	 */
+	public void record(final long timestamp, @Nonnull final Level level, @Nonnull final String loggerName, @Nullable final String messagePattern,
+			@Nullable final Object[] arguments, @Nullable final Throwable throwable) {
+		Buffers buffers = THREAD_BUFFERS.get();
+		if(buffers.inUse) { //an argument's toString() logged while this thread was recording
+			buffers = new Buffers();
+		}
+		buffers.inUse = true;
+		try {
+			final StringBuilder text = buffers.text;
+			text.setLength(0);
+			appendTimestamp(text, timestamp);
+			text.append(' ');
+			final String levelString = level.levelStr;
+			text.append(levelString);
+			for(int i = levelString.length(); i < 5; i++) {
+				text.append(' ');
+			}
+			text.append(" [").append(Thread.currentThread().getName()).append("] ").append(loggerName).append(" - ");
+			appendFormattedMessage(text, messagePattern, arguments);
+			final Throwable eventThrowable = throwable != null ? throwable : MessageFormatter.getThrowableCandidate(arguments);
+			if(eventThrowable != null) {
+				text.append(" ! ").append(eventThrowable);
+			}
+			if(text.length() > maxEventLength) {
+				text.setLength(maxEventLength);
+			}
+			text.append('\n');
+			final int length = encodeUtf8(text, buffers.bytes(text.length()));
+			write(buffers.bytes, Math.min(length, capacity - LENGTH_SIZE));
+		} finally {
+			buffers.inUse = false;
+		}
+	}
+
+	/**
+	 * Stores a record in the ring, discarding the oldest records as needed to make room.
+	 * @param bytes The encoded event.
+	 * @param length The number of bytes to store, which must not exceed the capacity less the size of the length prefix.
+	 */
+	private synchronized void write(@Nonnull final byte[] bytes, final int length) {
+		final long recordEnd = head + LENGTH_SIZE + length;
+		while(recordEnd - tail > capacity) {
+			tail += LENGTH_SIZE + readLength(tail);
+			recordCount--;
+		}
+		int position = (int)(head % capacity);
+		for(int shift = 24; shift >= 0; shift -= 8) {
+			buffer.put(position, (byte)(length >>> shift));
+			position = position + 1 == capacity ? 0 : position + 1;
+		}
+		final int firstLength = Math.min(length, capacity - position);
+		buffer.put(position, bytes, 0, firstLength);
+		if(firstLength < length) {
+			buffer.put(0, bytes, firstLength, length - firstLength);
+		}
+		head = recordEnd;
+		recordCount++;
+	}
+
+	/**
+	 * Reads the length prefix of the record at the given position.
+	 * @param recordPosition The position of the record, not yet reduced modulo the capacity.
+	 * @return The length of the record, not including the length prefix.
+	 */
+	private int readLength(final long recordPosition) {
+		int position = (int)(recordPosition % capacity);
+		int length = 0;
+		for(int i = 0; i < LENGTH_SIZE; i++) {
+			length = length << 8 | buffer.get(position) & 0xFF;
+			position = position + 1 == capacity ? 0 : position + 1;
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the retained events, oldest first, to the given output stream, optionally discarding them from the buffer.
+	 * @apiNote Discarding the events after writing them prevents the same events from being written again by a later dump, such as one triggered by a
+	 *          subsequent error.
+	 * @implNote The retained records are copied from the buffer while holding the recorder lock, but are written to the output stream after the lock is
+	 *           released, so that logging is not blocked by output.
+	 * @param outputStream The output stream to which to write the events.
+	 * @param clear <code>true</code> if the retained events should be discarded.
+	 * @return The number of events written.
+	 * @throws IOException if an error occurs writing to the output stream.
+	 */
+	public int dump(@Nonnull final OutputStream outputStream, final boolean clear) throws IOException {
+		final byte[] records;
+		final int count;
+		synchronized(this) {
+			records = new byte[(int)(head - tail)];
+			final int position = (int)(tail % capacity);
+			final int firstLength = Math.min(records.length, capacity - position);
+			buffer.get(position, records, 0, firstLength);
+			if(firstLength < records.length) {
+				buffer.get(0, records, firstLength, records.length - firstLength);
+			}
+			count = recordCount;
+			if(clear) {
+				tail = head;
+				recordCount = 0;
+			}
+		}
+		int offset = 0;
+		while(offset < records.length) {
+			final int length = (records[offset] & 0xFF) << 24 | (records[offset + 1] & 0xFF) << 16 | (records[offset + 2] & 0xFF) << 8
+					| records[offset + 3] & 0xFF;
+			offset += LENGTH_SIZE;
+			outputStream.write(records, offset, length);
+			offset += length;
+		}
+		outputStream.flush();
+		return count;
+	}
+
+	/** Discards all retained events. */
+	public synchronized void clear() {
+		tail = head;
+		recordCount = 0;
+	}
+
+	/**
+	 * Reusable buffers for formatting and encoding events.
+	 * @author Garret Wilson
+	 */
+	private static final class Buffers {
+
+		/** Whether the buffers are being used to record an event. */
+		private boolean inUse = false;
+
+		private final StringBuilder text = new StringBuilder(256);
+
+		private byte[] bytes = new byte[768];
+
+		/**
+		 * Returns the byte buffer, first growing it if needed to hold the UTF-8 encoding of the given number of characters.
+		 * @param length The number of characters to be encoded.
+		 * @return The byte buffer.
+		 */
+		byte[] bytes(final int length) {
+			if(bytes.length < length * 3) {
+				bytes = new byte[Math.max(length * 3, bytes.length * 2)];
+			}
+			return bytes;
+		}
+
+	}
+
+}
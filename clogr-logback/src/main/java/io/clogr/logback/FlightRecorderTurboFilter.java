@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Turbo filter that records events at all levels in a {@link FlightRecorder}, including events at levels disabled for their loggers, and writes out the
+ * recorded events when an event at or above a trigger level occurs.
+ * <p>
+ * This filter never affects whether an event is logged; it always remains neutral. Recorded events are written to the configured file, appending to any
+ * existing content, or to standard error if no file is configured. The recorded events are discarded once written, so that each dump contains only the events
+ * since the previous dump. A dump may also be requested at any time using {@link #dump()}.
+ * </p>
+ * <p>
+ * A dump triggered by an event is performed on a background thread, so that the logging thread does not wait for output. Further triggering events that occur
+ * before a pending dump begins do not cause additional dumps, as the pending dump will include their events.
+ * </p>
+ * <pre>{@code
+ * <turboFilter class="io.clogr.logback.FlightRecorderTurboFilter">
+ *   <capacity>1048576</capacity>
+ *   <level>DEBUG</level>
+ *   <triggerLevel>ERROR</triggerLevel>
+ *   <file>flight-recorder.log</file>
+ * </turboFilter>
+ * }</pre>
+ * @apiNote Events are recorded only when a logging method is called with a message. Code guarded by a check such as {@link Logger#isDebugEnabled()}, as well as
+ *          the fluent API, which performs the same check, does not log at all at disabled levels and so cannot be recorded. As this filter sees events before
+ *          other turbo filters may accept or deny them, {@link #enable(LoggerContext)} places it first in the turbo filter list.
+ * @implNote Each recorded event is formatted on the logging thread, so recording events at levels that would otherwise be disabled adds to their cost; the
+ *           minimum level to record may be raised to limit this cost.
+ * @author Garret Wilson
+ * @see #enable(LoggerContext)
+ */
+public class FlightRecorderTurboFilter extends TurboFilter {
+
+	private int capacity = FlightRecorder.DEFAULT_CAPACITY;
+
+	/** @return The capacity of the flight recorder buffer in bytes. */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the capacity of the flight recorder buffer. Must be set before this filter is started.
+	 * @param capacity The capacity of the flight recorder buffer in bytes.
+	 */
+	public void setCapacity(final int capacity) {
+		this.capacity = capacity;
+	}
+
+	private int maxEventLength = FlightRecorder.DEFAULT_MAX_EVENT_LENGTH;
+
+	/** @return The maximum number of characters of an event to record. */
+	public int getMaxEventLength() {
+		return maxEventLength;
+	}
+
+	/**
+	 * Sets the maximum number of characters of an event to record; longer events are truncated. Must be set before this filter is started.
+	 * @param maxEventLength The maximum number of characters of an event to record.
+	 */
+	public void setMaxEventLength(final int maxEventLength) {
+		this.maxEventLength = maxEventLength;
+	}
+
+	private volatile Level level = Level.TRACE;
+
+	/** @return The minimum level of events to record. */
+	public Level getLevel() {
+		return level;
+	}
+
+	/**
+	 * Sets the minimum level of events to record, defaulting to {@link Level#TRACE} so that all events are recorded.
+	 * @param level The minimum level of events to record.
+	 */
+	public void setLevel(@Nonnull final Level level) {
+		this.level = requireNonNull(level);
+	}
+
+	private volatile Level triggerLevel = Level.ERROR;
+
+	/** @return The level at or above which an event causes the recorded events to be written. */
+	public Level getTriggerLevel() {
+		return triggerLevel;
+	}
+
+	/**
+	 * Sets the level at or above which an event causes the recorded events to be written, defaulting to {@link Level#ERROR}. The level {@link Level#OFF}
+	 * disables automatic dumps.
+	 * @param triggerLevel The level at or above which an event causes the recorded events to be written.
+	 */
+	public void setTriggerLevel(@Nonnull final Level triggerLevel) {
+		this.triggerLevel = requireNonNull(triggerLevel);
+	}
+
+	@Nullable
+	private volatile String file = null;
+
+	/** @return The file to which recorded events are appended when written, or <code>null</code> if they are written to standard error. */
+	@Nullable
+	public String getFile() {
+		return file;
+	}
+
+	/**
+	 * Sets the file to which recorded events are appended when written.
+	 * @param file The file to which recorded events are appended, or <code>null</code> if they should be written to standard error.
+	 */
+	public void setFile(@Nullable final String file) {
+		this.file = file;
+	}
+
+	@Nullable
+	private volatile FlightRecorder flightRecorder = null;
+
+	/**
+	 * Returns the flight recorder holding the recorded events.
+	 * @return The flight recorder.
+	 * @throws IllegalStateException if this filter has not been started.
+	 */
+	public FlightRecorder getFlightRecorder() {
+		final FlightRecorder flightRecorder = this.flightRecorder;
+		if(flightRecorder == null) {
+			throw new IllegalStateException("Flight recorder turbo filter not started.");
+		}
+		return flightRecorder;
+	}
+
+	/**
+	 * Enables a flight recorder for a logger context, retaining recent events at all levels in a ring buffer and writing them out when an error occurs, by adding
+	 * a {@link FlightRecorderTurboFilter} with default settings to the logger context if one is not already present. The turbo filter is placed first in the
+	 * turbo filter list, so that it sees every event before other turbo filters accept or deny it.
+	 * @apiNote The returned filter may be used to configure where recorded events are written, and to request that they be written at any time using
+	 *          {@link #dump()}.
+	 * @param loggerContext The logger context, such as that of a {@link LoggerContextLoggingConcern}.
+	 * @return The flight recorder turbo filter of the logger context, whether newly added or already present.
+	 * @see #find(LoggerContext)
+	 */
+	public static FlightRecorderTurboFilter enable(@Nonnull final LoggerContext loggerContext) {
+		synchronized(loggerContext) {
+			final Optional<FlightRecorderTurboFilter> foundTurboFilter = find(loggerContext);
+			if(foundTurboFilter.isPresent()) {
+				return foundTurboFilter.get();
+			}
+			final FlightRecorderTurboFilter turboFilter = new FlightRecorderTurboFilter();
+			turboFilter.setContext(loggerContext);
+			turboFilter.start();
+			loggerContext.getTurboFilterList().add(0, turboFilter);
+			return turboFilter;
+		}
+	}
+
+	/**
+	 * Finds the flight recorder turbo filter of a logger context, whether added using {@link #enable(LoggerContext)} or via Logback configuration.
+	 * @param loggerContext The logger context.
+	 * @return The flight recorder turbo filter, if present.
+	 */
+	public static Optional<FlightRecorderTurboFilter> find(@Nonnull final LoggerContext loggerContext) {
+		return loggerContext.getTurboFilterList().stream().filter(FlightRecorderTurboFilter.class::isInstance).map(FlightRecorderTurboFilter.class::cast)
+				.findFirst();
+	}
+
+	/** The executor for performing triggered dumps in the background, or <code>null</code> if this filter is not started. */
+	@Nullable
+	private volatile ExecutorService dumpExecutor = null;
+
+	/** Whether a triggered dump has been submitted but has not yet begun. */
+	private final AtomicBoolean dumpPending = new AtomicBoolean(false);
+
+	@Override
+	public void start() {
+		if(isStarted()) {
+			return;
+		}
+		try {
+			flightRecorder = new FlightRecorder(capacity, maxEventLength);
+		} catch(final IllegalArgumentException illegalArgumentException) {
+			addError(illegalArgumentException.getMessage(), illegalArgumentException);
+			return;
+		}
+		dumpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "clogr-flight-recorder-dump");
+			thread.setDaemon(true);
+			return thread;
+		});
+		super.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation allows any pending triggered dump to complete in the background.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		final ExecutorService dumpExecutor = this.dumpExecutor;
+		if(dumpExecutor != null) {
+			dumpExecutor.shutdown();
+			this.dumpExecutor = null;
+		}
+	}
+
+	@Override
+	public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format, final Object[] params, final Throwable t) {
+		if(format == null || level == null || !isStarted() || !level.isGreaterOrEqual(this.level)) { //a null format indicates a level check rather than an event
+			return FilterReply.NEUTRAL;
+		}
+		final FlightRecorder flightRecorder = this.flightRecorder;
+		flightRecorder.record(System.currentTimeMillis(), level, logger.getName(), format, params, t);
+		if(level.isGreaterOrEqual(triggerLevel)) {
+			requestDump();
+		}
+		return FilterReply.NEUTRAL;
+	}
+
+	/** Requests that the recorded events be written on the background thread, unless a dump has already been requested and has not yet begun. */
+	private void requestDump() {
+		final ExecutorService dumpExecutor = this.dumpExecutor;
+		if(dumpExecutor == null || !dumpPending.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			dumpExecutor.execute(() -> {
+				dumpPending.set(false); //events recorded from now on will be included in this dump or will trigger another
+				dump();
+			});
+		} catch(final RejectedExecutionException rejectedExecutionException) { //stopped concurrently
+			dumpPending.set(false);
+		}
+	}
+
+	/**
+	 * Writes the recorded events to the configured file, or to standard error if no file is configured, and discards them from the flight recorder. Errors
+	 * writing the events are reported to the status manager of the context.
+	 * @apiNote This method writes the events on the calling thread, and waits for any dump in progress to complete so that the output of concurrent dumps is
+	 *          not interleaved.
+	 * @return The number of events written.
+	 * @throws IllegalStateException if this filter has not been started.
+	 * @see #getFile()
+	 */
+	public int dump() {
+		final FlightRecorder flightRecorder = getFlightRecorder();
+		final String file = this.file;
+		try {
+			synchronized(this) { //don't interleave concurrent dumps
+				if(file == null) {
+					return flightRecorder.dump(System.err, true);
+				}
+				try (final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file, true))) {
+					return flightRecorder.dump(outputStream, true);
+				}
+			}
+		} catch(final IOException ioException) {
+			addError("Unable to write flight recorder events to " + (file != null ? file : "standard error") + ".", ioException);
+			return 0;
+		}
+	}
+
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.io.*;
+import java.util.Arrays;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.spi.*;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Encoder that writes events in a fixed text layout without allocating, by formatting each event into a reusable character buffer and encoding it as UTF-8
+ * into a reusable byte buffer.
+ * <p>
+ * Each event is written as a single line of the form <code>2026-01-02T03:04:05.678Z INFO  [thread] logger.name - message</code>, with the timestamp in UTC,
+ * followed by the stack trace of any throwable. The message is formatted from the message template and arguments using the SLF4J placeholder syntax, without
+ * calling {@link ILoggingEvent#getFormattedMessage()}. Arguments that are character sequences, boxed primitives, or <code>null</code> are appended without
+ * allocation; other arguments are converted using their <code>toString()</code> method. Stack traces are formatted using Logback's facilities, which allocate.
+ * </p>
+ * <p>
+ * Garbage-free output requires an appender that calls {@link #encode(ILoggingEvent, OutputStream)}, such as {@link GarbageFreeFileAppender}. Other
+ * appenders call {@link #encode(ILoggingEvent)}, which returns a new byte array for each event.
+ * </p>
+ * <pre>{@code
+ * <appender name="FILE" class="io.clogr.logback.GarbageFreeFileAppender">
+ *   <file>app.log</file>
+ *   <encoder class="io.clogr.logback.GarbageFreeEncoder" />
+ * </appender>
+ * }</pre>
+ * @author Garret Wilson
+ * @see GarbageFreeLoggingConcern
+ */
+public class GarbageFreeEncoder extends EncoderBase<ILoggingEvent> implements StreamingEncoder<ILoggingEvent> {
+
+	/** The reusable buffers of each thread. */
+	private static final ThreadLocal<Buffers> THREAD_BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote This method does not allocate unless an argument requires conversion to a string, the event has a throwable, or the buffers must grow.
+	 */
+	@Override
+	public void encode(@Nonnull final ILoggingEvent event, @Nonnull final OutputStream outputStream) throws IOException {
+		final Buffers buffers = getBuffers();
+		buffers.inUse = true;
+		try {
+			final int length = buffers.encode(event);
+			outputStream.write(buffers.bytes, 0, length);
+		} finally {
+			buffers.inUse = false;
+		}
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote This method encodes the event using the reusable buffers of the current thread, allocating only the returned copy of the encoded bytes.
+	 */
+	@Override
+	public byte[] encode(final ILoggingEvent event) {
+		final Buffers buffers = getBuffers();
+		buffers.inUse = true;
+		try {
+			final int length = buffers.encode(event);
+			return Arrays.copyOf(buffers.bytes, length);
+		} finally {
+			buffers.inUse = false;
+		}
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	/**
+	 * Returns the reusable buffers of the current thread or, if they are already in use, new buffers.
+	 * @return Buffers that are not in use.
+	 */
+	private static Buffers getBuffers() {
+		final Buffers buffers = THREAD_BUFFERS.get();
+		return buffers.inUse ? new Buffers() : buffers; //an argument's toString() logged while this thread was encoding
+	}
+
+	/**
+	 * Appends the text of an event in the layout of this encoder.
+	 * @param text The string builder to which to append.
+	 * @param event The event to format.
+	 */
+	static void appendEvent(@Nonnull final StringBuilder text, @Nonnull final ILoggingEvent event) {
+		appendTimestamp(text, event.getTimeStamp());
+		text.append(' ');
+		final String levelString = event.getLevel().levelStr;
+		text.append(levelString);
+		for(int i = levelString.length(); i < 5; i++) {
+			text.append(' ');
+		}
+		text.append(" [").append(event.getThreadName()).append("] ").append(event.getLoggerName()).append(" - ");
+		appendFormattedMessage(text, event.getMessage(), event.getArgumentArray());
+		text.append(CoreConstants.LINE_SEPARATOR);
+		final IThrowableProxy throwableProxy = event.getThrowableProxy();
+		if(throwableProxy != null) {
+			text.append(ThrowableProxyUtil.asString(throwableProxy)).append(CoreConstants.LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * Appends a timestamp in ISO 8601 format in UTC with millisecond precision, such as <code>2026-01-02T03:04:05.678Z</code>.
+	 * @implNote The civil date is computed from the epoch day using the algorithm of Howard Hinnant, without allocation.
+	 * @param text The string builder to which to append.
+	 * @param epochMillis The timestamp in milliseconds since the epoch.
+	 */
+	static void appendTimestamp(@Nonnull final StringBuilder text, final long epochMillis) {
+		final long epochDay = Math.floorDiv(epochMillis, 86_400_000L);
+		final int millisOfDay = (int)Math.floorMod(epochMillis, 86_400_000L);
+		final long z = epochDay + 719_468;
+		final long era = Math.floorDiv(z, 146_097);
+		final long dayOfEra = z - era * 146_097;
+		final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+		final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final long mp = (5 * dayOfYear + 2) / 153;
+		final int day = (int)(dayOfYear - (153 * mp + 2) / 5 + 1);
+		final int month = (int)(mp < 10 ? mp + 3 : mp - 9);
+		final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		text.append(year).append('-');
+		appendDigits(text, month, 2);
+		text.append('-');
+		appendDigits(text, day, 2);
+		text.append('T');
+		appendDigits(text, millisOfDay / 3_600_000, 2);
+		text.append(':');
+		appendDigits(text, millisOfDay / 60_000 % 60, 2);
+		text.append(':');
+		appendDigits(text, millisOfDay / 1000 % 60, 2);
+		text.append('.');
+		appendDigits(text, millisOfDay % 1000, 3);
+		text.append('Z');
+	}
+
+	/**
+	 * Appends a non-negative value padded with leading zeros.
+	 * @param text The string builder to which to append.
+	 * @param value The value to append.
+	 * @param width The minimum number of digits.
+	 */
+	private static void appendDigits(@Nonnull final StringBuilder text, final int value, final int width) {
+		for(int divisor = width == 3 ? 100 : 10; divisor > 1 && value < divisor; divisor /= 10) {
+			text.append('0');
+		}
+		text.append(value);
+	}
+
+	/**
+	 * Appends a message formatted from a message template and arguments, with the same semantics as SLF4J's
+	 * {@link org.slf4j.helpers.MessageFormatter#arrayFormat(String, Object[])}: each <code>{}</code> is replaced by the next argument, a <code>{}</code>
+	 * preceded by a backslash is not replaced, and a <code>{}</code> preceded by two backslashes is replaced and preceded by a single backslash.
+	 * @param text The string builder to which to append.
+	 * @param messagePattern The message template, which may be <code>null</code>.
+	 * @param arguments The arguments, which may be <code>null</code>.
+	 */
+	static void appendFormattedMessage(@Nonnull final StringBuilder text, @Nullable final String messagePattern, @Nullable final Object[] arguments) {
+		if(messagePattern == null) {
+			text.append((String)null);
+			return;
+		}
+		if(arguments == null) {
+			text.append(messagePattern);
+			return;
+		}
+		int i = 0;
+		for(int argumentIndex = 0; argumentIndex < arguments.length; argumentIndex++) {
+			final int j = messagePattern.indexOf("{}", i);
+			if(j == -1) {
+				break;
+			}
+			if(j >= 1 && messagePattern.charAt(j - 1) == '\\') {
+				if(j >= 2 && messagePattern.charAt(j - 2) == '\\') { //double-escaped delimiter
+					text.append(messagePattern, i, j - 1);
+					appendArgument(text, arguments[argumentIndex]);
+					i = j + 2;
+				} else { //escaped delimiter
+					argumentIndex--;
+					text.append(messagePattern, i, j - 1).append('{');
+					i = j + 1;
+				}
+			} else {
+				text.append(messagePattern, i, j);
+				appendArgument(text, arguments[argumentIndex]);
+				i = j + 2;
+			}
+		}
+		text.append(messagePattern, i, messagePattern.length());
+	}
+
+	/**
+	 * Appends the string form of a message argument, appending character sequences and boxed primitives without allocation.
+	 * @param text The string builder to which to append.
+	 * @param argument The argument, which may be <code>null</code>.
+	 */
+	static void appendArgument(@Nonnull final StringBuilder text, @Nullable final Object argument) {
+		if(argument == null) {
+			text.append("null");
+		} else if(argument instanceof CharSequence) {
+			text.append((CharSequence)argument);
+		} else if(argument instanceof Integer || argument instanceof Long || argument instanceof Short || argument instanceof Byte) {
+			text.append(((Number)argument).longValue());
+		} else if(argument instanceof Boolean) {
+			text.append(((Boolean)argument).booleanValue());
+		} else if(argument instanceof Character) {
+			text.append(((Character)argument).charValue());
+		} else if(argument instanceof Double) {
+			text.append(((Double)argument).doubleValue());
+		} else if(argument instanceof Float) {
+			text.append(((Float)argument).floatValue());
+		} else if(argument.getClass().isArray()) {
+			text.append(org.slf4j.helpers.MessageFormatter.arrayFormat("{}", new Object[] {argument}).getMessage());
+		} else {
+			try {
+				text.append(argument.toString());
+			} catch(final Throwable throwable) {
+				text.append("[FAILED toString()]");
+			}
+		}
+	}
+
+	/**
+	 * Encodes text as UTF-8 into a byte array without allocating. Unpaired surrogates are encoded as <code>?</code>.
+	 * @param text The text to encode.
+	 * @param bytes The array into which to encode the text, which must have a length of at least three times the length of the text.
+	 * @return The number of encoded bytes.
+	 */
+	static int encodeUtf8(@Nonnull final CharSequence text, @Nonnull final byte[] bytes) {
+		final int length = text.length();
+		int b = 0;
+		for(int i = 0; i < length; i++) {
+			final char c = text.charAt(i);
+			if(c < 0x80) {
+				bytes[b++] = (byte)c;
+			} else if(c < 0x800) {
+				bytes[b++] = (byte)(0xC0 | c >> 6);
+				bytes[b++] = (byte)(0x80 | c & 0x3F);
+			} else if(Character.isSurrogate(c)) {
+				if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+					final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+					bytes[b++] = (byte)(0xF0 | codePoint >> 18);
+					bytes[b++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+					bytes[b++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+					bytes[b++] = (byte)(0x80 | codePoint & 0x3F);
+				} else {
+					bytes[b++] = '?';
+				}
+			} else {
+				bytes[b++] = (byte)(0xE0 | c >> 12);
+				bytes[b++] = (byte)(0x80 | c >> 6 & 0x3F);
+				bytes[b++] = (byte)(0x80 | c & 0x3F);
+			}
+		}
+		return b;
+	}
+
+	/**
+	 * Reusable buffers for formatting and encoding events.
+	 * @author Garret Wilson
+	 */
+	private static final class Buffers {
+
+		/** Whether the buffers are being used to encode an event. */
+		private boolean inUse = false;
+
+		private final StringBuilder text = new StringBuilder(256);
+
+		private byte[] bytes = new byte[512];
+
+		/**
+		 * Formats and encodes an event into these buffers.
+		 * @param event The event to encode.
+		 * @return The number of encoded bytes in {@link #bytes}.
+		 */
+		int encode(@Nonnull final ILoggingEvent event) {
+			text.setLength(0);
+			appendEvent(text, event);
+			return encodeUtf8();
+		}
+
+		/**
+		 * Encodes the text buffer as UTF-8 into the byte buffer, growing the byte buffer as needed.
+		 * @return The number of encoded bytes.
+		 * @see GarbageFreeEncoder#encodeUtf8(CharSequence, byte[])
+		 */
+		private int encodeUtf8() {
+			final int length = text.length();
+			if(bytes.length < length * 3) {
+				bytes = new byte[Math.max(length * 3, bytes.length * 2)];
+			}
+			return GarbageFreeEncoder.encodeUtf8(text, bytes);
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.io.*;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.status.ErrorStatus;
+
+/**
+ * File appender that writes events encoded by a {@link StreamingEncoder}, such as {@link GarbageFreeEncoder} or {@link JsonEncoder}, directly from the
+ * encoder's reusable buffer, without allocating a byte array or preparing the event for deferred processing.
+ * <p>
+ * The event is encoded on the logging thread before the stream lock is acquired, and the encoded bytes are written and, if {@link #isImmediateFlush()},
+ * flushed while holding the lock. With any other encoder, or in prudent mode, this appender behaves as a normal {@link FileAppender}.
+ * </p>
+ * @author Garret Wilson
+ * @see GarbageFreeLoggingConcern
+ */
+public class GarbageFreeFileAppender extends FileAppender<ILoggingEvent> {
+
+	/** Output stream that writes to the appender's output stream while holding the stream lock. */
+	private final OutputStream lockedOutputStream = new OutputStream() {
+
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			streamWriteLock.lock();
+			try {
+				final OutputStream outputStream = getOutputStream();
+				outputStream.write(bytes, offset, length);
+				if(isImmediateFlush()) {
+					outputStream.flush();
+				}
+			} finally {
+				streamWriteLock.unlock();
+			}
+		}
+
+	};
+
+	@Override
+	protected void subAppend(final ILoggingEvent event) {
+		final Encoder<ILoggingEvent> encoder = getEncoder();
+		if(!(encoder instanceof StreamingEncoder) || isPrudent()) {
+			super.subAppend(event);
+			return;
+		}
+		if(!isStarted()) {
+			return;
+		}
+		try {
+			((StreamingEncoder<ILoggingEvent>)encoder).encode(event, lockedOutputStream);
+		} catch(final IOException ioException) {
+			started = false;
+			addStatus(new ErrorStatus("IO failure in appender", this, ioException));
+		}
+	}
+
+}
@@ -0,0 +1,600 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.util.List;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.spi.*;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.spi.TurboFilterList;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logger that logs to a Logback logger without allocating a new logging event for each logging call.
+ * <p>
+ * Each logging call populates the {@link ReusableLoggingEvent} of the current thread and passes it directly to the appenders of the Logback logger, reusing
+ * argument arrays for calls with up to four arguments. Turbo filters and levels are consulted with the same semantics as a Logback logger, including treating
+ * a {@link Throwable} as the last argument as the throwable of the event. Logging via the SLF4J fluent API uses a {@link ReusableLoggingEventBuilder} of the
+ * current thread.
+ * </p>
+ * <p>
+ * Allocation remains for logging calls with more than four arguments, with a throwable, or with key-value pairs, as well as for any boxing of primitive
+ * arguments by the caller. Whether an enabled logging call is free of garbage also depends on the appenders and encoders; see
+ * {@link GarbageFreeFileAppender} and {@link GarbageFreeEncoder}.
+ * </p>
+ * @author Garret Wilson
+ * @see GarbageFreeLoggingConcern
+ */
+final class GarbageFreeLogger implements org.slf4j.Logger {
+
+	/** The fully qualified name of this class, for determining caller data. */
+	static final String FQCN = GarbageFreeLogger.class.getName();
+
+	private final Logger logger;
+
+	/** @return The Logback logger to which events are logged. */
+	Logger getLogbackLogger() {
+		return logger;
+	}
+
+	private final TurboFilterList turboFilterList;
+
+	/**
+	 * Constructor.
+	 * @param logger The Logback logger to which events are logged.
+	 */
+	GarbageFreeLogger(@Nonnull final Logger logger) {
+		this.logger = requireNonNull(logger);
+		this.turboFilterList = logger.getLoggerContext().getTurboFilterList();
+	}
+
+	@Override
+	public String getName() {
+		return logger.getName();
+	}
+
+	/**
+	 * Determines whether an event at the given level will certainly be discarded, without consulting the arguments; that is, whether there are no turbo filters
+	 * and the level is disabled.
+	 * @param level The level of the event.
+	 * @return <code>true</code> if the event need not be populated.
+	 */
+	private boolean isDisabled(@Nonnull final Level level) {
+		return turboFilterList.isEmpty() && logger.getEffectiveLevel().levelInt > level.levelInt;
+	}
+
+	/**
+	 * Determines whether an event is enabled by the turbo filters or, if they are neutral, by the level of the logger.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param message The message or message template.
+	 * @param argumentArray The arguments, or <code>null</code> if there are none.
+	 * @param throwable The throwable, or <code>null</code> if there is none.
+	 * @return <code>true</code> if the event should be passed to the appenders.
+	 */
+	private boolean isEnabled(@Nonnull final Level level, @Nullable final Marker marker, @Nullable final String message, @Nullable final Object[] argumentArray,
+			@Nullable final Throwable throwable) {
+		if(!turboFilterList.isEmpty()) {
+			final FilterReply decision = turboFilterList.getTurboFilterChainDecision(marker, logger, level, message, argumentArray, throwable);
+			if(decision != FilterReply.NEUTRAL) {
+				return decision == FilterReply.ACCEPT;
+			}
+		}
+		return logger.getEffectiveLevel().levelInt <= level.levelInt;
+	}
+
+	/**
+	 * Populates an event and passes it to the appenders if enabled.
+	 * @param event The acquired event.
+	 * @param fqcn The fully qualified name of the class called by the caller, for determining caller data.
+	 * @param level The level of the event.
+	 * @param markers The markers, or <code>null</code> if there are none.
+	 * @param message The message or message template.
+	 * @param argumentArray The arguments, or <code>null</code> if there are none.
+	 * @param throwable The throwable, or <code>null</code> if there is none.
+	 * @param keyValuePairs The key-value pairs, or <code>null</code> if there are none.
+	 */
+	void append(@Nonnull final ReusableLoggingEvent event, @Nonnull final String fqcn, @Nonnull final Level level, @Nullable final List<Marker> markers,
+			@Nullable final String message, @Nullable final Object[] argumentArray, @Nullable final Throwable throwable,
+			@Nullable final List<KeyValuePair> keyValuePairs) {
+		final Marker marker = markers != null && !markers.isEmpty() ? markers.get(0) : null;
+		if(!isEnabled(level, marker, message, argumentArray, throwable)) {
+			return;
+		}
+		event.set(logger, fqcn, level, message, argumentArray, throwable);
+		if(markers != null) {
+			for(int i = 0; i < markers.size(); i++) {
+				event.addMarker(markers.get(i));
+			}
+		}
+		event.setKeyValuePairs(keyValuePairs);
+		logger.callAppenders(event);
+	}
+
+	/**
+	 * Logs an event with no arguments.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param message The message.
+	 * @param throwable The throwable, or <code>null</code> if there is none.
+	 */
+	private void log(@Nonnull final Level level, @Nullable final Marker marker, @Nullable final String message, @Nullable final Throwable throwable) {
+		if(isDisabled(level)) {
+			return;
+		}
+		final ReusableLoggingEvent event = ReusableLoggingEvent.acquire();
+		try {
+			append(event, level, marker, message, null, throwable);
+		} finally {
+			event.release();
+		}
+	}
+
+	/**
+	 * Logs an event with one argument, which is used as the throwable if it is a {@link Throwable}.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param format The message template.
+	 * @param arg The argument.
+	 */
+	private void log(@Nonnull final Level level, @Nullable final Marker marker, @Nullable final String format, @Nullable final Object arg) {
+		if(isDisabled(level)) {
+			return;
+		}
+		final ReusableLoggingEvent event = ReusableLoggingEvent.acquire();
+		try {
+			if(arg instanceof Throwable) {
+				append(event, level, marker, format, null, (Throwable)arg);
+			} else {
+				final Object[] argumentArray = event.getArgumentArray(1);
+				argumentArray[0] = arg;
+				append(event, level, marker, format, argumentArray, null);
+			}
+		} finally {
+			event.release();
+		}
+	}
+
+	/**
+	 * Logs an event with two arguments, the last of which is used as the throwable if it is a {@link Throwable}.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param format The message template.
+	 * @param arg1 The first argument.
+	 * @param arg2 The second argument.
+	 */
+	private void log(@Nonnull final Level level, @Nullable final Marker marker, @Nullable final String format, @Nullable final Object arg1,
+			@Nullable final Object arg2) {
+		if(isDisabled(level)) {
+			return;
+		}
+		final ReusableLoggingEvent event = ReusableLoggingEvent.acquire();
+		try {
+			if(arg2 instanceof Throwable) {
+				final Object[] argumentArray = event.getArgumentArray(1);
+				argumentArray[0] = arg1;
+				append(event, level, marker, format, argumentArray, (Throwable)arg2);
+			} else {
+				final Object[] argumentArray = event.getArgumentArray(2);
+				argumentArray[0] = arg1;
+				argumentArray[1] = arg2;
+				append(event, level, marker, format, argumentArray, null);
+			}
+		} finally {
+			event.release();
+		}
+	}
+
+	/**
+	 * Logs an event with any number of arguments, the last of which is used as the throwable if it is a {@link Throwable}.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param format The message template.
+	 * @param arguments The arguments, which may be <code>null</code>.
+	 */
+	private void logArguments(@Nonnull final Level level, @Nullable final Marker marker, @Nullable final String format, @Nullable final Object[] arguments) {
+		if(isDisabled(level)) {
+			return;
+		}
+		final ReusableLoggingEvent event = ReusableLoggingEvent.acquire();
+		try {
+			final int length = arguments != null ? arguments.length : 0;
+			if(length > 0 && arguments[length - 1] instanceof Throwable) {
+				final Object[] argumentArray = event.getArgumentArray(length - 1);
+				System.arraycopy(arguments, 0, argumentArray, 0, length - 1);
+				append(event, level, marker, format, argumentArray, (Throwable)arguments[length - 1]);
+			} else {
+				append(event, level, marker, format, arguments, null);
+			}
+		} finally {
+			event.release();
+		}
+	}
+
+	/**
+	 * Populates an event with at most one marker and passes it to the appenders if enabled.
+	 * @param event The acquired event.
+	 * @param level The level of the event.
+	 * @param marker The marker, or <code>null</code> if there is none.
+	 * @param message The message or message template.
+	 * @param argumentArray The arguments, or <code>null</code> if there are none.
+	 * @param throwable The throwable, or <code>null</code> if there is none.
+	 */
+	private void append(@Nonnull final ReusableLoggingEvent event, @Nonnull final Level level, @Nullable final Marker marker, @Nullable final String message,
+			@Nullable final Object[] argumentArray, @Nullable final Throwable throwable) {
+		if(!isEnabled(level, marker, message, argumentArray, throwable)) {
+			return;
+		}
+		event.set(logger, FQCN, level, message, argumentArray, throwable);
+		if(marker != null) {
+			event.addMarker(marker);
+		}
+		logger.callAppenders(event);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the reusable logging event builder of the current thread if available.
+	 */
+	@Override
+	public LoggingEventBuilder makeLoggingEventBuilder(final org.slf4j.event.Level level) {
+		return ReusableLoggingEventBuilder.acquire(this, LoggerContextLoggingConcern.toLogbackLevel(level));
+	}
+
+	@Override
+	public boolean isEnabledForLevel(final org.slf4j.event.Level level) {
+		return logger.isEnabledForLevel(level);
+	}
+
+	@Override
+	public LoggingEventBuilder atLevel(final org.slf4j.event.Level level) {
+		return isEnabledForLevel(level) ? makeLoggingEventBuilder(level) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public LoggingEventBuilder atTrace() {
+		return isTraceEnabled() ? makeLoggingEventBuilder(org.slf4j.event.Level.TRACE) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public LoggingEventBuilder atDebug() {
+		return isDebugEnabled() ? makeLoggingEventBuilder(org.slf4j.event.Level.DEBUG) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public LoggingEventBuilder atInfo() {
+		return isInfoEnabled() ? makeLoggingEventBuilder(org.slf4j.event.Level.INFO) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public LoggingEventBuilder atWarn() {
+		return isWarnEnabled() ? makeLoggingEventBuilder(org.slf4j.event.Level.WARN) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public LoggingEventBuilder atError() {
+		return isErrorEnabled() ? makeLoggingEventBuilder(org.slf4j.event.Level.ERROR) : NOPLoggingEventBuilder.singleton();
+	}
+
+	@Override
+	public boolean isTraceEnabled() {
+		return logger.isTraceEnabled();
+	}
+
+	@Override
+	public void trace(final String msg) {
+		log(Level.TRACE, null, msg, (Throwable)null);
+	}
+
+	@Override
+	public void trace(final String format, final Object arg) {
+		log(Level.TRACE, null, format, arg);
+	}
+
+	@Override
+	public void trace(final String format, final Object arg1, final Object arg2) {
+		log(Level.TRACE, null, format, arg1, arg2);
+	}
+
+	@Override
+	public void trace(final String format, final Object... arguments) {
+		logArguments(Level.TRACE, null, format, arguments);
+	}
+
+	@Override
+	public void trace(final String msg, final Throwable t) {
+		log(Level.TRACE, null, msg, t);
+	}
+
+	@Override
+	public boolean isTraceEnabled(final Marker marker) {
+		return logger.isTraceEnabled(marker);
+	}
+
+	@Override
+	public void trace(final Marker marker, final String msg) {
+		log(Level.TRACE, marker, msg, (Throwable)null);
+	}
+
+	@Override
+	public void trace(final Marker marker, final String format, final Object arg) {
+		log(Level.TRACE, marker, format, arg);
+	}
+
+	@Override
+	public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		log(Level.TRACE, marker, format, arg1, arg2);
+	}
+
+	@Override
+	public void trace(final Marker marker, final String format, final Object... arguments) {
+		logArguments(Level.TRACE, marker, format, arguments);
+	}
+
+	@Override
+	public void trace(final Marker marker, final String msg, final Throwable t) {
+		log(Level.TRACE, marker, msg, t);
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	@Override
+	public void debug(final String msg) {
+		log(Level.DEBUG, null, msg, (Throwable)null);
+	}
+
+	@Override
+	public void debug(final String format, final Object arg) {
+		log(Level.DEBUG, null, format, arg);
+	}
+
+	@Override
+	public void debug(final String format, final Object arg1, final Object arg2) {
+		log(Level.DEBUG, null, format, arg1, arg2);
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		logArguments(Level.DEBUG, null, format, arguments);
+	}
+
+	@Override
+	public void debug(final String msg, final Throwable t) {
+		log(Level.DEBUG, null, msg, t);
+	}
+
+	@Override
+	public boolean isDebugEnabled(final Marker marker) {
+		return logger.isDebugEnabled(marker);
+	}
+
+	@Override
+	public void debug(final Marker marker, final String msg) {
+		log(Level.DEBUG, marker, msg, (Throwable)null);
+	}
+
+	@Override
+	public void debug(final Marker marker, final String format, final Object arg) {
+		log(Level.DEBUG, marker, format, arg);
+	}
+
+	@Override
+	public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		log(Level.DEBUG, marker, format, arg1, arg2);
+	}
+
+	@Override
+	public void debug(final Marker marker, final String format, final Object... arguments) {
+		logArguments(Level.DEBUG, marker, format, arguments);
+	}
+
+	@Override
+	public void debug(final Marker marker, final String msg, final Throwable t) {
+		log(Level.DEBUG, marker, msg, t);
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
+	@Override
+	public void info(final String msg) {
+		log(Level.INFO, null, msg, (Throwable)null);
+	}
+
+	@Override
+	public void info(final String format, final Object arg) {
+		log(Level.INFO, null, format, arg);
+	}
+
+	@Override
+	public void info(final String format, final Object arg1, final Object arg2) {
+		log(Level.INFO, null, format, arg1, arg2);
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		logArguments(Level.INFO, null, format, arguments);
+	}
+
+	@Override
+	public void info(final String msg, final Throwable t) {
+		log(Level.INFO, null, msg, t);
+	}
+
+	@Override
+	public boolean isInfoEnabled(final Marker marker) {
+		return logger.isInfoEnabled(marker);
+	}
+
+	@Override
+	public void info(final Marker marker, final String msg) {
+		log(Level.INFO, marker, msg, (Throwable)null);
+	}
+
+	@Override
+	public void info(final Marker marker, final String format, final Object arg) {
+		log(Level.INFO, marker, format, arg);
+	}
+
+	@Override
+	public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		log(Level.INFO, marker, format, arg1, arg2);
+	}
+
+	@Override
+	public void info(final Marker marker, final String format, final Object... arguments) {
+		logArguments(Level.INFO, marker, format, arguments);
+	}
+
+	@Override
+	public void info(final Marker marker, final String msg, final Throwable t) {
+		log(Level.INFO, marker, msg, t);
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return logger.isWarnEnabled();
+	}
+
+	@Override
+	public void warn(final String msg) {
+		log(Level.WARN, null, msg, (Throwable)null);
+	}
+
+	@Override
+	public void warn(final String format, final Object arg) {
+		log(Level.WARN, null, format, arg);
+	}
+
+	@Override
+	public void warn(final String format, final Object arg1, final Object arg2) {
+		log(Level.WARN, null, format, arg1, arg2);
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		logArguments(Level.WARN, null, format, arguments);
+	}
+
+	@Override
+	public void warn(final String msg, final Throwable t) {
+		log(Level.WARN, null, msg, t);
+	}
+
+	@Override
+	public boolean isWarnEnabled(final Marker marker) {
+		return logger.isWarnEnabled(marker);
+	}
+
+	@Override
+	public void warn(final Marker marker, final String msg) {
+		log(Level.WARN, marker, msg, (Throwable)null);
+	}
+
+	@Override
+	public void warn(final Marker marker, final String format, final Object arg) {
+		log(Level.WARN, marker, format, arg);
+	}
+
+	@Override
+	public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		log(Level.WARN, marker, format, arg1, arg2);
+	}
+
+	@Override
+	public void warn(final Marker marker, final String format, final Object... arguments) {
+		logArguments(Level.WARN, marker, format, arguments);
+	}
+
+	@Override
+	public void warn(final Marker marker, final String msg, final Throwable t) {
+		log(Level.WARN, marker, msg, t);
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return logger.isErrorEnabled();
+	}
+
+	@Override
+	public void error(final String msg) {
+		log(Level.ERROR, null, msg, (Throwable)null);
+	}
+
+	@Override
+	public void error(final String format, final Object arg) {
+		log(Level.ERROR, null, format, arg);
+	}
+
+	@Override
+	public void error(final String format, final Object arg1, final Object arg2) {
+		log(Level.ERROR, null, format, arg1, arg2);
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		logArguments(Level.ERROR, null, format, arguments);
+	}
+
+	@Override
+	public void error(final String msg, final Throwable t) {
+		log(Level.ERROR, null, msg, t);
+	}
+
+	@Override
+	public boolean isErrorEnabled(final Marker marker) {
+		return logger.isErrorEnabled(marker);
+	}
+
+	@Override
+	public void error(final Marker marker, final String msg) {
+		log(Level.ERROR, marker, msg, (Throwable)null);
+	}
+
+	@Override
+	public void error(final Marker marker, final String format, final Object arg) {
+		log(Level.ERROR, marker, format, arg);
+	}
+
+	@Override
+	public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		log(Level.ERROR, marker, format, arg1, arg2);
+	}
+
+	@Override
+	public void error(final Marker marker, final String format, final Object... arguments) {
+		logArguments(Level.ERROR, marker, format, arguments);
+	}
+
+	@Override
+	public void error(final Marker marker, final String msg, final Throwable t) {
+		log(Level.ERROR, marker, msg, t);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.clogr.LoggingMetrics;
+
+/**
+ * A concern for logging configurations wrapping an existing Logback {@link LoggerContext}, providing loggers that log without allocating a logging event,
+ * argument arrays, or a fluent API builder for each logging call.
+ * <p>
+ * Each logger reuses a thread-local logging event and argument arrays for each logging call, and a thread-local builder for the SLF4J fluent API, passing the
+ * event directly to the appenders of the corresponding Logback logger. Turbo filters and levels of the logger context apply as usual, and levels set via this
+ * concern are set on the Logback loggers.
+ * </p>
+ * <p>
+ * For enabled logging calls to be free of garbage, the appenders must also not allocate; {@link GarbageFreeFileAppender} with a {@link GarbageFreeEncoder} or
+ * {@link JsonEncoder} writes events directly from reusable buffers. Logging calls with more than four arguments, with a throwable, or with key-value pairs still allocate, as
+ * does the caller boxing any primitive arguments.
+ * </p>
+ * @apiNote As each logging event is reused once the logging call returns, appenders must not retain events. {@link RingBufferAsyncAppender} copies reusable
+ *          events before queuing them, but other asynchronous appenders such as Logback's {@link ch.qos.logback.classic.AsyncAppender} must not be used with
+ *          this logging concern.
+ * @apiNote A {@link LogbackLoggingConcern} cannot itself return garbage-free loggers, as the {@link LoggerContext#getLogger(Class)} method it inherits is
+ *          final; wrap it in this logging concern instead.
+ * @author Garret Wilson
+ */
+public class GarbageFreeLoggingConcern extends LoggerContextDecoratorLoggingConcern {
+
+	/** The garbage-free loggers, keyed to logger name. */
+	private final ConcurrentMap<String, GarbageFreeLogger> loggers = new ConcurrentHashMap<>();
+
+	/** The logger factory returning garbage-free loggers. */
+	private final ILoggerFactory loggerFactory = this::getGarbageFreeLogger;
+
+	/**
+	 * Logger context constructor.
+	 * @param loggerContext The Logback logger context this logging concern decorates, such as a {@link LogbackLoggingConcern}.
+	 */
+	public GarbageFreeLoggingConcern(@Nonnull final LoggerContext loggerContext) {
+		super(loggerContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version returns a factory of garbage-free loggers.
+	 */
+	@Override
+	public ILoggerFactory getLoggerFactory() {
+		return loggerFactory;
+	}
+
+	/**
+	 * Returns the garbage-free logger with the given name, creating it if needed.
+	 * @param name The name of the logger.
+	 * @return The garbage-free logger logging to the Logback logger with the given name.
+	 */
+	private Logger getGarbageFreeLogger(@Nonnull final String name) {
+		final GarbageFreeLogger cachedLogger = loggers.get(name);
+		if(cachedLogger != null) {
+			return cachedLogger;
+		}
+		return loggers.computeIfAbsent(name, loggerName -> new GarbageFreeLogger(getLoggerContext().getLogger(loggerName)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version returns the Logback root logger of the logger context rather than a garbage-free logger.
+	 */
+	@Override
+	public ch.qos.logback.classic.Logger getRootLogger() {
+		return getLoggerContext().getLogger(Logger.ROOT_LOGGER_NAME);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version also accepts garbage-free loggers retrieved from this logging concern.
+	 */
+	@Override
+	public void setLogLevel(final Logger logger, final Level level) {
+		super.setLogLevel(logger instanceof GarbageFreeLogger ? ((GarbageFreeLogger)logger).getLogbackLogger() : logger, level);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version returns the logging metrics of the logger context if it is a {@link LogbackLoggingConcern}.
+	 */
+	@Override
+	public Optional<LoggingMetrics> findMetrics() {
+		return getLoggerContext() instanceof LogbackLoggingConcern ? ((LogbackLoggingConcern)getLoggerContext()).findMetrics() : Optional.empty();
+	}
+
+}
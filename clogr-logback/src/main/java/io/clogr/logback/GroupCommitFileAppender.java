@@ -0,0 +1,638 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.*;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.util.*;
+
+/**
+ * File appender that batches events from many logging threads into a single write, and forces written events to the storage device according to a
+ * {@link DurabilityPolicy}, using group commit.
+ * <p>
+ * Logging threads encode their events and queue the encoded bytes, returning without performing any I/O. A background thread repeatedly takes all queued
+ * events as a batch, writes the batch to the file using a single {@link FileChannel#write(ByteBuffer)} call, and forces the file as the durability policy
+ * requires. While a batch is being written and forced, further events accumulate for the next batch, so that a single force covers the events of all threads
+ * that arrived in the meantime. If the queued events reach the {@link #getMaxQueueSize() maximum queue size}, logging threads wait for the queue to drain.
+ * </p>
+ * <p>
+ * Logging is fire-and-forget by default. A caller that must know when its events are durable, such as when writing an audit record, may call
+ * {@link #commit()} after logging; the returned future completes once all events appended before the call have been forced to the storage device, forcing
+ * the file if needed regardless of the durability policy. {@link #commitAll(LoggerContext)} provides the same for all group-commit
+ * appenders of a logger context.
+ * </p>
+ * <pre>{@code
+ * <appender name="AUDIT" class="io.clogr.logback.GroupCommitFileAppender">
+ *   <file>audit.log</file>
+ *   <durabilityPolicy>INTERVAL</durabilityPolicy>
+ *   <commitInterval>10 milliseconds</commitInterval>
+ *   <encoder>
+ *     <pattern>%d %-5level [%thread] %logger - %msg%n</pattern>
+ *   </encoder>
+ * </appender>
+ * }</pre>
+ * @author Garret Wilson
+ */
+public class GroupCommitFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	/** The policy determining when written events are forced to the storage device. */
+	public enum DurabilityPolicy {
+
+		/** Forces every batch once written, so that each event is durable as soon as possible; the default. */
+		EVENT,
+
+		/** Forces written events once the {@link GroupCommitFileAppender#getCommitInterval() commit interval} has elapsed since they were written. */
+		INTERVAL,
+
+		/** Forces written events once they reach the {@link GroupCommitFileAppender#getCommitSize() commit size}. */
+		SIZE,
+
+		/** Never forces written events, except when requested via {@link GroupCommitFileAppender#commit()} and when the appender is stopped. */
+		NEVER
+
+	}
+
+	/** The default interval after which written events are forced under the {@link DurabilityPolicy#INTERVAL} policy. */
+	public static final Duration DEFAULT_COMMIT_INTERVAL = Duration.buildByMilliseconds(10);
+
+	/** The default number of written bytes after which events are forced under the {@link DurabilityPolicy#SIZE} policy. */
+	public static final FileSize DEFAULT_COMMIT_SIZE = new FileSize(FileSize.MB_COEFFICIENT);
+
+	/** The default maximum number of bytes of queued events. */
+	public static final FileSize DEFAULT_MAX_QUEUE_SIZE = new FileSize(8 * FileSize.MB_COEFFICIENT);
+
+	private Encoder<ILoggingEvent> encoder;
+
+	/** @return The encoder for converting events to bytes. */
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	/**
+	 * Sets the encoder for converting events to bytes.
+	 * @param encoder The encoder.
+	 */
+	public void setEncoder(@Nonnull final Encoder<ILoggingEvent> encoder) {
+		this.encoder = requireNonNull(encoder);
+	}
+
+	@Nullable
+	private String file = null;
+
+	/** @return The name of the log file. */
+	@Nullable
+	public String getFile() {
+		return file;
+	}
+
+	/**
+	 * Sets the name of the log file. Must be set before this appender is started.
+	 * @param file The name of the log file.
+	 */
+	public void setFile(@Nullable final String file) {
+		this.file = file == null ? null : file.trim();
+	}
+
+	private boolean append = true;
+
+	/** @return <code>true</code> if events are appended to an existing file, or <code>false</code> if an existing file is truncated. */
+	public boolean isAppend() {
+		return append;
+	}
+
+	/**
+	 * Sets whether events are appended to an existing file. Must be set before this appender is started.
+	 * @param append <code>true</code> if events should be appended to an existing file, or <code>false</code> if an existing file should be truncated.
+	 */
+	public void setAppend(final boolean append) {
+		this.append = append;
+	}
+
+	private DurabilityPolicy durabilityPolicy = DurabilityPolicy.EVENT;
+
+	/** @return The policy determining when written events are forced to the storage device. */
+	public DurabilityPolicy getDurabilityPolicy() {
+		return durabilityPolicy;
+	}
+
+	/**
+	 * Sets the policy determining when written events are forced to the storage device. Must be set before this appender is started.
+	 * @param durabilityPolicy The durability policy.
+	 */
+	public void setDurabilityPolicy(@Nonnull final DurabilityPolicy durabilityPolicy) {
+		this.durabilityPolicy = requireNonNull(durabilityPolicy);
+	}
+
+	private Duration commitInterval = DEFAULT_COMMIT_INTERVAL;
+
+	/** @return The interval after which written events are forced under the {@link DurabilityPolicy#INTERVAL} policy. */
+	public Duration getCommitInterval() {
+		return commitInterval;
+	}
+
+	/**
+	 * Sets the interval after which written events are forced under the {@link DurabilityPolicy#INTERVAL} policy. Must be set before this appender is started.
+	 * @param commitInterval The commit interval.
+	 */
+	public void setCommitInterval(@Nonnull final Duration commitInterval) {
+		this.commitInterval = requireNonNull(commitInterval);
+	}
+
+	private FileSize commitSize = DEFAULT_COMMIT_SIZE;
+
+	/** @return The number of written bytes after which events are forced under the {@link DurabilityPolicy#SIZE} policy. */
+	public FileSize getCommitSize() {
+		return commitSize;
+	}
+
+	/**
+	 * Sets the number of written bytes after which events are forced under the {@link DurabilityPolicy#SIZE} policy. Must be set before this appender is
+	 * started.
+	 * @param commitSize The commit size.
+	 */
+	public void setCommitSize(@Nonnull final FileSize commitSize) {
+		this.commitSize = requireNonNull(commitSize);
+	}
+
+	private FileSize maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+	/** @return The maximum number of bytes of queued events, beyond which logging threads wait for the queue to drain. */
+	public FileSize getMaxQueueSize() {
+		return maxQueueSize;
+	}
+
+	/**
+	 * Sets the maximum number of bytes of queued events, beyond which logging threads wait for the queue to drain. Must be set before this appender is started.
+	 * @param maxQueueSize The maximum queue size.
+	 */
+	public void setMaxQueueSize(@Nonnull final FileSize maxQueueSize) {
+		this.maxQueueSize = requireNonNull(maxQueueSize);
+	}
+
+	/** The lock guarding the queue and file positions. */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Signaled when events are queued, a commit is requested, or this appender is stopped. */
+	private final Condition workAvailable = lock.newCondition();
+
+	/** Signaled when queued events have been taken for writing. */
+	private final Condition queueDrained = lock.newCondition();
+
+	/** The encoded events waiting to be written. */
+	private ArrayList<byte[]> queue = new ArrayList<>();
+
+	/** The number of bytes of queued events. */
+	private long queuedByteCount = 0;
+
+	/** The position in the file, relative to when this appender was started, after the last queued event. */
+	private long appendedPosition = 0;
+
+	/** The position in the file, relative to when this appender was started, up to which events have been written and forced. */
+	private long forcedPosition = 0;
+
+	/** The position in the file, relative to when this appender was started, after the last event discarded because it could not be written. */
+	private long lostPosition = 0;
+
+	/** The error that caused the events up to {@link #lostPosition} to be discarded, or <code>null</code> if no events have been discarded. */
+	@Nullable
+	private IOException writeFailure = null;
+
+	/** Requests for durability, in order of increasing position. */
+	private final ArrayDeque<CommitRequest> commitRequests = new ArrayDeque<>();
+
+	/** Whether the background thread should keep running; distinct from {@link #isStarted()}, which is not guaranteed to be visible across threads. */
+	private boolean running = false;
+
+	/** The background thread, created when the appender is started. */
+	@Nullable
+	private Thread committer = null;
+
+	/** The channel of the open file, or <code>null</code> if the file is not open. */
+	@Nullable
+	private FileChannel fileChannel = null;
+
+	private volatile long writeCount = 0;
+
+	/** @return The number of batches written to the file. */
+	public long getWriteCount() {
+		return writeCount;
+	}
+
+	private volatile long forceCount = 0;
+
+	/** @return The number of times the file has been forced to the storage device. */
+	public long getForceCount() {
+		return forceCount;
+	}
+
+	@Override
+	public void start() {
+		if(isStarted()) {
+			return;
+		}
+		if(encoder == null) {
+			addError("No encoder set for the appender named `" + getName() + "`.");
+			return;
+		}
+		if(file == null) {
+			addError("No file set for the appender named `" + getName() + "`.");
+			return;
+		}
+		if(commitInterval.getMilliseconds() <= 0 || commitSize.getSize() <= 0 || maxQueueSize.getSize() <= 0) {
+			addError("Invalid commit interval, commit size, or maximum queue size.");
+			return;
+		}
+		final Path path = Paths.get(file);
+		try {
+			final Path parent = path.toAbsolutePath().getParent();
+			if(parent != null) {
+				Files.createDirectories(parent);
+			}
+			fileChannel = append ? FileChannel.open(path, CREATE, WRITE, APPEND) : FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+		} catch(final IOException ioException) {
+			addError("Unable to open file `" + file + "`.", ioException);
+			return;
+		}
+		lock.lock();
+		try {
+			queue = new ArrayList<>();
+			queuedByteCount = 0;
+			appendedPosition = 0;
+			forcedPosition = 0;
+			lostPosition = 0;
+			writeFailure = null;
+			running = true;
+		} finally {
+			lock.unlock();
+		}
+		try {
+			if(fileChannel.size() == 0) {
+				final byte[] headerBytes = encoder.headerBytes();
+				if(headerBytes != null) {
+					enqueue(headerBytes);
+				}
+			}
+		} catch(final IOException ioException) {
+			addWarn("Unable to determine size of file `" + file + "`.", ioException);
+		}
+		final Thread committer = new Thread(this::commitLoop, getClass().getSimpleName() + "-Committer-" + getName());
+		committer.setDaemon(true);
+		this.committer = committer;
+		super.start();
+		committer.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation queues any footer of the encoder, waits for the background thread to write and force all queued events, and closes the
+	 *           file.
+	 */
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		final byte[] footerBytes = encoder.footerBytes();
+		if(footerBytes != null) {
+			enqueue(footerBytes);
+		}
+		super.stop();
+		lock.lock();
+		try {
+			running = false;
+			workAvailable.signal();
+		} finally {
+			lock.unlock();
+		}
+		final Thread committer = this.committer;
+		if(committer != null) {
+			try {
+				committer.join();
+			} catch(final InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				addError("Interrupted while waiting for " + getClass().getSimpleName() + " to commit.", interruptedException);
+			}
+			this.committer = null;
+		}
+		try {
+			fileChannel.close();
+		} catch(final IOException ioException) {
+			addError("Unable to close file `" + file + "`.", ioException);
+		}
+	}
+
+	@Override
+	protected void append(final ILoggingEvent event) {
+		enqueue(encoder.encode(event));
+	}
+
+	/**
+	 * Queues encoded bytes to be written, waiting if the queue is full.
+	 * @param bytes The bytes to write.
+	 */
+	private void enqueue(@Nonnull final byte[] bytes) {
+		final long maxQueueByteCount = maxQueueSize.getSize();
+		lock.lock();
+		try {
+			while(running && queuedByteCount > 0 && queuedByteCount + bytes.length > maxQueueByteCount) {
+				queueDrained.awaitUninterruptibly();
+			}
+			if(!running) {
+				return;
+			}
+			final boolean wasEmpty = queue.isEmpty();
+			queue.add(bytes);
+			queuedByteCount += bytes.length;
+			appendedPosition += bytes.length;
+			if(wasEmpty) {
+				workAvailable.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Requests that all events appended so far be forced to the storage device, regardless of the durability policy.
+	 * @implNote If a batch of events could not be written, the events are discarded, and every request covering them fails with the error, even if requested
+	 *           after the failure. Requests made once later events have been appended cover only those events.
+	 * @return A future that completes once all events appended before this call are durable, or completes exceptionally if they could not be written or
+	 *         forced, or if this appender is stopped before they are durable.
+	 */
+	public CompletableFuture<Void> commit() {
+		lock.lock();
+		try {
+			if(appendedPosition <= lostPosition) {
+				return CompletableFuture.failedFuture(writeFailure);
+			}
+			if(appendedPosition <= forcedPosition) {
+				return CompletableFuture.completedFuture(null);
+			}
+			if(!running) {
+				return CompletableFuture.failedFuture(new IllegalStateException("Appender `" + getName() + "` not started."));
+			}
+			final CommitRequest lastRequest = commitRequests.peekLast();
+			if(lastRequest != null && lastRequest.position == appendedPosition) {
+				return lastRequest.future;
+			}
+			final CommitRequest commitRequest = new CommitRequest(appendedPosition);
+			commitRequests.add(commitRequest);
+			workAvailable.signal();
+			return commitRequest.future;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Requests that all events appended so far to each {@link GroupCommitFileAppender} of a logger context be forced to the storage device, regardless of the
+	 * durability policy of each appender.
+	 * @apiNote A caller may wait on the returned future after logging an event that must be durable, such as an audit record, or may ignore it.
+	 * @implSpec Group-commit appenders are found among the appenders of the root logger and, recursively, among the appenders attached to any
+	 *           {@link AppenderAttachable} such as the {@link RingBufferAsyncAppender} installed by {@link RingBufferAsyncAppender#enable(LoggerContext)}. A
+	 *           {@link RingBufferAsyncAppender} is {@link RingBufferAsyncAppender#flush() flushed} before the appenders attached to it are committed, so that
+	 *           events still queued in its buffer become durable as well. Because no other {@link AsyncAppenderBase} provides a way to wait for its queue to
+	 *           drain, the returned future fails with an {@link IllegalStateException} if a group-commit appender is attached to one.
+	 * @param loggerContext The logger context, such as that of a {@link LoggerContextLoggingConcern}.
+	 * @return A future that completes once the events appended before this call are durable; completed immediately if the logger context has no group-commit
+	 *         appenders.
+	 * @see #commit()
+	 */
+	public static CompletableFuture<Void> commitAll(@Nonnull final LoggerContext loggerContext) {
+		return commitAll(loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME));
+	}
+
+	/**
+	 * Requests that all events appended so far to each {@link GroupCommitFileAppender} reachable from the given attached appenders be forced to the storage
+	 * device.
+	 * @param appenderAttachable The object to which the appenders are attached.
+	 * @return A future that completes once the events appended before this call are durable.
+	 * @see #commitAll(LoggerContext)
+	 */
+	private static CompletableFuture<Void> commitAll(@Nonnull final AppenderAttachable<ILoggingEvent> appenderAttachable) {
+		final List<CompletableFuture<Void>> futures = new ArrayList<>();
+		appenderAttachable.iteratorForAppenders().forEachRemaining(appender -> {
+			if(appender instanceof GroupCommitFileAppender) {
+				futures.add(((GroupCommitFileAppender)appender).commit());
+			} else if(hasGroupCommitFileAppender(appender)) {
+				if(appender instanceof RingBufferAsyncAppender) {
+					final RingBufferAsyncAppender asyncAppender = (RingBufferAsyncAppender)appender;
+					futures.add(asyncAppender.flush().thenCompose(flushed -> commitAll(asyncAppender)));
+				} else if(appender instanceof AsyncAppenderBase) {
+					futures.add(CompletableFuture.failedFuture(new IllegalStateException(
+							"Cannot guarantee durability of events queued in asynchronous appender `" + appender.getName() + "`.")));
+				} else {
+					@SuppressWarnings("unchecked")
+					final AppenderAttachable<ILoggingEvent> attachable = (AppenderAttachable<ILoggingEvent>)appender;
+					futures.add(commitAll(attachable));
+				}
+			}
+		});
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * Determines whether a {@link GroupCommitFileAppender} is attached, directly or indirectly, to an appender.
+	 * @param appender The appender to check.
+	 * @return <code>true</code> if the appender is an {@link AppenderAttachable} through which events reach a group-commit appender.
+	 */
+	private static boolean hasGroupCommitFileAppender(@Nonnull final Appender<ILoggingEvent> appender) {
+		if(!(appender instanceof AppenderAttachable)) {
+			return false;
+		}
+		@SuppressWarnings("unchecked")
+		final Iterator<Appender<ILoggingEvent>> appenderIterator = ((AppenderAttachable<ILoggingEvent>)appender).iteratorForAppenders();
+		while(appenderIterator.hasNext()) {
+			final Appender<ILoggingEvent> attachedAppender = appenderIterator.next();
+			if(attachedAppender instanceof GroupCommitFileAppender || hasGroupCommitFileAppender(attachedAppender)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Repeatedly writes queued events as a batch and forces them according to the durability policy, until this appender is stopped and all queued events have
+	 * been written and forced.
+	 */
+	private void commitLoop() {
+		final long commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitInterval.getMilliseconds());
+		final long commitByteCount = commitSize.getSize();
+		ByteBuffer batchBuffer = ByteBuffer.allocateDirect(64 * 1024);
+		ArrayList<byte[]> batch = new ArrayList<>();
+		long writtenPosition = 0;
+		long forcedPosition = 0; //only this thread updates the forced position, so a local copy is always current
+		long unforcedSinceNanos = 0;
+		while(true) {
+			final boolean stopping;
+			final long requestedPosition;
+			lock.lock();
+			try {
+				while(running && queue.isEmpty() && commitRequests.isEmpty()) {
+					if(writtenPosition > forcedPosition && durabilityPolicy == DurabilityPolicy.INTERVAL) { //wait no longer than the commit deadline
+						final long remainingNanos = unforcedSinceNanos + commitIntervalNanos - System.nanoTime();
+						if(remainingNanos <= 0) {
+							break;
+						}
+						workAvailable.awaitNanos(remainingNanos);
+					} else {
+						workAvailable.awaitUninterruptibly();
+					}
+				}
+				stopping = !running;
+				final ArrayList<byte[]> queued = queue;
+				queue = batch;
+				batch = queued;
+				queuedByteCount = 0;
+				queueDrained.signalAll();
+				final CommitRequest lastRequest = commitRequests.peekLast();
+				requestedPosition = lastRequest != null ? lastRequest.position : 0;
+			} catch(final InterruptedException interruptedException) {
+				continue; //the loop is only ended by stopping
+			} finally {
+				lock.unlock();
+			}
+			IOException ioException = null;
+			int unwrittenByteCount = 0;
+			try {
+				if(!batch.isEmpty()) {
+					int batchSize = 0;
+					for(final byte[] bytes : batch) {
+						batchSize += bytes.length;
+					}
+					unwrittenByteCount = batchSize;
+					if(batchBuffer.capacity() < batchSize) {
+						batchBuffer = ByteBuffer.allocateDirect(Math.max(batchSize, batchBuffer.capacity() * 2));
+					}
+					batchBuffer.clear();
+					for(final byte[] bytes : batch) {
+						batchBuffer.put(bytes);
+					}
+					batch.clear();
+					batchBuffer.flip();
+					while(batchBuffer.hasRemaining()) {
+						fileChannel.write(batchBuffer);
+					}
+					writeCount++;
+					if(writtenPosition == forcedPosition) {
+						unforcedSinceNanos = System.nanoTime();
+					}
+					writtenPosition += batchSize;
+					unwrittenByteCount = 0;
+				}
+				final long unforcedByteCount = writtenPosition - forcedPosition;
+				final boolean force;
+				if(unforcedByteCount <= 0) {
+					force = false;
+				} else if(stopping || requestedPosition > forcedPosition) {
+					force = true;
+				} else {
+					switch(durabilityPolicy) {
+						case EVENT:
+							force = true;
+							break;
+						case INTERVAL:
+							force = System.nanoTime() - unforcedSinceNanos >= commitIntervalNanos;
+							break;
+						case SIZE:
+							force = unforcedByteCount >= commitByteCount;
+							break;
+						case NEVER:
+							force = false;
+							break;
+						default:
+							throw new AssertionError("Unknown durability policy: " + durabilityPolicy);
+					}
+				}
+				if(force) {
+					fileChannel.force(false);
+					forceCount++;
+					forcedPosition = writtenPosition;
+				}
+			} catch(final IOException exception) {
+				ioException = exception;
+				writtenPosition += unwrittenByteCount; //skip the discarded batch so that positions stay aligned with those of queued events
+				batch.clear();
+				addError("Unable to write events to file `" + file + "`.", exception);
+			}
+			lock.lock();
+			try {
+				this.forcedPosition = forcedPosition;
+				if(unwrittenByteCount > 0) {
+					this.lostPosition = writtenPosition;
+					this.writeFailure = ioException;
+				}
+				CommitRequest commitRequest;
+				while((commitRequest = commitRequests.peek()) != null && (commitRequest.position <= forcedPosition || commitRequest.position <= lostPosition
+						|| ioException != null || stopping && queue.isEmpty())) {
+					commitRequests.remove();
+					if(commitRequest.position <= lostPosition) { //events discarded after a failed write can never become durable
+						commitRequest.future.completeExceptionally(writeFailure);
+					} else if(commitRequest.position <= forcedPosition) {
+						commitRequest.future.complete(null);
+					} else {
+						commitRequest.future.completeExceptionally(ioException != null ? ioException : new IllegalStateException("Appender stopped."));
+					}
+				}
+				if(stopping && queue.isEmpty()) {
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * A request for durability of all events appended up to some position.
+	 * @author Garret Wilson
+	 */
+	private static final class CommitRequest {
+
+		/** The position in the file, relative to when the appender was started, up to which events must be durable. */
+		final long position;
+
+		/** The future to complete once the events are durable. */
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		/**
+		 * Constructor.
+		 * @param position The position up to which events must be durable.
+		 */
+		CommitRequest(final long position) {
+			this.position = position;
+		}
+
+	}
+
+}
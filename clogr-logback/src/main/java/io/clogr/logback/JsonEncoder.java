@@ -0,0 +1,413 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static io.clogr.logback.GarbageFreeEncoder.*;
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.*;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Encoder that writes each event as a JSON object on a single line, streaming the event properties, markers, MDC, and SLF4J 2 key-value pairs directly into a
+ * reusable UTF-8 byte buffer without building intermediate maps or strings.
+ * <p>
+ * Each event is written in the form
+ * <code>{"timestamp":"2026-01-02T03:04:05.678Z","level":"INFO","thread":"main","logger":"com.example.Foo","message":"Done.","markers":["AUDIT"],"mdc":{"requestId":"r1"},"keyValues":{"count":3},"stackTrace":"..."}</code>,
+ * with the timestamp in UTC. The <code>markers</code>, <code>mdc</code>, <code>keyValues</code>, and <code>stackTrace</code> properties are omitted if the
+ * event has none. The message is formatted from the message template and arguments as by {@link GarbageFreeEncoder}. Key-value pairs are written in the order
+ * in which they were added; values that are integral numbers, finite floating-point numbers, booleans, or <code>null</code> are written as JSON literals, and
+ * other values as JSON strings.
+ * </p>
+ * <p>
+ * Field names are written from cached bytes, and characters are escaped using a precomputed table. In steady state no allocation occurs per event unless a
+ * message argument or key-value pair value requires conversion to a string or the event has a throwable, whose stack trace is formatted using Logback's
+ * facilities. Garbage-free output requires an appender that calls {@link #encode(ILoggingEvent, OutputStream)}, such as {@link GarbageFreeFileAppender} or
+ * {@link MemoryMappedFileAppender}. Other appenders call {@link #encode(ILoggingEvent)}, which returns a new byte array for each event.
+ * </p>
+ * <pre>{@code
+ * <appender name="FILE" class="io.clogr.logback.GarbageFreeFileAppender">
+ *   <file>app.json</file>
+ *   <encoder class="io.clogr.logback.JsonEncoder" />
+ * </appender>
+ * }</pre>
+ * @author Garret Wilson
+ * @see GarbageFreeLoggingConcern
+ */
+public class JsonEncoder extends EncoderBase<ILoggingEvent> implements StreamingEncoder<ILoggingEvent> {
+
+	/** The reusable buffers of each thread. */
+	private static final ThreadLocal<Buffers> THREAD_BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+	/** The escape sequence of each ASCII character, or <code>null</code> if the character is written as is. */
+	private static final String[] ESCAPE_SEQUENCES = new String[128];
+
+	static {
+		for(char c = 0; c < 0x20; c++) {
+			ESCAPE_SEQUENCES[c] = String.format("\\u%04x", (int)c);
+		}
+		ESCAPE_SEQUENCES['\b'] = "\\b";
+		ESCAPE_SEQUENCES['\f'] = "\\f";
+		ESCAPE_SEQUENCES['\n'] = "\\n";
+		ESCAPE_SEQUENCES['\r'] = "\\r";
+		ESCAPE_SEQUENCES['\t'] = "\\t";
+		ESCAPE_SEQUENCES['"'] = "\\\"";
+		ESCAPE_SEQUENCES['\\'] = "\\\\";
+	}
+
+	/** The bytes of the escape sequence of each ASCII character, or <code>null</code> if the character is written as is. */
+	private static final byte[][] ESCAPES = new byte[ESCAPE_SEQUENCES.length][];
+
+	static {
+		for(int c = 0; c < ESCAPE_SEQUENCES.length; c++) {
+			if(ESCAPE_SEQUENCES[c] != null) {
+				ESCAPES[c] = ESCAPE_SEQUENCES[c].getBytes(US_ASCII);
+			}
+		}
+	}
+
+	private static final byte[] TIMESTAMP_FIELD = "{\"timestamp\":\"".getBytes(US_ASCII);
+	private static final byte[] TRACE_LEVEL_FIELD = "\",\"level\":\"TRACE".getBytes(US_ASCII);
+	private static final byte[] DEBUG_LEVEL_FIELD = "\",\"level\":\"DEBUG".getBytes(US_ASCII);
+	private static final byte[] INFO_LEVEL_FIELD = "\",\"level\":\"INFO".getBytes(US_ASCII);
+	private static final byte[] WARN_LEVEL_FIELD = "\",\"level\":\"WARN".getBytes(US_ASCII);
+	private static final byte[] ERROR_LEVEL_FIELD = "\",\"level\":\"ERROR".getBytes(US_ASCII);
+	private static final byte[] THREAD_FIELD = "\",\"thread\":".getBytes(US_ASCII);
+	private static final byte[] LOGGER_FIELD = ",\"logger\":".getBytes(US_ASCII);
+	private static final byte[] MESSAGE_FIELD = ",\"message\":".getBytes(US_ASCII);
+	private static final byte[] MARKERS_FIELD = ",\"markers\":[".getBytes(US_ASCII);
+	private static final byte[] MDC_FIELD = ",\"mdc\":{".getBytes(US_ASCII);
+	private static final byte[] KEY_VALUES_FIELD = ",\"keyValues\":{".getBytes(US_ASCII);
+	private static final byte[] STACK_TRACE_FIELD = ",\"stackTrace\":".getBytes(US_ASCII);
+	private static final byte[] END = ("}" + CoreConstants.LINE_SEPARATOR).getBytes(US_ASCII);
+	private static final byte[] NULL = "null".getBytes(US_ASCII);
+	private static final byte[] TRUE = "true".getBytes(US_ASCII);
+	private static final byte[] FALSE = "false".getBytes(US_ASCII);
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote This method does not allocate unless a message argument or key-value pair value requires conversion to a string, the event has a throwable, or
+	 *           the buffers must grow.
+	 */
+	@Override
+	public void encode(@Nonnull final ILoggingEvent event, @Nonnull final OutputStream outputStream) throws IOException {
+		final Buffers buffers = getBuffers();
+		buffers.inUse = true;
+		try {
+			buffers.encode(event);
+			outputStream.write(buffers.bytes, 0, buffers.length);
+		} finally {
+			buffers.inUse = false;
+		}
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote This method encodes the event using the reusable buffers of the current thread, allocating only the returned copy of the encoded bytes.
+	 */
+	@Override
+	public byte[] encode(final ILoggingEvent event) {
+		final Buffers buffers = getBuffers();
+		buffers.inUse = true;
+		try {
+			buffers.encode(event);
+			return Arrays.copyOf(buffers.bytes, buffers.length);
+		} finally {
+			buffers.inUse = false;
+		}
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	/**
+	 * Returns the reusable buffers of the current thread or, if they are already in use, new buffers.
+	 * @return Buffers that are not in use.
+	 */
+	private static Buffers getBuffers() {
+		final Buffers buffers = THREAD_BUFFERS.get();
+		return buffers.inUse ? new Buffers() : buffers; //an argument's toString() logged while this thread was encoding
+	}
+
+	/**
+	 * Appends a JSON string literal, escaping characters the same way as events written by this encoder.
+	 * @apiNote This method allows other producers of JSON, such as {@link BinaryLogDecoder}, to produce output consistent with this encoder.
+	 * @param text The string builder to which to append.
+	 * @param string The string to append as a JSON string.
+	 */
+	static void appendQuotedString(@Nonnull final StringBuilder text, @Nonnull final CharSequence string) {
+		text.append('"');
+		final int length = string.length();
+		for(int i = 0; i < length; i++) {
+			final char c = string.charAt(i);
+			final String escapeSequence = c < ESCAPE_SEQUENCES.length ? ESCAPE_SEQUENCES[c] : null;
+			if(escapeSequence == null) {
+				text.append(c);
+			} else {
+				text.append(escapeSequence);
+			}
+		}
+		text.append('"');
+	}
+
+	/**
+	 * Determines the cached bytes of the level field, including the end of the preceding timestamp field.
+	 * @param level The level.
+	 * @return The bytes of the level field.
+	 */
+	private static byte[] levelField(@Nonnull final Level level) {
+		switch(level.toInt()) {
+			case Level.TRACE_INT:
+				return TRACE_LEVEL_FIELD;
+			case Level.DEBUG_INT:
+				return DEBUG_LEVEL_FIELD;
+			case Level.INFO_INT:
+				return INFO_LEVEL_FIELD;
+			case Level.WARN_INT:
+				return WARN_LEVEL_FIELD;
+			default:
+				return ERROR_LEVEL_FIELD;
+		}
+	}
+
+	/**
+	 * Reusable buffers for formatting and encoding events.
+	 * @author Garret Wilson
+	 */
+	private static final class Buffers {
+
+		/** Whether the buffers are being used to encode an event. */
+		private boolean inUse = false;
+
+		/** Text buffer for formatting timestamps, messages, and values. */
+		private final StringBuilder text = new StringBuilder(256);
+
+		private byte[] bytes = new byte[512];
+
+		private int length = 0;
+
+		/** Whether the next MDC entry is the first written. */
+		private boolean firstMdcEntry;
+
+		/** The reusable writer of MDC entries. */
+		private final BiConsumer<String, String> mdcEntryWriter = this::writeMdcEntry;
+
+		/**
+		 * Encodes an event into these buffers.
+		 * @param event The event to encode.
+		 */
+		void encode(@Nonnull final ILoggingEvent event) {
+			length = 0;
+			write(TIMESTAMP_FIELD);
+			text.setLength(0);
+			appendTimestamp(text, event.getTimeStamp());
+			writeString(text);
+			write(levelField(event.getLevel()));
+			write(THREAD_FIELD);
+			writeQuotedString(event.getThreadName());
+			write(LOGGER_FIELD);
+			writeQuotedString(event.getLoggerName());
+			write(MESSAGE_FIELD);
+			text.setLength(0);
+			appendFormattedMessage(text, event.getMessage(), event.getArgumentArray());
+			writeQuotedString(text);
+			final List<Marker> markers = event.getMarkerList();
+			if(markers != null && !markers.isEmpty()) {
+				write(MARKERS_FIELD);
+				final int markerCount = markers.size();
+				for(int i = 0; i < markerCount; i++) {
+					if(i > 0) {
+						writeByte(',');
+					}
+					writeQuotedString(markers.get(i).getName());
+				}
+				writeByte(']');
+			}
+			final Map<String, String> mdc = event.getMDCPropertyMap();
+			if(mdc != null && !mdc.isEmpty()) {
+				write(MDC_FIELD);
+				firstMdcEntry = true;
+				mdc.forEach(mdcEntryWriter);
+				writeByte('}');
+			}
+			final List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+			if(keyValuePairs != null && !keyValuePairs.isEmpty()) {
+				write(KEY_VALUES_FIELD);
+				final int keyValuePairCount = keyValuePairs.size();
+				for(int i = 0; i < keyValuePairCount; i++) {
+					if(i > 0) {
+						writeByte(',');
+					}
+					final KeyValuePair keyValuePair = keyValuePairs.get(i);
+					writeQuotedString(keyValuePair.key);
+					writeByte(':');
+					writeValue(keyValuePair.value);
+				}
+				writeByte('}');
+			}
+			final IThrowableProxy throwableProxy = event.getThrowableProxy();
+			if(throwableProxy != null) {
+				write(STACK_TRACE_FIELD);
+				writeQuotedString(ThrowableProxyUtil.asString(throwableProxy));
+			}
+			write(END);
+		}
+
+		/**
+		 * Writes an MDC entry as a JSON object member.
+		 * @param key The MDC key.
+		 * @param value The MDC value.
+		 */
+		private void writeMdcEntry(@Nullable final String key, @Nullable final String value) {
+			if(!firstMdcEntry) {
+				writeByte(',');
+			}
+			firstMdcEntry = false;
+			writeQuotedString(key);
+			writeByte(':');
+			writeQuotedString(value);
+		}
+
+		/**
+		 * Writes a key-value pair value as a JSON literal if it is an integral number, a finite floating-point number, a boolean, or <code>null</code>; or
+		 * otherwise as a JSON string.
+		 * @param value The value, which may be <code>null</code>.
+		 */
+		private void writeValue(@Nullable final Object value) {
+			if(value == null) {
+				write(NULL);
+			} else if(value instanceof Boolean) {
+				write(((Boolean)value).booleanValue() ? TRUE : FALSE);
+			} else if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+					|| value instanceof Double && Double.isFinite((Double)value) || value instanceof Float && Float.isFinite((Float)value)) {
+				text.setLength(0);
+				appendArgument(text, value);
+				writeString(text);
+			} else if(value instanceof CharSequence) {
+				writeQuotedString((CharSequence)value);
+			} else {
+				text.setLength(0);
+				appendArgument(text, value);
+				writeQuotedString(text);
+			}
+		}
+
+		/**
+		 * Ensures that the byte buffer has room for the given number of additional bytes.
+		 * @param count The number of additional bytes.
+		 */
+		private void ensureCapacity(final int count) {
+			if(length + count > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(length + count, bytes.length * 2));
+			}
+		}
+
+		/**
+		 * Writes a single byte.
+		 * @param b The byte.
+		 */
+		private void writeByte(final int b) {
+			ensureCapacity(1);
+			bytes[length++] = (byte)b;
+		}
+
+		/**
+		 * Writes bytes.
+		 * @param source The bytes to write.
+		 */
+		private void write(@Nonnull final byte[] source) {
+			ensureCapacity(source.length);
+			System.arraycopy(source, 0, bytes, length, source.length);
+			length += source.length;
+		}
+
+		/**
+		 * Writes a JSON string literal, or <code>null</code> if the string is <code>null</code>.
+		 * @param string The string, which may be <code>null</code>.
+		 */
+		private void writeQuotedString(@Nullable final CharSequence string) {
+			if(string == null) {
+				write(NULL);
+				return;
+			}
+			writeByte('"');
+			writeString(string);
+			writeByte('"');
+		}
+
+		/**
+		 * Writes the contents of a JSON string, escaping characters and encoding them as UTF-8. Unpaired surrogates are encoded as <code>?</code>.
+		 * @param string The string.
+		 */
+		private void writeString(@Nonnull final CharSequence string) {
+			final int stringLength = string.length();
+			ensureCapacity(stringLength * 6); //the longest escape sequence is six bytes
+			final byte[] bytes = this.bytes;
+			int b = length;
+			for(int i = 0; i < stringLength; i++) {
+				final char c = string.charAt(i);
+				if(c < 0x80) {
+					final byte[] escape = ESCAPES[c];
+					if(escape == null) {
+						bytes[b++] = (byte)c;
+					} else {
+						System.arraycopy(escape, 0, bytes, b, escape.length);
+						b += escape.length;
+					}
+				} else if(c < 0x800) {
+					bytes[b++] = (byte)(0xC0 | c >> 6);
+					bytes[b++] = (byte)(0x80 | c & 0x3F);
+				} else if(Character.isSurrogate(c)) {
+					if(Character.isHighSurrogate(c) && i + 1 < stringLength && Character.isLowSurrogate(string.charAt(i + 1))) {
+						final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+						bytes[b++] = (byte)(0xF0 | codePoint >> 18);
+						bytes[b++] = (byte)(0x80 | codePoint >> 12 & 0x3F);
+						bytes[b++] = (byte)(0x80 | codePoint >> 6 & 0x3F);
+						bytes[b++] = (byte)(0x80 | codePoint & 0x3F);
+					} else {
+						bytes[b++] = '?';
+					}
+				} else {
+					bytes[b++] = (byte)(0xE0 | c >> 12);
+					bytes[b++] = (byte)(0x80 | c >> 6 & 0x3F);
+					bytes[b++] = (byte)(0x80 | c & 0x3F);
+				}
+			}
+			length = b;
+		}
+
+	}
+
+}
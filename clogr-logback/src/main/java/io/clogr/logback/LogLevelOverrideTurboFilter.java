@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static io.clogr.logback.LoggerContextLoggingConcern.*;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.clogr.LogLevelOverride;
+
+/**
+ * Turbo filter that accepts events at or above the level of any {@link LogLevelOverride} in effect for the current thread, regardless of the levels
+ * configured for their loggers.
+ * <p>
+ * When no override is in effect, this filter remains neutral, having performed only a single volatile read. This filter may be added programmatically using
+ * {@link #enable(LoggerContext)}, or via Logback configuration:
+ * </p>
+ * <pre>{@code
+ * <turboFilter class="io.clogr.logback.LogLevelOverrideTurboFilter" />
+ * }</pre>
+ * @author Garret Wilson
+ */
+public class LogLevelOverrideTurboFilter extends TurboFilter {
+
+	/**
+	 * Enables temporary log level overrides made using {@link LogLevelOverride} for a logger context, by adding a {@link LogLevelOverrideTurboFilter} to the
+	 * logger context if one is not already present.
+	 * @apiNote Once enabled, each logging call consults the turbo filter, which performs a single volatile read when no override is in effect. Logger contexts
+	 *          that never use overrides need not enable them.
+	 * @param loggerContext The logger context, such as that of a {@link LoggerContextLoggingConcern}.
+	 * @return <code>true</code> if the turbo filter was added, or <code>false</code> if level overrides were already enabled.
+	 */
+	public static boolean enable(@Nonnull final LoggerContext loggerContext) {
+		synchronized(loggerContext) {
+			if(loggerContext.getTurboFilterList().stream().anyMatch(LogLevelOverrideTurboFilter.class::isInstance)) {
+				return false;
+			}
+			final LogLevelOverrideTurboFilter turboFilter = new LogLevelOverrideTurboFilter();
+			turboFilter.setContext(loggerContext);
+			turboFilter.start();
+			loggerContext.addTurboFilter(turboFilter);
+			return true;
+		}
+	}
+
+	@Override
+	public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format, final Object[] params, final Throwable t) {
+		final org.slf4j.event.Level overrideLevel = LogLevelOverride.get();
+		if(overrideLevel == null || level == null) {
+			return FilterReply.NEUTRAL;
+		}
+		return level.isGreaterOrEqual(toLogbackLevel(overrideLevel)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+	}
+
+}
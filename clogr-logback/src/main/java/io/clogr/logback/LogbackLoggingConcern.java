@@ -21,14 +21,21 @@
 import java.io.*;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
 
 import javax.annotation.*;
 
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.joran.JoranConfigurator;
 import ch.qos.logback.classic.selector.ContextSelector;
-import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.classic.util.*;
+import ch.qos.logback.core.Context;
 import ch.qos.logback.core.joran.spi.JoranException;
+import io.clogr.*;
 
 /**
  * A concern for logging configurations backed by Logback.
@@ -45,6 +52,102 @@ public LoggerContext getLoggerContext() {
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @implSpec If no MDC adapter has been set, this implementation sets the MDC adapter of the SLF4J system default provider, so that values placed in the
+	 *           {@link MDC} are available to events of this logging concern, falling back to a new {@link LogbackMDCAdapter} if SLF4J provides none. Without an
+	 *           MDC adapter, a Logback logging event would fail when preparing for deferred processing, such as by an asynchronous appender.
+	 */
+	@Override
+	public MDCAdapter getMDCAdapter() {
+		MDCAdapter mdcAdapter = super.getMDCAdapter();
+		if(mdcAdapter == null) {
+			synchronized(this) {
+				mdcAdapter = super.getMDCAdapter();
+				if(mdcAdapter == null) {
+					final MDCAdapter systemMdcAdapter = MDC.getMDCAdapter();
+					setMDCAdapter(systemMdcAdapter != null ? systemMdcAdapter : new LogbackMDCAdapter());
+					mdcAdapter = super.getMDCAdapter();
+				}
+			}
+		}
+		return mdcAdapter;
+	}
+
+	/** The collector of logging metrics, or <code>null</code> if metrics have not been enabled. */
+	@Nullable
+	private volatile LoggingMetricsCollector metricsCollector = null;
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the logging metrics if they have been enabled using {@link #enableMetrics()}.
+	 */
+	@Override
+	public Optional<LoggingMetrics> findMetrics() {
+		return Optional.ofNullable(metricsCollector);
+	}
+
+	/**
+	 * Returns the collector of logging metrics, to which components of this logging concern such as appenders may report metrics.
+	 * @return The collector of logging metrics, if metrics have been enabled.
+	 * @see #enableMetrics()
+	 */
+	public Optional<LoggingMetricsCollector> findMetricsCollector() {
+		return Optional.ofNullable(metricsCollector);
+	}
+
+	/**
+	 * Returns the collector of logging metrics of a Logback context, if the context is a Logback logging concern with metrics enabled.
+	 * @param context The Logback context, which may be <code>null</code>.
+	 * @return The collector of logging metrics, if available.
+	 */
+	static Optional<LoggingMetricsCollector> findMetricsCollector(@Nullable final Context context) {
+		return context instanceof LogbackLoggingConcern ? ((LogbackLoggingConcern)context).findMetricsCollector() : Optional.empty();
+	}
+
+	/**
+	 * Enables collection of logging metrics for this logging concern, if not already enabled.
+	 * <p>
+	 * Events are counted by an appender attached to the root logger; events logged to loggers with additivity disabled that do not reach the root logger are
+	 * not counted. The appender is reattached if this logging concern is reset. Dropped events and appender latency are reported by appenders such as
+	 * {@link RingBufferAsyncAppender}, and bytes written are reported by encoders such as {@link MeteredEncoder}.
+	 * </p>
+	 * @return The collector of logging metrics.
+	 */
+	public synchronized LoggingMetricsCollector enableMetrics() {
+		LoggingMetricsCollector collector = metricsCollector;
+		if(collector == null) {
+			collector = new LoggingMetricsCollector();
+			metricsCollector = collector;
+			attachMetricsAppender(collector);
+		}
+		return collector;
+	}
+
+	/**
+	 * Attaches an appender to the root logger for counting events.
+	 * @param collector The collector of logging metrics.
+	 */
+	private void attachMetricsAppender(@Nonnull final LoggingMetricsCollector collector) {
+		final MetricsAppender metricsAppender = new MetricsAppender(collector);
+		metricsAppender.setContext(this);
+		metricsAppender.start();
+		getRootLogger().addAppender(metricsAppender);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version reattaches the appender for counting events if metrics have been enabled.
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		final LoggingMetricsCollector collector = metricsCollector;
+		if(collector != null) {
+			attachMetricsAppender(collector);
+		}
+	}
+
 	/**
 	 * Automatically configures this logging concern.
 	 * @apiNote This automatic configuration is equivalent to the configuration performed by a default Logback installation independent of Clogr.
@@ -59,7 +162,7 @@ public LogbackLoggingConcern autoConfigure() throws JoranException {
 	/**
 	 * Configures this logging concern from a Logback configuration file at a specified path.
 	 * @apiNote If this logging concern previously had a configuration that you want to replace, you must first call {@link #reset()}. A multi-step configuration
-	 *          must not call {@link #reset()} between each step.
+	 *          must not call {@link #reset()} between each step. To reconfigure without interrupting logging, use {@link #watchConfiguration(Path)} instead.
 	 * @param path The path to the Logback configuration file.
 	 * @return This logging concern; useful for chaining configuration commands.
 	 * @throws JoranException if an error occurred during configuration;
@@ -70,6 +173,64 @@ public LogbackLoggingConcern configure(@Nonnull final Path path) throws JoranExc
 		return configure(path.toFile());
 	}
 
+	/**
+	 * Configures this logging concern from a previously parsed Logback configuration model.
+	 * @apiNote If this logging concern previously had a configuration that you want to replace, you must first call {@link #reset()}.
+	 * @param configurationModel The configuration model, such as one retrieved from a {@link ConfigurationModelCache}.
+	 * @return This logging concern; useful for chaining configuration commands.
+	 * @throws JoranException if an error occurred during configuration;
+	 * @see ConfigurationModel#apply(LoggerContext, Map)
+	 */
+	public LogbackLoggingConcern configure(@Nonnull final ConfigurationModel configurationModel) throws JoranException {
+		return configure(configurationModel, Map.of());
+	}
+
+	/**
+	 * Configures this logging concern from a previously parsed Logback configuration model, first setting properties for use in variable substitution.
+	 * @apiNote This method allows a single configuration template to be parsed once and then applied to many logging concerns, each with its own properties
+	 *          such as a tenant identifier referenced as <code>${tenant}</code> in the configuration. If this logging concern previously had a configuration
+	 *          that you want to replace, you must first call {@link #reset()}.
+	 * @param configurationModel The configuration model, such as one retrieved from a {@link ConfigurationModelCache}.
+	 * @param properties The properties to set in this logging concern before configuring it.
+	 * @return This logging concern; useful for chaining configuration commands.
+	 * @throws JoranException if an error occurred during configuration;
+	 * @see ConfigurationModel#apply(LoggerContext, Map)
+	 */
+	public LogbackLoggingConcern configure(@Nonnull final ConfigurationModel configurationModel, @Nonnull final Map<String, String> properties)
+			throws JoranException {
+		configurationModel.apply(this, properties);
+		return this;
+	}
+
+	/**
+	 * Configures this logging concern from a Logback configuration file at a specified path, and reconfigures it whenever the file changes, using the default
+	 * debounce delay.
+	 * @param path The path to the Logback configuration file.
+	 * @return The watcher of the configuration file, which should be closed to stop watching for changes.
+	 * @throws IOException if the configuration file's directory cannot be watched.
+	 * @throws JoranException if an error occurred during the initial configuration.
+	 * @see ConfigurationWatcher#DEFAULT_DEBOUNCE_DELAY
+	 */
+	public ConfigurationWatcher watchConfiguration(@Nonnull final Path path) throws IOException, JoranException {
+		return watchConfiguration(path, ConfigurationWatcher.DEFAULT_DEBOUNCE_DELAY);
+	}
+
+	/**
+	 * Configures this logging concern from a Logback configuration file at a specified path, and reconfigures it whenever the file changes.
+	 * @apiNote Unlike {@link #configure(Path)}, this method does not require this logging concern to be reset before reconfiguration. Each configuration is
+	 *          loaded in a background thread into a separate staged logger context, and then swapped in atomically, so that logging continues uninterrupted and
+	 *          no events are lost or duplicated. This logging concern should have no other appenders configured.
+	 * @param path The path to the Logback configuration file.
+	 * @param debounceDelay The delay after the last detected change to the file before the configuration is reloaded.
+	 * @return The watcher of the configuration file, which should be closed to stop watching for changes.
+	 * @throws IOException if the configuration file's directory cannot be watched.
+	 * @throws JoranException if an error occurred during the initial configuration.
+	 * @see ConfigurationWatcher
+	 */
+	public ConfigurationWatcher watchConfiguration(@Nonnull final Path path, @Nonnull final Duration debounceDelay) throws IOException, JoranException {
+		return new ConfigurationWatcher(this, path, debounceDelay);
+	}
+
 	/**
 	 * Configures this logging concern from a Logback configuration file.
 	 * @apiNote If this logging concern previously had a configuration that you want to replace, you must first call {@link #reset()}. A multi-step configuration
@@ -16,6 +16,8 @@
 
 package io.clogr.logback;
 
+import java.util.Map;
+
 import javax.annotation.*;
 
 import org.slf4j.*;
@@ -23,7 +25,7 @@
 
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.selector.ContextSelector;
-import io.clogr.LoggingConcern;
+import io.clogr.*;
 
 /**
  * A concern for logging configurations backed by Logback and providing access to a {@link LoggerContext}.
@@ -59,6 +61,18 @@ public default void setLogLevel(final Logger logger, final Level level) {
 		((ch.qos.logback.classic.Logger)logger).setLevel(toLogbackLevel(level));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This version retrieves and updates the Logback loggers directly from the logger context, in the order determined by
+	 *           {@link LoggingConcern#toDescendantsFirstOrder(Map)}. As Logback stops propagating a level change at any descendant logger with an explicit level,
+	 *           updating descendants first means that the effective level of each logger is recomputed at most once, rather than once for each ancestor updated.
+	 */
+	@Override
+	public default void setLogLevels(final Map<String, Level> levels) {
+		final LoggerContext loggerContext = getLoggerContext();
+		LoggingConcern.toDescendantsFirstOrder(levels).forEach((loggerName, level) -> loggerContext.getLogger(loggerName).setLevel(toLogbackLevel(level)));
+	}
+
 	/**
 	 * Determines the Logback log level corresponding to the given SLF4J log level.
 	 * @param level The SLF4J log level.
@@ -81,4 +95,27 @@ public static ch.qos.logback.classic.Level toLogbackLevel(@Nonnull final Level l
 		}
 	}
 
+	/**
+	 * Determines the SLF4J log level corresponding to the given Logback log level.
+	 * @param level The Logback log level, which must not be {@link ch.qos.logback.classic.Level#OFF} or {@link ch.qos.logback.classic.Level#ALL}.
+	 * @return The equivalent SLF4J log level.
+	 * @throws IllegalArgumentException if the level has no SLF4J equivalent.
+	 */
+	public static Level toSlf4jLevel(@Nonnull final ch.qos.logback.classic.Level level) {
+		switch(level.toInt()) {
+			case ch.qos.logback.classic.Level.ERROR_INT:
+				return Level.ERROR;
+			case ch.qos.logback.classic.Level.WARN_INT:
+				return Level.WARN;
+			case ch.qos.logback.classic.Level.INFO_INT:
+				return Level.INFO;
+			case ch.qos.logback.classic.Level.DEBUG_INT:
+				return Level.DEBUG;
+			case ch.qos.logback.classic.Level.TRACE_INT:
+				return Level.TRACE;
+			default:
+				throw new IllegalArgumentException("Log level has no SLF4J equivalent: " + level);
+		}
+	}
+
 }
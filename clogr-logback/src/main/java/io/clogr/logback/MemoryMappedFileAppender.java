@@ -0,0 +1,406 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.Objects.*;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * File appender that writes encoded events into a memory-mapped region of the file rather than issuing a write system call for each event.
+ * <p>
+ * The file is mapped in regions of a {@link #getRegionSize() region size}, which should be large. Each logging thread reserves space for its encoded event in
+ * the current region by atomically advancing a write cursor, and then copies the event into its reserved space without locking, so that concurrent threads
+ * write in parallel. The thread whose reservation crosses the end of a region maps the next region of the file, starting immediately after the last event
+ * that fit, while other overflowing threads wait for the new region. Written events are in the operating system page cache and are visible to other processes
+ * reading the file, such as <code>tail</code>, without any further system call; events are written to the storage device by the operating system at its
+ * discretion, and at the latest when this appender is stopped.
+ * </p>
+ * <p>
+ * As a region extends the file beyond the events written so far, the file is truncated to the end of the last event when this appender is stopped or the
+ * file is rolled over using {@link #rollover(String)}. If the process terminates abnormally, the file may be left with trailing zero bytes.
+ * </p>
+ * <p>
+ * Events encoded by a {@link StreamingEncoder}, such as {@link GarbageFreeEncoder} or {@link JsonEncoder}, are copied directly from the encoder's reusable
+ * buffer without allocating.
+ * </p>
+ * <pre>{@code
+ * <appender name="FILE" class="io.clogr.logback.MemoryMappedFileAppender">
+ *   <file>app.log</file>
+ *   <regionSize>32MB</regionSize>
+ *   <encoder>
+ *     <pattern>%d %-5level [%thread] %logger - %msg%n</pattern>
+ *   </encoder>
+ * </appender>
+ * }</pre>
+ * @apiNote Some platforms, notably Windows, do not allow a file to be truncated or renamed while a region of it remains mapped; this appender is intended for
+ *          platforms such as Linux that allow this.
+ * @author Garret Wilson
+ */
+public class MemoryMappedFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	/** The default size of each mapped region. */
+	public static final FileSize DEFAULT_REGION_SIZE = new FileSize(32 * FileSize.MB_COEFFICIENT);
+
+	/** The lock for opening and closing the file. */
+	private final Object lock = new Object();
+
+	/** Output stream that writes to the current region; used by encoders that write directly to an output stream. */
+	private final OutputStream regionOutputStream = new OutputStream() {
+
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			MemoryMappedFileAppender.this.write(bytes, offset, length);
+		}
+
+	};
+
+	private Encoder<ILoggingEvent> encoder;
+
+	/** @return The encoder for converting events to bytes. */
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	/**
+	 * Sets the encoder for converting events to bytes.
+	 * @param encoder The encoder.
+	 */
+	public void setEncoder(@Nonnull final Encoder<ILoggingEvent> encoder) {
+		this.encoder = requireNonNull(encoder);
+	}
+
+	@Nullable
+	private String file = null;
+
+	/** @return The name of the log file. */
+	@Nullable
+	public String getFile() {
+		return file;
+	}
+
+	/**
+	 * Sets the name of the log file. Must be set before this appender is started.
+	 * @param file The name of the log file.
+	 */
+	public void setFile(@Nullable final String file) {
+		this.file = file == null ? null : file.trim();
+	}
+
+	private boolean append = true;
+
+	/** @return <code>true</code> if events are appended to an existing file, or <code>false</code> if an existing file is truncated. */
+	public boolean isAppend() {
+		return append;
+	}
+
+	/**
+	 * Sets whether events are appended to an existing file. Must be set before this appender is started.
+	 * @param append <code>true</code> if events should be appended to an existing file, or <code>false</code> if an existing file should be truncated.
+	 */
+	public void setAppend(final boolean append) {
+		this.append = append;
+	}
+
+	private FileSize regionSize = DEFAULT_REGION_SIZE;
+
+	/** @return The size of each mapped region of the file. */
+	public FileSize getRegionSize() {
+		return regionSize;
+	}
+
+	/**
+	 * Sets the size of each mapped region of the file. Must be set before this appender is started.
+	 * @param regionSize The size of each mapped region, which should be much larger than any single event.
+	 */
+	public void setRegionSize(@Nonnull final FileSize regionSize) {
+		this.regionSize = requireNonNull(regionSize);
+	}
+
+	/** The region size in bytes, determined when this appender is started. */
+	private int regionByteCount;
+
+	/** The channel of the open file, or <code>null</code> if the file is not open. */
+	@Nullable
+	private volatile FileChannel fileChannel = null;
+
+	/** The current region, or <code>null</code> if the file is not open. */
+	@Nullable
+	private volatile Region region = null;
+
+	@Override
+	public void start() {
+		if(isStarted()) {
+			return;
+		}
+		if(encoder == null) {
+			addError("No encoder set for the appender named `" + getName() + "`.");
+			return;
+		}
+		if(file == null) {
+			addError("No file set for the appender named `" + getName() + "`.");
+			return;
+		}
+		final long regionSizeBytes = regionSize.getSize();
+		if(regionSizeBytes < 1 || regionSizeBytes > Integer.MAX_VALUE) {
+			addError("Invalid region size " + regionSize + ".");
+			return;
+		}
+		regionByteCount = (int)regionSizeBytes;
+		synchronized(lock) {
+			try {
+				openFile(append);
+			} catch(final IOException ioException) {
+				addError("Unable to open file `" + file + "` for memory-mapped appending.", ioException);
+				return;
+			}
+		}
+		super.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation writes any footer of the encoder, waits for events being written to complete, and truncates the file to the end of the last
+	 *           event.
+	 */
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		final byte[] footerBytes = encoder.footerBytes();
+		if(footerBytes != null) {
+			write(footerBytes, 0, footerBytes.length);
+		}
+		super.stop();
+		synchronized(lock) {
+			try {
+				closeFile(null);
+			} catch(final IOException ioException) {
+				addError("Unable to close file `" + file + "`.", ioException);
+			}
+		}
+	}
+
+	/**
+	 * Rolls over the log file: closes and truncates the current file, renames it to the given archive file name, and opens a new, empty file with the original
+	 * name. Logging threads wait while the rollover is in progress.
+	 * @param archiveFile The name to which to rename the current file; any existing file with that name is replaced.
+	 * @throws IllegalStateException if this appender is not started.
+	 * @throws IOException if an error occurs closing, renaming, or reopening the file; if so this appender is stopped.
+	 */
+	public void rollover(@Nonnull final String archiveFile) throws IOException {
+		requireNonNull(archiveFile);
+		if(!isStarted()) {
+			throw new IllegalStateException("Appender `" + getName() + "` not started.");
+		}
+		synchronized(lock) {
+			try {
+				closeFile(Paths.get(archiveFile));
+				openFile(false);
+			} catch(final IOException ioException) {
+				super.stop();
+				region = null; //release any threads waiting for a region
+				throw ioException;
+			}
+		}
+	}
+
+	/**
+	 * Opens the file and maps the first region, writing the header of the encoder, if any, to an empty file.
+	 * @apiNote This method must be called while holding the lock.
+	 * @param append <code>true</code> if events should be appended to an existing file, or <code>false</code> if an existing file should be truncated.
+	 * @throws IOException if the file could not be opened or mapped.
+	 */
+	private void openFile(final boolean append) throws IOException {
+		final Path path = Paths.get(file);
+		final Path parent = path.toAbsolutePath().getParent();
+		if(parent != null) {
+			Files.createDirectories(parent);
+		}
+		final FileChannel fileChannel = append ? FileChannel.open(path, CREATE, READ, WRITE) : FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING);
+		try {
+			final long fileSize = fileChannel.size();
+			final byte[] headerBytes = fileSize == 0 ? encoder.headerBytes() : null;
+			final Region region = new Region(fileChannel, fileSize, Math.max(regionByteCount, headerBytes != null ? headerBytes.length : 0));
+			if(headerBytes != null) {
+				region.buffer.put(0, headerBytes);
+				region.cursor.set(headerBytes.length);
+				region.written.set(headerBytes.length);
+			}
+			this.fileChannel = fileChannel;
+			this.region = region;
+		} catch(final IOException ioException) {
+			fileChannel.close();
+			throw ioException;
+		}
+	}
+
+	/**
+	 * Closes the current region so that no further events are written to it, waits for events being written to it to complete, forces the written events to
+	 * the storage device, truncates the file to the end of the last event, and closes the file.
+	 * @apiNote This method must be called while holding the lock. Threads waiting for a new region continue to wait until the region is replaced.
+	 * @param archivePath The path to which to rename the file after closing it, or <code>null</code> if the file should not be renamed; in which case the
+	 *          current region is cleared so that further events are discarded.
+	 * @throws IOException if an error occurs truncating, closing, or renaming the file.
+	 */
+	private void closeFile(@Nullable final Path archivePath) throws IOException {
+		final FileChannel fileChannel = this.fileChannel;
+		if(fileChannel == null) {
+			return;
+		}
+		Region region;
+		long end;
+		while(true) {
+			region = this.region;
+			if(region == null) { //a region could not be mapped; the end of the last event is unknown
+				this.fileChannel = null;
+				fileChannel.close();
+				return;
+			}
+			//advance the cursor past the end so that all further reservations overflow without crossing the end of the region
+			end = region.cursor.getAndAdd(region.size + 1L);
+			if(end <= region.size) {
+				break;
+			}
+			//a thread whose reservation crossed the end of the region is mapping the next region
+			while(this.region == region) {
+				Thread.yield();
+			}
+		}
+		while(region.written.get() < end) { //wait for threads still copying into the region
+			Thread.yield();
+		}
+		if(archivePath == null) {
+			this.region = null;
+		}
+		this.fileChannel = null;
+		try (fileChannel) {
+			region.buffer.force();
+			fileChannel.truncate(region.fileOffset + end);
+		}
+		if(archivePath != null) {
+			Files.move(Paths.get(file), archivePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Override
+	protected void append(final ILoggingEvent event) {
+		try {
+			if(encoder instanceof StreamingEncoder) {
+				((StreamingEncoder<ILoggingEvent>)encoder).encode(event, regionOutputStream);
+			} else {
+				final byte[] bytes = encoder.encode(event);
+				write(bytes, 0, bytes.length);
+			}
+		} catch(final IOException ioException) {
+			addError("Unable to write event to file `" + file + "`.", ioException);
+		}
+	}
+
+	/**
+	 * Writes bytes into the current region, reserving space by advancing the write cursor of the region and mapping the next region if the reservation crosses
+	 * the end of the current region. If the file is not open, the bytes are discarded.
+	 * @param bytes The bytes to write.
+	 * @param offset The offset of the bytes to write.
+	 * @param length The number of bytes to write.
+	 */
+	private void write(@Nonnull final byte[] bytes, final int offset, final int length) {
+		if(length == 0) {
+			return;
+		}
+		while(true) {
+			final Region region = this.region;
+			if(region == null) {
+				return;
+			}
+			final long position = region.cursor.getAndAdd(length);
+			if(position + length <= region.size) {
+				region.buffer.put((int)position, bytes, offset, length);
+				region.written.addAndGet(length);
+				return;
+			}
+			if(position <= region.size) { //this reservation crossed the end of the region; map the next region starting here
+				try { //only one reservation can cross the end, and the file is not closed until the next region is mapped, so no lock is needed
+					this.region = new Region(fileChannel, region.fileOffset + position, Math.max(regionByteCount, length));
+				} catch(final IOException ioException) {
+					this.region = null; //release any threads waiting for a region
+					addError("Unable to map region of file `" + file + "`.", ioException);
+					return;
+				}
+			} else {
+				while(this.region == region) { //wait for the thread that crossed the end of the region to map the next region
+					Thread.yield();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A mapped region of the file.
+	 * @author Garret Wilson
+	 */
+	private static final class Region {
+
+		/** The mapped buffer. */
+		final MappedByteBuffer buffer;
+
+		/** The offset of the region within the file. */
+		final long fileOffset;
+
+		/** The size of the region. */
+		final int size;
+
+		/** The number of bytes reserved in the region; may exceed the size once the region is full. */
+		final AtomicLong cursor = new AtomicLong();
+
+		/** The number of bytes that have been written into their reserved space. */
+		final AtomicLong written = new AtomicLong();
+
+		/**
+		 * Constructor. Maps the region of the file, extending the file if needed.
+		 * @param fileChannel The channel of the file to map.
+		 * @param fileOffset The offset of the region within the file.
+		 * @param size The size of the region.
+		 * @throws IOException if the region could not be mapped.
+		 */
+		Region(@Nonnull final FileChannel fileChannel, final long fileOffset, final int size) throws IOException {
+			this.buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, fileOffset, size);
+			this.fileOffset = fileOffset;
+			this.size = size;
+		}
+
+	}
+
+}
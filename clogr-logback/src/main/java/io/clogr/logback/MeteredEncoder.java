@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.*;
+
+/**
+ * Encoder that delegates to another encoder, reporting the number of bytes encoded to the logging metrics of the logging concern, if metrics are enabled.
+ * <p>
+ * This encoder may be configured via Logback configuration, wrapping any other encoder:
+ * </p>
+ * <pre>{@code
+ * <encoder class="io.clogr.logback.MeteredEncoder">
+ *   <encoder class="ch.qos.logback.classic.encoder.PatternLayoutEncoder">
+ *     <pattern>%d %-5level %logger - %msg%n</pattern>
+ *   </encoder>
+ * </encoder>
+ * }</pre>
+ * @author Garret Wilson
+ * @see LogbackLoggingConcern#enableMetrics()
+ * @see io.clogr.LoggingMetrics#getBytesWritten()
+ */
+public class MeteredEncoder extends EncoderBase<ILoggingEvent> {
+
+	@Nullable
+	private Encoder<ILoggingEvent> encoder = null;
+
+	/** @return The encoder to which encoding is delegated, or <code>null</code> if none has been set. */
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	/**
+	 * Sets the encoder to which encoding is delegated.
+	 * @param encoder The delegate encoder.
+	 */
+	public void setEncoder(@Nonnull final Encoder<ILoggingEvent> encoder) {
+		this.encoder = requireNonNull(encoder);
+	}
+
+	/**
+	 * Reports encoded bytes to the logging metrics.
+	 * @param bytes The encoded bytes, which may be <code>null</code>.
+	 * @return The given bytes.
+	 */
+	private byte[] metered(@Nullable final byte[] bytes) {
+		if(bytes != null && bytes.length > 0) {
+			LogbackLoggingConcern.findMetricsCollector(getContext()).ifPresent(metricsCollector -> metricsCollector.recordBytesWritten(bytes.length));
+		}
+		return bytes;
+	}
+
+	@Override
+	public void start() {
+		if(encoder == null) {
+			addError("No encoder set for " + getClass().getSimpleName() + ".");
+			return;
+		}
+		if(!encoder.isStarted()) {
+			encoder.start();
+		}
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		if(encoder != null) {
+			encoder.stop();
+		}
+		super.stop();
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return metered(encoder.headerBytes());
+	}
+
+	@Override
+	public byte[] encode(final ILoggingEvent event) {
+		return metered(encoder.encode(event));
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return metered(encoder.footerBytes());
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import io.clogr.LoggingMetricsCollector;
+
+/**
+ * Appender that counts the events reaching it, for attaching to the root logger to collect logging metrics.
+ * @implNote This appender does not lock; counting uses striped counters.
+ * @author Garret Wilson
+ * @see LogbackLoggingConcern#enableMetrics()
+ */
+final class MetricsAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	/** The name of this appender. */
+	static final String NAME = "CLOGR-METRICS";
+
+	private final LoggingMetricsCollector metricsCollector;
+
+	/**
+	 * Constructor.
+	 * @param metricsCollector The collector of metrics.
+	 */
+	MetricsAppender(@Nonnull final LoggingMetricsCollector metricsCollector) {
+		this.metricsCollector = requireNonNull(metricsCollector);
+		setName(NAME);
+	}
+
+	@Override
+	protected void append(final ILoggingEvent event) {
+		metricsCollector.recordEvent(LoggerContextLoggingConcern.toSlf4jLevel(event.getLevel()), event.getLoggerName());
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.MDCAdapter;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.spi.*;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.spi.SequenceNumberGenerator;
+
+/**
+ * A logging event that is reused for successive logging calls on the same thread, for garbage-free logging.
+ * <p>
+ * An event is acquired for a logging call using {@link #acquire()}, populated, passed to the appenders, and then released using {@link #release()}, after
+ * which it may be repopulated by a later logging call. An event acquired while the thread's event is still in use, such as by logging from within an appender
+ * or from the <code>toString()</code> method of an argument, is a new event rather than the thread's reusable event.
+ * </p>
+ * <p>
+ * Values that are costly to determine, such as the formatted message, the MDC property map, the throwable proxy, and caller data, are only determined if
+ * requested. Appenders that retain an event beyond the append call must retain a copy made using {@link #toLoggingEvent()}.
+ * </p>
+ * @author Garret Wilson
+ * @see GarbageFreeLogger
+ */
+final class ReusableLoggingEvent implements ILoggingEvent {
+
+	/** The largest number of arguments for which argument arrays are reused. */
+	private static final int MAX_REUSED_ARGUMENT_COUNT = 4;
+
+	/** The reusable event of each thread. */
+	private static final ThreadLocal<ReusableLoggingEvent> THREAD_EVENT = ThreadLocal.withInitial(ReusableLoggingEvent::new);
+
+	/** Whether the event has been acquired and not yet released. */
+	private boolean inUse = false;
+
+	/** Reusable argument arrays, indexed by length. */
+	private final Object[][] argumentArrays = new Object[MAX_REUSED_ARGUMENT_COUNT + 1][];
+
+	/** The reusable list of markers. */
+	private final List<Marker> markers = new ArrayList<>(1);
+
+	private LoggerContext loggerContext;
+
+	private String fqcn;
+
+	private String loggerName;
+
+	private Level level;
+
+	@Nullable
+	private String message;
+
+	@Nullable
+	private Object[] argumentArray;
+
+	@Nullable
+	private Throwable throwable;
+
+	@Nullable
+	private List<KeyValuePair> keyValuePairs;
+
+	private long timeStamp;
+
+	private long sequenceNumber;
+
+	private String threadName;
+
+	@Nullable
+	private String formattedMessage;
+
+	@Nullable
+	private ThrowableProxy throwableProxy;
+
+	@Nullable
+	private Map<String, String> mdcPropertyMap;
+
+	@Nullable
+	private StackTraceElement[] callerData;
+
+	/** This class cannot be publicly instantiated. */
+	private ReusableLoggingEvent() {
+	}
+
+	/**
+	 * Acquires the reusable event of the current thread, or a new event if the reusable event is already in use.
+	 * @return An event ready to be populated.
+	 */
+	static ReusableLoggingEvent acquire() {
+		ReusableLoggingEvent event = THREAD_EVENT.get();
+		if(event.inUse) {
+			event = new ReusableLoggingEvent();
+		}
+		event.inUse = true;
+		return event;
+	}
+
+	/** Releases this event so that it may be reused, discarding references to logged objects. */
+	void release() {
+		for(final Object[] arguments : argumentArrays) {
+			if(arguments != null) {
+				Arrays.fill(arguments, null);
+			}
+		}
+		markers.clear();
+		loggerContext = null;
+		message = null;
+		argumentArray = null;
+		throwable = null;
+		keyValuePairs = null;
+		formattedMessage = null;
+		throwableProxy = null;
+		mdcPropertyMap = null;
+		callerData = null;
+		inUse = false;
+	}
+
+	/**
+	 * Returns an argument array of the given length, reusing an array owned by this event if possible.
+	 * @param length The number of arguments.
+	 * @return An array of the given length, which may be an array reused by this event.
+	 */
+	Object[] getArgumentArray(final int length) {
+		if(length > MAX_REUSED_ARGUMENT_COUNT) {
+			return new Object[length];
+		}
+		Object[] arguments = argumentArrays[length];
+		if(arguments == null) {
+			arguments = new Object[length];
+			argumentArrays[length] = arguments;
+		}
+		return arguments;
+	}
+
+	/**
+	 * Populates this event for a logging call.
+	 * @param logger The Logback logger.
+	 * @param fqcn The fully qualified name of the logger class, for determining caller data.
+	 * @param level The level of the event.
+	 * @param message The message or message template.
+	 * @param argumentArray The arguments, or <code>null</code> if there are none; may be an array returned by {@link #getArgumentArray(int)}.
+	 * @param throwable The throwable, or <code>null</code> if there is none.
+	 */
+	void set(@Nonnull final Logger logger, @Nonnull final String fqcn, @Nonnull final Level level, @Nullable final String message,
+			@Nullable final Object[] argumentArray, @Nullable final Throwable throwable) {
+		this.loggerContext = logger.getLoggerContext();
+		this.fqcn = fqcn;
+		this.loggerName = logger.getName();
+		this.level = level;
+		this.message = message;
+		this.argumentArray = argumentArray;
+		this.throwable = throwable;
+		this.timeStamp = System.currentTimeMillis();
+		final SequenceNumberGenerator sequenceNumberGenerator = loggerContext.getSequenceNumberGenerator();
+		this.sequenceNumber = sequenceNumberGenerator != null ? sequenceNumberGenerator.nextSequenceNumber() : 0;
+		this.threadName = Thread.currentThread().getName();
+	}
+
+	/**
+	 * Adds a marker to the event.
+	 * @param marker The marker to add.
+	 */
+	void addMarker(@Nonnull final Marker marker) {
+		markers.add(marker);
+	}
+
+	/**
+	 * Sets the key-value pairs of the event.
+	 * @param keyValuePairs The key-value pairs, or <code>null</code> if there are none.
+	 */
+	void setKeyValuePairs(@Nullable final List<KeyValuePair> keyValuePairs) {
+		this.keyValuePairs = keyValuePairs;
+	}
+
+	@Override
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@Override
+	public Level getLevel() {
+		return level;
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public Object[] getArgumentArray() {
+		return argumentArray;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote The formatted message is determined and cached when first requested; garbage-free encoders format the message themselves from the message
+	 *           template and arguments instead.
+	 */
+	@Override
+	public String getFormattedMessage() {
+		if(formattedMessage == null) {
+			formattedMessage = argumentArray != null ? MessageFormatter.arrayFormat(message, argumentArray).getMessage() : message;
+		}
+		return formattedMessage;
+	}
+
+	@Override
+	public String getLoggerName() {
+		return loggerName;
+	}
+
+	@Override
+	public LoggerContextVO getLoggerContextVO() {
+		return loggerContext.getLoggerContextRemoteView();
+	}
+
+	@Override
+	public IThrowableProxy getThrowableProxy() {
+		if(throwableProxy == null && throwable != null) {
+			throwableProxy = new ThrowableProxy(throwable);
+			if(loggerContext.isPackagingDataEnabled()) {
+				throwableProxy.calculatePackagingData();
+			}
+		}
+		return throwableProxy;
+	}
+
+	@Override
+	public StackTraceElement[] getCallerData() {
+		if(callerData == null) {
+			callerData = CallerData.extract(new Throwable(), fqcn, loggerContext.getMaxCallerDataDepth(), loggerContext.getFrameworkPackages());
+		}
+		return callerData;
+	}
+
+	@Override
+	public boolean hasCallerData() {
+		return callerData != null;
+	}
+
+	@Override
+	public List<Marker> getMarkerList() {
+		return markers.isEmpty() ? null : markers;
+	}
+
+	@Override
+	public Map<String, String> getMDCPropertyMap() {
+		if(mdcPropertyMap == null) {
+			final MDCAdapter mdcAdapter = loggerContext.getMDCAdapter();
+			final Map<String, String> propertyMap = mdcAdapter instanceof LogbackMDCAdapter ? ((LogbackMDCAdapter)mdcAdapter).getPropertyMap()
+					: mdcAdapter != null ? mdcAdapter.getCopyOfContextMap() : null;
+			mdcPropertyMap = propertyMap != null ? propertyMap : Collections.emptyMap();
+		}
+		return mdcPropertyMap;
+	}
+
+	@Deprecated
+	@Override
+	public Map<String, String> getMdc() {
+		return getMDCPropertyMap();
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	@Override
+	public int getNanoseconds() {
+		return (int)(timeStamp % 1000) * 1_000_000;
+	}
+
+	@Override
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	@Override
+	public List<KeyValuePair> getKeyValuePairs() {
+		return keyValuePairs;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implNote As with a Logback {@link LoggingEvent}, this implementation determines the formatted message and the MDC property map. This does not allow
+	 *           the event itself to be retained, as it will be reused; see {@link #toLoggingEvent()}.
+	 */
+	@Override
+	public void prepareForDeferredProcessing() {
+		getFormattedMessage();
+		getMDCPropertyMap();
+	}
+
+	/**
+	 * Creates a copy of this event that may be retained after this event is released.
+	 * @return A new Logback logging event with the values of this event.
+	 */
+	LoggingEvent toLoggingEvent() {
+		final LoggingEvent loggingEvent = new LoggingEvent();
+		loggingEvent.setLoggerContext(loggerContext);
+		loggingEvent.setLoggerName(loggerName);
+		loggingEvent.setLevel(level);
+		loggingEvent.setMessage(message);
+		loggingEvent.setArgumentArray(argumentArray != null ? argumentArray.clone() : null);
+		loggingEvent.setThrowableProxy((ThrowableProxy)getThrowableProxy());
+		loggingEvent.setTimeStamp(timeStamp);
+		loggingEvent.setSequenceNumber(sequenceNumber);
+		loggingEvent.setThreadName(threadName);
+		loggingEvent.setMDCPropertyMap(getMDCPropertyMap());
+		markers.forEach(loggingEvent::addMarker);
+		loggingEvent.setKeyValuePairs(keyValuePairs != null ? new ArrayList<>(keyValuePairs) : null);
+		if(callerData != null) {
+			loggingEvent.setCallerData(callerData);
+		}
+		return loggingEvent;
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import javax.annotation.*;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * A logging event builder for the SLF4J fluent API that is reused for successive logging calls on the same thread, for garbage-free logging.
+ * <p>
+ * A builder is acquired for each fluent logging call and released when one of the <code>log()</code> methods is called. A builder acquired while the
+ * thread's builder is still in use, such as when a builder is retained without being logged, is a new builder rather than the thread's reusable builder.
+ * </p>
+ * <p>
+ * Adding key-value pairs allocates a {@link KeyValuePair} for each pair, and the list of key-value pairs is allocated anew for each event so that appenders
+ * may retain it.
+ * </p>
+ * @author Garret Wilson
+ * @see GarbageFreeLogger#makeLoggingEventBuilder(org.slf4j.event.Level)
+ */
+final class ReusableLoggingEventBuilder implements LoggingEventBuilder {
+
+	/** The fully qualified name of this class, for determining caller data. */
+	private static final String FQCN = ReusableLoggingEventBuilder.class.getName();
+
+	/** The initial capacity of the argument buffer. */
+	private static final int INITIAL_ARGUMENT_CAPACITY = 4;
+
+	/** The reusable builder of each thread. */
+	private static final ThreadLocal<ReusableLoggingEventBuilder> THREAD_BUILDER = ThreadLocal.withInitial(ReusableLoggingEventBuilder::new);
+
+	/** Whether the builder has been acquired and not yet released. */
+	private boolean inUse = false;
+
+	private GarbageFreeLogger logger;
+
+	private Level level;
+
+	private final List<Marker> markers = new ArrayList<>(1);
+
+	/** The buffer of arguments added so far. */
+	private Object[] arguments = new Object[INITIAL_ARGUMENT_CAPACITY];
+
+	/** The number of arguments added so far. */
+	private int argumentCount = 0;
+
+	@Nullable
+	private List<KeyValuePair> keyValuePairs = null;
+
+	@Nullable
+	private Throwable cause = null;
+
+	@Nullable
+	private String message = null;
+
+	/** This class cannot be publicly instantiated. */
+	private ReusableLoggingEventBuilder() {
+	}
+
+	/**
+	 * Acquires the reusable builder of the current thread, or a new builder if the reusable builder is already in use.
+	 * @param logger The logger to which the event will be logged.
+	 * @param level The level of the event.
+	 * @return A builder ready to be populated.
+	 */
+	static ReusableLoggingEventBuilder acquire(@Nonnull final GarbageFreeLogger logger, @Nonnull final Level level) {
+		ReusableLoggingEventBuilder builder = THREAD_BUILDER.get();
+		if(builder.inUse) {
+			builder = new ReusableLoggingEventBuilder();
+		}
+		builder.inUse = true;
+		builder.logger = requireNonNull(logger);
+		builder.level = requireNonNull(level);
+		return builder;
+	}
+
+	/** Releases this builder so that it may be reused, discarding references to logged objects. */
+	private void release() {
+		markers.clear();
+		Arrays.fill(arguments, 0, argumentCount, null);
+		argumentCount = 0;
+		keyValuePairs = null;
+		cause = null;
+		message = null;
+		logger = null;
+		inUse = false;
+	}
+
+	@Override
+	public LoggingEventBuilder setCause(final Throwable cause) {
+		this.cause = cause;
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addMarker(final Marker marker) {
+		markers.add(marker);
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addArgument(final Object arg) {
+		if(argumentCount == arguments.length) {
+			arguments = Arrays.copyOf(arguments, argumentCount * 2);
+		}
+		arguments[argumentCount++] = arg;
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addArgument(final Supplier<?> objectSupplier) {
+		return addArgument(objectSupplier.get());
+	}
+
+	@Override
+	public LoggingEventBuilder addKeyValue(final String key, final Object value) {
+		if(keyValuePairs == null) {
+			keyValuePairs = new ArrayList<>();
+		}
+		keyValuePairs.add(new KeyValuePair(key, value));
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder addKeyValue(final String key, final Supplier<Object> valueSupplier) {
+		return addKeyValue(key, valueSupplier.get());
+	}
+
+	@Override
+	public LoggingEventBuilder setMessage(final String message) {
+		this.message = message;
+		return this;
+	}
+
+	@Override
+	public LoggingEventBuilder setMessage(final Supplier<String> messageSupplier) {
+		return setMessage(messageSupplier.get());
+	}
+
+	@Override
+	public void log() {
+		final ReusableLoggingEvent event = ReusableLoggingEvent.acquire();
+		try {
+			int length = argumentCount;
+			Throwable throwable = cause;
+			if(throwable == null && length > 0 && arguments[length - 1] instanceof Throwable) {
+				throwable = (Throwable)arguments[--length];
+			}
+			Object[] argumentArray = null;
+			if(length > 0) {
+				argumentArray = event.getArgumentArray(length);
+				System.arraycopy(arguments, 0, argumentArray, 0, length);
+			}
+			logger.append(event, FQCN, level, markers, message, argumentArray, throwable, keyValuePairs);
+		} finally {
+			event.release();
+			release();
+		}
+	}
+
+	@Override
+	public void log(final String message) {
+		setMessage(message);
+		log();
+	}
+
+	@Override
+	public void log(final String format, final Object arg) {
+		setMessage(format);
+		addArgument(arg);
+		log();
+	}
+
+	@Override
+	public void log(final String format, final Object arg1, final Object arg2) {
+		setMessage(format);
+		addArgument(arg1);
+		addArgument(arg2);
+		log();
+	}
+
+	@Override
+	public void log(final String format, final Object... args) {
+		setMessage(format);
+		if(args != null) {
+			for(final Object arg : args) {
+				addArgument(arg);
+			}
+		}
+		log();
+	}
+
+	@Override
+	public void log(final Supplier<String> messageSupplier) {
+		setMessage(messageSupplier);
+		log();
+	}
+
+}
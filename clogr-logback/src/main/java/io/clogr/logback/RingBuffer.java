@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.*;
+
+/**
+ * A bounded, lock-free, preallocated ring buffer supporting multiple producers and multiple consumers.
+ * <p>
+ * Each slot of the buffer carries a sequence number indicating whether it is ready to be written or read for a particular lap around the ring, so that
+ * producers and consumers only contend on the position counters and never on a lock. Although the buffer is typically drained by a single consumer, it allows
+ * other threads to remove elements as well, for example to discard the oldest element when the buffer is full.
+ * </p>
+ * @implNote This implementation follows the bounded MPMC queue algorithm described by Dmitry Vyukov.
+ * @param <E> The type of element held in the buffer.
+ * @author Garret Wilson
+ */
+final class RingBuffer<E> {
+
+	private final int mask;
+
+	private final AtomicLongArray sequences;
+
+	private final Object[] elements;
+
+	/** The position at which the next element will be written. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** The position from which the next element will be read. */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * Capacity constructor.
+	 * @implNote The actual capacity is at least two, because with a single slot the sequence number of a slot that has been written could not be distinguished
+	 *           from that of a slot ready for writing in the next lap.
+	 * @param capacity The minimum capacity of the buffer; the actual capacity will be rounded up to a power of two, and to no less than two.
+	 * @throws IllegalArgumentException if the given capacity is not positive or is too large.
+	 */
+	RingBuffer(final int capacity) {
+		if(capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+		}
+		final int actualCapacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = actualCapacity - 1;
+		this.sequences = new AtomicLongArray(actualCapacity);
+		for(int i = 0; i < actualCapacity; i++) {
+			sequences.set(i, i);
+		}
+		this.elements = new Object[actualCapacity];
+	}
+
+	/** @return The number of elements the buffer can hold. */
+	int getCapacity() {
+		return elements.length;
+	}
+
+	/**
+	 * Returns the approximate number of elements in the buffer. The value may be out of date by the time it is returned.
+	 * @return The approximate number of elements in the buffer.
+	 */
+	int size() {
+		final long size = tail.get() - head.get();
+		return (int)Math.max(0, Math.min(size, elements.length));
+	}
+
+	/** @return The position at which the next element will be written, which is the total number of elements that have been or are being added. */
+	long getTailPosition() {
+		return tail.get();
+	}
+
+	/** @return The position from which the next element will be read, which is the total number of elements that have been removed. */
+	long getHeadPosition() {
+		return head.get();
+	}
+
+	/** @return <code>true</code> if the buffer appeared to be empty when checked. */
+	boolean isEmpty() {
+		return tail.get() == head.get();
+	}
+
+	/**
+	 * Adds an element to the buffer if there is space.
+	 * @param element The element to add.
+	 * @return <code>true</code> if the element was added, or <code>false</code> if the buffer was full.
+	 * @throws NullPointerException if the given element is <code>null</code>.
+	 */
+	boolean offer(@Nonnull final E element) {
+		requireNonNull(element);
+		long position = tail.get();
+		while(true) {
+			final int index = (int)position & mask;
+			final long difference = sequences.get(index) - position;
+			if(difference == 0) {
+				if(tail.compareAndSet(position, position + 1)) {
+					elements[index] = element;
+					sequences.set(index, position + 1); //publish the element
+					return true;
+				}
+				position = tail.get();
+			} else if(difference < 0) { //the slot has not yet been read from the previous lap
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes the oldest element from the buffer.
+	 * @return The removed element, or <code>null</code> if the buffer was empty.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	E poll() {
+		long position = head.get();
+		while(true) {
+			final int index = (int)position & mask;
+			final long difference = sequences.get(index) - (position + 1);
+			if(difference == 0) {
+				if(head.compareAndSet(position, position + 1)) {
+					final E element = (E)elements[index];
+					elements[index] = null;
+					sequences.set(index, position + mask + 1); //release the slot for the next lap
+					return element;
+				}
+				position = head.get();
+			} else if(difference < 0) { //the slot has not yet been written for this lap
+				return null;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+}
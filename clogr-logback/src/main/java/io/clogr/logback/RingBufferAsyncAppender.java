@@ -0,0 +1,788 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.Objects.*;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.*;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.*;
+import ch.qos.logback.core.spi.*;
+import io.clogr.LoggingMetricsCollector;
+
+/**
+ * An asynchronous appender that hands events off to attached appenders on a single background thread via a preallocated, lock-free ring buffer.
+ * <p>
+ * Unlike Logback's {@link ch.qos.logback.classic.AsyncAppender}, which uses a {@link java.util.concurrent.BlockingQueue}, this appender never acquires a lock when enqueuing an event.
+ * How the background thread waits for events is determined by the {@link WaitStrategy}, and what happens when the buffer is full is determined by the
+ * {@link OverflowPolicy}.
+ * </p>
+ * <p>
+ * Each appender instance has its own buffer and background thread. As each {@link LogbackLoggingConcern} is a separate {@link LoggerContext} with its own
+ * appenders, a busy logging concern therefore cannot fill the buffer of another logging concern. When the logger context is stopped or reset, this appender is
+ * stopped along with the other appenders, and it will deliver the events remaining in its buffer, waiting at most {@link #getMaxFlushTime()} milliseconds,
+ * before stopping the appenders attached to it. The attached appenders are never stopped while the background thread may still deliver events to them.
+ * </p>
+ * <p>
+ * A caller that must know when its events have reached the attached appenders, for example before requesting that they be made durable, may call
+ * {@link #flush()}.
+ * </p>
+ * <p>
+ * This appender may be configured programmatically or via Logback configuration, with attached appenders specified using <code>appender-ref</code>:
+ * </p>
+ * <pre>{@code
+ * <appender name="ASYNC" class="io.clogr.logback.RingBufferAsyncAppender">
+ *   <bufferSize>8192</bufferSize>
+ *   <waitStrategy>SLEEPING</waitStrategy>
+ *   <overflowPolicy>DROP_BELOW_LEVEL</overflowPolicy>
+ *   <deferredFormatting>true</deferredFormatting>
+ *   <argumentSnapshotPolicy>SNAPSHOT_MUTABLE</argumentSnapshotPolicy>
+ *   <immutableType>com.example.Money</immutableType>
+ *   <appender-ref ref="FILE" />
+ * </appender>
+ * }</pre>
+ * @author Garret Wilson
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+	/**
+	 * The strategy for the background thread to wait for events.
+	 * @apiNote Logging threads waiting for space in the buffer always spin briefly, then yield, then sleep for short periods, regardless of the wait strategy,
+	 *          so that they do not compete for the CPU with the background thread that would free the space.
+	 */
+	public enum WaitStrategy {
+
+		/** Parks the waiting thread until signaled. Uses the least CPU, at the cost of higher latency and of signaling from producers. */
+		BLOCKING,
+
+		/** Spins briefly, then yields, then sleeps for short periods. A good balance of CPU usage and latency; the default. */
+		SLEEPING,
+
+		/** Spins briefly, then repeatedly yields. Lower latency, at the cost of keeping a CPU busy when other threads are not runnable. */
+		YIELDING,
+
+		/** Spins continuously. Lowest latency, at the cost of dedicating a CPU to the waiting thread. */
+		BUSY_SPIN
+
+	}
+
+	/** The policy for handling an event when the buffer is full. */
+	public enum OverflowPolicy {
+
+		/** Waits until space is available in the buffer, applying backpressure to the logging thread. No events are lost. */
+		BLOCK,
+
+		/**
+		 * Discards the event if its level is below the {@link RingBufferAsyncAppender#getOverflowThreshold() overflow threshold}; otherwise waits until space is
+		 * available. The default.
+		 */
+		DROP_BELOW_LEVEL,
+
+		/** Discards the oldest event in the buffer to make room for the new event. The logging thread never waits. */
+		DROP_OLDEST
+
+	}
+
+	/**
+	 * The policy for making a snapshot of message arguments on the logging thread when {@link RingBufferAsyncAppender#isDeferredFormatting() formatting is
+	 * deferred}, so that arguments modified after the logging call do not change the logged message.
+	 */
+	public enum ArgumentSnapshotPolicy {
+
+		/** Retains all arguments as they are. Only safe if arguments are never modified after being logged; the cheapest policy. */
+		RETAIN,
+
+		/**
+		 * Retains arguments of known immutable types, such as strings, boxed primitives, enums, and <code>java.time</code> values, as well as any
+		 * {@link RingBufferAsyncAppender#addImmutableType(String) configured immutable types}; converts all other arguments to strings on the logging thread.
+		 * The default.
+		 */
+		SNAPSHOT_MUTABLE,
+
+		/** Converts all arguments to strings on the logging thread. */
+		SNAPSHOT_ALL
+
+	}
+
+	/** The default buffer size. */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/** The default maximum time in milliseconds to wait for the buffer to be flushed when stopping. */
+	public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+	/** The time in milliseconds to wait for the background thread to exit after interrupting it when the maximum flush time is exceeded. */
+	public static final long WORKER_EXIT_TIMEOUT = 1000;
+
+	/** The name of the asynchronous appender added to the root logger by {@link #enable(LoggerContext)}. */
+	public static final String ROOT_APPENDER_NAME = "clogr-async";
+
+	/** The number of times to spin before yielding or parking. */
+	private static final int SPIN_TRIES = 100;
+
+	/** The number of times to yield before sleeping, for the {@link WaitStrategy#SLEEPING} strategy. */
+	private static final int YIELD_TRIES = 100;
+
+	/** The time in nanoseconds to sleep, for the {@link WaitStrategy#SLEEPING} strategy. */
+	private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	/** The maximum time in nanoseconds to park for the {@link WaitStrategy#BLOCKING} strategy, guarding against missed signals. */
+	private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final AppenderAttachableImpl<ILoggingEvent> appenderAttachable = new AppenderAttachableImpl<>();
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	/** The pending flush requests, to be completed by the background thread. */
+	private final Queue<FlushRequest> flushRequests = new ConcurrentLinkedQueue<>();
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	/** @return The number of events the buffer holds, which will be rounded up to a power of two of at least two. */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Sets the number of events the buffer holds. Takes effect when the appender is started.
+	 * @param bufferSize The number of events the buffer holds, which will be rounded up to a power of two of at least two.
+	 */
+	public void setBufferSize(final int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	private WaitStrategy waitStrategy = WaitStrategy.SLEEPING;
+
+	/** @return The strategy for waiting for events or for space in the buffer. */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * Sets the strategy for waiting for events or for space in the buffer.
+	 * @param waitStrategy The wait strategy.
+	 */
+	public void setWaitStrategy(@Nonnull final WaitStrategy waitStrategy) {
+		this.waitStrategy = requireNonNull(waitStrategy);
+	}
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_BELOW_LEVEL;
+
+	/** @return The policy for handling an event when the buffer is full. */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * Sets the policy for handling an event when the buffer is full.
+	 * @param overflowPolicy The overflow policy.
+	 */
+	public void setOverflowPolicy(@Nonnull final OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = requireNonNull(overflowPolicy);
+	}
+
+	private Level overflowThreshold = Level.WARN;
+
+	/** @return The level below which events are discarded when the buffer is full, if the {@link OverflowPolicy#DROP_BELOW_LEVEL} policy is in effect. */
+	public Level getOverflowThreshold() {
+		return overflowThreshold;
+	}
+
+	/**
+	 * Sets the level below which events are discarded when the buffer is full, if the {@link OverflowPolicy#DROP_BELOW_LEVEL} policy is in effect.
+	 * @param overflowThreshold The overflow threshold level.
+	 */
+	public void setOverflowThreshold(@Nonnull final Level overflowThreshold) {
+		this.overflowThreshold = requireNonNull(overflowThreshold);
+	}
+
+	private boolean includeCallerData = false;
+
+	/** @return Whether caller data is extracted on the logging thread so that it is available to attached appenders. */
+	public boolean isIncludeCallerData() {
+		return includeCallerData;
+	}
+
+	/**
+	 * Sets whether caller data is extracted on the logging thread so that it is available to attached appenders.
+	 * @param includeCallerData <code>true</code> if caller data should be extracted.
+	 */
+	public void setIncludeCallerData(final boolean includeCallerData) {
+		this.includeCallerData = includeCallerData;
+	}
+
+	private boolean deferredFormatting = false;
+
+	/**
+	 * Returns whether message formatting is deferred to the background thread. If not deferred, each event is prepared for deferred processing on the logging
+	 * thread, which formats the message. If deferred, the logging thread only captures the message template, a snapshot of the arguments according to the
+	 * {@link #getArgumentSnapshotPolicy() argument snapshot policy}, and other values that could change after the logging call; the message is formatted when
+	 * an attached appender first requests it on the background thread. In either case layout, rendering of stack traces, and encoding are performed by the
+	 * attached appenders on the background thread.
+	 * @return Whether message formatting is deferred to the background thread.
+	 */
+	public boolean isDeferredFormatting() {
+		return deferredFormatting;
+	}
+
+	/**
+	 * Sets whether message formatting is deferred to the background thread.
+	 * @param deferredFormatting <code>true</code> if message formatting should be deferred.
+	 * @see #isDeferredFormatting()
+	 */
+	public void setDeferredFormatting(final boolean deferredFormatting) {
+		this.deferredFormatting = deferredFormatting;
+	}
+
+	private ArgumentSnapshotPolicy argumentSnapshotPolicy = ArgumentSnapshotPolicy.SNAPSHOT_MUTABLE;
+
+	/** @return The policy for making a snapshot of message arguments on the logging thread when formatting is deferred. */
+	public ArgumentSnapshotPolicy getArgumentSnapshotPolicy() {
+		return argumentSnapshotPolicy;
+	}
+
+	/**
+	 * Sets the policy for making a snapshot of message arguments on the logging thread when formatting is deferred.
+	 * @param argumentSnapshotPolicy The argument snapshot policy.
+	 */
+	public void setArgumentSnapshotPolicy(@Nonnull final ArgumentSnapshotPolicy argumentSnapshotPolicy) {
+		this.argumentSnapshotPolicy = requireNonNull(argumentSnapshotPolicy);
+	}
+
+	/** The names of additional classes whose instances are immutable, and are thus retained as arguments under {@link ArgumentSnapshotPolicy#SNAPSHOT_MUTABLE}. */
+	private final Set<String> immutableTypes = new CopyOnWriteArraySet<>();
+
+	/** @return The names of additional classes whose instances are immutable. */
+	public Set<String> getImmutableTypes() {
+		return Collections.unmodifiableSet(immutableTypes);
+	}
+
+	/**
+	 * Adds a class whose instances are immutable, so that arguments of exactly that class are retained rather than converted to strings under the
+	 * {@link ArgumentSnapshotPolicy#SNAPSHOT_MUTABLE} policy. May be specified multiple times in Logback configuration using <code>immutableType</code>.
+	 * @param className The fully qualified name of the immutable class.
+	 */
+	public void addImmutableType(@Nonnull final String className) {
+		immutableTypes.add(className.trim());
+	}
+
+	private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+
+	/** @return The maximum time in milliseconds to wait for the buffer to be flushed when stopping, or <code>0</code> to wait indefinitely. */
+	public int getMaxFlushTime() {
+		return maxFlushTime;
+	}
+
+	/**
+	 * Sets the maximum time to wait for the buffer to be flushed when stopping.
+	 * @param maxFlushTime The maximum time in milliseconds, or <code>0</code> to wait indefinitely.
+	 */
+	public void setMaxFlushTime(final int maxFlushTime) {
+		this.maxFlushTime = maxFlushTime;
+	}
+
+	/** The buffer, created when the appender is started. */
+	@Nullable
+	private volatile RingBuffer<ILoggingEvent> ringBuffer = null;
+
+	/** The background thread, created when the appender is started. */
+	@Nullable
+	private volatile Thread worker = null;
+
+	/** Whether the background thread should keep running; distinct from {@link #isStarted()}, which is not guaranteed to be visible across threads. */
+	private volatile boolean running = false;
+
+	/** Whether the background thread is parked waiting for events, for the {@link WaitStrategy#BLOCKING} strategy. */
+	private volatile boolean workerParked = false;
+
+	/** @return The number of events discarded because the buffer was full. */
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	/** @return The approximate number of events waiting in the buffer. */
+	public int getPendingCount() {
+		final RingBuffer<ILoggingEvent> buffer = ringBuffer;
+		return buffer != null ? buffer.size() : 0;
+	}
+
+	/**
+	 * Enables asynchronous logging with deferred formatting for a logger context, by moving the appenders attached to the root logger to a
+	 * {@link RingBufferAsyncAppender} with {@link #isDeferredFormatting() deferred formatting} attached to the root logger in their place. Logging threads then
+	 * only capture the message template, a snapshot of the arguments, and other values of each event, while message formatting, layout, rendering of stack
+	 * traces, and encoding are performed on the background thread of the asynchronous appender. The asynchronous appender has the name
+	 * {@value #ROOT_APPENDER_NAME}, and may be retrieved from the root logger to adjust its settings such as its argument snapshot policy.
+	 * @apiNote This method should be called after the logger context is configured and before logging begins; an event logged while the appenders are being
+	 *          moved may be delivered twice. Appenders attached to other loggers, and any metrics appender, are not moved.
+	 * @param loggerContext The logger context, such as that of a {@link LoggerContextLoggingConcern}.
+	 * @return <code>true</code> if asynchronous logging was enabled, or <code>false</code> if it was already enabled.
+	 */
+	public static boolean enable(@Nonnull final LoggerContext loggerContext) {
+		synchronized(loggerContext) {
+			final ch.qos.logback.classic.Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+			if(rootLogger.getAppender(ROOT_APPENDER_NAME) != null) {
+				return false;
+			}
+			final List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+			rootLogger.iteratorForAppenders().forEachRemaining(appender -> {
+				if(!(appender instanceof MetricsAppender)) { //events should be counted as they are logged
+					appenders.add(appender);
+				}
+			});
+			final RingBufferAsyncAppender asyncAppender = new RingBufferAsyncAppender();
+			asyncAppender.setContext(loggerContext);
+			asyncAppender.setName(ROOT_APPENDER_NAME);
+			asyncAppender.setDeferredFormatting(true);
+			appenders.forEach(asyncAppender::addAppender);
+			asyncAppender.start();
+			rootLogger.addAppender(asyncAppender); //attach before detaching the other appenders so that no events are lost
+			appenders.forEach(rootLogger::detachAppender);
+			return true;
+		}
+	}
+
+	/**
+	 * Requests notification once all events appended so far have been delivered to the attached appenders. Events discarded because of the overflow policy
+	 * are considered to have been delivered.
+	 * @apiNote This method does not wait; the caller may wait on the returned future, or may chain further actions such as forcing a file to the storage device.
+	 * @return A future that completes on the background thread once all events appended before this call have been delivered or discarded, or completes
+	 *         exceptionally if this appender is not started or is stopped before they are delivered.
+	 */
+	public CompletableFuture<Void> flush() {
+		final Thread worker = this.worker;
+		if(!isStarted() || worker == null) {
+			return CompletableFuture.failedFuture(new IllegalStateException("Appender `" + getName() + "` not started."));
+		}
+		final FlushRequest flushRequest = new FlushRequest(requireNonNull(ringBuffer).getTailPosition());
+		flushRequests.add(flushRequest);
+		if(!isStarted() && flushRequests.remove(flushRequest)) { //stopped concurrently, possibly after remaining requests were completed
+			flushRequest.future.completeExceptionally(new IllegalStateException("Appender `" + getName() + "` stopped."));
+		}
+		LockSupport.unpark(worker);
+		return flushRequest.future;
+	}
+
+	/**
+	 * Completes the pending flush requests for which all events have been removed from the buffer. Must only be called from the background thread when it has
+	 * finished delivering the events it removed.
+	 * @param buffer The ring buffer.
+	 */
+	private void completeFlushRequests(@Nonnull final RingBuffer<ILoggingEvent> buffer) {
+		if(flushRequests.isEmpty()) {
+			return;
+		}
+		final long headPosition = buffer.getHeadPosition();
+		final Iterator<FlushRequest> flushRequestIterator = flushRequests.iterator();
+		while(flushRequestIterator.hasNext()) {
+			final FlushRequest flushRequest = flushRequestIterator.next();
+			if(flushRequest.position <= headPosition) {
+				flushRequestIterator.remove();
+				flushRequest.future.complete(null);
+			}
+		}
+	}
+
+	/**
+	 * Fails all pending flush requests.
+	 * @param message The message of the exception with which to complete the requests.
+	 */
+	private void failFlushRequests(@Nonnull final String message) {
+		FlushRequest flushRequest;
+		while((flushRequest = flushRequests.poll()) != null) {
+			flushRequest.future.completeExceptionally(new IllegalStateException(message));
+		}
+	}
+
+	@Override
+	public void start() {
+		if(isStarted()) {
+			return;
+		}
+		if(bufferSize < 1) {
+			addError("Invalid buffer size " + bufferSize + ".");
+			return;
+		}
+		if(!appenderAttachable.iteratorForAppenders().hasNext()) {
+			addWarn("No appenders attached to " + getClass().getSimpleName() + " `" + getName() + "`.");
+		}
+		ringBuffer = new RingBuffer<>(bufferSize);
+		running = true;
+		final Thread worker = new Thread(this::drain, getClass().getSimpleName() + "-Worker-" + getName());
+		worker.setDaemon(true);
+		this.worker = worker;
+		super.start();
+		worker.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation signals the background thread to deliver the remaining events in the buffer and waits up to {@link #getMaxFlushTime()}
+	 *           milliseconds for it to finish. If the background thread is still running, it is interrupted so that it abandons the remaining events, and this
+	 *           implementation waits up to {@value #WORKER_EXIT_TIMEOUT} milliseconds more for it to exit. Only once the background thread has exited are the
+	 *           attached appenders stopped; if it does not exit, for example because an attached appender ignores interruption, the attached appenders are left
+	 *           attached and running and an error is reported.
+	 */
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		super.stop();
+		running = false;
+		final Thread worker = this.worker;
+		if(worker != null) {
+			LockSupport.unpark(worker);
+			if(!awaitWorkerExit(worker, maxFlushTime)) {
+				final int discardedCount = getPendingCount();
+				worker.interrupt();
+				if(!awaitWorkerExit(worker, WORKER_EXIT_TIMEOUT)) {
+					addError("Background thread of " + getClass().getSimpleName() + " `" + getName() + "` did not exit; leaving attached appenders running.");
+					failFlushRequests("Appender `" + getName() + "` stopped before events were delivered.");
+					return;
+				}
+				addWarn("Max flush time of " + maxFlushTime + " ms exceeded; discarded " + discardedCount + " queued events.");
+			}
+			this.worker = null;
+		}
+		failFlushRequests("Appender `" + getName() + "` stopped before events were delivered."); //any remaining requests were abandoned
+		appenderAttachable.detachAndStopAllAppenders();
+	}
+
+	/**
+	 * Waits for the background thread to exit.
+	 * @param worker The background thread.
+	 * @param timeout The maximum time to wait in milliseconds, or <code>0</code> to wait indefinitely.
+	 * @return <code>true</code> if the background thread has exited.
+	 */
+	private boolean awaitWorkerExit(@Nonnull final Thread worker, final long timeout) {
+		try {
+			worker.join(timeout);
+		} catch(final InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			addError("Interrupted while waiting for " + getClass().getSimpleName() + " to flush.", interruptedException);
+		}
+		return !worker.isAlive();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec If formatting is deferred, this implementation queues a captured copy of the event. Otherwise this implementation queues a copy of any reusable
+	 *           event from a {@link GarbageFreeLoggingConcern}, as the event will be reused once the logging call returns.
+	 */
+	@Override
+	protected void append(final ILoggingEvent loggingEvent) {
+		final RingBuffer<ILoggingEvent> buffer = ringBuffer;
+		if(buffer == null) {
+			return;
+		}
+		final ILoggingEvent event;
+		if(deferredFormatting) {
+			event = new CapturedLoggingEvent(loggingEvent, includeCallerData, this::snapshotArgument);
+		} else if(loggingEvent instanceof ReusableLoggingEvent) {
+			final ReusableLoggingEvent reusableEvent = (ReusableLoggingEvent)loggingEvent;
+			if(includeCallerData) { //extract caller data while the logging call is still on the stack
+				reusableEvent.getCallerData();
+			}
+			event = reusableEvent.toLoggingEvent();
+		} else {
+			event = loggingEvent;
+		}
+		if(!deferredFormatting) {
+			event.prepareForDeferredProcessing();
+			if(includeCallerData) {
+				event.getCallerData();
+			}
+		}
+		if(!buffer.offer(event)) {
+			handleOverflow(buffer, event);
+		}
+		if(waitStrategy == WaitStrategy.BLOCKING && workerParked) {
+			LockSupport.unpark(worker);
+		}
+	}
+
+	/**
+	 * Makes a snapshot of a message argument according to the argument snapshot policy, so that it may be safely formatted after the logging call returns.
+	 * @param argument The argument, which may be <code>null</code>.
+	 * @return The argument itself if it may be retained, or otherwise its string form as formatted by SLF4J.
+	 * @see #getArgumentSnapshotPolicy()
+	 */
+	Object snapshotArgument(@Nullable final Object argument) {
+		switch(argumentSnapshotPolicy) {
+			case RETAIN:
+				return argument;
+			case SNAPSHOT_MUTABLE:
+				return isImmutable(argument) ? argument : toSnapshot(argument);
+			case SNAPSHOT_ALL:
+				return toSnapshot(argument);
+			default:
+				throw new AssertionError("Unknown argument snapshot policy: " + argumentSnapshotPolicy);
+		}
+	}
+
+	/**
+	 * Makes a string snapshot of a message argument.
+	 * @param argument The argument, which may be <code>null</code>.
+	 * @return The string form of the argument as formatted by SLF4J, or <code>null</code> if the argument is <code>null</code>.
+	 */
+	private static String toSnapshot(@Nullable final Object argument) {
+		return argument != null ? MessageFormatter.basicArrayFormat("{}", new Object[] {argument}) : null;
+	}
+
+	/**
+	 * Determines whether an argument is known to be immutable, either because it is <code>null</code>, of a standard immutable type, or of a configured
+	 * immutable type.
+	 * @param argument The argument, which may be <code>null</code>.
+	 * @return <code>true</code> if the argument is known to be immutable.
+	 * @see #addImmutableType(String)
+	 */
+	private boolean isImmutable(@Nullable final Object argument) {
+		if(argument == null || argument instanceof String || argument instanceof Number && argument.getClass().getPackageName().equals("java.lang")
+				|| argument instanceof Boolean || argument instanceof Character || argument instanceof Enum || argument instanceof UUID
+				|| argument.getClass() == BigDecimal.class || argument.getClass() == BigInteger.class || argument instanceof Class) {
+			return true;
+		}
+		final Class<?> argumentClass = argument.getClass();
+		return argumentClass.getPackageName().equals("java.time") || (!immutableTypes.isEmpty() && immutableTypes.contains(argumentClass.getName()));
+	}
+
+	/**
+	 * Handles an event that could not be added to the buffer because the buffer was full, according to the overflow policy.
+	 * @param buffer The buffer.
+	 * @param event The event to add.
+	 */
+	private void handleOverflow(@Nonnull final RingBuffer<ILoggingEvent> buffer, @Nonnull final ILoggingEvent event) {
+		switch(overflowPolicy) {
+			case DROP_OLDEST:
+				do {
+					if(buffer.poll() != null) {
+						recordDropped();
+					}
+				} while(!buffer.offer(event));
+				break;
+			case DROP_BELOW_LEVEL:
+				if(event.getLevel().isGreaterOrEqual(overflowThreshold)) {
+					offerBlocking(buffer, event);
+				} else {
+					recordDropped();
+				}
+				break;
+			case BLOCK:
+				offerBlocking(buffer, event);
+				break;
+			default:
+				throw new AssertionError("Unknown overflow policy: " + overflowPolicy);
+		}
+	}
+
+	/**
+	 * Adds an event to the buffer, waiting for space to become available. The event is discarded instead if the calling thread is the background thread, which
+	 * would wait forever for itself, or if the appender stops while waiting.
+	 * @param buffer The buffer.
+	 * @param event The event to add.
+	 */
+	private void offerBlocking(@Nonnull final RingBuffer<ILoggingEvent> buffer, @Nonnull final ILoggingEvent event) {
+		if(Thread.currentThread() == worker) { //an attached appender logging to this appender would wait forever
+			recordDropped();
+			return;
+		}
+		int tries = 0;
+		while(!buffer.offer(event)) {
+			if(!running) { //don't wait for a buffer that will never be drained
+				recordDropped();
+				return;
+			}
+			if(workerParked) {
+				LockSupport.unpark(worker);
+			}
+			tries = backOff(tries);
+		}
+	}
+
+	/** Records that an event was discarded, reporting it to the logging metrics of the logging concern if enabled. */
+	private void recordDropped() {
+		droppedCount.increment();
+		LogbackLoggingConcern.findMetricsCollector(getContext()).ifPresent(LoggingMetricsCollector::recordDroppedEvent);
+	}
+
+	/**
+	 * Delivers an event to the attached appenders, reporting the time taken to the logging metrics of the logging concern if enabled.
+	 * @param event The event to deliver.
+	 */
+	private void deliver(@Nonnull final ILoggingEvent event) {
+		final LoggingMetricsCollector metricsCollector = LogbackLoggingConcern.findMetricsCollector(getContext()).orElse(null);
+		if(metricsCollector == null) {
+			appenderAttachable.appendLoopOnAppenders(event);
+			return;
+		}
+		final long startNanos = System.nanoTime();
+		appenderAttachable.appendLoopOnAppenders(event);
+		metricsCollector.recordAppenderLatency(System.nanoTime() - startNanos);
+	}
+
+	/** Delivers events from the buffer to the attached appenders until the appender is stopped and the buffer is empty. */
+	private void drain() {
+		final RingBuffer<ILoggingEvent> buffer = requireNonNull(ringBuffer);
+		int tries = 0;
+		while(true) {
+			if(Thread.currentThread().isInterrupted()) { //abandoned by stop() after the maximum flush time
+				break;
+			}
+			final ILoggingEvent event = buffer.poll();
+			if(event != null) {
+				tries = 0;
+				deliver(event);
+				completeFlushRequests(buffer);
+				continue;
+			}
+			completeFlushRequests(buffer);
+			if(!running) {
+				if(buffer.isEmpty()) {
+					break;
+				}
+				Thread.onSpinWait(); //a producer has claimed a slot but not yet published it
+				continue;
+			}
+			if(waitStrategy == WaitStrategy.BLOCKING && tries >= SPIN_TRIES) {
+				workerParked = true;
+				if(buffer.isEmpty() && running) { //recheck after advertising that we are parking, so that no signal is missed
+					LockSupport.parkNanos(this, PARK_NANOS);
+				}
+				workerParked = false;
+			} else {
+				tries = idle(tries);
+			}
+		}
+	}
+
+	/**
+	 * Waits briefly for space in the buffer, spinning, then yielding, then sleeping.
+	 * @param tries The number of consecutive times the calling thread has waited.
+	 * @return The updated number of tries.
+	 */
+	private static int backOff(final int tries) {
+		if(tries < SPIN_TRIES) {
+			Thread.onSpinWait();
+		} else if(tries < SPIN_TRIES + YIELD_TRIES) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(SLEEP_NANOS);
+			return tries;
+		}
+		return tries + 1;
+	}
+
+	/**
+	 * Waits briefly for events according to the wait strategy.
+	 * @param tries The number of consecutive times the calling thread has waited.
+	 * @return The updated number of tries.
+	 */
+	private int idle(final int tries) {
+		switch(waitStrategy) {
+			case BUSY_SPIN:
+				Thread.onSpinWait();
+				return tries;
+			case YIELDING:
+				if(tries < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else {
+					Thread.yield();
+				}
+				return tries + 1;
+			case SLEEPING:
+				return backOff(tries);
+			case BLOCKING:
+				if(tries < SPIN_TRIES) {
+					Thread.onSpinWait();
+				} else {
+					LockSupport.parkNanos(SLEEP_NANOS);
+					return tries;
+				}
+				return tries + 1;
+			default:
+				throw new AssertionError("Unknown wait strategy: " + waitStrategy);
+		}
+	}
+
+	@Override
+	public void addAppender(final Appender<ILoggingEvent> newAppender) {
+		appenderAttachable.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenderAttachable.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(final String name) {
+		return appenderAttachable.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(final Appender<ILoggingEvent> appender) {
+		return appenderAttachable.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenderAttachable.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(final Appender<ILoggingEvent> appender) {
+		return appenderAttachable.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(final String name) {
+		return appenderAttachable.detachAppender(name);
+	}
+
+	/**
+	 * A request for notification once all events appended up to some position have been delivered.
+	 * @author Garret Wilson
+	 */
+	private static final class FlushRequest {
+
+		/** The position in the buffer up to which events must be delivered. */
+		final long position;
+
+		/** The future to complete once the events are delivered. */
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		/**
+		 * Constructor.
+		 * @param position The position up to which events must be delivered.
+		 */
+		FlushRequest(final long position) {
+			this.position = position;
+		}
+
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import java.io.*;
+
+import javax.annotation.*;
+
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Encoder that can write an encoded event directly to an output stream from a reusable buffer, without allocating a byte array for each event.
+ * <p>
+ * Appenders such as {@link GarbageFreeFileAppender} and {@link MemoryMappedFileAppender} call {@link #encode(Object, OutputStream)} if their encoder
+ * implements this interface, and otherwise fall back to {@link #encode(Object)}.
+ * </p>
+ * @param <E> The type of event encoded.
+ * @author Garret Wilson
+ * @see GarbageFreeEncoder
+ * @see JsonEncoder
+ */
+public interface StreamingEncoder<E> extends Encoder<E> {
+
+	/**
+	 * Encodes an event, writing the encoded bytes to the given output stream using a single write call.
+	 * @apiNote Because the encoded event is written using a single write call, an appender may write it atomically by locking within the output stream. This
+	 *          method may be called concurrently from several threads.
+	 * @param event The event to encode.
+	 * @param outputStream The output stream to which to write the encoded event.
+	 * @throws IOException if an error occurs writing to the output stream.
+	 */
+	public void encode(@Nonnull E event, @Nonnull OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.*;
+
+/**
+ * Tests for {@link BinaryEncoder}, {@link BinaryFileAppender}, and {@link BinaryLogDecoder}.
+ * @author Garret Wilson
+ */
+public class BinaryEncoderTest {
+
+	/**
+	 * Adds a binary file appender to the root logger of a logging concern, setting the root logger to the <code>INFO</code> level.
+	 * @param loggingConcern The Logback logging concern to configure.
+	 * @param file The log file.
+	 */
+	private static void addBinaryFileAppender(final LogbackLoggingConcern loggingConcern, final Path file) {
+		final BinaryEncoder encoder = new BinaryEncoder();
+		encoder.setContext(loggingConcern);
+		encoder.start();
+		final BinaryFileAppender appender = new BinaryFileAppender();
+		appender.setContext(loggingConcern);
+		appender.setName("binary");
+		appender.setFile(file.toString());
+		appender.setEncoder(encoder);
+		appender.start();
+		loggingConcern.getRootLogger().addAppender(appender);
+		loggingConcern.getRootLogger().setLevel(Level.INFO);
+	}
+
+	/**
+	 * Decodes all the events in a binary log file.
+	 * @param file The binary log file.
+	 * @return The decoded events.
+	 */
+	private static List<BinaryLogDecoder.Event> decode(final Path file) throws IOException {
+		final List<BinaryLogDecoder.Event> events = new ArrayList<>();
+		try (final BinaryLogDecoder decoder = new BinaryLogDecoder(Files.newInputStream(file))) {
+			BinaryLogDecoder.Event event;
+			while((event = decoder.next()) != null) {
+				events.add(event);
+			}
+		}
+		return events;
+	}
+
+	/** Tests that events written by a binary file appender decode to the same text as written by {@link GarbageFreeEncoder}. */
+	@Test
+	public void testRoundTrip(@TempDir final Path tempDir) throws IOException {
+		final Path file = tempDir.resolve("test.clogb");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		addBinaryFileAppender(loggingConcern, file);
+		final Logger logger = loggingConcern.getLogger(BinaryEncoderTest.class);
+		logger.info("none");
+		logger.info("numbers {} {} {} {} {}", 1, -200L, (short)3, 1.5, 2.5f);
+		logger.warn("others {} {} {} {} {}", true, 'c', null, "\u00E9\uD83D\uDE00", new int[] {1, 2});
+		logger.info("numbers {} {} {} {} {}", Integer.MAX_VALUE, Long.MIN_VALUE, (byte)-1, Double.NaN, -0.0f);
+		logger.error("failed {}", "x", new IllegalStateException("bad"));
+		logger.debug("disabled {}", 1);
+		loggingConcern.stop();
+		final List<BinaryLogDecoder.Event> events = decode(file);
+		assertThat(events, hasSize(5));
+		final String thread = Thread.currentThread().getName();
+		final String prefix = " [" + thread + "] " + BinaryEncoderTest.class.getName() + " - ";
+		final List<String> lines = new ArrayList<>();
+		for(final BinaryLogDecoder.Event event : events) {
+			final StringBuilder text = new StringBuilder();
+			BinaryLogDecoder.appendText(text, event);
+			lines.add(text.toString().substring(25));
+		}
+		assertThat(lines.subList(0, 4),
+				contains("INFO " + prefix + "none" + System.lineSeparator(), "INFO " + prefix + "numbers 1 -200 3 1.5 2.5" + System.lineSeparator(),
+						"WARN " + prefix + "others true c null \u00E9\uD83D\uDE00 [1, 2]" + System.lineSeparator(),
+						"INFO " + prefix + "numbers 2147483647 -9223372036854775808 -1 NaN -0.0" + System.lineSeparator()));
+		assertThat(lines.get(4), startsWith("ERROR" + prefix + "failed x" + System.lineSeparator() + "java.lang.IllegalStateException: bad"));
+		assertThat(Arrays.asList(events.get(1).getArguments()), contains(1L, -200L, 3L, 1.5, 2.5f));
+		assertThat(events.get(0).getTimestamp(), is(lessThanOrEqualTo(events.get(4).getTimestamp())));
+	}
+
+	/** Tests that repeated strings are written once per file, and that a header reset allows an appended file to be decoded. */
+	@Test
+	public void testDictionaries(@TempDir final Path tempDir) throws IOException {
+		final BinaryEncoder encoder = new BinaryEncoder();
+		final LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.INFO);
+		event.setLoggerName("io.clogr.test.Logger");
+		event.setThreadName("main");
+		event.setMessage("value {}");
+		event.setArgumentArray(new Object[] {42});
+		event.setTimeStamp(1_767_322_245_678L);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		for(int segment = 0; segment < 2; segment++) {
+			bytes.write(encoder.headerBytes());
+			final byte[] first = encoder.encode(event);
+			final byte[] second = encoder.encode(event);
+			assertThat(second.length, is(lessThan(first.length - event.getLoggerName().length())));
+			assertThat(second.length, is(lessThanOrEqualTo(10)));
+			bytes.write(first);
+			bytes.write(second);
+		}
+		final Path file = tempDir.resolve("test.clogb");
+		Files.write(file, bytes.toByteArray());
+		final List<BinaryLogDecoder.Event> events = decode(file);
+		assertThat(events, hasSize(4));
+		for(final BinaryLogDecoder.Event decodedEvent : events) {
+			assertThat(decodedEvent.getLoggerName(), is("io.clogr.test.Logger"));
+			assertThat(decodedEvent.getThreadName(), is("main"));
+			assertThat(decodedEvent.getMessage(), is("value {}"));
+			assertThat(decodedEvent.getTimestamp(), is(1_767_322_245_678L));
+			assertThat(Arrays.asList(decodedEvent.getArguments()), contains(42L));
+		}
+	}
+
+	/** Tests conversion of decoded events to JSON in the layout of {@link JsonEncoder}. */
+	@Test
+	public void testJson(@TempDir final Path tempDir) throws IOException {
+		final BinaryEncoder encoder = new BinaryEncoder();
+		final LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.WARN);
+		event.setLoggerName("test");
+		event.setThreadName("t\"1");
+		event.setMessage("a {} b {} c {} d {}");
+		event.setArgumentArray(new Object[] {7, "x\ny", false, Double.POSITIVE_INFINITY});
+		event.setTimeStamp(0);
+		final Path file = tempDir.resolve("test.clogb");
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(encoder.headerBytes());
+		bytes.write(encoder.encode(event));
+		Files.write(file, bytes.toByteArray());
+		final StringBuilder json = new StringBuilder();
+		BinaryLogDecoder.appendJson(json, decode(file).get(0));
+		assertThat(json.toString(),
+				is("{\"timestamp\":\"1970-01-01T00:00:00.000Z\",\"level\":\"WARN\",\"thread\":\"t\\\"1\",\"logger\":\"test\",\"message\":\"a 7 b x\\ny c false d Infinity\"}"
+						+ System.lineSeparator()));
+	}
+
+	/** Tests that the stack trace of a decoded event is converted to JSON using the same property name as {@link JsonEncoder}. */
+	@Test
+	public void testJsonStackTrace(@TempDir final Path tempDir) throws IOException {
+		final BinaryEncoder encoder = new BinaryEncoder();
+		final LoggingEvent event = new LoggingEvent();
+		event.setLevel(Level.ERROR);
+		event.setLoggerName("test");
+		event.setThreadName("main");
+		event.setMessage("failed");
+		event.setThrowableProxy(new ThrowableProxy(new IllegalStateException("bad")));
+		event.setTimeStamp(0);
+		final Path file = tempDir.resolve("test.clogb");
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(encoder.headerBytes());
+		bytes.write(encoder.encode(event));
+		Files.write(file, bytes.toByteArray());
+		final StringBuilder json = new StringBuilder();
+		BinaryLogDecoder.appendJson(json, decode(file).get(0));
+		assertThat(json.toString(), startsWith("{\"timestamp\":\"1970-01-01T00:00:00.000Z\",\"level\":\"ERROR\",\"thread\":\"main\",\"logger\":\"test\","
+				+ "\"message\":\"failed\",\"stackTrace\":\"java.lang.IllegalStateException: bad"));
+	}
+
+	/** Tests that input that is not a binary log is rejected. */
+	@Test
+	public void testInvalidInput() {
+		final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream("text".getBytes(UTF_8)));
+		Assertions.assertThrows(IOException.class, decoder::next);
+	}
+
+}
@@ -20,8 +20,12 @@
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
 import org.junit.jupiter.api.*;
-import org.slf4j.LoggerFactory;
+import org.slf4j.*;
 
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -33,7 +37,6 @@
  * Tests for {@link ClogrContextSelector}.
  * @author Garret Wilson
  */
-@Disabled("As of Logback 1.3.0-alpha4 Logback no longer supports the `ContextSelector` mechanism for logging separation.")
 public class ClogrContextSelectorTest {
 
 	/**
@@ -45,6 +48,7 @@ public class ClogrContextSelectorTest {
 	 * @see LogbackLoggingConcernTest#testCsarRunSingleThread()
 	 */
 	@Test
+	@Disabled("As of Logback 1.3.0-alpha4 Logback no longer supports the `ContextSelector` mechanism for logging separation.")
 	public void testCsarRunSingleThread() throws InterruptedException {
 
 		System.setProperty(LOGBACK_CONTEXT_SELECTOR, ClogrContextSelector.class.getName());
@@ -76,4 +80,151 @@ public void testCsarRunSingleThread() throws InterruptedException {
 
 	}
 
+	/**
+	 * Tests that named contexts are created lazily, returned consistently, and may be detached.
+	 * @see ClogrContextSelector#getLoggerContext(String)
+	 * @see ClogrContextSelector#detachLoggerContext(String)
+	 */
+	@Test
+	public void testNamedContexts() {
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(new LoggerContext());
+		assertThat(contextSelector.getContextNames(), is(empty()));
+		final LoggerContext fooContext = contextSelector.getLoggerContext("foo");
+		assertThat(fooContext, is(instanceOf(LogbackLoggingConcern.class)));
+		assertThat(fooContext.getName(), is("foo"));
+		assertThat(contextSelector.getLoggerContext("foo"), is(sameInstance(fooContext)));
+		final LoggerContext barContext = contextSelector.getLoggerContext("bar");
+		assertThat(barContext, is(not(sameInstance(fooContext))));
+		assertThat(contextSelector.getContextNames(), containsInAnyOrder("foo", "bar"));
+		assertThat(contextSelector.detachLoggerContext("foo"), is(sameInstance(fooContext)));
+		assertThat(contextSelector.detachLoggerContext("foo"), is(nullValue()));
+		assertThat(contextSelector.getContextNames(), contains("bar"));
+	}
+
+	/**
+	 * Tests that the least recently requested named contexts are evicted and stopped when the maximum context count is exceeded.
+	 * @see ClogrContextSelector#setMaxContextCount(int)
+	 */
+	@Test
+	public void testEvictLeastRecentlyRequested() throws InterruptedException {
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(new LoggerContext());
+		contextSelector.setMaxContextCount(2);
+		final LoggerContext fooContext = contextSelector.getLoggerContext("foo");
+		final ListAppender<ILoggingEvent> fooAppender = new ListAppender<>();
+		fooAppender.setContext(fooContext);
+		fooAppender.start();
+		fooContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(fooAppender);
+		Thread.sleep(1);
+		contextSelector.getLoggerContext("bar");
+		Thread.sleep(1);
+		contextSelector.getLoggerContext("foo"); //`bar` is now least recently requested
+		Thread.sleep(1);
+		contextSelector.getLoggerContext("baz");
+		await(() -> contextSelector.getContextNames().size() == 2);
+		assertThat(contextSelector.getContextNames(), containsInAnyOrder("foo", "baz"));
+		Thread.sleep(1);
+		contextSelector.getLoggerContext("bar");
+		await(() -> contextSelector.getContextNames().size() == 2 && !fooAppender.isStarted());
+		assertThat(contextSelector.getContextNames(), containsInAnyOrder("baz", "bar"));
+		assertThat(fooAppender.isStarted(), is(false));
+	}
+
+	/**
+	 * Tests that idle named contexts are evicted.
+	 * @see ClogrContextSelector#setIdleTimeout(Duration)
+	 * @see ClogrContextSelector#evictContexts()
+	 */
+	@Test
+	public void testEvictIdle() throws InterruptedException {
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(new LoggerContext());
+		contextSelector.setIdleTimeout(Duration.ofMillis(50));
+		contextSelector.getLoggerContext("foo");
+		contextSelector.getLoggerContext("bar");
+		assertThat(contextSelector.evictContexts(), is(empty()));
+		Thread.sleep(100);
+		contextSelector.getLoggerContext("bar");
+		assertThat(contextSelector.evictContexts(), contains("foo"));
+		assertThat(contextSelector.getContextNames(), contains("bar"));
+	}
+
+	/**
+	 * Tests that idle named contexts are evicted in the background without any further requests.
+	 * @see ClogrContextSelector#setEvictionInterval(Duration)
+	 */
+	@Test
+	public void testEvictIdleInBackground() throws InterruptedException {
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(new LoggerContext());
+		contextSelector.setIdleTimeout(Duration.ofMillis(50));
+		contextSelector.setEvictionInterval(Duration.ofMillis(10));
+		final LoggerContext fooContext = contextSelector.getLoggerContext("foo");
+		final ListAppender<ILoggingEvent> fooAppender = new ListAppender<>();
+		fooAppender.setContext(fooContext);
+		fooAppender.start();
+		fooContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(fooAppender);
+		await(() -> contextSelector.getContextNames().isEmpty() && !fooAppender.isStarted());
+		assertThat(contextSelector.getContextNames(), is(empty()));
+		assertThat(fooAppender.isStarted(), is(false));
+	}
+
+	/**
+	 * Tests that background eviction ends when the default logger context is stopped, and resumes on the new executor of the default logger context when
+	 * another named context is created.
+	 * @see LoggerContext#getScheduledExecutorService()
+	 */
+	@Test
+	public void testEvictionFollowsDefaultContextExecutor() throws InterruptedException {
+		final LoggerContext defaultLoggerContext = new LoggerContext();
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(defaultLoggerContext);
+		contextSelector.setIdleTimeout(Duration.ofMillis(50));
+		contextSelector.setEvictionInterval(Duration.ofMillis(10));
+		contextSelector.getLoggerContext("foo");
+		defaultLoggerContext.stop();
+		Thread.sleep(200);
+		assertThat(contextSelector.getContextNames(), contains("foo"));
+		contextSelector.getLoggerContext("bar");
+		await(() -> contextSelector.getContextNames().isEmpty());
+		defaultLoggerContext.stop();
+	}
+
+	/**
+	 * Waits up to five seconds for background eviction to bring about some condition, failing if it does not.
+	 * @param condition The condition to wait for.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	private static void await(final BooleanSupplier condition) throws InterruptedException {
+		final long deadline = System.nanoTime() + 5_000_000_000L;
+		while(!condition.getAsBoolean()) {
+			if(System.nanoTime() >= deadline) {
+				Assertions.fail("Timed out waiting for background eviction.");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * Tests that the current logger context follows the current logging concern, falling back to the default logger context for a logging concern that is not
+	 * backed by Logback.
+	 * @see ClogrContextSelector#getLoggerContext()
+	 */
+	@Test
+	public void testGetLoggerContextFollowsConcern() throws InterruptedException {
+		final LoggerContext defaultLoggerContext = new LoggerContext();
+		final ClogrContextSelector contextSelector = new ClogrContextSelector(defaultLoggerContext);
+		Clogr.setDefaultLoggingConcern(LoggingConcern.DEFAULT);
+		assertThat(contextSelector.getLoggerContext(), is(sameInstance(defaultLoggerContext)));
+
+		final LogbackLoggingConcern defaultLoggingConcern = new LogbackLoggingConcern();
+		Clogr.setDefaultLoggingConcern(defaultLoggingConcern);
+		assertThat(contextSelector.getLoggerContext(), is(sameInstance(defaultLoggingConcern)));
+		assertThat(contextSelector.getLoggerContext(), is(sameInstance(defaultLoggingConcern)));
+
+		final LogbackLoggingConcern localLoggingConcern = new LogbackLoggingConcern();
+		final AtomicReference<LoggerContext> localLoggerContext = new AtomicReference<>();
+		Csar.run(() -> {
+			localLoggerContext.set(contextSelector.getLoggerContext());
+		}, localLoggingConcern).join();
+		assertThat(localLoggerContext.get(), is(sameInstance(localLoggingConcern)));
+		assertThat(contextSelector.getLoggerContext(), is(sameInstance(defaultLoggingConcern)));
+	}
+
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.*;
+import java.util.Map;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.joran.spi.JoranException;
+
+/**
+ * Tests of {@link ConfigurationModelCache} and {@link ConfigurationModel}.
+ * @author Garret Wilson
+ */
+public class ConfigurationModelCacheTest {
+
+	/** A configuration template with a logger and appender varying by tenant. */
+	private static final byte[] TEMPLATE = ("<configuration>\n" //
+			+ "  <appender name=\"LIST-${tenant}\" class=\"ch.qos.logback.core.read.ListAppender\" />\n" //
+			+ "  <logger name=\"tenant.${tenant}\" level=\"DEBUG\" />\n" //
+			+ "  <root level=\"WARN\"><appender-ref ref=\"LIST-${tenant}\" /></root>\n" //
+			+ "</configuration>\n").getBytes(UTF_8);
+
+	/**
+	 * Verifies that a model is parsed once and can be applied to multiple logging concerns with different properties.
+	 * @see ConfigurationModelCache#getModel(byte[])
+	 * @see LogbackLoggingConcern#configure(ConfigurationModel, Map)
+	 */
+	@Test
+	public void testModelAppliedToMultipleConcerns() throws Exception {
+		final ConfigurationModelCache cache = new ConfigurationModelCache();
+		final ConfigurationModel model = cache.getModel(TEMPLATE);
+		assertThat(cache.getModel(TEMPLATE.clone()), is(sameInstance(model)));
+		assertThat(cache.size(), is(1));
+		for(final String tenant : new String[] {"foo", "bar"}) {
+			final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern().configure(model, Map.of("tenant", tenant));
+			try {
+				assertThat(loggingConcern.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("LIST-" + tenant), is(notNullValue()));
+				assertThat(loggingConcern.getLogger(Logger.ROOT_LOGGER_NAME).getLevel(), is(Level.WARN));
+				assertThat(loggingConcern.getLogger("tenant." + tenant).getLevel(), is(Level.DEBUG));
+			} finally {
+				loggingConcern.stop();
+			}
+		}
+	}
+
+	/** Verifies that a model stored in the cache directory is used by a new cache. */
+	@Test
+	public void testModelStoredInDirectory(@TempDir final Path tempDir) throws Exception {
+		final ConfigurationModel model = new ConfigurationModelCache(tempDir).getModel(TEMPLATE);
+		final Path modelFile = tempDir.resolve(model.getKey() + "." + ConfigurationModelCache.MODEL_FILENAME_EXTENSION);
+		assertThat(Files.isRegularFile(modelFile), is(true));
+		final ConfigurationModel storedModel = new ConfigurationModelCache(tempDir).getModel(TEMPLATE);
+		assertThat(storedModel, is(not(sameInstance(model))));
+		assertThat(storedModel.getKey(), is(model.getKey()));
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern().configure(storedModel, Map.of("tenant", "foo"));
+		try {
+			assertThat(loggingConcern.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("LIST-foo"), is(notNullValue()));
+		} finally {
+			loggingConcern.stop();
+		}
+		Files.write(modelFile, new byte[] {1, 2, 3}); //a corrupt stored model is parsed again and replaced
+		assertThat(new ConfigurationModelCache(tempDir).getModel(TEMPLATE).getKey(), is(model.getKey()));
+		assertThat(Files.size(modelFile), is(greaterThan(3L)));
+	}
+
+	/**
+	 * Verifies that errors reported while parsing a configuration result in an exception rather than a cached model.
+	 * @see ConfigurationModelCache#getModel(byte[])
+	 */
+	@Test
+	public void testParseErrorsReported() {
+		final ConfigurationModelCache cache = new ConfigurationModelCache();
+		final byte[] configuration = "<configuration><root level=\"WARN\"></configuration>".getBytes(UTF_8);
+		final JoranException joranException = assertThrows(JoranException.class, () -> cache.getModel(configuration));
+		assertThat(joranException.getMessage(), containsString("must be terminated"));
+		assertThat(cache.size(), is(0));
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.concurrent.atomic.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Tests of {@link ConfigurationWatcher}.
+ * @author Garret Wilson
+ */
+public class ConfigurationWatcherTest {
+
+	/**
+	 * Writes a Logback configuration with a single list appender on the root logger.
+	 * @param path The path to the configuration file.
+	 * @param appenderName The name of the list appender.
+	 * @param level The level of the root logger.
+	 * @throws IOException if there is an error writing the file.
+	 */
+	private static void writeConfiguration(final Path path, final String appenderName, final String level) throws IOException {
+		final Path tempFile = Files.createTempFile(path.getParent(), "logback", ".tmp");
+		Files.writeString(tempFile, "<configuration>\n" //
+				+ "  <appender name=\"" + appenderName + "\" class=\"ch.qos.logback.core.read.ListAppender\" />\n" //
+				+ "  <root level=\"" + level + "\"><appender-ref ref=\"" + appenderName + "\" /></root>\n" //
+				+ "</configuration>\n");
+		Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Returns the list appender with the given name from the root logger of a logger context.
+	 * @param loggerContext The logger context.
+	 * @param appenderName The name of the appender.
+	 * @return The list appender.
+	 */
+	@SuppressWarnings("unchecked")
+	private static ListAppender<ILoggingEvent> getListAppender(final LoggerContext loggerContext, final String appenderName) {
+		return (ListAppender<ILoggingEvent>)loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(appenderName);
+	}
+
+	/**
+	 * Verifies that reloading switches appenders and levels without losing or duplicating events logged concurrently.
+	 * @see ConfigurationWatcher#reload()
+	 */
+	@Test
+	public void testReloadLosesNoEvents(@TempDir final Path tempDir) throws Exception {
+		final Path configurationFile = tempDir.resolve("logback.xml");
+		writeConfiguration(configurationFile, "BEFORE", "INFO");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		try (final ConfigurationWatcher watcher = loggingConcern.watchConfiguration(configurationFile, Duration.ofDays(1))) {
+			final LoggerContext initialStagedContext = watcher.getStagedLoggerContext();
+			final Logger logger = loggingConcern.getLogger(ConfigurationWatcherTest.class);
+			assertThat(logger.isDebugEnabled(), is(false));
+			final AtomicBoolean done = new AtomicBoolean(false);
+			final AtomicLong loggedCount = new AtomicLong();
+			final Thread loggingThread = new Thread(() -> {
+				while(!done.get()) {
+					logger.info("Event {}.", loggedCount.incrementAndGet());
+				}
+			});
+			loggingThread.start();
+			Thread.sleep(50);
+			writeConfiguration(configurationFile, "AFTER", "DEBUG");
+			assertThat(watcher.reload(), is(true));
+			Thread.sleep(50);
+			done.set(true);
+			loggingThread.join();
+			assertThat(logger.isDebugEnabled(), is(true));
+			final int beforeCount = getListAppender(initialStagedContext, "BEFORE").list.size();
+			final int afterCount = getListAppender(watcher.getStagedLoggerContext(), "AFTER").list.size();
+			assertThat(beforeCount, is(greaterThan(0)));
+			assertThat(afterCount, is(greaterThan(0)));
+			assertThat((long)beforeCount + afterCount, is(loggedCount.get()));
+		} finally {
+			loggingConcern.stop();
+		}
+	}
+
+	/** Verifies that an invalid configuration leaves the current configuration in effect. */
+	@Test
+	public void testInvalidConfigurationIgnored(@TempDir final Path tempDir) throws Exception {
+		final Path configurationFile = tempDir.resolve("logback.xml");
+		writeConfiguration(configurationFile, "LIST", "INFO");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		try (final ConfigurationWatcher watcher = loggingConcern.watchConfiguration(configurationFile, Duration.ofDays(1))) {
+			final LoggerContext stagedContext = watcher.getStagedLoggerContext();
+			Files.writeString(configurationFile, "<configuration>\n" //
+					+ "  <appender name=\"BAD\" class=\"does.not.Exist\" />\n" //
+					+ "  <root level=\"DEBUG\"><appender-ref ref=\"BAD\" /></root>\n" //
+					+ "</configuration>\n");
+			assertThat(watcher.reload(), is(false));
+			assertThat(watcher.getStagedLoggerContext(), is(sameInstance(stagedContext)));
+			loggingConcern.getLogger(ConfigurationWatcherTest.class).info("test");
+			assertThat(getListAppender(stagedContext, "LIST").list, hasSize(1));
+		} finally {
+			loggingConcern.stop();
+		}
+	}
+
+	/** Verifies that a change to the configuration file is detected and the configuration reloaded. */
+	@Test
+	public void testFileChangeReloads(@TempDir final Path tempDir) throws Exception {
+		final Path configurationFile = tempDir.resolve("logback.xml");
+		writeConfiguration(configurationFile, "BEFORE", "INFO");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		try (final ConfigurationWatcher watcher = loggingConcern.watchConfiguration(configurationFile, Duration.ofMillis(50))) {
+			assertThat(watcher.getReloadCount(), is(1L));
+			writeConfiguration(configurationFile, "AFTER", "DEBUG");
+			final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+			while(watcher.getReloadCount() == 1L && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(watcher.getReloadCount(), is(2L));
+			assertThat(getListAppender(watcher.getStagedLoggerContext(), "AFTER"), is(notNullValue()));
+		} finally {
+			loggingConcern.stop();
+		}
+	}
+
+}
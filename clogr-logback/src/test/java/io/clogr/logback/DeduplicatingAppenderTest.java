@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.Duration;
+
+/**
+ * Tests for {@link DeduplicatingAppender}.
+ * @author Garret Wilson
+ */
+public class DeduplicatingAppenderTest {
+
+	/**
+	 * Creates and starts a deduplicating appender attached to the root logger of the given logging concern, delivering to the given list appender.
+	 * @param loggingConcern The logging concern.
+	 * @param listAppender The appender to which to deliver events; will be started.
+	 * @param window The deduplication window.
+	 * @param tableSize The number of slots in the fingerprint table.
+	 * @return The started deduplicating appender.
+	 */
+	private static DeduplicatingAppender addDeduplicatingAppender(final LogbackLoggingConcern loggingConcern, final ListAppender<ILoggingEvent> listAppender,
+			final Duration window, final int tableSize) {
+		listAppender.setContext(loggingConcern);
+		listAppender.start();
+		final DeduplicatingAppender deduplicatingAppender = new DeduplicatingAppender();
+		deduplicatingAppender.setContext(loggingConcern);
+		deduplicatingAppender.setName("deduplicate");
+		deduplicatingAppender.setWindow(window);
+		deduplicatingAppender.setTableSize(tableSize);
+		deduplicatingAppender.addAppender(listAppender);
+		deduplicatingAppender.start();
+		loggingConcern.getRootLogger().addAppender(deduplicatingAppender);
+		return deduplicatingAppender;
+	}
+
+	/** Tests that repeats of the same template, logger, and throwable type are suppressed and rolled up when the appender is stopped. */
+	@Test
+	public void testRepeatsRolledUpOnStop() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		final DeduplicatingAppender deduplicatingAppender = addDeduplicatingAppender(loggingConcern, listAppender, Duration.buildByMinutes(1), 64);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		for(int i = 0; i < 100; i++) {
+			logger.warn("Failure {}.", i);
+			logger.warn("Failure {}.", i, new IllegalStateException());
+		}
+		assertThat(listAppender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(toList()), contains("Failure 0.", "Failure 0."));
+		assertThat(deduplicatingAppender.getSuppressedCount(), is(198L));
+		loggingConcern.stop();
+		final List<ILoggingEvent> rollUpEvents = listAppender.list.subList(2, listAppender.list.size());
+		assertThat(rollUpEvents, hasSize(2));
+		for(final ILoggingEvent rollUpEvent : rollUpEvents) {
+			assertThat(rollUpEvent.getMessage(), is(DeduplicatingAppender.ROLL_UP_MESSAGE));
+			assertThat(rollUpEvent.getArgumentArray()[0], is(99L));
+			assertThat(rollUpEvent.getLoggerName(), is(logger.getName()));
+			assertThat(rollUpEvent.getLevel(), is(ch.qos.logback.classic.Level.WARN));
+		}
+		assertThat(rollUpEvents.stream().map(event -> (String)event.getArgumentArray()[2]).collect(toList()),
+				containsInAnyOrder("Failure 0.", "Failure 0. (java.lang.IllegalStateException)"));
+	}
+
+	/** Tests that repeats are rolled up once the window elapses, after which the next repeat is delivered as a first occurrence. */
+	@Test
+	public void testRollUpAfterWindow() throws InterruptedException {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		addDeduplicatingAppender(loggingConcern, listAppender, Duration.buildByMilliseconds(200), 64);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		for(int i = 0; i < 5; i++) {
+			logger.info("Repeated.");
+		}
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while(listAppender.list.size() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		logger.info("Repeated.");
+		assertThat(listAppender.list, hasSize(3));
+		assertThat(listAppender.list.get(1).getArgumentArray()[0], is(4L));
+		assertThat(listAppender.list.get(2).getMessage(), is("Repeated."));
+		loggingConcern.stop();
+	}
+
+	/** Tests that distinct messages exceeding the size of the fingerprint table are all delivered. */
+	@Test
+	public void testDistinctMessagesExceedingTable() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		final DeduplicatingAppender deduplicatingAppender = addDeduplicatingAppender(loggingConcern, listAppender, Duration.buildByMinutes(1), 4);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		IntStream.range(0, 1000).forEach(i -> logger.info("Message " + i));
+		assertThat(listAppender.list, hasSize(1000));
+		assertThat(deduplicatingAppender.getSuppressedCount(), is(0L));
+		loggingConcern.stop();
+		assertThat(listAppender.list, hasSize(1000));
+	}
+
+	/** Tests that every repeat logged concurrently from several threads is either delivered or counted in a roll-up. */
+	@Test
+	public void testConcurrentRepeatsCounted() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		addDeduplicatingAppender(loggingConcern, listAppender, Duration.buildByMinutes(1), 64);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		final int threadCount = 4;
+		final int eventCount = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < threadCount; t++) {
+				futures.add(executor.submit(() -> IntStream.range(0, eventCount).forEach(i -> logger.error("Downstream failed.", new RuntimeException()))));
+			}
+			for(final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		loggingConcern.stop();
+		final long deliveredCount = listAppender.list.stream().filter(event -> event.getMessage().equals("Downstream failed.")).count();
+		final long rolledUpCount = listAppender.list.stream().filter(event -> event.getMessage().equals(DeduplicatingAppender.ROLL_UP_MESSAGE))
+				.mapToLong(event -> (Long)event.getArgumentArray()[0]).sum();
+		assertThat(deliveredCount, is(1L));
+		assertThat(deliveredCount + rolledUpCount, is((long)threadCount * eventCount));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Tests for {@link FlightRecorder} and {@link FlightRecorderTurboFilter}.
+ * @author Garret Wilson
+ */
+public class FlightRecorderTest {
+
+	/**
+	 * Returns the lines written by a flight recorder dump.
+	 * @param flightRecorder The flight recorder.
+	 * @return The lines of the retained events.
+	 */
+	private static List<String> dumpLines(final FlightRecorder flightRecorder) throws IOException {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		flightRecorder.dump(outputStream, false);
+		return new String(outputStream.toByteArray(), UTF_8).lines().collect(toList());
+	}
+
+	/** Tests that once the buffer wraps around, only the most recent events are retained, oldest first. */
+	@Test
+	public void testOldestEventsOverwritten() throws IOException {
+		final FlightRecorder flightRecorder = new FlightRecorder(500);
+		for(int i = 0; i < 100; i++) {
+			flightRecorder.record(0, Level.DEBUG, "logger", "event {}", new Object[] {i}, null);
+		}
+		final List<String> lines = dumpLines(flightRecorder);
+		assertThat(lines.size(), is(flightRecorder.getRecordCount()));
+		assertThat(lines.size(), is(both(greaterThan(1)).and(lessThan(100))));
+		final int first = 100 - lines.size();
+		assertThat(lines.stream().map(line -> line.substring(line.lastIndexOf(' ') + 1)).collect(toList()),
+				is(IntStream.range(first, 100).mapToObj(Integer::toString).collect(toList())));
+		assertThat(lines.get(0), is("1970-01-01T00:00:00.000Z DEBUG [" + Thread.currentThread().getName() + "] logger - event " + first));
+		flightRecorder.clear();
+		assertThat(dumpLines(flightRecorder), is(empty()));
+		assertThat(flightRecorder.getRecordCount(), is(0));
+	}
+
+	/** Tests that events longer than the maximum event length are truncated. */
+	@Test
+	public void testLongEventTruncated() throws IOException {
+		final FlightRecorder flightRecorder = new FlightRecorder(1000, 50);
+		flightRecorder.record(0, Level.INFO, "logger", "x".repeat(100), null, null);
+		assertThat(dumpLines(flightRecorder), contains(hasLength(50)));
+	}
+
+	/**
+	 * Tests that events at disabled levels are recorded without being logged, and that the recorded events are written out when an error occurs.
+	 * @see FlightRecorderTurboFilter#enable(LoggerContext)
+	 */
+	@Test
+	public void testRecordedEventsDumpedOnError(@TempDir final Path tempDir) throws IOException {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		listAppender.setContext(loggingConcern);
+		listAppender.start();
+		loggingConcern.getRootLogger().addAppender(listAppender);
+		loggingConcern.getRootLogger().setLevel(Level.INFO);
+		LogLevelOverrideTurboFilter.enable(loggingConcern);
+		final FlightRecorderTurboFilter turboFilter = FlightRecorderTurboFilter.enable(loggingConcern);
+		assertThat(FlightRecorderTurboFilter.enable(loggingConcern), is(sameInstance(turboFilter)));
+		assertThat(FlightRecorderTurboFilter.find(loggingConcern).get(), is(sameInstance(turboFilter)));
+		assertThat(loggingConcern.getTurboFilterList().get(0), is(sameInstance(turboFilter)));
+		final Path file = tempDir.resolve("flight-recorder.log");
+		turboFilter.setFile(file.toString());
+
+		final Logger logger = loggingConcern.getLogger("com.example");
+		logger.trace("trace");
+		logger.debug("debug {}", 1);
+		logger.info("info");
+		assertThat(Files.exists(file), is(false));
+		logger.error("failure", new IllegalStateException("bad"));
+		assertThat(listAppender.list.stream().map(ILoggingEvent::getMessage).collect(toList()), contains("info", "failure"));
+		final long deadline = System.nanoTime() + 5_000_000_000L; //the triggered dump takes place in the background
+		while(turboFilter.getFlightRecorder().getRecordCount() > 0 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertThat(turboFilter.dump(), is(0)); //waits for the triggered dump to finish writing
+		final List<String> lines = Files.readAllLines(file);
+		assertThat(lines.stream().map(line -> line.substring(line.indexOf(" - ") + 3)).collect(toList()),
+				contains("trace", "debug 1", "info", "failure ! java.lang.IllegalStateException: bad"));
+		assertThat(lines.get(1), containsString(" DEBUG [" + Thread.currentThread().getName() + "] com.example - "));
+
+		logger.debug("after");
+		assertThat(turboFilter.dump(), is(1));
+		assertThat(Files.readAllLines(file), hasSize(lines.size() + 1));
+		assertThat(turboFilter.getFlightRecorder().getRecordCount(), is(0));
+	}
+
+}
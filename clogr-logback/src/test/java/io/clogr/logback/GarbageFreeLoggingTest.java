@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.*;
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Tests for {@link GarbageFreeLoggingConcern}, {@link GarbageFreeEncoder}, and {@link GarbageFreeFileAppender}.
+ * @author Garret Wilson
+ */
+public class GarbageFreeLoggingTest {
+
+	/** The expected format of timestamps. */
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+	/**
+	 * Creates a logging concern with a garbage-free file appender on the root logger, which is set to the <code>INFO</code> level.
+	 * @param logbackLoggingConcern The Logback logging concern to configure.
+	 * @param file The log file.
+	 * @return The garbage-free logging concern wrapping the Logback logging concern.
+	 */
+	private static GarbageFreeLoggingConcern createGarbageFreeLoggingConcern(final LogbackLoggingConcern logbackLoggingConcern, final Path file) {
+		final GarbageFreeEncoder encoder = new GarbageFreeEncoder();
+		encoder.setContext(logbackLoggingConcern);
+		encoder.start();
+		final GarbageFreeFileAppender appender = new GarbageFreeFileAppender();
+		appender.setContext(logbackLoggingConcern);
+		appender.setName("file");
+		appender.setFile(file.toString());
+		appender.setEncoder(encoder);
+		appender.start();
+		logbackLoggingConcern.getRootLogger().addAppender(appender);
+		logbackLoggingConcern.getRootLogger().setLevel(ch.qos.logback.classic.Level.INFO);
+		return new GarbageFreeLoggingConcern(logbackLoggingConcern);
+	}
+
+	/** Tests that messages are formatted the same as by SLF4J. */
+	@Test
+	public void testFormattedMessageMatchesSlf4j() {
+		final Object[][] argumentArrays = {null, {}, {"a"}, {"a", 2}, {1L, true, 'c', 1.5, 2.5f, null, new int[] {1, 2}}};
+		for(final String pattern : List.of("plain", "{}", "x{}y{}z", "escaped \\{} {}", "double escaped \\\\{} {}", "extra {} {} {} {}", "{}{}{}{}{}{}{}")) {
+			for(final Object[] arguments : argumentArrays) {
+				final StringBuilder text = new StringBuilder();
+				GarbageFreeEncoder.appendFormattedMessage(text, pattern, arguments);
+				assertThat(pattern, text.toString(), is(arguments != null ? MessageFormatter.arrayFormat(pattern, arguments).getMessage() : pattern));
+			}
+		}
+	}
+
+	/** Tests that the timestamp is formatted in ISO 8601 format in UTC. */
+	@Test
+	public void testTimestamp() {
+		for(final long epochMillis : new long[] {0, 1_767_322_245_678L, 951_782_400_000L, -1}) {
+			final StringBuilder text = new StringBuilder();
+			GarbageFreeEncoder.appendTimestamp(text, epochMillis);
+			assertThat(text.toString(), is(TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(epochMillis))));
+		}
+	}
+
+	/** Tests that events logged via the classic and fluent APIs are written in the encoder layout. */
+	@Test
+	public void testFileOutput(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern logbackLoggingConcern = new LogbackLoggingConcern();
+		final GarbageFreeLoggingConcern loggingConcern = createGarbageFreeLoggingConcern(logbackLoggingConcern, file);
+		final Logger logger = loggingConcern.getLogger(GarbageFreeLoggingTest.class);
+		assertThat(logger.getName(), is(GarbageFreeLoggingTest.class.getName()));
+		logger.info("none");
+		logger.info("one {}", 1);
+		logger.warn("two {} {}", "a", 'b');
+		logger.error("five {} {} {} {} {}", 1, 2, 3, 4, 5);
+		logger.error("failed {}", "x", new IllegalStateException("bad"));
+		logger.debug("disabled {}", 1);
+		logger.atInfo().addArgument("\u00E9").addKeyValue("key", "value").log("fluent {}");
+		logger.atDebug().log("disabled fluent");
+		loggingConcern.setLogLevel(logger, org.slf4j.event.Level.DEBUG);
+		logger.debug("enabled {}", 1);
+		logbackLoggingConcern.stop();
+		final List<String> lines = Files.readAllLines(file, UTF_8);
+		final List<String> messages = lines.stream().filter(line -> line.contains(" - ")).map(line -> line.substring(25)).collect(toList());
+		final String name = GarbageFreeLoggingTest.class.getName();
+		final String thread = Thread.currentThread().getName();
+		assertThat(messages,
+				contains("INFO  [" + thread + "] " + name + " - none", "INFO  [" + thread + "] " + name + " - one 1", "WARN  [" + thread + "] " + name + " - two a b",
+						"ERROR [" + thread + "] " + name + " - five 1 2 3 4 5", "ERROR [" + thread + "] " + name + " - failed x",
+						"INFO  [" + thread + "] " + name + " - fluent \u00E9", "DEBUG [" + thread + "] " + name + " - enabled 1"));
+		assertThat(lines, hasItem(startsWith("java.lang.IllegalStateException: bad")));
+		assertThat(lines.get(0), matchesPattern("\\d{4}-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d\\.\\d{3}Z INFO .*"));
+	}
+
+	/** Tests that an asynchronous appender receives copies of reusable events. */
+	@Test
+	public void testRingBufferAppenderCopiesEvents() {
+		final LogbackLoggingConcern logbackLoggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		listAppender.setContext(logbackLoggingConcern);
+		listAppender.start();
+		final RingBufferAsyncAppender ringBufferAppender = new RingBufferAsyncAppender();
+		ringBufferAppender.setContext(logbackLoggingConcern);
+		ringBufferAppender.setName("async");
+		ringBufferAppender.setOverflowPolicy(RingBufferAsyncAppender.OverflowPolicy.BLOCK);
+		ringBufferAppender.addAppender(listAppender);
+		ringBufferAppender.start();
+		logbackLoggingConcern.getRootLogger().addAppender(ringBufferAppender);
+		final Logger logger = new GarbageFreeLoggingConcern(logbackLoggingConcern).getLogger(GarbageFreeLoggingTest.class);
+		IntStream.range(0, 100).forEach(i -> logger.info("event {}", i));
+		logbackLoggingConcern.stop();
+		assertThat(listAppender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(toList()),
+				is(IntStream.range(0, 100).mapToObj(i -> "event " + i).collect(toList())));
+	}
+
+	/**
+	 * Tests that enabled logging calls with a garbage-free file appender allocate nothing in steady state, as measured by the allocation counter of the
+	 * current thread.
+	 */
+	@Test
+	public void testSteadyStateAllocationFree(@TempDir final Path tempDir) {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean, "Thread allocation measurement not supported.");
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(), "Thread allocation measurement disabled.");
+		final LogbackLoggingConcern logbackLoggingConcern = new LogbackLoggingConcern();
+		final Logger logger = createGarbageFreeLoggingConcern(logbackLoggingConcern, tempDir.resolve("allocation.log")).getLogger(GarbageFreeLoggingTest.class);
+		final Marker marker = MarkerFactory.getMarker("TEST");
+		final Integer value = 42;
+		final int callCount = 20_000;
+		final Runnable logging = () -> {
+			for(int i = 0; i < callCount; i++) {
+				logger.info("Value {}.", value);
+				logger.info(marker, "Values {} and {}.", value, "text");
+				logger.atInfo().addArgument(value).log("Fluent value {}.");
+				logger.debug("Disabled {}.", value);
+			}
+		};
+		logging.run(); //warm up, allocating thread-local buffers
+		final long threadId = Thread.currentThread().getId();
+		final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		logging.run();
+		final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+		logbackLoggingConcern.stop();
+		assertThat("bytes allocated per logging call", (double)allocatedBytes / (callCount * 4), is(lessThan(1.0)));
+	}
+
+}
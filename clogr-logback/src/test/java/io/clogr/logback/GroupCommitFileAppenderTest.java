@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import ch.qos.logback.classic.*;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.core.util.Duration;
+import io.clogr.logback.GroupCommitFileAppender.DurabilityPolicy;
+
+/**
+ * Tests for {@link GroupCommitFileAppender}.
+ * @author Garret Wilson
+ */
+public class GroupCommitFileAppenderTest {
+
+	/**
+	 * Creates and starts a group-commit file appender attached to the root logger of the given logging concern, encoding only the message of each event.
+	 * @param loggingConcern The logging concern.
+	 * @param file The log file.
+	 * @param durabilityPolicy The durability policy.
+	 * @return The started group-commit file appender.
+	 */
+	private static GroupCommitFileAppender addGroupCommitFileAppender(final LogbackLoggingConcern loggingConcern, final Path file,
+			final DurabilityPolicy durabilityPolicy) {
+		final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggingConcern);
+		encoder.setPattern("%msg%n");
+		encoder.start();
+		final GroupCommitFileAppender appender = new GroupCommitFileAppender();
+		appender.setContext(loggingConcern);
+		appender.setName("audit");
+		appender.setFile(file.toString());
+		appender.setEncoder(encoder);
+		appender.setDurabilityPolicy(durabilityPolicy);
+		appender.setCommitInterval(Duration.buildByMilliseconds(20));
+		appender.start();
+		assertThat(appender.isStarted(), is(true));
+		loggingConcern.getRootLogger().addAppender(appender);
+		return appender;
+	}
+
+	/** Tests that events logged concurrently from several threads are all written, in order per thread, with no more writes or forces than events. */
+	@Test
+	public void testConcurrentEventsCommitted(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, file, DurabilityPolicy.EVENT);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		final int threadCount = 4;
+		final int eventCount = 500;
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < threadCount; t++) {
+				final String prefix = "t" + t + "-";
+				futures.add(executor.submit(() -> IntStream.range(0, eventCount).forEach(i -> logger.info(prefix + i))));
+			}
+			for(final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		loggingConcern.stop();
+		final List<String> lines = Files.readAllLines(file);
+		assertThat(lines, hasSize(threadCount * eventCount));
+		for(int t = 0; t < threadCount; t++) {
+			final String prefix = "t" + t + "-";
+			assertThat(lines.stream().filter(line -> line.startsWith(prefix)).collect(toList()),
+					is(IntStream.range(0, eventCount).mapToObj(i -> prefix + i).collect(toList())));
+		}
+		assertThat(appender.getWriteCount(), is(both(greaterThan(0L)).and(lessThanOrEqualTo((long)threadCount * eventCount))));
+		assertThat(appender.getForceCount(), is(both(greaterThan(0L)).and(lessThanOrEqualTo(appender.getWriteCount()))));
+	}
+
+	/**
+	 * Tests that a commit forces events even when the durability policy would never force them.
+	 * @see GroupCommitFileAppender#commitAll(LoggerContext)
+	 */
+	@Test
+	public void testCommitWithNeverPolicy(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, file, DurabilityPolicy.NEVER);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("audit");
+		GroupCommitFileAppender.commitAll(loggingConcern).get(5, TimeUnit.SECONDS);
+		assertThat(appender.getForceCount(), is(1L));
+		assertThat(Files.readAllLines(file), contains("audit"));
+		assertThat(appender.commit().isDone(), is(true)); //nothing further to commit
+		logger.info("fire and forget");
+		loggingConcern.stop();
+		assertThat(Files.readAllLines(file), contains("audit", "fire and forget"));
+	}
+
+	/**
+	 * Tests that a commit of all group-commit appenders includes those moved behind the asynchronous appender, and that events still queued in the ring buffer
+	 * are delivered before being forced.
+	 * @see RingBufferAsyncAppender#enable(LoggerContext)
+	 */
+	@Test
+	public void testCommitAllWithRingBufferAsyncAppender(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, file, DurabilityPolicy.NEVER);
+		assertThat(RingBufferAsyncAppender.enable(loggingConcern), is(true));
+		assertThat(loggingConcern.getRootLogger().getAppender(appender.getName()), is(nullValue()));
+		final Logger logger = loggingConcern.getLogger(getClass());
+		final int eventCount = 1000;
+		IntStream.range(0, eventCount).forEach(i -> logger.info("audit-" + i));
+		GroupCommitFileAppender.commitAll(loggingConcern).get(5, TimeUnit.SECONDS);
+		assertThat(appender.getForceCount(), is(greaterThanOrEqualTo(1L)));
+		assertThat(Files.readAllLines(file), is(IntStream.range(0, eventCount).mapToObj(i -> "audit-" + i).collect(toList())));
+		loggingConcern.stop();
+	}
+
+	/** Tests that a commit of all group-commit appenders fails rather than completing if one is behind an asynchronous appender that cannot be drained. */
+	@Test
+	public void testCommitAllWithAsyncAppenderFails(@TempDir final Path tempDir) throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, tempDir.resolve("test.log"), DurabilityPolicy.NEVER);
+		final AsyncAppender asyncAppender = new AsyncAppender();
+		asyncAppender.setContext(loggingConcern);
+		asyncAppender.setName("async");
+		asyncAppender.addAppender(appender);
+		asyncAppender.start();
+		loggingConcern.getRootLogger().addAppender(asyncAppender);
+		loggingConcern.getRootLogger().detachAppender(appender);
+		final ExecutionException executionException = assertThrows(ExecutionException.class,
+				() -> GroupCommitFileAppender.commitAll(loggingConcern).get(5, TimeUnit.SECONDS));
+		assertThat(executionException.getCause(), is(instanceOf(IllegalStateException.class)));
+		loggingConcern.stop();
+	}
+
+	/**
+	 * Tests that a failure to write a batch fails commit requests for the discarded events, whether requested before or after the failure, rather than leaving
+	 * them waiting for events that will never be written.
+	 * @implNote This test writes to <code>/dev/full</code>, for which every write fails, and is skipped on systems without that device.
+	 */
+	@Test
+	public void testWriteFailure() throws Exception {
+		final Path file = Paths.get("/dev/full");
+		assumeTrue(Files.isWritable(file));
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, file, DurabilityPolicy.NEVER);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("lost");
+		final ExecutionException executionException = assertThrows(ExecutionException.class, () -> appender.commit().get(5, TimeUnit.SECONDS));
+		assertThat(executionException.getCause(), is(instanceOf(IOException.class)));
+		assertThrows(ExecutionException.class, () -> appender.commit().get(5, TimeUnit.SECONDS));
+		logger.info("also lost");
+		assertThrows(ExecutionException.class, () -> GroupCommitFileAppender.commitAll(loggingConcern).get(5, TimeUnit.SECONDS));
+		loggingConcern.stop();
+	}
+
+	/** Tests that written events are forced once the commit interval elapses, without any further events or requests. */
+	@Test
+	public void testIntervalPolicy(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final GroupCommitFileAppender appender = addGroupCommitFileAppender(loggingConcern, file, DurabilityPolicy.INTERVAL);
+		loggingConcern.getLogger(getClass()).info("event");
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while(appender.getForceCount() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(appender.getForceCount(), is(1L));
+		loggingConcern.stop();
+		assertThat(appender.getForceCount(), is(1L));
+	}
+
+}
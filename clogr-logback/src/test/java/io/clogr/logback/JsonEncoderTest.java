@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.*;
+import org.slf4j.event.KeyValuePair;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * Tests for {@link JsonEncoder}.
+ * @author Garret Wilson
+ */
+public class JsonEncoderTest {
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	/** @return An event with markers, MDC properties, and key-value pairs. */
+	private static LoggingEvent createStructuredEvent() {
+		final LoggingEvent event = new LoggingEvent();
+		event.setTimeStamp(1_767_322_245_678L);
+		event.setLevel(Level.INFO);
+		event.setThreadName("main");
+		event.setLoggerName("com.example.Foo");
+		event.setMessage("Processed {} of {}.");
+		event.setArgumentArray(new Object[] {3, "order"});
+		event.addMarker(MarkerFactory.getMarker("AUDIT"));
+		final Map<String, String> mdc = new LinkedHashMap<>();
+		mdc.put("requestId", "r1");
+		mdc.put("user", "jdoe");
+		event.setMDCPropertyMap(mdc);
+		event.setKeyValuePairs(List.of(new KeyValuePair("count", 3), new KeyValuePair("ratio", 0.5), new KeyValuePair("ok", true),
+				new KeyValuePair("name", "x"), new KeyValuePair("missing", null), new KeyValuePair("nan", Double.NaN)));
+		return event;
+	}
+
+	/** Tests encoding of the event properties, markers, MDC, and key-value pairs. */
+	@Test
+	public void testEncode() {
+		final JsonEncoder encoder = new JsonEncoder();
+		assertThat(new String(encoder.encode(createStructuredEvent()), UTF_8), is("{\"timestamp\":\"2026-01-02T02:50:45.678Z\",\"level\":\"INFO\",\"thread\":\"main\","
+				+ "\"logger\":\"com.example.Foo\",\"message\":\"Processed 3 of order.\",\"markers\":[\"AUDIT\"],\"mdc\":{\"requestId\":\"r1\",\"user\":\"jdoe\"},"
+				+ "\"keyValues\":{\"count\":3,\"ratio\":0.5,\"ok\":true,\"name\":\"x\",\"missing\":null,\"nan\":\"NaN\"}}" + LINE_SEPARATOR));
+	}
+
+	/** Tests that successive events encoded to byte arrays using the reusable buffers are returned as independent copies matching the streamed encoding. */
+	@Test
+	public void testEncodeCopies() throws IOException {
+		final JsonEncoder encoder = new JsonEncoder();
+		final LoggingEvent event = createStructuredEvent();
+		final byte[] bytes = encoder.encode(event);
+		final LoggingEvent otherEvent = createStructuredEvent();
+		otherEvent.setLoggerName("com.example.Bar");
+		final byte[] otherBytes = encoder.encode(otherEvent);
+		final ByteArrayOutputStream streamedBytes = new ByteArrayOutputStream();
+		encoder.encode(event, streamedBytes);
+		assertThat(bytes, is(streamedBytes.toByteArray()));
+		assertThat(new String(otherBytes, UTF_8), containsString("\"logger\":\"com.example.Bar\""));
+	}
+
+	/** Tests escaping of control characters, quotation marks, and reverse solidi, and UTF-8 encoding of other characters. */
+	@Test
+	public void testEscaping() {
+		final LoggingEvent event = new LoggingEvent();
+		event.setTimeStamp(0);
+		event.setLevel(Level.WARN);
+		event.setThreadName("t\"1\\");
+		event.setLoggerName("test");
+		event.setMDCPropertyMap(Map.of());
+		event.setMessage("a\tb\nc\u0001d \u00E9\u20AC\uD83D\uDE00 \uD800x");
+		final JsonEncoder encoder = new JsonEncoder();
+		assertThat(new String(encoder.encode(event), UTF_8), is("{\"timestamp\":\"1970-01-01T00:00:00.000Z\",\"level\":\"WARN\",\"thread\":\"t\\\"1\\\\\","
+				+ "\"logger\":\"test\",\"message\":\"a\\tb\\nc\\u0001d \u00E9\u20AC\uD83D\uDE00 ?x\"}" + LINE_SEPARATOR));
+	}
+
+	/** Tests that events logged via the fluent API with key-value pairs and throwables are written by a garbage-free file appender. */
+	@Test
+	public void testFileOutput(@TempDir final Path tempDir) throws IOException {
+		final Path file = tempDir.resolve("test.json");
+		final LogbackLoggingConcern logbackLoggingConcern = new LogbackLoggingConcern();
+		final JsonEncoder encoder = new JsonEncoder();
+		encoder.setContext(logbackLoggingConcern);
+		encoder.start();
+		final GarbageFreeFileAppender appender = new GarbageFreeFileAppender();
+		appender.setContext(logbackLoggingConcern);
+		appender.setName("file");
+		appender.setFile(file.toString());
+		appender.setEncoder(encoder);
+		appender.start();
+		logbackLoggingConcern.getRootLogger().addAppender(appender);
+		logbackLoggingConcern.getRootLogger().setLevel(Level.INFO);
+		final Logger logger = new GarbageFreeLoggingConcern(logbackLoggingConcern).getLogger(JsonEncoderTest.class);
+		logger.atInfo().addKeyValue("count", 2).addKeyValue("name", "x").log("Fluent {}.", "value");
+		logger.error("Failed.", new IllegalStateException("bad"));
+		logbackLoggingConcern.stop();
+		final List<String> lines = Files.readAllLines(file, UTF_8);
+		assertThat(lines, hasSize(2));
+		assertThat(lines.get(0), endsWith("\"logger\":\"" + JsonEncoderTest.class.getName() + "\",\"message\":\"Fluent value.\",\"keyValues\":{\"count\":2,\"name\":\"x\"}}"));
+		assertThat(lines.get(1), containsString("\"level\":\"ERROR\""));
+		assertThat(lines.get(1), containsString("\"stackTrace\":\"java.lang.IllegalStateException: bad\\n"));
+	}
+
+	/** Tests that encoding a structured event to an output stream allocates nothing in steady state, as measured by the allocation counter of the current thread. */
+	@Test
+	public void testSteadyStateAllocationFree() throws IOException {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean, "Thread allocation measurement not supported.");
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(), "Thread allocation measurement disabled.");
+		final JsonEncoder encoder = new JsonEncoder();
+		final LoggingEvent event = createStructuredEvent();
+		event.setKeyValuePairs(new ArrayList<>(event.getKeyValuePairs().subList(0, 5))); //omit the value requiring conversion to a string
+		final OutputStream outputStream = OutputStream.nullOutputStream();
+		final int encodeCount = 20_000;
+		for(int i = 0; i < encodeCount; i++) { //warm up, allocating thread-local buffers
+			encoder.encode(event, outputStream);
+		}
+		final long threadId = Thread.currentThread().getId();
+		final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		for(int i = 0; i < encodeCount; i++) {
+			encoder.encode(event, outputStream);
+		}
+		final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+		assertThat("bytes allocated per encoded event", (double)allocatedBytes / encodeCount, is(lessThan(1.0)));
+	}
+
+}
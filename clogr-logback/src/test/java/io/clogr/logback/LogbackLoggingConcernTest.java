@@ -16,15 +16,28 @@
 
 package io.clogr.logback;
 
+import static java.util.stream.Collectors.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.management.ObjectName;
+
 import org.junit.jupiter.api.*;
+import org.slf4j.*;
 
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.*;
 import ch.qos.logback.core.read.ListAppender;
 import io.clogr.*;
 import io.csar.*;
+import jdk.jfr.Recording;
 
 /**
  * Tests for {@link LogbackLoggingConcern}.
@@ -66,4 +79,280 @@ public void testCsarRunSingleThread() throws InterruptedException {
 
 	}
 
+	/**
+	 * Tests that loggers retrieved via Clogr are cached per logging concern, and that the cache is invalidated when the default logging concern changes.
+	 * @see Clogr#getLogger(Class)
+	 * @see Clogr#setDefaultLoggingConcern(io.clogr.LoggingConcern)
+	 */
+	@Test
+	public void testGetLoggerCachedPerConcern() throws InterruptedException {
+		final LogbackLoggingConcern defaultLoggingConcern = new LogbackLoggingConcern();
+		Clogr.setDefaultLoggingConcern(defaultLoggingConcern);
+		final Logger defaultLogger = Clogr.getLogger(getClass());
+		assertThat(Clogr.getLogger(getClass()), is(sameInstance(defaultLogger)));
+		assertThat(defaultLogger, is(sameInstance(defaultLoggingConcern.getLogger(getClass()))));
+
+		final LogbackLoggingConcern localLoggingConcern = new LogbackLoggingConcern();
+		final AtomicReference<Logger> localLogger = new AtomicReference<>();
+		Csar.run(() -> {
+			localLogger.set(Clogr.getLogger(getClass()));
+		}, localLoggingConcern).join();
+		assertThat(localLogger.get(), is(sameInstance(localLoggingConcern.getLogger(getClass()))));
+		assertThat(Clogr.getLogger(getClass()), is(sameInstance(defaultLogger)));
+
+		final LogbackLoggingConcern newDefaultLoggingConcern = new LogbackLoggingConcern();
+		Clogr.setDefaultLoggingConcern(newDefaultLoggingConcern);
+		assertThat(Clogr.getLogger(getClass()), is(sameInstance(newDefaultLoggingConcern.getLogger(getClass()))));
+	}
+
+	/**
+	 * Tests that a dynamic logger held in a variable routes each logging call to the logging concern current at the time of the call.
+	 * @see Clogr#dynamicLogger(Class)
+	 */
+	@Test
+	public void testDynamicLoggerRoutesToCurrentConcern() throws InterruptedException {
+		final LogbackLoggingConcern defaultLoggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> defaultAppender = new ListAppender<>();
+		defaultAppender.setContext(defaultLoggingConcern);
+		defaultAppender.start();
+		defaultLoggingConcern.getRootLogger().addAppender(defaultAppender);
+		Clogr.setDefaultLoggingConcern(defaultLoggingConcern);
+
+		final Logger dynamicLogger = Clogr.dynamicLogger(getClass());
+		assertThat(dynamicLogger.getName(), is(getClass().getName()));
+
+		final List<LogbackLoggingConcern> localLoggingConcerns = new ArrayList<>();
+		final List<ListAppender<ILoggingEvent>> localAppenders = new ArrayList<>();
+		for(int i = 0; i < 8; i++) { //more concerns than the dynamic logger caches
+			final LogbackLoggingConcern localLoggingConcern = new LogbackLoggingConcern();
+			final ListAppender<ILoggingEvent> localAppender = new ListAppender<>();
+			localAppender.setContext(localLoggingConcern);
+			localAppender.start();
+			localLoggingConcern.getRootLogger().addAppender(localAppender);
+			localLoggingConcerns.add(localLoggingConcern);
+			localAppenders.add(localAppender);
+		}
+
+		dynamicLogger.info("default");
+		for(int round = 0; round < 2; round++) {
+			for(int i = 0; i < localLoggingConcerns.size(); i++) {
+				final String message = "local" + i;
+				Csar.run(() -> dynamicLogger.info(message), localLoggingConcerns.get(i)).join();
+			}
+		}
+		dynamicLogger.atInfo().log("default fluent");
+
+		assertThat(defaultAppender.list.stream().map(ILoggingEvent::getMessage).collect(toList()), contains("default", "default fluent"));
+		for(int i = 0; i < localAppenders.size(); i++) {
+			assertThat(localAppenders.get(i).list.stream().map(ILoggingEvent::getMessage).collect(toList()), contains("local" + i, "local" + i));
+		}
+	}
+
+	/**
+	 * Tests that a dynamic logger reports the code calling the logger, rather than the forwarding logger, as the caller in the caller data of events.
+	 * @see Clogr#dynamicLogger(Class)
+	 */
+	@Test
+	public void testDynamicLoggerCallerData() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		Clogr.setDefaultLoggingConcern(loggingConcern);
+		assertCallerData(loggingConcern, Clogr.dynamicLogger(getClass()));
+	}
+
+	/**
+	 * Tests that a rate-limiting logger reports the code calling the logger, rather than the forwarding logger, as the caller in the caller data of events.
+	 * @see RateLimitingLoggingConcern
+	 */
+	@Test
+	public void testRateLimitingLoggerCallerData() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final RateLimitingLoggingConcern rateLimitingLoggingConcern = new RateLimitingLoggingConcern(loggingConcern)
+				.addRule(RateLimitingLoggingConcern.Rule.rateLimit("", org.slf4j.event.Level.INFO, 1000.0, 1000));
+		assertCallerData(loggingConcern, rateLimitingLoggingConcern.getLogger(getClass()));
+	}
+
+	/**
+	 * Tests that a flight recorder logger reports the code calling the logger, rather than the forwarding logger, as the caller in the caller data of events.
+	 * @see JfrLoggingConcern
+	 */
+	@Test
+	public void testJfrLoggerCallerData() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		try (final Recording recording = new Recording()) { //record log events so that each call is bracketed by an event
+			recording.enable("io.clogr.Log").with("level", "TRACE");
+			recording.start();
+			assertCallerData(loggingConcern, new JfrLoggingConcern(loggingConcern).getLogger(getClass()));
+		}
+	}
+
+	/**
+	 * Logs events at several levels with differing arguments, and verifies that the caller data of each event identifies this method as the caller.
+	 * @param loggingConcern The logging concern to which the events are ultimately logged; its root logger level will be set to <code>INFO</code>.
+	 * @param logger The logger to test, which forwards to the given logging concern.
+	 */
+	private void assertCallerData(final LogbackLoggingConcern loggingConcern, final Logger logger) {
+		final List<ILoggingEvent> events = new ArrayList<>();
+		final List<StackTraceElement> callers = new ArrayList<>();
+		final AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+			@Override
+			protected void append(final ILoggingEvent event) {
+				events.add(event);
+				callers.add(event.getCallerData()[0]);
+			}
+		};
+		appender.setContext(loggingConcern);
+		appender.start();
+		loggingConcern.getRootLogger().addAppender(appender);
+		loggingConcern.getRootLogger().setLevel(ch.qos.logback.classic.Level.INFO);
+		logger.info("none");
+		logger.info("one {}", 1);
+		logger.warn("two {} {}", 1, 2);
+		logger.error("three {} {} {}", 1, 2, 3);
+		logger.error("failed {}", "x", new IllegalStateException("bad"));
+		logger.info(MarkerFactory.getMarker("TEST"), "marker {}", 1);
+		logger.debug("disabled {}", 1);
+		assertThat(callers, hasSize(6));
+		for(final StackTraceElement caller : callers) {
+			assertThat(caller.getClassName(), is(getClass().getName()));
+			assertThat(caller.getMethodName(), is("assertCallerData"));
+		}
+		assertThat(events.get(4).getFormattedMessage(), is("failed x"));
+		assertThat(events.get(4).getThrowableProxy().getMessage(), is("bad"));
+		assertThat(events.get(5).getMarkerList(), contains(MarkerFactory.getMarker("TEST")));
+	}
+
+	/**
+	 * @see LoggerContextLoggingConcern#setLogLevels(Map)
+	 * @see LoggingConcern#toDescendantsFirstOrder(Map)
+	 */
+	@Test
+	public void testSetLogLevels() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ch.qos.logback.classic.Logger leafLogger = loggingConcern.getLogger("com.example.foo.bar");
+		final Map<String, org.slf4j.event.Level> levels = new HashMap<>();
+		levels.put("com", org.slf4j.event.Level.WARN);
+		levels.put("com.example.foo", org.slf4j.event.Level.DEBUG);
+		levels.put("com.example", org.slf4j.event.Level.ERROR);
+		levels.put("root", org.slf4j.event.Level.TRACE);
+		assertThat(LoggingConcern.toDescendantsFirstOrder(levels).keySet(), contains("com.example.foo", "com.example", "com", "root"));
+		loggingConcern.setLogLevels(levels);
+		assertThat(loggingConcern.getRootLogger().getLevel(), is(ch.qos.logback.classic.Level.TRACE));
+		assertThat(loggingConcern.getLogger("com").getEffectiveLevel(), is(ch.qos.logback.classic.Level.WARN));
+		assertThat(loggingConcern.getLogger("com.other").getEffectiveLevel(), is(ch.qos.logback.classic.Level.WARN));
+		assertThat(loggingConcern.getLogger("com.example.other").getEffectiveLevel(), is(ch.qos.logback.classic.Level.ERROR));
+		assertThat(leafLogger.getEffectiveLevel(), is(ch.qos.logback.classic.Level.DEBUG));
+		assertThat(loggingConcern.getLogger("org").getEffectiveLevel(), is(ch.qos.logback.classic.Level.TRACE));
+	}
+
+	/**
+	 * @see LogLevelOverride
+	 * @see LogLevelOverrideTurboFilter#enable(LoggerContext)
+	 */
+	@Test
+	public void testLogLevelOverride() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.setContext(loggingConcern);
+		appender.start();
+		loggingConcern.getRootLogger().addAppender(appender);
+		loggingConcern.getRootLogger().setLevel(ch.qos.logback.classic.Level.INFO);
+		assertThat(LogLevelOverrideTurboFilter.enable(loggingConcern), is(true));
+		assertThat(LogLevelOverrideTurboFilter.enable(loggingConcern), is(false));
+		final Logger logger = loggingConcern.getLogger(getClass());
+
+		logger.debug("before");
+		assertThat(LogLevelOverride.get(), is(nullValue()));
+		LogLevelOverride.run(org.slf4j.event.Level.DEBUG, () -> {
+			assertThat(logger.isDebugEnabled(), is(true));
+			assertThat(logger.isTraceEnabled(), is(false));
+			logger.debug("during");
+			logger.trace("during trace");
+		});
+		assertThat(logger.isDebugEnabled(), is(false));
+		logger.debug("after");
+		assertThat(appender.list.stream().map(ILoggingEvent::getMessage).collect(toList()), contains("during"));
+	}
+
+	/**
+	 * @see RingBufferAsyncAppender#enable(LoggerContext)
+	 * @see RingBufferAsyncAppender#setDeferredFormatting(boolean)
+	 */
+	@Test
+	public void testEnableAsyncLogging() {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.setContext(loggingConcern);
+		appender.start();
+		final ch.qos.logback.classic.Logger rootLogger = loggingConcern.getRootLogger();
+		rootLogger.addAppender(appender);
+		assertThat(RingBufferAsyncAppender.enable(loggingConcern), is(true));
+		assertThat(RingBufferAsyncAppender.enable(loggingConcern), is(false));
+		assertThat(rootLogger.isAttached(appender), is(false));
+		final RingBufferAsyncAppender asyncAppender = (RingBufferAsyncAppender)rootLogger.getAppender(RingBufferAsyncAppender.ROOT_APPENDER_NAME);
+		assertThat(asyncAppender.isDeferredFormatting(), is(true));
+		assertThat(asyncAppender.isAttached(appender), is(true));
+
+		final StringBuilder stringBuilder = new StringBuilder("bar");
+		loggingConcern.getLogger(getClass()).info("foo {}", stringBuilder);
+		stringBuilder.append("baz");
+		loggingConcern.stop();
+		assertThat(appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(toList()), contains("foo bar"));
+	}
+
+	/**
+	 * @see LogbackLoggingConcern#enableMetrics()
+	 * @see LoggingMetrics
+	 */
+	@Test
+	public void testMetrics() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		assertThat(loggingConcern.findMetrics().isPresent(), is(false));
+		final LoggingMetricsCollector metricsCollector = loggingConcern.enableMetrics();
+		assertThat(loggingConcern.enableMetrics(), is(sameInstance(metricsCollector)));
+		assertThat(loggingConcern.findMetrics().get(), is(sameInstance(metricsCollector)));
+
+		final PatternLayoutEncoder patternLayoutEncoder = new PatternLayoutEncoder();
+		patternLayoutEncoder.setContext(loggingConcern);
+		patternLayoutEncoder.setPattern("%msg%n");
+		final MeteredEncoder meteredEncoder = new MeteredEncoder();
+		meteredEncoder.setContext(loggingConcern);
+		meteredEncoder.setEncoder(patternLayoutEncoder);
+		meteredEncoder.start();
+		final OutputStreamAppender<ILoggingEvent> outputStreamAppender = new OutputStreamAppender<>();
+		outputStreamAppender.setContext(loggingConcern);
+		outputStreamAppender.setEncoder(meteredEncoder);
+		outputStreamAppender.setOutputStream(new ByteArrayOutputStream());
+		final RingBufferAsyncAppender asyncAppender = new RingBufferAsyncAppender();
+		asyncAppender.setContext(loggingConcern);
+		asyncAppender.addAppender(outputStreamAppender);
+		outputStreamAppender.start();
+		asyncAppender.start();
+		loggingConcern.getRootLogger().addAppender(asyncAppender);
+
+		loggingConcern.getLogger("com.example.foo.Bar").info("12345");
+		loggingConcern.getLogger("com.example.Baz").warn("12345");
+		loggingConcern.getLogger("org").error("12345");
+		loggingConcern.getLogger("org").trace("disabled");
+		asyncAppender.stop();
+
+		assertThat(metricsCollector.getEventCount(), is(3L));
+		assertThat(metricsCollector.getEventCount(org.slf4j.event.Level.WARN), is(1L));
+		assertThat(metricsCollector.getEventCount(org.slf4j.event.Level.TRACE), is(0L));
+		assertThat(metricsCollector.getEventCountsByLoggerPrefix(), is(Map.of("com.example", 2L, "org", 1L)));
+		assertThat(metricsCollector.getBytesWritten(), is(3L * ("12345" + System.lineSeparator()).length()));
+		assertThat(metricsCollector.getAppenderLatency().getCount(), is(3L));
+		assertThat(metricsCollector.getDroppedEventCount(), is(0L));
+
+		final ObjectName objectName = LoggingMetrics.registerMBean(metricsCollector, "test");
+		try {
+			assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "EventCount"), is(3L));
+		} finally {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		}
+
+		loggingConcern.reset(); //metrics appender is reattached
+		loggingConcern.getLogger("org").error("after reset");
+		assertThat(metricsCollector.getEventCount(), is(4L));
+	}
+
 }
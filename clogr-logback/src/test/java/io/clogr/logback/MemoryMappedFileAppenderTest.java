@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * Tests for {@link MemoryMappedFileAppender}.
+ * @author Garret Wilson
+ */
+public class MemoryMappedFileAppenderTest {
+
+	/**
+	 * Creates and starts a memory-mapped file appender attached to the root logger of the given logging concern.
+	 * @param loggingConcern The logging concern.
+	 * @param encoder The encoder; will be started.
+	 * @param file The log file.
+	 * @param regionSize The region size in bytes.
+	 * @return The started memory-mapped file appender.
+	 */
+	private static MemoryMappedFileAppender addMemoryMappedFileAppender(final LogbackLoggingConcern loggingConcern, final Encoder<ILoggingEvent> encoder,
+			final Path file, final long regionSize) {
+		encoder.setContext(loggingConcern);
+		encoder.start();
+		final MemoryMappedFileAppender appender = new MemoryMappedFileAppender();
+		appender.setContext(loggingConcern);
+		appender.setName("mapped");
+		appender.setFile(file.toString());
+		appender.setRegionSize(new FileSize(regionSize));
+		appender.setEncoder(encoder);
+		appender.start();
+		assertThat(appender.isStarted(), is(true));
+		loggingConcern.getRootLogger().addAppender(appender);
+		return appender;
+	}
+
+	/**
+	 * Creates a pattern layout encoder writing only the message of each event.
+	 * @return The unstarted encoder.
+	 */
+	private static PatternLayoutEncoder messageEncoder() {
+		final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setPattern("%msg%n");
+		return encoder;
+	}
+
+	/**
+	 * Tests that events logged concurrently from several threads across many regions are all written, in order per thread, and that the file is truncated to
+	 * the end of the last event on stop.
+	 */
+	@Test
+	public void testConcurrentEventsAcrossRegions(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		addMemoryMappedFileAppender(loggingConcern, messageEncoder(), file, 1024);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		final int threadCount = 4;
+		final int eventCount = 1000;
+		final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < threadCount; t++) {
+				final String prefix = "t" + t + "-";
+				futures.add(executor.submit(() -> IntStream.range(0, eventCount).forEach(i -> logger.info(prefix + i))));
+			}
+			for(final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		loggingConcern.stop();
+		final String content = Files.readString(file);
+		assertThat(content.indexOf('\0'), is(-1));
+		final List<String> lines = content.lines().collect(toList());
+		assertThat(lines, hasSize(threadCount * eventCount));
+		for(int t = 0; t < threadCount; t++) {
+			final String prefix = "t" + t + "-";
+			assertThat(lines.stream().filter(line -> line.startsWith(prefix)).collect(toList()),
+					is(IntStream.range(0, eventCount).mapToObj(i -> prefix + i).collect(toList())));
+		}
+	}
+
+	/** Tests that events are written using a {@link GarbageFreeEncoder}, and that an existing file is appended to. */
+	@Test
+	public void testGarbageFreeEncoderAppend(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		Files.writeString(file, "existing\n");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		addMemoryMappedFileAppender(loggingConcern, new GarbageFreeEncoder(), file, 64);
+		final Logger logger = loggingConcern.getLogger("com.example");
+		logger.info("Value {}.", 42);
+		logger.warn("A message long enough to need a region larger than the configured region size.");
+		loggingConcern.stop();
+		final List<String> lines = Files.readAllLines(file, UTF_8);
+		assertThat(lines, hasSize(3));
+		assertThat(lines.get(0), is("existing"));
+		assertThat(lines.get(1), endsWith(" INFO  [" + Thread.currentThread().getName() + "] com.example - Value 42."));
+		assertThat(lines.get(2), endsWith(" - A message long enough to need a region larger than the configured region size."));
+	}
+
+	/** Tests that rolling over truncates and archives the current file and continues logging to a new file. */
+	@Test
+	public void testRollover(@TempDir final Path tempDir) throws Exception {
+		final Path file = tempDir.resolve("test.log");
+		final Path archiveFile = tempDir.resolve("test-1.log");
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final MemoryMappedFileAppender appender = addMemoryMappedFileAppender(loggingConcern, messageEncoder(), file, 4096);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("before");
+		appender.rollover(archiveFile.toString());
+		logger.info("after");
+		loggingConcern.stop();
+		assertThat(Files.readString(archiveFile), is("before" + System.lineSeparator()));
+		assertThat(Files.readString(file), is("after" + System.lineSeparator()));
+	}
+
+}
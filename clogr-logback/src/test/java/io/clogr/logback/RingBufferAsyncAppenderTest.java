@@ -0,0 +1,328 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr.logback;
+
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.status.Status;
+import io.clogr.logback.RingBufferAsyncAppender.*;
+
+/**
+ * Tests for {@link RingBufferAsyncAppender}.
+ * @author Garret Wilson
+ */
+public class RingBufferAsyncAppenderTest {
+
+	/**
+	 * Creates and starts a ring buffer appender attached to the root logger of the given logging concern, delivering to the given appender.
+	 * @param loggingConcern The logging concern.
+	 * @param appender The appender to which to deliver events; will be started.
+	 * @param bufferSize The buffer size.
+	 * @param waitStrategy The wait strategy.
+	 * @param overflowPolicy The overflow policy.
+	 * @return The started ring buffer appender.
+	 */
+	private static RingBufferAsyncAppender addRingBufferAppender(final LogbackLoggingConcern loggingConcern,
+			final ch.qos.logback.core.Appender<ILoggingEvent> appender, final int bufferSize, final WaitStrategy waitStrategy,
+			final OverflowPolicy overflowPolicy) {
+		appender.setContext(loggingConcern);
+		appender.start();
+		final RingBufferAsyncAppender ringBufferAppender = new RingBufferAsyncAppender();
+		ringBufferAppender.setContext(loggingConcern);
+		ringBufferAppender.setName("async");
+		ringBufferAppender.setBufferSize(bufferSize);
+		ringBufferAppender.setWaitStrategy(waitStrategy);
+		ringBufferAppender.setOverflowPolicy(overflowPolicy);
+		ringBufferAppender.addAppender(appender);
+		ringBufferAppender.start();
+		loggingConcern.getRootLogger().addAppender(ringBufferAppender);
+		return ringBufferAppender;
+	}
+
+	/**
+	 * Tests that events logged concurrently from several threads are all delivered, in order per thread, by the time the logger context is stopped.
+	 * @see LogbackLoggingConcern#stop()
+	 */
+	@Test
+	public void testEventsFlushedOnStop() throws Exception {
+		for(final WaitStrategy waitStrategy : WaitStrategy.values()) {
+			if(waitStrategy == WaitStrategy.BUSY_SPIN && Runtime.getRuntime().availableProcessors() < 2) {
+				continue; //a spinning consumer would compete with the producers for a single processor
+			}
+			final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+			final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+			addRingBufferAppender(loggingConcern, listAppender, 16, waitStrategy, OverflowPolicy.BLOCK);
+			final Logger logger = loggingConcern.getLogger(getClass());
+			final int threadCount = 4;
+			final int eventCount = 1000;
+			final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for(int t = 0; t < threadCount; t++) {
+					final String prefix = "t" + t + "-";
+					futures.add(executor.submit(() -> IntStream.range(0, eventCount).forEach(i -> logger.info(prefix + i))));
+				}
+				for(final Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+			loggingConcern.stop();
+			assertThat(waitStrategy.toString(), listAppender.list, hasSize(threadCount * eventCount));
+			for(int t = 0; t < threadCount; t++) {
+				final String prefix = "t" + t + "-";
+				final List<String> threadMessages = listAppender.list.stream().map(ILoggingEvent::getMessage).filter(message -> message.startsWith(prefix))
+						.collect(toList());
+				assertThat(threadMessages, is(IntStream.range(0, eventCount).mapToObj(i -> prefix + i).collect(toList())));
+			}
+			assertThat(listAppender.isStarted(), is(false));
+		}
+	}
+
+	/**
+	 * Tests that when the maximum flush time is exceeded, the background thread is interrupted and the attached appenders are stopped only after it has
+	 * exited.
+	 */
+	@Test
+	public void testStopAfterMaxFlushTime() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final BlockingAppender blockingAppender = new BlockingAppender();
+		final RingBufferAsyncAppender ringBufferAppender = addRingBufferAppender(loggingConcern, blockingAppender, 16, WaitStrategy.BLOCKING,
+				OverflowPolicy.BLOCK);
+		ringBufferAppender.setMaxFlushTime(50);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("first");
+		logger.info("second");
+		logger.info("third");
+		blockingAppender.entered.await();
+		ringBufferAppender.stop();
+		assertThat(blockingAppender.messages, contains("first"));
+		assertThat(blockingAppender.startedStates, contains(true));
+		assertThat(blockingAppender.isStarted(), is(false));
+	}
+
+	/** Tests that if the background thread does not exit when interrupted, the attached appenders are left running and an error is reported. */
+	@Test
+	public void testStopLeavesAppendersOfRunningWorker() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final BlockingAppender blockingAppender = new BlockingAppender();
+		blockingAppender.interruptible = false;
+		final RingBufferAsyncAppender ringBufferAppender = addRingBufferAppender(loggingConcern, blockingAppender, 16, WaitStrategy.BLOCKING,
+				OverflowPolicy.BLOCK);
+		ringBufferAppender.setMaxFlushTime(50);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("first");
+		logger.info("second");
+		blockingAppender.entered.await();
+		ringBufferAppender.stop();
+		assertThat(blockingAppender.isStarted(), is(true));
+		assertThat(loggingConcern.getStatusManager().getCopyOfStatusList().stream()
+				.anyMatch(status -> status.getLevel() == Status.ERROR && status.getMessage().contains("did not exit")), is(true));
+		blockingAppender.release.countDown();
+		assertThat(blockingAppender.startedStates, everyItem(is(true)));
+	}
+
+	/** Tests that the {@link OverflowPolicy#DROP_OLDEST} policy discards the oldest queued events without blocking the logging thread. */
+	@Test
+	public void testDropOldest() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final BlockingAppender blockingAppender = new BlockingAppender();
+		final RingBufferAsyncAppender ringBufferAppender = addRingBufferAppender(loggingConcern, blockingAppender, 4, WaitStrategy.BLOCKING,
+				OverflowPolicy.DROP_OLDEST);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("first"); //will be taken by the worker, which then blocks
+		assertThat(blockingAppender.entered.await(5, TimeUnit.SECONDS), is(true));
+		for(int i = 0; i < 10; i++) {
+			logger.info("event" + i);
+		}
+		assertThat(ringBufferAppender.getDroppedCount(), is(6L));
+		blockingAppender.release.countDown();
+		loggingConcern.stop();
+		assertThat(blockingAppender.messages, contains("first", "event6", "event7", "event8", "event9"));
+	}
+
+	/** Tests that the {@link OverflowPolicy#DROP_BELOW_LEVEL} policy discards only events below the overflow threshold. */
+	@Test
+	public void testDropBelowLevel() throws Exception {
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final BlockingAppender blockingAppender = new BlockingAppender();
+		final RingBufferAsyncAppender ringBufferAppender = addRingBufferAppender(loggingConcern, blockingAppender, 2, WaitStrategy.SLEEPING,
+				OverflowPolicy.DROP_BELOW_LEVEL);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		logger.info("first");
+		assertThat(blockingAppender.entered.await(5, TimeUnit.SECONDS), is(true));
+		logger.info("info0");
+		logger.info("info1");
+		logger.info("info2"); //buffer full; dropped
+		final Thread warnThread = new Thread(() -> logger.warn("warn")); //buffer full; blocks
+		warnThread.start();
+		warnThread.join(100);
+		assertThat(warnThread.isAlive(), is(true));
+		blockingAppender.release.countDown();
+		warnThread.join();
+		loggingConcern.stop();
+		assertThat(ringBufferAppender.getDroppedCount(), is(1L));
+		assertThat(blockingAppender.messages, contains("first", "info0", "info1", "warn"));
+	}
+
+	/** Tests that a separate logging concern with its own ring buffer appender continues to deliver events while another concern's buffer is full. */
+	@Test
+	public void testConcernsIsolated() throws Exception {
+		final LogbackLoggingConcern noisyLoggingConcern = new LogbackLoggingConcern();
+		final BlockingAppender blockingAppender = new BlockingAppender();
+		addRingBufferAppender(noisyLoggingConcern, blockingAppender, 2, WaitStrategy.YIELDING, OverflowPolicy.DROP_OLDEST);
+		final LogbackLoggingConcern quietLoggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		addRingBufferAppender(quietLoggingConcern, listAppender, 2, WaitStrategy.YIELDING, OverflowPolicy.BLOCK);
+		for(int i = 0; i < 100; i++) {
+			noisyLoggingConcern.getLogger(getClass()).info("noisy");
+		}
+		quietLoggingConcern.getLogger(getClass()).info("quiet");
+		quietLoggingConcern.stop();
+		assertThat(listAppender.list.stream().map(ILoggingEvent::getMessage).collect(toList()), contains("quiet"));
+		blockingAppender.release.countDown();
+		noisyLoggingConcern.stop();
+	}
+
+	/**
+	 * Tests that with deferred formatting a mutable argument is snapshotted on the logging thread under the default
+	 * {@link ArgumentSnapshotPolicy#SNAPSHOT_MUTABLE} policy, while under {@link ArgumentSnapshotPolicy#RETAIN} the worker sees later modifications.
+	 */
+	@Test
+	public void testDeferredFormattingArgumentSnapshot() throws Exception {
+		for(final ArgumentSnapshotPolicy argumentSnapshotPolicy : List.of(ArgumentSnapshotPolicy.SNAPSHOT_MUTABLE, ArgumentSnapshotPolicy.RETAIN)) {
+			final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+			final BlockingAppender blockingAppender = new BlockingAppender();
+			final RingBufferAsyncAppender ringBufferAppender = addRingBufferAppender(loggingConcern, blockingAppender, 4, WaitStrategy.BLOCKING,
+					OverflowPolicy.BLOCK);
+			ringBufferAppender.setDeferredFormatting(true);
+			ringBufferAppender.setArgumentSnapshotPolicy(argumentSnapshotPolicy);
+			final Logger logger = loggingConcern.getLogger(getClass());
+			logger.info("first"); //will be taken by the worker, which then blocks
+			assertThat(blockingAppender.entered.await(5, TimeUnit.SECONDS), is(true));
+			final StringBuilder stringBuilder = new StringBuilder("before");
+			logger.info("{} {}", stringBuilder, 1000);
+			stringBuilder.append("-after");
+			blockingAppender.release.countDown();
+			loggingConcern.stop();
+			final String expectedMessage = argumentSnapshotPolicy == ArgumentSnapshotPolicy.RETAIN ? "before-after 1000" : "before 1000";
+			assertThat(argumentSnapshotPolicy.toString(), blockingAppender.formattedMessages, contains("first", expectedMessage));
+		}
+	}
+
+	/**
+	 * Tests that a buffer size of one is rounded up so that a full slot is not overwritten, and that the events are all delivered.
+	 * @see RingBuffer#RingBuffer(int)
+	 */
+	@Test
+	public void testBufferSizeOne() throws Exception {
+		final RingBuffer<String> ringBuffer = new RingBuffer<>(1);
+		assertThat(ringBuffer.getCapacity(), is(2));
+		assertThat(ringBuffer.offer("a"), is(true));
+		assertThat(ringBuffer.offer("b"), is(true));
+		assertThat(ringBuffer.offer("c"), is(false));
+		assertThat(ringBuffer.poll(), is("a"));
+		assertThat(ringBuffer.poll(), is("b"));
+		assertThat(ringBuffer.poll(), is(nullValue()));
+		final LogbackLoggingConcern loggingConcern = new LogbackLoggingConcern();
+		final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+		addRingBufferAppender(loggingConcern, listAppender, 1, WaitStrategy.SLEEPING, OverflowPolicy.BLOCK);
+		final Logger logger = loggingConcern.getLogger(getClass());
+		final int eventCount = 100;
+		IntStream.range(0, eventCount).forEach(i -> logger.info("event-" + i));
+		loggingConcern.stop();
+		assertThat(listAppender.list.stream().map(ILoggingEvent::getMessage).collect(toList()),
+				is(IntStream.range(0, eventCount).mapToObj(i -> "event-" + i).collect(toList())));
+	}
+
+	/** Tests which arguments are snapshotted under each {@link ArgumentSnapshotPolicy}. */
+	@Test
+	public void testSnapshotArgument() {
+		final RingBufferAsyncAppender ringBufferAppender = new RingBufferAsyncAppender();
+		final Integer number = Integer.valueOf(1000);
+		final UUID uuid = UUID.randomUUID();
+		final StringBuilder stringBuilder = new StringBuilder("mutable");
+		assertThat(ringBufferAppender.snapshotArgument(null), is(nullValue()));
+		assertThat(ringBufferAppender.snapshotArgument(number), is(sameInstance(number)));
+		assertThat(ringBufferAppender.snapshotArgument(uuid), is(sameInstance(uuid)));
+		assertThat(ringBufferAppender.snapshotArgument(stringBuilder), is("mutable"));
+		final List<String> list = List.of("foo");
+		assertThat(ringBufferAppender.snapshotArgument(list), is("[foo]"));
+		ringBufferAppender.addImmutableType(list.getClass().getName());
+		assertThat(ringBufferAppender.snapshotArgument(list), is(sameInstance(list)));
+		ringBufferAppender.setArgumentSnapshotPolicy(ArgumentSnapshotPolicy.RETAIN);
+		assertThat(ringBufferAppender.snapshotArgument(stringBuilder), is(sameInstance(stringBuilder)));
+		ringBufferAppender.setArgumentSnapshotPolicy(ArgumentSnapshotPolicy.SNAPSHOT_ALL);
+		assertThat(ringBufferAppender.snapshotArgument(number), is("1000"));
+	}
+
+	/** Appender that blocks when appending until released, recording the messages of appended events. */
+	private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+		final CountDownLatch entered = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final List<String> messages = new CopyOnWriteArrayList<>();
+
+		final List<String> formattedMessages = new CopyOnWriteArrayList<>();
+
+		/** Whether this appender was started when each event was delivered. */
+		final List<Boolean> startedStates = new CopyOnWriteArrayList<>();
+
+		/** Whether waiting for release may be interrupted; if not, the interrupt status is restored once released. */
+		volatile boolean interruptible = true;
+
+		@Override
+		protected void append(final ILoggingEvent event) {
+			entered.countDown();
+			boolean interrupted = false;
+			while(true) {
+				try {
+					release.await();
+					break;
+				} catch(final InterruptedException interruptedException) {
+					interrupted = true;
+					if(interruptible) {
+						break;
+					}
+				}
+			}
+			if(interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			messages.add(event.getMessage());
+			formattedMessages.add(event.getFormattedMessage());
+			startedStates.add(isStarted());
+		}
+
+	}
+
+}
@@ -16,23 +16,90 @@
 
 package io.clogr;
 
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
 import org.slf4j.*;
+import org.slf4j.helpers.*;
 
 /**
  * A class to serve as the base for implementation-specific logging concerns. It implements default functionality as much as possible, in particular delegating
  * to the {@link LoggerFactory#getILoggerFactory()} lookup. Other functionalities such as setting the log level will be implementation-dependent and implemented
  * by subclasses.
+ * <p>
+ * The SLF4J logger factory is looked up once and then retained, and loggers retrieved from it are cached by name, so that repeated logger requests do not
+ * need to go through SLF4J's initialization checks or the factory's own lookup. If the system default SLF4J provider changes, {@link #refresh()} discards the
+ * retained factory and loggers.
+ * </p>
  * @author Garret Wilson
  */
 public abstract class BaseLoggingConcern implements LoggingConcern {
 
+	/** The SLF4J logger factory, or <code>null</code> if it has not yet been retrieved. */
+	@Nullable
+	private volatile ILoggerFactory delegateLoggerFactory = null;
+
+	/** The loggers retrieved from the delegate logger factory, keyed to logger name. */
+	private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+
+	/** The logger factory that returns cached loggers, retrieving them from the delegate logger factory as needed. */
+	private final ILoggerFactory loggerFactory = this::getCachedLogger;
+
+	/**
+	 * Returns the SLF4J logger factory to which logger requests are delegated, retrieving it if needed.
+	 * @implNote While SLF4J is still initializing it returns a temporary substitute logger factory, which is not retained.
+	 * @return The SLF4J logger factory.
+	 */
+	private ILoggerFactory getDelegateLoggerFactory() {
+		ILoggerFactory loggerFactory = delegateLoggerFactory;
+		if(loggerFactory == null) {
+			loggerFactory = LoggerFactory.getILoggerFactory();
+			if(!(loggerFactory instanceof SubstituteLoggerFactory)) { //don't retain the temporary factory used during initialization
+				delegateLoggerFactory = loggerFactory;
+			}
+		}
+		return loggerFactory;
+	}
+
+	/**
+	 * Returns the logger with the given name, retrieving it from the SLF4J logger factory and caching it if needed.
+	 * @implNote Substitute loggers returned while SLF4J is still initializing are not cached.
+	 * @param name The name of the logger.
+	 * @return The logger with the given name.
+	 */
+	private Logger getCachedLogger(@Nonnull final String name) {
+		final Logger cachedLogger = loggers.get(name);
+		if(cachedLogger != null) {
+			return cachedLogger;
+		}
+		final Logger logger = getDelegateLoggerFactory().getLogger(name);
+		if(logger instanceof SubstituteLogger) {
+			return logger;
+		}
+		final Logger existingLogger = loggers.putIfAbsent(name, logger);
+		return existingLogger != null ? existingLogger : logger;
+	}
+
 	/**
 	 * {@inheritDoc}
-	 * @implSpec This implementation delegates to {@link LoggerFactory#getILoggerFactory()}.
+	 * @implSpec This implementation returns a logger factory that delegates to {@link LoggerFactory#getILoggerFactory()}, which is retrieved on first use and
+	 *           then retained, and which caches loggers by name.
+	 * @see #refresh()
 	 */
 	@Override
 	public ILoggerFactory getLoggerFactory() {
-		return LoggerFactory.getILoggerFactory();
+		return loggerFactory;
+	}
+
+	/**
+	 * Discards the retained SLF4J logger factory and all cached loggers, so that they will be retrieved anew from SLF4J on next use.
+	 * @apiNote This method is useful if the system default SLF4J provider has changed, as with {@link Clogr#setSystemDefaultLoggingProvider(Class, boolean)},
+	 *          which calls this method for {@link LoggingConcern#DEFAULT}.
+	 */
+	public void refresh() {
+		delegateLoggerFactory = null;
+		loggers.clear();
 	}
 
 }
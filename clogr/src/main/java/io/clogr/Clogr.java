@@ -20,6 +20,7 @@
 
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.annotation.*;
 
@@ -57,32 +58,148 @@ public static Optional<LoggingConcern> findDefaultLoggingConcern() {
 
 	/**
 	 * Sets the default logging concern.
+	 * @implSpec This implementation invalidates any loggers cached by {@link #getLogger(Class)}, and emits a {@value ClogrEvents#CONCERN_SWITCH_EVENT_NAME}
+	 *           flight recorder event.
 	 * @param loggingConcern The default logging concern to set.
 	 * @return The previous concern, if any.
 	 * @throws NullPointerException if the given concern is <code>null</code>.
 	 * @see Csar#registerDefaultConcern(Class, Concern)
 	 */
 	public static Optional<LoggingConcern> setDefaultLoggingConcern(@Nonnull final LoggingConcern loggingConcern) {
-		return Csar.registerDefaultConcern(LoggingConcern.class, loggingConcern);
+		final Optional<LoggingConcern> oldLoggingConcern = Csar.registerDefaultConcern(LoggingConcern.class, loggingConcern);
+		LoggerCache.invalidate();
+		if(ClogrEvents.CONCERN_SWITCH_EVENT_TYPE.isEnabled()) {
+			final ClogrEvents.ConcernSwitchEvent event = new ClogrEvents.ConcernSwitchEvent();
+			if(event.shouldCommit()) {
+				event.scope = ClogrEvents.SCOPE_DEFAULT;
+				event.previousConcern = ClogrEvents.describe(oldLoggingConcern.orElse(null));
+				event.concern = ClogrEvents.describe(loggingConcern);
+				event.commit();
+			}
+		}
+		return oldLoggingConcern;
 	}
 
 	/**
 	 * Returns the configured logging concern for the current context.
 	 * <p>
-	 * If no logging concern is registered for the current context, and no default logging concern is registered, a default logging concern instance will be
-	 * returned that retrieves loggers with the equivalent of calling {@link LoggerFactory#getLogger(Class)}.
+	 * A logging concern bound to the current thread using {@link #runWith(LoggingConcern, Runnable)} or {@link #callWith(LoggingConcern, Callable)} takes
+	 * precedence. Otherwise the logging concern registered with Csar for the current context is returned. If no logging concern is registered for the current
+	 * context, and no default logging concern is registered, a default logging concern instance will be returned that retrieves loggers with the equivalent of
+	 * calling {@link LoggerFactory#getLogger(Class)}.
 	 * </p>
+	 * @implSpec This implementation emits a {@value ClogrEvents#CONCERN_RESOLUTION_EVENT_NAME} flight recorder event, which is disabled by default.
 	 * @return The configured logging concern for the current context.
 	 * @see Csar#getConcern(Class)
 	 * @see LoggingConcern#DEFAULT
 	 */
 	public static @Nonnull LoggingConcern getLoggingConcern() {
-		return Csar.findConcern(LoggingConcern.class).orElse(LoggingConcern.DEFAULT);
+		final LoggingConcern scopedLoggingConcern = LoggingConcernScope.find();
+		if(scopedLoggingConcern != null) {
+			return ClogrEvents.resolved(scopedLoggingConcern, ClogrEvents.SOURCE_SCOPE);
+		}
+		return ClogrEvents.resolved(Csar.findConcern(LoggingConcern.class).orElse(LoggingConcern.DEFAULT), ClogrEvents.SOURCE_CSAR);
+	}
+
+	/**
+	 * Runs an operation with the given logging concern as the current logging concern of the current thread. When the operation completes, the current
+	 * logging concern reverts to what it was before.
+	 * <p>
+	 * If the Java platform supports scoped values, the logging concern is bound using a <code>java.lang.ScopedValue</code>, which uses no per-thread storage
+	 * and is inherited by subtasks forked within a structured task scope, making this method appropriate for use with virtual threads. Otherwise the logging
+	 * concern is bound using a thread-local variable for the duration of the operation. In either case the binding takes precedence over any concern
+	 * registered with Csar.
+	 * </p>
+	 * @apiNote Unlike {@link Csar#run(Runnable, Concern...)}, this method does not create a new thread but runs the operation in the current thread.
+	 * @param loggingConcern The logging concern to use during the operation.
+	 * @param runnable The operation to run.
+	 * @throws NullPointerException if the given logging concern and/or runnable is <code>null</code>.
+	 * @see #getLoggingConcern()
+	 */
+	public static void runWith(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Runnable runnable) {
+		LoggingConcernScope.run(loggingConcern, runnable);
+	}
+
+	/**
+	 * Calls an operation with the given logging concern as the current logging concern of the current thread, returning the result. When the operation
+	 * completes, the current logging concern reverts to what it was before.
+	 * <p>
+	 * If the Java platform supports scoped values, the logging concern is bound using a <code>java.lang.ScopedValue</code>, which uses no per-thread storage
+	 * and is inherited by subtasks forked within a structured task scope, making this method appropriate for use with virtual threads. Otherwise the logging
+	 * concern is bound using a thread-local variable for the duration of the operation. In either case the binding takes precedence over any concern
+	 * registered with Csar.
+	 * </p>
+	 * @apiNote Unlike {@link Csar#run(Runnable, Concern...)}, this method does not create a new thread but calls the operation in the current thread.
+	 * @param <V> The type of value returned by the operation.
+	 * @param loggingConcern The logging concern to use during the operation.
+	 * @param callable The operation to call.
+	 * @return The result of the operation.
+	 * @throws NullPointerException if the given logging concern and/or callable is <code>null</code>.
+	 * @throws Exception if the operation throws an exception.
+	 * @see #getLoggingConcern()
+	 */
+	public static <V> V callWith(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Callable<V> callable) throws Exception {
+		return LoggingConcernScope.call(loggingConcern, callable);
+	}
+
+	/**
+	 * Wraps an executor so that each task runs with the logging concern that was current when the task was submitted.
+	 * @apiNote This allows logging from tasks running in thread pools to be routed to the logging concern of the submitting code, e.g. when providing an
+	 *          executor to {@link java.util.concurrent.CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)}.
+	 * @implSpec The logging concern is resolved at submission using {@link #getLoggingConcern()}, and bound around execution using
+	 *           {@link #runWith(LoggingConcern, Runnable)}. The only per-task allocation is that of the wrapper carrying the task and its concern.
+	 * @param executor The executor to wrap.
+	 * @return An executor that propagates the logging concern to the tasks it executes.
+	 * @throws NullPointerException if the given executor is <code>null</code>.
+	 */
+	public static Executor wrap(@Nonnull final Executor executor) {
+		return new LoggingConcernExecutors.LoggingConcernExecutor(executor);
+	}
+
+	/**
+	 * Wraps an executor service so that each task runs with the logging concern that was current when the task was submitted. Lifecycle methods such as
+	 * {@link ExecutorService#shutdown()} are delegated to the wrapped executor service.
+	 * @implSpec The logging concern is resolved at submission using {@link #getLoggingConcern()}, and bound around execution using
+	 *           {@link #runWith(LoggingConcern, Runnable)} or {@link #callWith(LoggingConcern, Callable)}. The only per-task allocation is that of the wrapper
+	 *           carrying the task and its concern.
+	 * @param executorService The executor service to wrap.
+	 * @return An executor service that propagates the logging concern to the tasks it executes.
+	 * @throws NullPointerException if the given executor service is <code>null</code>.
+	 */
+	public static ExecutorService wrap(@Nonnull final ExecutorService executorService) {
+		return new LoggingConcernExecutors.LoggingConcernExecutorService(executorService);
+	}
+
+	/**
+	 * Creates a fork/join pool in which all tasks run with the logging concern that is current when the pool is created.
+	 * @apiNote Tasks forked within the pool, including those of parallel streams executed within the pool, will run with the same logging concern.
+	 * @implSpec The logging concern is resolved using {@link #getLoggingConcern()} and bound to each worker thread for its entire lifetime, so that there is no
+	 *           per-task overhead.
+	 * @param parallelism The parallelism level of the pool.
+	 * @return A new fork/join pool bound to the current logging concern.
+	 * @throws IllegalArgumentException if the parallelism is less than or equal to zero, or greater than the implementation limit.
+	 * @see ForkJoinPool#ForkJoinPool(int, ForkJoinPool.ForkJoinWorkerThreadFactory, Thread.UncaughtExceptionHandler, boolean)
+	 */
+	public static ForkJoinPool newForkJoinPool(final int parallelism) {
+		return new ForkJoinPool(parallelism, new LoggingConcernExecutors.LoggingConcernForkJoinWorkerThreadFactory(getLoggingConcern()), null, false);
+	}
+
+	/**
+	 * Creates a fork/join pool in which all tasks run with the logging concern that is current when the pool is created, using a parallelism level equal to
+	 * the number of available processors.
+	 * @return A new fork/join pool bound to the current logging concern.
+	 * @see #newForkJoinPool(int)
+	 */
+	public static ForkJoinPool newForkJoinPool() {
+		return newForkJoinPool(Runtime.getRuntime().availableProcessors());
 	}
 
 	/**
 	 * Returns an appropriate logger for the current context.
 	 * @apiNote This is a convenience method that requests a logger from the current context logging concern.
+	 * @implSpec The logging concern is resolved on each call, so that changes to concern registration are always honored. The logger is cached per context
+	 *           class and logging concern, so that repeated requests for the same class from the same logging concern do not need to consult the concern's
+	 *           logger factory. The cache is invalidated when the default logging concern is changed using {@link #setDefaultLoggingConcern(LoggingConcern)}.
 	 * @param contextClass The context for which logging is to be performed.
 	 * @return A logger instance to use with the given context class in the current context.
 	 * @throws NullPointerException if the given context class is <code>null</code>.
@@ -90,7 +207,20 @@ public static Optional<LoggingConcern> setDefaultLoggingConcern(@Nonnull final L
 	 * @see LoggingConcern#getLogger(Class)
 	 */
 	public static @Nonnull Logger getLogger(@Nonnull final Class<?> contextClass) {
-		return getLoggingConcern().getLogger(contextClass);
+		return LoggerCache.getLogger(getLoggingConcern(), contextClass);
+	}
+
+	/**
+	 * Returns a logger that routes each logging call to the appropriate logger of whatever logging concern is current at the time of the call.
+	 * @apiNote Unlike the logger returned by {@link #getLogger(Class)}, which is bound to the logging concern current when it is retrieved, the returned logger
+	 *          may be stored in a <code>static</code> variable and still honor compartmentalized logging configurations.
+	 * @param contextClass The context for which logging is to be performed.
+	 * @return A logger instance to use with the given context class in any context.
+	 * @throws NullPointerException if the given context class is <code>null</code>.
+	 * @see DynamicLogger
+	 */
+	public static @Nonnull Logger dynamicLogger(@Nonnull final Class<?> contextClass) {
+		return new DynamicLogger(contextClass);
 	}
 
 	/**
@@ -129,7 +259,8 @@ public static void setSystemDefaultLoggingProvider(@Nonnull final Class<? extend
 	 * @apiNote This method is useful for specifying a particular SLF4J logging provider to use if multiple providers are available on the classpath; or
 	 *          explicitly setting the logging provider so that the classpath will not be scanned, in order to lower startup times; or supplying a provider to
 	 *          use, such as a NOP provider, if no provider is on the classpath at all.
-	 * @implSpec This implementation sets the {@value LoggerFactory#PROVIDER_PROPERTY_KEY} system property.
+	 * @implSpec This implementation sets the {@value LoggerFactory#PROVIDER_PROPERTY_KEY} system property, and then refreshes {@link LoggingConcern#DEFAULT}
+	 *           and the default logging concern, if they are instances of {@link BaseLoggingConcern}, as well as any loggers cached by {@link #getLogger(Class)}.
 	 * @implNote This implementation immediately "locks in" the new value by initializing SLF4J, so that future calls to this method will have no effect on the
 	 *           default provider actually used. This is done to suppress an output to <code>stderr</code> noting that an explicit provider is being used. This
 	 *           behavior may be removed when SLF4J discontinues sending such a message to <code>stderr</code>; see
@@ -167,6 +298,12 @@ public static boolean setSystemDefaultLoggingProvider(@Nonnull final Class<? ext
 		} finally {
 			System.setErr(originalSystemErr);
 		}
+		//loggers from the system default logging concern may have come from another provider
+		if(LoggingConcern.DEFAULT instanceof BaseLoggingConcern) {
+			((BaseLoggingConcern)LoggingConcern.DEFAULT).refresh();
+		}
+		findDefaultLoggingConcern().filter(BaseLoggingConcern.class::isInstance).map(BaseLoggingConcern.class::cast).ifPresent(BaseLoggingConcern::refresh);
+		LoggerCache.invalidate();
 		return true;
 	}
 
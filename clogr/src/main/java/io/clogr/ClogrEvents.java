@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.Set;
+
+import javax.annotation.*;
+
+import org.slf4j.event.Level;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder events emitted by Clogr, allowing logging activity to be correlated with other activity in a flight recording.
+ * <p>
+ * All events are in the {@value #CATEGORY} category and may be enabled, disabled, and configured using JFR settings like any other events. Before an event is
+ * created, whether it is enabled is checked using its {@link LazyEventType}; if the flight recorder has never been initialized, this is only a check of a
+ * static flag, and otherwise a check of the cached event type. No event is created when the event is disabled.
+ * </p>
+ * <ul>
+ * <li>{@value #LOG_EVENT_NAME}: a logging call made through a {@link JfrLoggingConcern}, with a duration covering the call. The additional setting
+ * <code>level</code> specifies the minimum level of events to record, such as <code>DEBUG</code>.</li>
+ * <li>{@value #CONCERN_RESOLUTION_EVENT_NAME}: a resolution of the current logging concern by {@link Clogr#getLoggingConcern()}. Disabled by default, as
+ * resolution may occur for every logging call of a {@link DynamicLogger}.</li>
+ * <li>{@value #CONCERN_SWITCH_EVENT_NAME}: a change of the default logging concern, or a binding of a logging concern to the current thread for the duration
+ * of some operation.</li>
+ * </ul>
+ * @author Garret Wilson
+ */
+final class ClogrEvents {
+
+	private ClogrEvents() {
+	}
+
+	/** The category of all Clogr events. */
+	static final String CATEGORY = "Clogr";
+
+	/** The name of the event for a logging call. */
+	static final String LOG_EVENT_NAME = "io.clogr.Log";
+
+	/** The name of the event for a logging concern resolution. */
+	static final String CONCERN_RESOLUTION_EVENT_NAME = "io.clogr.LoggingConcernResolution";
+
+	/** The name of the event for a logging concern switch. */
+	static final String CONCERN_SWITCH_EVENT_NAME = "io.clogr.LoggingConcernSwitch";
+
+	/** The resolution source indicating a logging concern bound to the current thread. */
+	static final String SOURCE_SCOPE = "scope";
+
+	/** The resolution source indicating a logging concern registered with Csar, or the default logging concern if none is registered. */
+	static final String SOURCE_CSAR = "csar";
+
+	/** The switch scope indicating a change of the default logging concern. */
+	static final String SCOPE_DEFAULT = "default";
+
+	/** The switch scope indicating a logging concern bound to the current thread. */
+	static final String SCOPE_THREAD = "thread";
+
+	/** The type of the event for a logging call. */
+	static final LazyEventType LOG_EVENT_TYPE = new LazyEventType(LogEvent.class);
+
+	/** The type of the event for a logging concern resolution. */
+	static final LazyEventType CONCERN_RESOLUTION_EVENT_TYPE = new LazyEventType(ConcernResolutionEvent.class);
+
+	/** The type of the event for a logging concern switch. */
+	static final LazyEventType CONCERN_SWITCH_EVENT_TYPE = new LazyEventType(ConcernSwitchEvent.class);
+
+	/**
+	 * Describes a logging concern for inclusion in an event.
+	 * @apiNote A logging concern such as a Logback logger context includes its name in its string form, allowing events to be attributed to e.g. a tenant.
+	 * @param loggingConcern The logging concern, which may be <code>null</code>.
+	 * @return The description of the logging concern, or <code>null</code> if no logging concern was given.
+	 */
+	@Nullable
+	static String describe(@Nullable final LoggingConcern loggingConcern) {
+		return loggingConcern != null ? loggingConcern.toString() : null;
+	}
+
+	/**
+	 * Emits an event indicating that a logging concern was resolved.
+	 * @param loggingConcern The resolved logging concern.
+	 * @param source The source from which the logging concern was resolved.
+	 * @return The given logging concern.
+	 */
+	static LoggingConcern resolved(@Nonnull final LoggingConcern loggingConcern, @Nonnull final String source) {
+		if(!CONCERN_RESOLUTION_EVENT_TYPE.isEnabled()) {
+			return loggingConcern;
+		}
+		final ConcernResolutionEvent event = new ConcernResolutionEvent();
+		if(event.shouldCommit()) {
+			event.concern = describe(loggingConcern);
+			event.source = source;
+			event.commit();
+		}
+		return loggingConcern;
+	}
+
+	/**
+	 * The type of an event, obtained only once the flight recorder has been initialized, allowing whether the event is enabled to be checked without creating
+	 * an event.
+	 * @implNote Obtaining an event type initializes the flight recorder metadata, which may take hundreds of milliseconds. Because no recording can be in
+	 *           progress before the flight recorder has been initialized, the event type is not obtained until then, so that programs not using the flight
+	 *           recorder do not pay that cost.
+	 * @author Garret Wilson
+	 */
+	static final class LazyEventType {
+
+		private final Class<? extends Event> eventClass;
+
+		/** The event type, or <code>null</code> if it has not yet been obtained. */
+		@Nullable
+		private volatile EventType eventType = null;
+
+		/**
+		 * Constructor.
+		 * @param eventClass The class of the event.
+		 */
+		LazyEventType(@Nonnull final Class<? extends Event> eventClass) {
+			this.eventClass = requireNonNull(eventClass);
+		}
+
+		/** @return Whether the event is enabled in any recording; <code>false</code> if the flight recorder has not been initialized. */
+		boolean isEnabled() {
+			if(!FlightRecorder.isInitialized()) {
+				return false;
+			}
+			EventType eventType = this.eventType;
+			if(eventType == null) { //a race would only obtain the same event type again
+				eventType = EventType.getEventType(eventClass);
+				this.eventType = eventType;
+			}
+			return eventType.isEnabled();
+		}
+
+	}
+
+	/**
+	 * Event for a logging call.
+	 * @author Garret Wilson
+	 */
+	@Name(LOG_EVENT_NAME)
+	@Label("Log")
+	@Category(CATEGORY)
+	@Description("A logging call made through a Clogr logging concern.")
+	@StackTrace(false)
+	@Threshold("0 ms")
+	static final class LogEvent extends Event {
+
+		@Label("Level")
+		String level;
+
+		@Label("Logger")
+		String logger;
+
+		@Label("Message Format")
+		String format;
+
+		@Label("Logging Concern")
+		String concern;
+
+		/** The integer value of the level, for comparison with the level setting. */
+		transient int levelValue;
+
+		/**
+		 * Determines whether the event is at or above the minimum level to record.
+		 * @param levelSetting The level setting.
+		 * @return <code>true</code> if the event should be recorded.
+		 */
+		@SettingDefinition
+		@Name("level")
+		@Label("Level")
+		@Description("The minimum level of log events to record.")
+		protected boolean level(final LevelSetting levelSetting) {
+			return levelValue >= levelSetting.minimumLevelValue;
+		}
+
+	}
+
+	/**
+	 * Setting of the minimum level of log events to record, such as <code>DEBUG</code>. When several recordings specify different levels, the least severe
+	 * level is used. Defaults to <code>INFO</code>; an unrecognized level is ignored.
+	 * @author Garret Wilson
+	 */
+	public static final class LevelSetting extends SettingControl {
+
+		/** The default minimum level. */
+		static final Level DEFAULT_LEVEL = Level.INFO;
+
+		private volatile Level minimumLevel = DEFAULT_LEVEL;
+
+		/** The integer value of the minimum level. */
+		volatile int minimumLevelValue = DEFAULT_LEVEL.toInt();
+
+		@Override
+		public String combine(final Set<String> settingValues) {
+			Level combinedLevel = null;
+			for(final String settingValue : settingValues) {
+				final Level level = parseLevel(settingValue);
+				if(level != null && (combinedLevel == null || level.toInt() < combinedLevel.toInt())) {
+					combinedLevel = level;
+				}
+			}
+			return (combinedLevel != null ? combinedLevel : DEFAULT_LEVEL).name();
+		}
+
+		@Override
+		public void setValue(final String settingValue) {
+			final Level level = parseLevel(settingValue);
+			if(level != null) {
+				minimumLevel = level;
+				minimumLevelValue = level.toInt();
+			}
+		}
+
+		@Override
+		public String getValue() {
+			return minimumLevel.name();
+		}
+
+		/**
+		 * Parses a level setting.
+		 * @param settingValue The setting value, which may be <code>null</code>.
+		 * @return The level, or <code>null</code> if the value is not a recognized level.
+		 */
+		@Nullable
+		private static Level parseLevel(@Nullable final String settingValue) {
+			if(settingValue != null) {
+				for(final Level level : Level.values()) {
+					if(level.name().equalsIgnoreCase(settingValue.trim())) {
+						return level;
+					}
+				}
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Event for a resolution of the current logging concern.
+	 * @author Garret Wilson
+	 */
+	@Name(CONCERN_RESOLUTION_EVENT_NAME)
+	@Label("Logging Concern Resolution")
+	@Category(CATEGORY)
+	@Description("A resolution of the logging concern for the current context.")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class ConcernResolutionEvent extends Event {
+
+		@Label("Logging Concern")
+		String concern;
+
+		@Label("Source")
+		@Description("Whether the logging concern was bound to the current thread or registered with Csar.")
+		String source;
+
+	}
+
+	/**
+	 * Event for a switch of logging concern, either of the default logging concern or of the logging concern bound to the current thread for some operation.
+	 * For a binding, the duration of the event covers the operation.
+	 * @author Garret Wilson
+	 */
+	@Name(CONCERN_SWITCH_EVENT_NAME)
+	@Label("Logging Concern Switch")
+	@Category(CATEGORY)
+	@Description("A change of the default logging concern, or a binding of a logging concern to the current thread for the duration of an operation.")
+	@StackTrace(false)
+	static final class ConcernSwitchEvent extends Event {
+
+		@Label("Scope")
+		@Description("Whether the default logging concern changed or a logging concern was bound to the current thread.")
+		String scope;
+
+		@Label("Previous Logging Concern")
+		String previousConcern;
+
+		@Label("Logging Concern")
+		String concern;
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import javax.annotation.*;
+
+import org.slf4j.Logger;
+
+import io.clogr.LoggerCache.Entry;
+
+/**
+ * A logger that routes each logging call to the logger of the logging concern current at the time of the call.
+ * <p>
+ * Unlike a logger retrieved via {@link Clogr#getLogger(Class)}, which is bound to the logging concern that was current when it was retrieved, a dynamic logger
+ * may safely be stored in a <code>static</code> variable and used from any logging concern context:
+ * </p>
+ * <pre>{@code
+ * private static final Logger LOGGER = Clogr.dynamicLogger(MyClass.class);
+ * }</pre>
+ * <p>
+ * Each call resolves the current logging concern exactly once, and then consults a small inline cache of loggers per concern. The first concern encountered
+ * occupies a dedicated primary entry, so that the common case of a single logging concern involves a single identity comparison; loggers for other concerns
+ * are kept in a few secondary entries that are replaced in round-robin order. Checking whether a level is enabled allocates no objects once the cache is
+ * populated.
+ * </p>
+ * @implNote Cache entries are immutable and are published without synchronization; a racing thread may see an older entry, which is harmless as it will either
+ *           match or cause the logger to be resolved again.
+ * @author Garret Wilson
+ * @see Clogr#dynamicLogger(Class)
+ */
+public final class DynamicLogger extends ForwardingLogger {
+
+	/** The number of secondary cache entries for loggers of concerns other than the primary concern. */
+	private static final int SECONDARY_CACHE_SIZE = 4;
+
+	private final Class<?> contextClass;
+
+	/** @return The context class for which loggers are retrieved. */
+	public Class<?> getContextClass() {
+		return contextClass;
+	}
+
+	/** The cache entry for the primary concern, or <code>null</code> if not yet resolved. */
+	@Nullable
+	private Entry primaryEntry = null;
+
+	/** The cache entries for other concerns. */
+	private final Entry[] secondaryEntries = new Entry[SECONDARY_CACHE_SIZE];
+
+	/** The index of the next secondary entry to replace. */
+	private int nextSecondaryIndex = 0;
+
+	/**
+	 * Context class constructor.
+	 * @param contextClass The context for which logging is to be performed.
+	 * @throws NullPointerException if the given context class is <code>null</code>.
+	 */
+	DynamicLogger(@Nonnull final Class<?> contextClass) {
+		this.contextClass = requireNonNull(contextClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the name of the context class, without resolving a logging concern.
+	 */
+	@Override
+	public String getName() {
+		return contextClass.getName();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns the logger for the context class from the logging concern current for this thread, using cached loggers where
+	 *           possible.
+	 * @see Clogr#getLoggingConcern()
+	 */
+	@Override
+	protected Logger getDelegate() {
+		final LoggingConcern loggingConcern = Clogr.getLoggingConcern();
+		final int generation = LoggerCache.generation();
+		final Entry primary = primaryEntry;
+		if(primary != null && primary.loggingConcern == loggingConcern && primary.generation == generation) {
+			return primary.logger;
+		}
+		return getDelegateSlow(loggingConcern, generation);
+	}
+
+	/**
+	 * Returns the logger for the given concern, consulting the secondary cache entries and resolving a new logger if needed.
+	 * @apiNote This method is separate from {@link #getDelegate()} so that the primary fast path remains small enough to be inlined.
+	 * @param loggingConcern The current logging concern.
+	 * @param generation The current logger cache generation.
+	 * @return The logger for the context class from the given logging concern.
+	 */
+	private Logger getDelegateSlow(@Nonnull final LoggingConcern loggingConcern, final int generation) {
+		final Entry primary = primaryEntry;
+		if(primary == null || primary.generation != generation) { //the first concern (in this generation) becomes the primary concern
+			final Entry entry = new Entry(loggingConcern, loggingConcern.getLogger(contextClass), generation);
+			primaryEntry = entry;
+			return entry.logger;
+		}
+		final Entry[] entries = secondaryEntries;
+		for(final Entry entry : entries) {
+			if(entry != null && entry.loggingConcern == loggingConcern && entry.generation == generation) {
+				return entry.logger;
+			}
+		}
+		final Entry entry = new Entry(loggingConcern, loggingConcern.getLogger(contextClass), generation);
+		final int index = nextSecondaryIndex;
+		entries[index] = entry;
+		nextSecondaryIndex = (index + 1) % entries.length;
+		return entry.logger;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + getName() + ")";
+	}
+
+}
@@ -0,0 +1,581 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.spi.*;
+
+/**
+ * Abstract logger that forwards all logging calls to a delegate logger.
+ * <p>
+ * The delegate is retrieved anew for each call via {@link #getDelegate()}, allowing subclasses to determine the delegate dynamically. Each call retrieves the
+ * delegate exactly once.
+ * </p>
+ * <p>
+ * Logging calls are forwarded as location-aware calls identifying this class as the boundary of the logging framework, so that caller data such as the file,
+ * method, and line number reported by the logging implementation are those of the code calling this logger. Calls with one or two arguments are forwarded only
+ * if the delegate has the level enabled, so that no argument array is allocated for disabled calls.
+ * </p>
+ * <p>
+ * Subclasses may restrict which calls are forwarded by overriding {@link #isPermitted(Logger, Level, Marker, String)}, and may perform work around each
+ * forwarded call by overriding {@link #beginLog(Logger, Level, Marker, String)} and {@link #endLog(Object, Logger, Level, Marker, String)}. These hooks
+ * return before the delegate is invoked or are invoked after it returns, so that the frames of this class remain the only frames between the caller and the
+ * delegate. For the same reason the logging methods themselves are final.
+ * </p>
+ * @implNote This class is public so that the compiler does not generate bridge methods in public subclasses, which would appear in the call stack between the
+ *           caller and this class and thus be reported as the caller. The SLF4J fluent API is supported by forwarding
+ *           {@link #makeLoggingEventBuilder(Level)} to the delegate, so that logging event builders, including any key-value pairs, are those of the delegate
+ *           logger.
+ * @author Garret Wilson
+ */
+public abstract class ForwardingLogger implements LocationAwareLogger {
+
+	/** The fully qualified name of this class, identifying the boundary between the caller and the logging framework. */
+	static final String FQCN = ForwardingLogger.class.getName();
+
+	/**
+	 * Returns the logger to which a logging call should be forwarded.
+	 * @return The current delegate logger.
+	 */
+	protected abstract @Nonnull Logger getDelegate();
+
+	@Override
+	public LoggingEventBuilder makeLoggingEventBuilder(final Level level) {
+		return getDelegate().makeLoggingEventBuilder(level);
+	}
+
+	@Override
+	public boolean isEnabledForLevel(final Level level) {
+		return getDelegate().isEnabledForLevel(level);
+	}
+
+	@Override
+	public LoggingEventBuilder atLevel(final Level level) {
+		return getDelegate().atLevel(level);
+	}
+
+	@Override
+	public LoggingEventBuilder atTrace() {
+		return getDelegate().atTrace();
+	}
+
+	@Override
+	public LoggingEventBuilder atDebug() {
+		return getDelegate().atDebug();
+	}
+
+	@Override
+	public LoggingEventBuilder atInfo() {
+		return getDelegate().atInfo();
+	}
+
+	@Override
+	public LoggingEventBuilder atWarn() {
+		return getDelegate().atWarn();
+	}
+
+	@Override
+	public LoggingEventBuilder atError() {
+		return getDelegate().atError();
+	}
+
+	@Override
+	public boolean isTraceEnabled() {
+		return getDelegate().isTraceEnabled();
+	}
+
+	@Override
+	public final void trace(final String msg) {
+		forward(getDelegate(), FQCN, Level.TRACE, null, msg, null, null);
+	}
+
+	@Override
+	public final void trace(final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isTraceEnabled()) {
+			forward(delegate, FQCN, Level.TRACE, null, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void trace(final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isTraceEnabled()) {
+			forward(delegate, FQCN, Level.TRACE, null, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void trace(final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.TRACE, null, format, arguments, null);
+	}
+
+	@Override
+	public final void trace(final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.TRACE, null, msg, null, t);
+	}
+
+	@Override
+	public boolean isTraceEnabled(final Marker marker) {
+		return getDelegate().isTraceEnabled(marker);
+	}
+
+	@Override
+	public final void trace(final Marker marker, final String msg) {
+		forward(getDelegate(), FQCN, Level.TRACE, marker, msg, null, null);
+	}
+
+	@Override
+	public final void trace(final Marker marker, final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isTraceEnabled(marker)) {
+			forward(delegate, FQCN, Level.TRACE, marker, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isTraceEnabled(marker)) {
+			forward(delegate, FQCN, Level.TRACE, marker, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void trace(final Marker marker, final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.TRACE, marker, format, arguments, null);
+	}
+
+	@Override
+	public final void trace(final Marker marker, final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.TRACE, marker, msg, null, t);
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return getDelegate().isDebugEnabled();
+	}
+
+	@Override
+	public final void debug(final String msg) {
+		forward(getDelegate(), FQCN, Level.DEBUG, null, msg, null, null);
+	}
+
+	@Override
+	public final void debug(final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isDebugEnabled()) {
+			forward(delegate, FQCN, Level.DEBUG, null, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void debug(final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isDebugEnabled()) {
+			forward(delegate, FQCN, Level.DEBUG, null, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void debug(final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.DEBUG, null, format, arguments, null);
+	}
+
+	@Override
+	public final void debug(final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.DEBUG, null, msg, null, t);
+	}
+
+	@Override
+	public boolean isDebugEnabled(final Marker marker) {
+		return getDelegate().isDebugEnabled(marker);
+	}
+
+	@Override
+	public final void debug(final Marker marker, final String msg) {
+		forward(getDelegate(), FQCN, Level.DEBUG, marker, msg, null, null);
+	}
+
+	@Override
+	public final void debug(final Marker marker, final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isDebugEnabled(marker)) {
+			forward(delegate, FQCN, Level.DEBUG, marker, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isDebugEnabled(marker)) {
+			forward(delegate, FQCN, Level.DEBUG, marker, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void debug(final Marker marker, final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.DEBUG, marker, format, arguments, null);
+	}
+
+	@Override
+	public final void debug(final Marker marker, final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.DEBUG, marker, msg, null, t);
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return getDelegate().isInfoEnabled();
+	}
+
+	@Override
+	public final void info(final String msg) {
+		forward(getDelegate(), FQCN, Level.INFO, null, msg, null, null);
+	}
+
+	@Override
+	public final void info(final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isInfoEnabled()) {
+			forward(delegate, FQCN, Level.INFO, null, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void info(final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isInfoEnabled()) {
+			forward(delegate, FQCN, Level.INFO, null, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void info(final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.INFO, null, format, arguments, null);
+	}
+
+	@Override
+	public final void info(final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.INFO, null, msg, null, t);
+	}
+
+	@Override
+	public boolean isInfoEnabled(final Marker marker) {
+		return getDelegate().isInfoEnabled(marker);
+	}
+
+	@Override
+	public final void info(final Marker marker, final String msg) {
+		forward(getDelegate(), FQCN, Level.INFO, marker, msg, null, null);
+	}
+
+	@Override
+	public final void info(final Marker marker, final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isInfoEnabled(marker)) {
+			forward(delegate, FQCN, Level.INFO, marker, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isInfoEnabled(marker)) {
+			forward(delegate, FQCN, Level.INFO, marker, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void info(final Marker marker, final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.INFO, marker, format, arguments, null);
+	}
+
+	@Override
+	public final void info(final Marker marker, final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.INFO, marker, msg, null, t);
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return getDelegate().isWarnEnabled();
+	}
+
+	@Override
+	public final void warn(final String msg) {
+		forward(getDelegate(), FQCN, Level.WARN, null, msg, null, null);
+	}
+
+	@Override
+	public final void warn(final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isWarnEnabled()) {
+			forward(delegate, FQCN, Level.WARN, null, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void warn(final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isWarnEnabled()) {
+			forward(delegate, FQCN, Level.WARN, null, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void warn(final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.WARN, null, format, arguments, null);
+	}
+
+	@Override
+	public final void warn(final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.WARN, null, msg, null, t);
+	}
+
+	@Override
+	public boolean isWarnEnabled(final Marker marker) {
+		return getDelegate().isWarnEnabled(marker);
+	}
+
+	@Override
+	public final void warn(final Marker marker, final String msg) {
+		forward(getDelegate(), FQCN, Level.WARN, marker, msg, null, null);
+	}
+
+	@Override
+	public final void warn(final Marker marker, final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isWarnEnabled(marker)) {
+			forward(delegate, FQCN, Level.WARN, marker, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isWarnEnabled(marker)) {
+			forward(delegate, FQCN, Level.WARN, marker, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void warn(final Marker marker, final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.WARN, marker, format, arguments, null);
+	}
+
+	@Override
+	public final void warn(final Marker marker, final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.WARN, marker, msg, null, t);
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return getDelegate().isErrorEnabled();
+	}
+
+	@Override
+	public final void error(final String msg) {
+		forward(getDelegate(), FQCN, Level.ERROR, null, msg, null, null);
+	}
+
+	@Override
+	public final void error(final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isErrorEnabled()) {
+			forward(delegate, FQCN, Level.ERROR, null, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void error(final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isErrorEnabled()) {
+			forward(delegate, FQCN, Level.ERROR, null, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void error(final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.ERROR, null, format, arguments, null);
+	}
+
+	@Override
+	public final void error(final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.ERROR, null, msg, null, t);
+	}
+
+	@Override
+	public boolean isErrorEnabled(final Marker marker) {
+		return getDelegate().isErrorEnabled(marker);
+	}
+
+	@Override
+	public final void error(final Marker marker, final String msg) {
+		forward(getDelegate(), FQCN, Level.ERROR, marker, msg, null, null);
+	}
+
+	@Override
+	public final void error(final Marker marker, final String format, final Object arg) {
+		final Logger delegate = getDelegate();
+		if(delegate.isErrorEnabled(marker)) {
+			forward(delegate, FQCN, Level.ERROR, marker, format, new Object[] {arg}, null);
+		}
+	}
+
+	@Override
+	public final void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+		final Logger delegate = getDelegate();
+		if(delegate.isErrorEnabled(marker)) {
+			forward(delegate, FQCN, Level.ERROR, marker, format, new Object[] {arg1, arg2}, null);
+		}
+	}
+
+	@Override
+	public final void error(final Marker marker, final String format, final Object... arguments) {
+		forward(getDelegate(), FQCN, Level.ERROR, marker, format, arguments, null);
+	}
+
+	@Override
+	public final void error(final Marker marker, final String msg, final Throwable t) {
+		forward(getDelegate(), FQCN, Level.ERROR, marker, msg, null, t);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation forwards the call to the delegate logger, retaining the given caller boundary, so that forwarding loggers may delegate to
+	 *           each other without affecting the caller data determined by the logging implementation.
+	 */
+	@Override
+	public final void log(final Marker marker, final String fqcn, final int level, final String message, final Object[] argArray, final Throwable t) {
+		forward(getDelegate(), fqcn, Level.intToLevel(level), marker, message, argArray, t);
+	}
+
+	/**
+	 * Determines whether a logging call should be forwarded to the delegate logger. This method is called for every logging call before it is forwarded,
+	 * although the delegate may not have the level of the call enabled.
+	 * @implSpec The default implementation returns <code>true</code>.
+	 * @param delegate The delegate logger to which the call would be forwarded.
+	 * @param level The level of the call.
+	 * @param marker The marker of the call, or <code>null</code> if none.
+	 * @param message The message or format string, or <code>null</code> if none.
+	 * @return <code>true</code> if the call should be forwarded to the delegate logger.
+	 */
+	protected boolean isPermitted(@Nonnull final Logger delegate, @Nonnull final Level level, @Nullable final Marker marker, @Nullable final String message) {
+		return true;
+	}
+
+	/**
+	 * Called after a logging call has been permitted, immediately before it is forwarded to the delegate logger.
+	 * @implSpec The default implementation does nothing and returns <code>null</code>.
+	 * @param delegate The delegate logger to which the call will be forwarded.
+	 * @param level The level of the call.
+	 * @param marker The marker of the call, or <code>null</code> if none.
+	 * @param message The message or format string, or <code>null</code> if none.
+	 * @return An object to pass to {@link #endLog(Object, Logger, Level, Marker, String)} once the call has been forwarded, or <code>null</code> if none.
+	 */
+	@Nullable
+	protected Object beginLog(@Nonnull final Logger delegate, @Nonnull final Level level, @Nullable final Marker marker, @Nullable final String message) {
+		return null;
+	}
+
+	/**
+	 * Called immediately after a logging call has been forwarded to the delegate logger.
+	 * @implSpec The default implementation does nothing.
+	 * @param logContext The object returned by {@link #beginLog(Logger, Level, Marker, String)} for the call, or <code>null</code> if none.
+	 * @param delegate The delegate logger to which the call was forwarded.
+	 * @param level The level of the call.
+	 * @param marker The marker of the call, or <code>null</code> if none.
+	 * @param message The message or format string, or <code>null</code> if none.
+	 */
+	protected void endLog(@Nullable final Object logContext, @Nonnull final Logger delegate, @Nonnull final Level level, @Nullable final Marker marker,
+			@Nullable final String message) {
+	}
+
+	/**
+	 * Determines whether a logger has a level enabled, taking into account the given marker, if any.
+	 * @param logger The logger.
+	 * @param level The level to check.
+	 * @param marker The marker of the call, or <code>null</code> if none.
+	 * @return <code>true</code> if the logger has the level enabled for the marker.
+	 */
+	static boolean isEnabled(@Nonnull final Logger logger, @Nonnull final Level level, @Nullable final Marker marker) {
+		if(marker == null) {
+			return logger.isEnabledForLevel(level);
+		}
+		switch(level) {
+			case ERROR:
+				return logger.isErrorEnabled(marker);
+			case WARN:
+				return logger.isWarnEnabled(marker);
+			case INFO:
+				return logger.isInfoEnabled(marker);
+			case DEBUG:
+				return logger.isDebugEnabled(marker);
+			case TRACE:
+				return logger.isTraceEnabled(marker);
+			default:
+				throw new AssertionError("Unknown log level: " + level);
+		}
+	}
+
+	/**
+	 * Forwards a logging call to the delegate logger, identifying the given class as the boundary between the caller and the logging framework, so that the
+	 * logging implementation determines caller data such as the line number from the code that called this logger rather than from this class.
+	 * @implSpec The call is not forwarded if {@link #isPermitted(Logger, Level, Marker, String)} returns <code>false</code>. Otherwise the call is bracketed by
+	 *           {@link #beginLog(Logger, Level, Marker, String)} and {@link #endLog(Object, Logger, Level, Marker, String)}. If the delegate is a
+	 *           {@link LocationAwareLogger}, the call is forwarded as a location-aware call. Otherwise the call is forwarded via a logging
+	 *           event builder if the delegate has the level enabled, setting the caller boundary if the builder is {@link CallerBoundaryAware}.
+	 * @param delegate The delegate logger.
+	 * @param fqcn The fully qualified name of the class at the boundary of the logging framework.
+	 * @param level The level of the call.
+	 * @param marker The marker of the call, or <code>null</code> if none.
+	 * @param message The message or format string.
+	 * @param arguments The message arguments, or <code>null</code> if none.
+	 * @param throwable The throwable of the call, or <code>null</code> if none.
+	 */
+	private void forward(@Nonnull final Logger delegate, @Nonnull final String fqcn, @Nonnull final Level level, @Nullable final Marker marker,
+			@Nullable final String message, @Nullable final Object[] arguments, @Nullable final Throwable throwable) {
+		if(!isPermitted(delegate, level, marker, message)) {
+			return;
+		}
+		final Object logContext = beginLog(delegate, level, marker, message);
+		if(delegate instanceof LocationAwareLogger) {
+			((LocationAwareLogger)delegate).log(marker, fqcn, level.toInt(), message, arguments, throwable);
+		} else if(delegate.isEnabledForLevel(level)) {
+			final LoggingEventBuilder loggingEventBuilder = delegate.makeLoggingEventBuilder(level);
+			if(loggingEventBuilder instanceof CallerBoundaryAware) {
+				((CallerBoundaryAware)loggingEventBuilder).setCallerBoundary(fqcn);
+			}
+			if(marker != null) {
+				loggingEventBuilder.addMarker(marker);
+			}
+			if(arguments != null) {
+				for(final Object argument : arguments) {
+					loggingEventBuilder.addArgument(argument);
+				}
+			}
+			if(throwable != null) {
+				loggingEventBuilder.setCause(throwable);
+			}
+			loggingEventBuilder.log(message);
+		}
+		endLog(logContext, delegate, level, marker, message);
+	}
+
+}
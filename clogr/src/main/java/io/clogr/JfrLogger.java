@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+
+import io.clogr.ClogrEvents.LogEvent;
+
+/**
+ * Logger that forwards logging calls to a delegate logger, emitting a {@value ClogrEvents#LOG_EVENT_NAME} flight recorder event for each call.
+ * <p>
+ * The event is begun before the call is forwarded and ended after it returns, so that its duration covers the work of the delegate logger. The event is
+ * committed only if it passes the settings of the recording, including the minimum level, and the delegate logger has the level enabled.
+ * </p>
+ * @implNote The event is begun and committed by the {@link ForwardingLogger} hooks around each forwarded call, so that the caller data reported by the
+ *           delegate identifies the code calling this logger. If the event is not enabled, the call is forwarded after only a check of its
+ *           {@link ClogrEvents.LazyEventType}, without creating an event.
+ * @author Garret Wilson
+ * @see JfrLoggingConcern
+ */
+final class JfrLogger extends ForwardingLogger {
+
+	private final Logger delegate;
+
+	@Override
+	protected Logger getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	/** The description of the logging concern to include in each event. */
+	private final String concernDescription;
+
+	/**
+	 * Constructor.
+	 * @param delegate The logger to which logging calls are forwarded.
+	 * @param concernDescription The description of the logging concern to include in each event.
+	 */
+	JfrLogger(@Nonnull final Logger delegate, @Nonnull final String concernDescription) {
+		this.delegate = requireNonNull(delegate);
+		this.concernDescription = requireNonNull(concernDescription);
+	}
+
+	/**
+	 * Ends a begun event and commits it if it passes the settings of the recording and the delegate logger has the level enabled.
+	 * @param event The begun event.
+	 * @param level The level of the logging call.
+	 * @param format The message or format string of the logging call.
+	 */
+	private void commit(@Nonnull final LogEvent event, @Nonnull final Level level, @Nullable final String format) {
+		event.end();
+		event.levelValue = level.toInt();
+		if(event.shouldCommit() && delegate.isEnabledForLevel(level)) {
+			event.level = level.name();
+			event.logger = delegate.getName();
+			event.format = format;
+			event.concern = concernDescription;
+			event.commit();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation begins a log event if it is enabled.
+	 * @return The begun log event, or <code>null</code> if the event is not enabled.
+	 */
+	@Override
+	protected Object beginLog(final Logger delegate, final Level level, final Marker marker, final String message) {
+		if(!ClogrEvents.LOG_EVENT_TYPE.isEnabled()) {
+			return null;
+		}
+		final LogEvent event = new LogEvent();
+		if(!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation ends and commits the begun log event, if any.
+	 */
+	@Override
+	protected void endLog(final Object logContext, final Logger delegate, final Level level, final Marker marker, final String message) {
+		if(logContext != null) {
+			commit((LogEvent)logContext, level, message);
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+
+/**
+ * Logging concern that decorates another logging concern, emitting a Java Flight Recorder event for each logging call so that logging activity may be
+ * correlated with CPU, allocation, and lock activity in the same recording.
+ * <p>
+ * Each {@value ClogrEvents#LOG_EVENT_NAME} event records the level, the logger name, the message format, and a description of the decorated logging concern,
+ * such as the name of a Logback logger context, allowing events to be attributed to e.g. a tenant. The duration of the event covers the logging call,
+ * including any synchronous appending, so that slow logging calls and contention appear in the recording. The event is enabled by default, and records events
+ * at {@link Level#INFO} and above unless the <code>level</code> setting of the event specifies otherwise, as in the following JFR settings:
+ * </p>
+ * <pre>{@code
+ * <event name="io.clogr.Log">
+ *   <setting name="enabled">true</setting>
+ *   <setting name="level">DEBUG</setting>
+ *   <setting name="threshold">0 ms</setting>
+ * </event>
+ * }</pre>
+ * <p>
+ * Log levels set via this concern are set on the underlying loggers of the delegate concern.
+ * </p>
+ * @apiNote Events are emitted only for calls to the logging methods of the classic SLF4J API; the fluent API is forwarded to the decorated logger without
+ *          emitting events.
+ * @implNote When the event is disabled or no recording is in progress, a logging call is forwarded without creating an event, after checking only whether
+ *           the flight recorder has been initialized and, if it has, whether the cached event type is enabled. Only calls for levels enabled in the delegate
+ *           logger are recorded.
+ * @author Garret Wilson
+ * @see ClogrEvents
+ */
+public class JfrLoggingConcern implements LoggingConcern {
+
+	private final LoggingConcern delegate;
+
+	/** @return The decorated logging concern. */
+	public LoggingConcern getDelegate() {
+		return delegate;
+	}
+
+	/** The description of the decorated logging concern to include in each event. */
+	private final String concernDescription;
+
+	/** The recording loggers, keyed to logger name. */
+	private final ConcurrentMap<String, JfrLogger> loggers = new ConcurrentHashMap<>();
+
+	/** The logger factory that returns cached recording loggers. */
+	private final ILoggerFactory loggerFactory = this::getCachedLogger;
+
+	/**
+	 * Delegate constructor.
+	 * @param delegate The logging concern to decorate.
+	 */
+	public JfrLoggingConcern(@Nonnull final LoggingConcern delegate) {
+		this.delegate = requireNonNull(delegate);
+		this.concernDescription = ClogrEvents.describe(delegate);
+	}
+
+	@Override
+	public ILoggerFactory getLoggerFactory() {
+		return loggerFactory;
+	}
+
+	/**
+	 * Returns the recording logger with the given name, creating it if needed.
+	 * @param name The name of the logger.
+	 * @return The recording logger decorating the delegate logger with the given name.
+	 */
+	private Logger getCachedLogger(@Nonnull final String name) {
+		final JfrLogger cachedLogger = loggers.get(name);
+		if(cachedLogger != null) {
+			return cachedLogger;
+		}
+		return loggers.computeIfAbsent(name, loggerName -> new JfrLogger(delegate.getLoggerFactory().getLogger(loggerName), concernDescription));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation sets the level of the underlying delegate logger if the logger was retrieved from this concern.
+	 */
+	@Override
+	public void setLogLevel(final Logger logger, final Level level) {
+		delegate.setLogLevel(logger instanceof JfrLogger ? ((JfrLogger)logger).getDelegate() : logger, level);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delegates to the decorated concern.
+	 */
+	@Override
+	public void setLogLevels(final Map<String, Level> levels) {
+		delegate.setLogLevels(levels);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delegates to the decorated concern.
+	 */
+	@Override
+	public Optional<LoggingMetrics> findMetrics() {
+		return delegate.findMetrics();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation describes the decorated concern, so that events emitted when this concern is resolved or switched identify the same
+	 *           concern as the log events.
+	 */
+	@Override
+	public String toString() {
+		return concernDescription;
+	}
+
+}
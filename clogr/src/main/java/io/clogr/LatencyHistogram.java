@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, with buckets whose upper bounds are successive powers of two nanoseconds from about one microsecond to about 34 seconds.
+ * <p>
+ * Recording a latency increments striped counters and never contends with other threads recording latencies.
+ * </p>
+ * @author Garret Wilson
+ */
+public final class LatencyHistogram {
+
+	/** The base-two logarithm of the upper bound of the first bucket, in nanoseconds. */
+	private static final int FIRST_BUCKET_SHIFT = 10;
+
+	/** The number of buckets. The last bucket has no upper bound. */
+	public static final int BUCKET_COUNT = 26;
+
+	private final LongAdder[] bucketCounts = new LongAdder[BUCKET_COUNT];
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	/** Constructor. */
+	public LatencyHistogram() {
+		for(int i = 0; i < BUCKET_COUNT; i++) {
+			bucketCounts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Determines the bucket for a latency.
+	 * @param nanos The latency in nanoseconds.
+	 * @return The index of the bucket holding the latency.
+	 */
+	static int bucketIndex(final long nanos) {
+		if(nanos <= 0) {
+			return 0;
+		}
+		final int log2Ceiling = Long.SIZE - Long.numberOfLeadingZeros(nanos - 1);
+		return Math.min(Math.max(log2Ceiling - FIRST_BUCKET_SHIFT, 0), BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Records a latency.
+	 * @param nanos The latency in nanoseconds.
+	 */
+	public void record(final long nanos) {
+		bucketCounts[bucketIndex(nanos)].increment();
+		totalNanos.add(Math.max(nanos, 0));
+	}
+
+	/**
+	 * Records a latency.
+	 * @param duration The latency.
+	 * @param unit The unit of the latency.
+	 */
+	public void record(final long duration, final TimeUnit unit) {
+		record(unit.toNanos(duration));
+	}
+
+	/** @return The inclusive upper bound, in nanoseconds, of each bucket; the last bucket has an upper bound of {@link Long#MAX_VALUE}. */
+	public long[] getBucketUpperBounds() {
+		final long[] upperBounds = new long[BUCKET_COUNT];
+		for(int i = 0; i < BUCKET_COUNT - 1; i++) {
+			upperBounds[i] = 1L << (FIRST_BUCKET_SHIFT + i);
+		}
+		upperBounds[BUCKET_COUNT - 1] = Long.MAX_VALUE;
+		return upperBounds;
+	}
+
+	/** @return The number of latencies recorded in each bucket. */
+	public long[] getBucketCounts() {
+		final long[] counts = new long[BUCKET_COUNT];
+		for(int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = bucketCounts[i].sum();
+		}
+		return counts;
+	}
+
+	/** @return The total number of latencies recorded. */
+	public long getCount() {
+		long count = 0;
+		for(final LongAdder bucketCount : bucketCounts) {
+			count += bucketCount.sum();
+		}
+		return count;
+	}
+
+	/** @return The sum of all latencies recorded, in nanoseconds. */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+}
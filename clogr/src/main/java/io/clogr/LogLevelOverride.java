@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.*;
+
+import org.slf4j.event.Level;
+
+/**
+ * Temporarily lowers the effective log level for the current thread, for example to produce debug output for a single request without changing the levels
+ * of the logging concern as a whole.
+ * <p>
+ * An override only enables additional output: while an override is in effect, log events at or above the override level are logged regardless of the levels
+ * configured for their loggers. The override is honored by logging implementations that check it, such as a Logback logging concern with level overrides
+ * enabled; see <code>io.clogr.logback.LogLevelOverrideTurboFilter.enable(LoggerContext)</code>.
+ * </p>
+ * <p>
+ * The override is bound using the same mechanism as {@link Clogr#runWith(LoggingConcern, Runnable)}, using <code>java.lang.ScopedValue</code> if available
+ * or a thread-local variable otherwise.
+ * </p>
+ * @implNote When no override is in effect on any thread, checking for an override requires only a single volatile read, so that the normal logging fast
+ *           path is unaffected.
+ * @author Garret Wilson
+ */
+public final class LogLevelOverride {
+
+	private LogLevelOverride() {
+	}
+
+	/** The binding of the override level. */
+	private static final ScopedBinding<Level> BINDING = ScopedBinding.create();
+
+	/** The number of overrides currently in effect across all threads. */
+	private static final AtomicInteger activeCount = new AtomicInteger();
+
+	/**
+	 * Returns the log level override in effect for the current thread, if any.
+	 * @implNote If no overrides are in effect on any thread, this method performs a single volatile read and does not allocate.
+	 * @return The override log level, or <code>null</code> if no override is in effect.
+	 */
+	@Nullable
+	public static Level get() {
+		return activeCount.get() != 0 ? BINDING.find() : null;
+	}
+
+	/**
+	 * Returns the log level override in effect for the current thread, if any.
+	 * @return The override log level, if an override is in effect.
+	 * @see #get()
+	 */
+	public static Optional<Level> find() {
+		return Optional.ofNullable(get());
+	}
+
+	/**
+	 * Runs an operation with the effective log level lowered to the given level for the current thread. When the operation completes, any previous override
+	 * is restored.
+	 * @param level The lowest level at which events should be logged during the operation.
+	 * @param runnable The operation to run.
+	 * @throws NullPointerException if the given level and/or runnable is <code>null</code>.
+	 */
+	public static void run(@Nonnull final Level level, @Nonnull final Runnable runnable) {
+		requireNonNull(level);
+		requireNonNull(runnable);
+		activeCount.incrementAndGet();
+		try {
+			BINDING.run(level, runnable);
+		} finally {
+			activeCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Calls an operation with the effective log level lowered to the given level for the current thread, returning the result. When the operation completes,
+	 * any previous override is restored.
+	 * @param <V> The type of value returned by the operation.
+	 * @param level The lowest level at which events should be logged during the operation.
+	 * @param callable The operation to call.
+	 * @return The result of the operation.
+	 * @throws NullPointerException if the given level and/or callable is <code>null</code>.
+	 * @throws Exception if the operation throws an exception.
+	 */
+	public static <V> V call(@Nonnull final Level level, @Nonnull final Callable<V> callable) throws Exception {
+		requireNonNull(level);
+		requireNonNull(callable);
+		activeCount.incrementAndGet();
+		try {
+			return BINDING.call(level, callable);
+		} finally {
+			activeCount.decrementAndGet();
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.*;
+
+import org.slf4j.Logger;
+
+/**
+ * Cache of loggers resolved for each context class, keyed to the logging concern that resolved them.
+ * <p>
+ * Each context class is associated via a {@link ClassValue} with a small set of cache entries, each recording a concern that was used to resolve a logger for
+ * the class along with the resolved logger. A lookup for the same class and a cached concern therefore costs little more than a few field reads, even when
+ * several concerns, such as those of different tenants, alternate from call to call. When all {@value #WAY_COUNT} entries of a class are in use, a lookup for
+ * another concern replaces an entry in round-robin order, so that the cache does not hold references to an unbounded number of concerns.
+ * </p>
+ * <p>
+ * The cache as a whole may be invalidated, for example when the default logging concern is changed, so that all entries will be resolved anew on next
+ * access.
+ * </p>
+ * @implNote Entries are immutable and are published without synchronization; a racing thread may see a stale entry, which is harmless as it will either match
+ *           the concern and generation or be replaced.
+ * @author Garret Wilson
+ */
+final class LoggerCache {
+
+	private LoggerCache() {
+	}
+
+	/** The number of entries cached for each context class. */
+	static final int WAY_COUNT = 4;
+
+	/** The current cache generation; incremented to invalidate all cached entries. */
+	private static final AtomicInteger generation = new AtomicInteger();
+
+	/** The cache slot for each context class. */
+	private static final ClassValue<Slot> slots = new ClassValue<>() {
+		@Override
+		protected Slot computeValue(final Class<?> type) {
+			return new Slot();
+		}
+	};
+
+	/**
+	 * Returns a logger for the given context class from the given logging concern, returning a cached logger if the same concern has already resolved a logger
+	 * for the class in the current cache generation.
+	 * @param loggingConcern The logging concern from which to retrieve the logger.
+	 * @param contextClass The context for which logging is to be performed.
+	 * @return A logger instance to use with the given context class.
+	 * @throws NullPointerException if the given context class is <code>null</code>.
+	 * @see LoggingConcern#getLogger(Class)
+	 */
+	static Logger getLogger(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Class<?> contextClass) {
+		final Slot slot = slots.get(contextClass);
+		final int currentGeneration = generation.get();
+		final Entry[] entries = slot.entries;
+		for(final Entry entry : entries) {
+			if(entry != null && entry.loggingConcern == loggingConcern && entry.generation == currentGeneration) {
+				return entry.logger;
+			}
+		}
+		final Logger logger = loggingConcern.getLogger(contextClass);
+		slot.put(new Entry(loggingConcern, logger, currentGeneration));
+		return logger;
+	}
+
+	/**
+	 * Returns the current cache generation. Other caches of loggers may record the generation in which a logger was resolved, and consider the logger stale if
+	 * the generation has since changed.
+	 * @return The current cache generation.
+	 * @see #invalidate()
+	 */
+	static int generation() {
+		return generation.get();
+	}
+
+	/**
+	 * Invalidates all cached loggers. Loggers will be resolved again from the relevant logging concern on next access.
+	 */
+	static void invalidate() {
+		generation.incrementAndGet();
+	}
+
+	/** Mutable holder for the cache entries of a context class. */
+	private static final class Slot {
+
+		/** The cache entries, any of which may be <code>null</code> if not yet used. */
+		private final Entry[] entries = new Entry[WAY_COUNT];
+
+		/** The index of the next entry to replace. */
+		private int nextIndex = 0;
+
+		/**
+		 * Stores an entry, replacing an entry of a previous generation if there is one, or otherwise the next entry in round-robin order.
+		 * @param entry The entry to store.
+		 */
+		void put(@Nonnull final Entry entry) {
+			final Entry[] entries = this.entries;
+			for(int i = 0; i < entries.length; i++) {
+				final Entry existingEntry = entries[i];
+				if(existingEntry == null || existingEntry.generation != entry.generation) {
+					entries[i] = entry;
+					return;
+				}
+			}
+			final int index = nextIndex;
+			entries[index] = entry;
+			nextIndex = (index + 1) % entries.length;
+		}
+
+	}
+
+	/** Immutable record of a logger resolved from a logging concern during some cache generation, also used by other caches of loggers. */
+	static final class Entry {
+
+		final LoggingConcern loggingConcern;
+
+		final Logger logger;
+
+		final int generation;
+
+		/**
+		 * Constructor.
+		 * @param loggingConcern The logging concern that resolved the logger.
+		 * @param logger The resolved logger.
+		 * @param generation The cache generation in which the logger was resolved.
+		 */
+		Entry(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Logger logger, final int generation) {
+			this.loggingConcern = loggingConcern;
+			this.logger = logger;
+			this.generation = generation;
+		}
+
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package io.clogr;
 
+import static java.util.Objects.*;
+
+import java.util.*;
+
 import javax.annotation.*;
 
 import org.slf4j.*;
@@ -91,4 +95,47 @@ public default void setLogLevel(@Nonnull final Level level) {
 		setLogLevel(getRootLogger(), level);
 	}
 
+	/**
+	 * Returns the metrics describing the logging activity of this logging concern, if this logging concern collects metrics.
+	 * @implSpec The default implementation returns {@link Optional#empty()}.
+	 * @return The logging metrics of this concern, if available.
+	 */
+	public default Optional<LoggingMetrics> findMetrics() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Sets the log levels of multiple loggers in a single pass.
+	 * @implSpec The default implementation sorts the logger names using {@link #toDescendantsFirstOrder(Map)} so that descendant loggers are updated before their
+	 *           ancestors, and calls {@link #setLogLevel(Logger, Level)} for each.
+	 * @implNote Updating descendants first allows implementations such as Logback, which propagate an effective level change to descendants until reaching a
+	 *           logger with an explicit level, to recompute the effective level of each logger at most once.
+	 * @param levels The log levels to set, keyed to logger name. The name {@value Logger#ROOT_LOGGER_NAME} indicates the root logger.
+	 * @throws NullPointerException if the given map contains a <code>null</code> level.
+	 */
+	public default void setLogLevels(@Nonnull final Map<String, Level> levels) {
+		final ILoggerFactory loggerFactory = getLoggerFactory();
+		toDescendantsFirstOrder(levels).forEach((loggerName, level) -> setLogLevel(loggerFactory.getLogger(loggerName), requireNonNull(level)));
+	}
+
+	/**
+	 * Orders a map of log levels so that loggers are encountered before their ancestors in the logger hierarchy, with the root logger last.
+	 * @apiNote This is the order in which log levels should be applied for hierarchical logging implementations to avoid recomputing effective levels of a
+	 *          subtree more than once.
+	 * @implSpec Logger names are sorted in reverse lexical order, which places a name before any name that is its prefix. The name
+	 *           {@value Logger#ROOT_LOGGER_NAME}, compared without regard to case, is placed last.
+	 * @param <V> The type of value associated with each logger name.
+	 * @param levels The log levels keyed to logger name.
+	 * @return A sorted copy of the given map.
+	 */
+	public static <V> SortedMap<String, V> toDescendantsFirstOrder(@Nonnull final Map<String, V> levels) {
+		final SortedMap<String, V> sortedLevels = new TreeMap<>((loggerName1, loggerName2) -> {
+			final boolean isRoot1 = Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(loggerName1);
+			final boolean isRoot2 = Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(loggerName2);
+			return isRoot1 || isRoot2 ? Boolean.compare(isRoot1, isRoot2) : loggerName2.compareTo(loggerName1);
+		});
+		sortedLevels.putAll(levels);
+		return sortedLevels;
+	}
+
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+/**
+ * Executors and related classes that propagate the current logging concern to the threads executing tasks.
+ * @author Garret Wilson
+ * @see Clogr#wrap(Executor)
+ * @see Clogr#wrap(ExecutorService)
+ * @see Clogr#newForkJoinPool(int)
+ */
+final class LoggingConcernExecutors {
+
+	private LoggingConcernExecutors() {
+	}
+
+	/**
+	 * Runnable task that runs with the logging concern that was current when it was submitted.
+	 * @implNote This task carries its logging concern directly rather than capturing it in a lambda, so that wrapping a task requires a single allocation.
+	 */
+	static final class LoggingConcernRunnable implements Runnable {
+
+		private final LoggingConcern loggingConcern;
+
+		private final Runnable runnable;
+
+		/**
+		 * Constructor.
+		 * @param loggingConcern The logging concern with which to run the task.
+		 * @param runnable The task to run.
+		 * @throws NullPointerException if the given concern and/or runnable is <code>null</code>.
+		 */
+		LoggingConcernRunnable(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Runnable runnable) {
+			this.loggingConcern = requireNonNull(loggingConcern);
+			this.runnable = requireNonNull(runnable);
+		}
+
+		@Override
+		public void run() {
+			Clogr.runWith(loggingConcern, runnable);
+		}
+
+	}
+
+	/**
+	 * Callable task that is called with the logging concern that was current when it was submitted.
+	 * @param <V> The type of value returned by the task.
+	 */
+	static final class LoggingConcernCallable<V> implements Callable<V> {
+
+		private final LoggingConcern loggingConcern;
+
+		private final Callable<V> callable;
+
+		/**
+		 * Constructor.
+		 * @param loggingConcern The logging concern with which to call the task.
+		 * @param callable The task to call.
+		 * @throws NullPointerException if the given concern and/or callable is <code>null</code>.
+		 */
+		LoggingConcernCallable(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Callable<V> callable) {
+			this.loggingConcern = requireNonNull(loggingConcern);
+			this.callable = requireNonNull(callable);
+		}
+
+		@Override
+		public V call() throws Exception {
+			return Clogr.callWith(loggingConcern, callable);
+		}
+
+	}
+
+	/** Executor that runs each task with the logging concern current at the time the task was submitted. */
+	static class LoggingConcernExecutor implements Executor {
+
+		private final Executor executor;
+
+		/** @return The wrapped executor. */
+		protected Executor getExecutor() {
+			return executor;
+		}
+
+		/**
+		 * Executor constructor.
+		 * @param executor The executor to wrap.
+		 * @throws NullPointerException if the given executor is <code>null</code>.
+		 */
+		LoggingConcernExecutor(@Nonnull final Executor executor) {
+			this.executor = requireNonNull(executor);
+		}
+
+		@Override
+		public void execute(final Runnable command) {
+			executor.execute(new LoggingConcernRunnable(Clogr.getLoggingConcern(), command));
+		}
+
+	}
+
+	/** Executor service that runs each task with the logging concern current at the time the task was submitted. */
+	static final class LoggingConcernExecutorService extends LoggingConcernExecutor implements ExecutorService {
+
+		@Override
+		protected ExecutorService getExecutor() {
+			return (ExecutorService)super.getExecutor();
+		}
+
+		/**
+		 * Executor service constructor.
+		 * @param executorService The executor service to wrap.
+		 * @throws NullPointerException if the given executor service is <code>null</code>.
+		 */
+		LoggingConcernExecutorService(@Nonnull final ExecutorService executorService) {
+			super(executorService);
+		}
+
+		/**
+		 * Wraps the given tasks so that each will be called with the current logging concern.
+		 * @param <T> The type of value returned by the tasks.
+		 * @param tasks The tasks to wrap.
+		 * @return The wrapped tasks.
+		 */
+		private static <T> List<Callable<T>> wrapAll(@Nonnull final Collection<? extends Callable<T>> tasks) {
+			final LoggingConcern loggingConcern = Clogr.getLoggingConcern();
+			final List<Callable<T>> wrappedTasks = new ArrayList<>(tasks.size());
+			for(final Callable<T> task : tasks) {
+				wrappedTasks.add(new LoggingConcernCallable<>(loggingConcern, task));
+			}
+			return wrappedTasks;
+		}
+
+		@Override
+		public void shutdown() {
+			getExecutor().shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return getExecutor().shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return getExecutor().isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return getExecutor().isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+			return getExecutor().awaitTermination(timeout, unit);
+		}
+
+		@Override
+		public <T> Future<T> submit(final Callable<T> task) {
+			return getExecutor().submit(new LoggingConcernCallable<>(Clogr.getLoggingConcern(), task));
+		}
+
+		@Override
+		public <T> Future<T> submit(final Runnable task, final T result) {
+			return getExecutor().submit(new LoggingConcernRunnable(Clogr.getLoggingConcern(), task), result);
+		}
+
+		@Override
+		public Future<?> submit(final Runnable task) {
+			return getExecutor().submit(new LoggingConcernRunnable(Clogr.getLoggingConcern(), task));
+		}
+
+		@Override
+		public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
+			return getExecutor().invokeAll(wrapAll(tasks));
+		}
+
+		@Override
+		public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit) throws InterruptedException {
+			return getExecutor().invokeAll(wrapAll(tasks), timeout, unit);
+		}
+
+		@Override
+		public <T> T invokeAny(final Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+			return getExecutor().invokeAny(wrapAll(tasks));
+		}
+
+		@Override
+		public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+			return getExecutor().invokeAny(wrapAll(tasks), timeout, unit);
+		}
+
+	}
+
+	/**
+	 * Fork/join worker thread factory creating threads that run with a fixed logging concern for their entire lifetime.
+	 * @apiNote Because fork/join tasks may be forked from within other tasks, and may be stolen by any worker, a fork/join pool cannot practically capture the
+	 *          logging concern of each submission. Instead the logging concern is bound to each worker thread, so that tasks run with no per-task overhead.
+	 */
+	static final class LoggingConcernForkJoinWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+		private final LoggingConcern loggingConcern;
+
+		/**
+		 * Constructor.
+		 * @param loggingConcern The logging concern with which worker threads will run.
+		 * @throws NullPointerException if the given concern is <code>null</code>.
+		 */
+		LoggingConcernForkJoinWorkerThreadFactory(@Nonnull final LoggingConcern loggingConcern) {
+			this.loggingConcern = requireNonNull(loggingConcern);
+		}
+
+		@Override
+		public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+			return new ForkJoinWorkerThread(pool) {
+				@Override
+				public void run() {
+					Clogr.runWith(loggingConcern, super::run);
+				}
+			};
+		}
+
+	}
+
+}
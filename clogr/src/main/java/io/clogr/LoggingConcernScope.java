@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.concurrent.Callable;
+
+import javax.annotation.*;
+
+/**
+ * Binds a logging concern to the current thread for the duration of some operation.
+ * <p>
+ * If the Java platform provides <code>java.lang.ScopedValue</code>, the binding is made using a scoped value, which consumes no per-thread storage and is
+ * inherited by subtasks forked in a structured task scope, making it appropriate for virtual threads. Otherwise the binding falls back to a
+ * {@link ThreadLocal}, which is set for the duration of the operation and then restored.
+ * </p>
+ * <p>
+ * Each binding emits a {@value ClogrEvents#CONCERN_SWITCH_EVENT_NAME} flight recorder event with a duration covering the operation, if the event is enabled.
+ * </p>
+ * @author Garret Wilson
+ * @see ScopedBinding
+ */
+final class LoggingConcernScope {
+
+	private LoggingConcernScope() {
+	}
+
+	/** The binding implementation in use. */
+	private static final ScopedBinding<LoggingConcern> BINDING = ScopedBinding.create();
+
+	/**
+	 * Whether any logging concern has ever been bound. This allows lookups to skip the binding entirely if the scoped API has never been used.
+	 * @implNote This flag is never reset, so that once set it remains a stable value that is inexpensive to read.
+	 */
+	private static volatile boolean used = false;
+
+	/** @return <code>true</code> if bindings are made using <code>java.lang.ScopedValue</code>, or <code>false</code> if using a thread-local variable. */
+	static boolean isScopedValueSupported() {
+		return BINDING.isScopedValue();
+	}
+
+	/**
+	 * Returns the logging concern bound to the current thread, if any.
+	 * @return The bound logging concern, or <code>null</code> if no logging concern is bound.
+	 */
+	@Nullable
+	static LoggingConcern find() {
+		return used ? BINDING.find() : null;
+	}
+
+	/**
+	 * Runs an operation with the given logging concern bound to the current thread.
+	 * @param loggingConcern The logging concern to bind.
+	 * @param runnable The operation to run.
+	 * @throws NullPointerException if the given concern and/or runnable is <code>null</code>.
+	 */
+	static void run(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Runnable runnable) {
+		requireNonNull(loggingConcern);
+		requireNonNull(runnable);
+		used = true;
+		final ClogrEvents.ConcernSwitchEvent event = beginSwitchEvent(loggingConcern);
+		if(event == null) {
+			BINDING.run(loggingConcern, runnable);
+			return;
+		}
+		try {
+			BINDING.run(loggingConcern, runnable);
+		} finally {
+			event.commit();
+		}
+	}
+
+	/**
+	 * Calls an operation with the given logging concern bound to the current thread.
+	 * @param <V> The type of value returned.
+	 * @param loggingConcern The logging concern to bind.
+	 * @param callable The operation to call.
+	 * @return The result of the operation.
+	 * @throws NullPointerException if the given concern and/or callable is <code>null</code>.
+	 * @throws Exception if the operation throws an exception.
+	 */
+	static <V> V call(@Nonnull final LoggingConcern loggingConcern, @Nonnull final Callable<V> callable) throws Exception {
+		requireNonNull(loggingConcern);
+		requireNonNull(callable);
+		used = true;
+		final ClogrEvents.ConcernSwitchEvent event = beginSwitchEvent(loggingConcern);
+		if(event == null) {
+			return BINDING.call(loggingConcern, callable);
+		}
+		try {
+			return BINDING.call(loggingConcern, callable);
+		} finally {
+			event.commit();
+		}
+	}
+
+	/**
+	 * Begins a flight recorder event for binding a logging concern to the current thread, if such events are enabled.
+	 * @param loggingConcern The logging concern being bound.
+	 * @return The begun event, or <code>null</code> if the event is not enabled.
+	 */
+	@Nullable
+	private static ClogrEvents.ConcernSwitchEvent beginSwitchEvent(@Nonnull final LoggingConcern loggingConcern) {
+		if(!ClogrEvents.CONCERN_SWITCH_EVENT_TYPE.isEnabled()) {
+			return null;
+		}
+		final ClogrEvents.ConcernSwitchEvent event = new ClogrEvents.ConcernSwitchEvent();
+		if(!event.isEnabled()) {
+			return null;
+		}
+		event.scope = ClogrEvents.SCOPE_THREAD;
+		event.previousConcern = ClogrEvents.describe(find());
+		event.concern = ClogrEvents.describe(loggingConcern);
+		event.begin();
+		return event;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.annotation.*;
+import javax.management.*;
+
+import org.slf4j.event.Level;
+
+/**
+ * Counters describing the logging activity of a logging concern.
+ * <p>
+ * This interface is a JMX MXBean interface, so that any implementation may be registered with an MBean server, such as by using
+ * {@link #registerMBean(LoggingMetrics, String)}.
+ * </p>
+ * @apiNote Counters are cumulative from the time metrics collection began. Values are read without stopping logging, and thus a set of values read in
+ *          succession may not be mutually consistent.
+ * @author Garret Wilson
+ * @see LoggingConcern#findMetrics()
+ * @see LoggingMetricsCollector
+ */
+@MXBean
+public interface LoggingMetrics {
+
+	/** The domain of object names under which logging metrics are registered. */
+	public static final String OBJECT_NAME_DOMAIN = "io.clogr";
+
+	/** @return The total number of events logged. */
+	public long getEventCount();
+
+	/**
+	 * Returns the number of events logged at a given level.
+	 * @param level The log level.
+	 * @return The number of events logged at the level.
+	 */
+	public long getEventCount(@Nonnull Level level);
+
+	/** @return The number of events logged, keyed to the prefix of the name of the logger to which they were logged. */
+	public Map<String, Long> getEventCountsByLoggerPrefix();
+
+	/** @return The number of bytes written by appenders reporting their output. */
+	public long getBytesWritten();
+
+	/** @return The number of events discarded, for example by an asynchronous appender whose buffer was full. */
+	public long getDroppedEventCount();
+
+	/** @return The distribution of time taken by appenders to process events, for those appenders reporting their latency. */
+	public LatencyHistogram getAppenderLatency();
+
+	/**
+	 * Registers logging metrics with the platform MBean server.
+	 * @param loggingMetrics The logging metrics to register.
+	 * @param name The name identifying the logging concern, such as a tenant identifier; will be quoted as needed.
+	 * @return The object name under which the metrics were registered, with domain {@value #OBJECT_NAME_DOMAIN}.
+	 * @throws JMException if the metrics could not be registered, for example if metrics are already registered with the same name.
+	 * @see ManagementFactory#getPlatformMBeanServer()
+	 */
+	public static ObjectName registerMBean(@Nonnull final LoggingMetrics loggingMetrics, @Nonnull final String name) throws JMException {
+		final ObjectName objectName = new ObjectName(OBJECT_NAME_DOMAIN + ":type=" + LoggingMetrics.class.getSimpleName() + ",name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(loggingMetrics, objectName);
+		return objectName;
+	}
+
+}
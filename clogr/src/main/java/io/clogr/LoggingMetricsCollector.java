@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.*;
+
+import org.slf4j.event.Level;
+
+/**
+ * Collects logging metrics using striped counters, so that recording from many logging threads at once does not cause contention.
+ * <p>
+ * Events are counted by logger prefix, which is the first few segments of the logger name, as determined by the prefix depth. For example with the default
+ * prefix depth of {@value #DEFAULT_PREFIX_DEPTH}, events logged to <code>com.example.foo.Bar</code> are counted under <code>com.example</code>. The counter for
+ * each logger name is cached, so that counting an event does not allocate after the first event for a logger.
+ * </p>
+ * @author Garret Wilson
+ */
+public final class LoggingMetricsCollector implements LoggingMetrics {
+
+	/** The default number of logger name segments used as a prefix for counting events. */
+	public static final int DEFAULT_PREFIX_DEPTH = 2;
+
+	private static final Level[] LEVELS = Level.values();
+
+	private final int prefixDepth;
+
+	private final LongAdder[] levelCounts = new LongAdder[LEVELS.length];
+
+	/** The counters for each logger prefix. */
+	private final ConcurrentMap<String, LongAdder> prefixCounts = new ConcurrentHashMap<>();
+
+	/** The prefix counter for each logger name. */
+	private final ConcurrentMap<String, LongAdder> loggerPrefixCounts = new ConcurrentHashMap<>();
+
+	private final LongAdder bytesWritten = new LongAdder();
+
+	private final LongAdder droppedEventCount = new LongAdder();
+
+	private final LatencyHistogram appenderLatency = new LatencyHistogram();
+
+	/** Constructor using the default prefix depth. */
+	public LoggingMetricsCollector() {
+		this(DEFAULT_PREFIX_DEPTH);
+	}
+
+	/**
+	 * Prefix depth constructor.
+	 * @param prefixDepth The number of logger name segments used as a prefix for counting events.
+	 * @throws IllegalArgumentException if the prefix depth is not positive.
+	 */
+	public LoggingMetricsCollector(final int prefixDepth) {
+		if(prefixDepth < 1) {
+			throw new IllegalArgumentException("Invalid logger prefix depth " + prefixDepth + ".");
+		}
+		this.prefixDepth = prefixDepth;
+		for(int i = 0; i < levelCounts.length; i++) {
+			levelCounts[i] = new LongAdder();
+		}
+	}
+
+	/** @return The number of logger name segments used as a prefix for counting events. */
+	public int getPrefixDepth() {
+		return prefixDepth;
+	}
+
+	/**
+	 * Determines the prefix of a logger name.
+	 * @param loggerName The logger name.
+	 * @return The first segments of the logger name up to the prefix depth.
+	 */
+	String toPrefix(@Nonnull final String loggerName) {
+		int index = -1;
+		for(int segment = 0; segment < prefixDepth; segment++) {
+			index = loggerName.indexOf('.', index + 1);
+			if(index < 0) {
+				return loggerName;
+			}
+		}
+		return loggerName.substring(0, index);
+	}
+
+	/**
+	 * Records that an event was logged.
+	 * @param level The level of the event.
+	 * @param loggerName The name of the logger to which the event was logged.
+	 */
+	public void recordEvent(@Nonnull final Level level, @Nonnull final String loggerName) {
+		levelCounts[level.ordinal()].increment();
+		LongAdder prefixCount = loggerPrefixCounts.get(loggerName);
+		if(prefixCount == null) {
+			prefixCount = loggerPrefixCounts.computeIfAbsent(loggerName, name -> prefixCounts.computeIfAbsent(toPrefix(name), prefix -> new LongAdder()));
+		}
+		prefixCount.increment();
+	}
+
+	/**
+	 * Records that bytes were written.
+	 * @param byteCount The number of bytes written.
+	 */
+	public void recordBytesWritten(final long byteCount) {
+		bytesWritten.add(byteCount);
+	}
+
+	/** Records that an event was discarded. */
+	public void recordDroppedEvent() {
+		droppedEventCount.increment();
+	}
+
+	/**
+	 * Records the time taken by an appender to process an event.
+	 * @param nanos The latency in nanoseconds.
+	 */
+	public void recordAppenderLatency(final long nanos) {
+		appenderLatency.record(nanos);
+	}
+
+	@Override
+	public long getEventCount() {
+		long count = 0;
+		for(final LongAdder levelCount : levelCounts) {
+			count += levelCount.sum();
+		}
+		return count;
+	}
+
+	@Override
+	public long getEventCount(final Level level) {
+		return levelCounts[requireNonNull(level).ordinal()].sum();
+	}
+
+	@Override
+	public Map<String, Long> getEventCountsByLoggerPrefix() {
+		final Map<String, Long> counts = new TreeMap<>();
+		prefixCounts.forEach((prefix, count) -> counts.put(prefix, count.sum()));
+		return counts;
+	}
+
+	@Override
+	public long getBytesWritten() {
+		return bytesWritten.sum();
+	}
+
+	@Override
+	public long getDroppedEventCount() {
+		return droppedEventCount.sum();
+	}
+
+	@Override
+	public LatencyHistogram getAppenderLatency() {
+		return appenderLatency;
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.spi.*;
+
+import io.clogr.RateLimitingLoggingConcern.Rule;
+
+/**
+ * Logger that forwards logging calls to a delegate logger only if permitted by the rules of a {@link RateLimitingLoggingConcern}.
+ * <p>
+ * Rules are only consulted for events the delegate logger has enabled, so that disabled events neither consume permits nor count as suppressed. The call site
+ * of each event is identified by the logger and the identity of the message format string. Events logged via the fluent API have no format string when the
+ * rule is consulted, and thus share a single call site for each logger.
+ * </p>
+ * @implNote The rules applicable to each level are resolved when first needed and resolved again only if the rules of the concern change, so that a logging
+ *           call requires no search of the rules and no allocation.
+ * @author Garret Wilson
+ */
+final class RateLimitingLogger extends ForwardingLogger {
+
+	private final RateLimitingLoggingConcern loggingConcern;
+
+	private final Logger delegate;
+
+	@Override
+	protected Logger getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	/** The identity hash code of the logger name, used to distinguish call sites in different loggers. */
+	private final int nameHash;
+
+	/** The current resolution of rules for each level. */
+	private volatile Resolution resolution;
+
+	/**
+	 * Constructor.
+	 * @param loggingConcern The rate-limiting logging concern providing the rules.
+	 * @param delegate The logger to which permitted logging calls are forwarded.
+	 */
+	RateLimitingLogger(@Nonnull final RateLimitingLoggingConcern loggingConcern, @Nonnull final Logger delegate) {
+		this.loggingConcern = requireNonNull(loggingConcern);
+		this.delegate = requireNonNull(delegate);
+		this.nameHash = System.identityHashCode(delegate.getName()) * 31;
+		this.resolution = new Resolution(loggingConcern.getRuleArray(), delegate.getName());
+	}
+
+	/**
+	 * Returns the rule applicable to events at the given level, resolving the rules again if the rules of the concern have changed.
+	 * @param level The level of the event.
+	 * @return The applicable rule, or <code>null</code> if no rule applies.
+	 */
+	private @Nullable Rule findRule(@Nonnull final Level level) {
+		final Rule[] rules = loggingConcern.getRuleArray();
+		Resolution resolution = this.resolution;
+		if(resolution.rules != rules) {
+			resolution = new Resolution(rules, delegate.getName());
+			this.resolution = resolution;
+		}
+		return resolution.rulesByLevel[level.ordinal()];
+	}
+
+	/**
+	 * Determines whether an event from the given call site is permitted by the applicable rule, if any.
+	 * @param level The level of the event.
+	 * @param format The message or format string identifying the call site, or <code>null</code> if not known.
+	 * @return <code>true</code> if the event should be forwarded to the delegate logger.
+	 */
+	private boolean permits(@Nonnull final Level level, @Nullable final String format) {
+		final Rule rule = findRule(level);
+		return rule == null || rule.permits(nameHash + System.identityHashCode(format));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation returns a no-operation builder if the level is disabled or the event is not permitted.
+	 */
+	@Override
+	public LoggingEventBuilder makeLoggingEventBuilder(final Level level) {
+		return delegate.isEnabledForLevel(level) && permits(level, null) ? delegate.makeLoggingEventBuilder(level) : NOPLoggingEventBuilder.singleton();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delegates to {@link #makeLoggingEventBuilder(Level)}.
+	 */
+	@Override
+	public LoggingEventBuilder atLevel(final Level level) {
+		return makeLoggingEventBuilder(level);
+	}
+
+	@Override
+	public LoggingEventBuilder atTrace() {
+		return atLevel(Level.TRACE);
+	}
+
+	@Override
+	public LoggingEventBuilder atDebug() {
+		return atLevel(Level.DEBUG);
+	}
+
+	@Override
+	public LoggingEventBuilder atInfo() {
+		return atLevel(Level.INFO);
+	}
+
+	@Override
+	public LoggingEventBuilder atWarn() {
+		return atLevel(Level.WARN);
+	}
+
+	@Override
+	public LoggingEventBuilder atError() {
+		return atLevel(Level.ERROR);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation permits the call only if the delegate has the level enabled and the applicable rule, if any, permits an event from the call
+	 *           site identified by the message.
+	 */
+	@Override
+	protected boolean isPermitted(final Logger delegate, final Level level, final Marker marker, final String message) {
+		return isEnabled(delegate, level, marker) && permits(level, message);
+	}
+
+	/**
+	 * Immutable resolution of the rules applicable to a logger for each level.
+	 * @author Garret Wilson
+	 */
+	private static final class Resolution {
+
+		/** The rules of the concern from which this resolution was made. */
+		private final Rule[] rules;
+
+		/** The applicable rule, if any, indexed by level ordinal. */
+		private final Rule[] rulesByLevel = new Rule[Level.values().length];
+
+		/**
+		 * Constructor.
+		 * @param rules The rules of the concern in the order added.
+		 * @param loggerName The name of the logger.
+		 */
+		Resolution(@Nonnull final Rule[] rules, @Nonnull final String loggerName) {
+			this.rules = rules;
+			for(final Level level : Level.values()) {
+				Rule applicableRule = null;
+				for(final Rule rule : rules) {
+					if(rule.appliesTo(loggerName) && rule.appliesTo(level)
+							&& (applicableRule == null || rule.getLoggerNamePrefix().length() > applicableRule.getLoggerNamePrefix().length())) {
+						applicableRule = rule;
+					}
+				}
+				rulesByLevel[level.ordinal()] = applicableRule;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.Objects.*;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.*;
+
+import org.slf4j.*;
+import org.slf4j.event.Level;
+
+/**
+ * Logging concern that decorates another logging concern, limiting the rate of logging and optionally sampling log events according to a set of rules.
+ * <p>
+ * Each {@link Rule} applies to loggers whose names equal or descend from a logger name prefix, and to events at a given level and any less severe level. For
+ * each logging call the most specific applicable rule is used, that is the rule with the longest prefix; if several rules have the same prefix, the first one
+ * added is used. A rule may sample events with some probability, and may limit events to a sustained number of permits per second with some burst allowance.
+ * Rate limits are tracked separately for each call site, identified by the logger and the identity of the message format string, so that a single noisy
+ * statement does not suppress unrelated statements of the same logger.
+ * </p>
+ * <p>
+ * The number of suppressed events for each rule is tracked, and may be reported periodically using {@link #startSuppressionReports(Duration)}; reports are
+ * logged using the delegate logging concern and are never themselves suppressed.
+ * </p>
+ * <p>
+ * Log levels set via this concern are set on the underlying loggers of the delegate concern.
+ * </p>
+ * @implNote Rate limits use the generic cell rate algorithm, storing a theoretical arrival time for each call site in a table of slots striped by call site
+ *           and padded to avoid false sharing. Updates use compare-and-set without locking, and a logging call neither allocates nor blocks. Distinct call
+ *           sites hashing to the same slot share a rate limit.
+ * @author Garret Wilson
+ */
+public class RateLimitingLoggingConcern implements LoggingConcern, Closeable {
+
+	private final LoggingConcern delegate;
+
+	/** @return The decorated logging concern. */
+	public LoggingConcern getDelegate() {
+		return delegate;
+	}
+
+	/** The rules in the order added; replaced as a whole when a rule is added. */
+	private volatile Rule[] rules = new Rule[0];
+
+	/** The rate-limiting loggers, keyed to logger name. */
+	private final ConcurrentMap<String, RateLimitingLogger> loggers = new ConcurrentHashMap<>();
+
+	/** The logger factory that returns cached rate-limiting loggers. */
+	private final ILoggerFactory loggerFactory = this::getCachedLogger;
+
+	/** The executor for periodic reports, or <code>null</code> if reports have not been started. */
+	@Nullable
+	private ScheduledExecutorService reportExecutor = null;
+
+	/**
+	 * Delegate constructor.
+	 * @param delegate The logging concern to decorate.
+	 */
+	public RateLimitingLoggingConcern(@Nonnull final LoggingConcern delegate) {
+		this.delegate = requireNonNull(delegate);
+	}
+
+	/**
+	 * Adds a rule for limiting log events. Loggers already retrieved from this concern will use the new rule for subsequent logging calls.
+	 * @param rule The rule to add.
+	 * @return This logging concern.
+	 */
+	public synchronized RateLimitingLoggingConcern addRule(@Nonnull final Rule rule) {
+		requireNonNull(rule);
+		final Rule[] oldRules = rules;
+		final Rule[] newRules = Arrays.copyOf(oldRules, oldRules.length + 1);
+		newRules[oldRules.length] = rule;
+		rules = newRules;
+		return this;
+	}
+
+	/** @return The rules in the order added. */
+	public List<Rule> getRules() {
+		return List.of(rules);
+	}
+
+	/**
+	 * Returns the current rules, for determining the rules applicable to a logger.
+	 * @apiNote The returned array must not be modified; a different array instance indicates that the rules have changed.
+	 * @return The current rules.
+	 */
+	Rule[] getRuleArray() {
+		return rules;
+	}
+
+	/** @return The total number of log events suppressed by all rules. */
+	public long getSuppressedCount() {
+		long suppressedCount = 0;
+		for(final Rule rule : rules) {
+			suppressedCount += rule.getSuppressedCount();
+		}
+		return suppressedCount;
+	}
+
+	@Override
+	public ILoggerFactory getLoggerFactory() {
+		return loggerFactory;
+	}
+
+	/**
+	 * Returns the rate-limiting logger with the given name, creating it if needed.
+	 * @param name The name of the logger.
+	 * @return The rate-limiting logger decorating the delegate logger with the given name.
+	 */
+	private Logger getCachedLogger(@Nonnull final String name) {
+		final RateLimitingLogger cachedLogger = loggers.get(name);
+		if(cachedLogger != null) {
+			return cachedLogger;
+		}
+		return loggers.computeIfAbsent(name, loggerName -> new RateLimitingLogger(this, delegate.getLoggerFactory().getLogger(loggerName)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation sets the level of the underlying delegate logger if the logger was retrieved from this concern.
+	 */
+	@Override
+	public void setLogLevel(final Logger logger, final Level level) {
+		delegate.setLogLevel(logger instanceof RateLimitingLogger ? ((RateLimitingLogger)logger).getDelegate() : logger, level);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delegates to the decorated concern.
+	 */
+	@Override
+	public void setLogLevels(final Map<String, Level> levels) {
+		delegate.setLogLevels(levels);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation delegates to the decorated concern.
+	 */
+	@Override
+	public Optional<LoggingMetrics> findMetrics() {
+		return delegate.findMetrics();
+	}
+
+	/**
+	 * Starts periodically reporting the number of events suppressed by each rule since the last report. If reports have already been started, they are
+	 * restarted with the new interval.
+	 * @param interval The interval between reports.
+	 * @throws IllegalArgumentException if the interval is not positive.
+	 * @see #reportSuppressed()
+	 */
+	public synchronized void startSuppressionReports(@Nonnull final Duration interval) {
+		if(interval.isNegative() || interval.isZero()) {
+			throw new IllegalArgumentException("Suppression report interval " + interval + " is not positive.");
+		}
+		stopSuppressionReports();
+		reportExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "clogr-suppression-report");
+			thread.setDaemon(true);
+			return thread;
+		});
+		final long intervalNanos = interval.toNanos();
+		reportExecutor.scheduleAtFixedRate(this::reportSuppressed, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/** Stops periodic reports of suppressed events, if they were started. */
+	public synchronized void stopSuppressionReports() {
+		if(reportExecutor != null) {
+			reportExecutor.shutdown();
+			reportExecutor = null;
+		}
+	}
+
+	/**
+	 * Logs, using the delegate logging concern, the number of events suppressed by each rule since the last report. Nothing is logged for rules that have
+	 * suppressed no events since the last report.
+	 * @return The total number of suppressed events reported.
+	 */
+	public long reportSuppressed() {
+		final Logger logger = delegate.getLogger(RateLimitingLoggingConcern.class);
+		long reportedCount = 0;
+		for(final Rule rule : rules) {
+			final long count = rule.takeUnreportedSuppressedCount();
+			if(count > 0) {
+				logger.warn("Suppressed {} log event(s) at level {} and below for loggers `{}`.", count, rule.getLevel(), rule.getLoggerNamePrefix());
+				reportedCount += count;
+			}
+		}
+		return reportedCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @implSpec This implementation stops periodic reports of suppressed events.
+	 */
+	@Override
+	public void close() {
+		stopSuppressionReports();
+	}
+
+	/**
+	 * A rule for sampling and limiting the rate of log events.
+	 * @author Garret Wilson
+	 */
+	public static final class Rule {
+
+		/** The number of slots in which theoretical arrival times are tracked; must be a power of two. */
+		private static final int SLOT_COUNT = 256;
+
+		/** The shift for the spacing of slots in the array, so that each slot occupies its own 64-byte cache line. */
+		private static final int SLOT_SPACING_SHIFT = 3;
+
+		/** The time origin, so that times of arrival are never negative. */
+		private static final long ORIGIN_NANOS = System.nanoTime();
+
+		private final String loggerNamePrefix;
+
+		/** @return The logger name prefix; the empty string indicates all loggers. */
+		public String getLoggerNamePrefix() {
+			return loggerNamePrefix;
+		}
+
+		private final Level level;
+
+		/** @return The most severe level to which the rule applies; the rule also applies to all less severe levels. */
+		public Level getLevel() {
+			return level;
+		}
+
+		private final double permitsPerSecond;
+
+		/** @return The sustained number of events permitted per second for each call site; {@link Double#POSITIVE_INFINITY} if not rate limited. */
+		public double getPermitsPerSecond() {
+			return permitsPerSecond;
+		}
+
+		private final int burst;
+
+		/** @return The number of events for each call site permitted in a burst before the rate limit is imposed. */
+		public int getBurst() {
+			return burst;
+		}
+
+		private final double sampleRate;
+
+		/** @return The probability, from <code>0.0</code> to <code>1.0</code>, that an event will be sampled before any rate limit is applied. */
+		public double getSampleRate() {
+			return sampleRate;
+		}
+
+		/** The emission interval between events, or <code>0</code> if not rate limited. */
+		private final long intervalNanos;
+
+		/** The maximum amount by which the theoretical arrival time may exceed the current time. */
+		private final long toleranceNanos;
+
+		/** The theoretical arrival times, relative to the origin, at padded indexes for each slot. */
+		private final AtomicLongArray arrivalTimes;
+
+		private final LongAdder suppressedCount = new LongAdder();
+
+		/** @return The number of events this rule has suppressed. */
+		public long getSuppressedCount() {
+			return suppressedCount.sum();
+		}
+
+		/** The number of suppressed events already reported. */
+		private final AtomicLong reportedSuppressedCount = new AtomicLong();
+
+		/**
+		 * Constructor.
+		 * @param loggerNamePrefix The logger name prefix; the rule applies to the logger with this name and its descendants. The empty string indicates all
+		 *          loggers.
+		 * @param level The most severe level to which the rule applies; the rule also applies to all less severe levels.
+		 * @param permitsPerSecond The sustained number of events permitted per second for each call site, or {@link Double#POSITIVE_INFINITY} if the rate should
+		 *          not be limited.
+		 * @param burst The number of events for each call site permitted in a burst before the rate limit is imposed.
+		 * @param sampleRate The probability, from <code>0.0</code> to <code>1.0</code>, that an event will be sampled before any rate limit is applied.
+		 * @throws IllegalArgumentException if the permits per second is not positive, if the burst is not positive, or if the sample rate is not in the range
+		 *           <code>0.0</code> to <code>1.0</code>.
+		 */
+		public Rule(@Nonnull final String loggerNamePrefix, @Nonnull final Level level, final double permitsPerSecond, final int burst, final double sampleRate) {
+			this.loggerNamePrefix = Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(loggerNamePrefix) ? "" : requireNonNull(loggerNamePrefix);
+			this.level = requireNonNull(level);
+			if(!(permitsPerSecond > 0.0)) {
+				throw new IllegalArgumentException("Permits per second " + permitsPerSecond + " is not positive.");
+			}
+			this.permitsPerSecond = permitsPerSecond;
+			if(burst <= 0) {
+				throw new IllegalArgumentException("Burst " + burst + " is not positive.");
+			}
+			this.burst = burst;
+			if(!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+				throw new IllegalArgumentException("Sample rate " + sampleRate + " is not in the range 0.0 to 1.0.");
+			}
+			this.sampleRate = sampleRate;
+			if(permitsPerSecond == Double.POSITIVE_INFINITY) {
+				intervalNanos = 0;
+				toleranceNanos = 0;
+				arrivalTimes = null;
+			} else {
+				intervalNanos = Math.max(1, (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+				toleranceNanos = intervalNanos * burst;
+				arrivalTimes = new AtomicLongArray(SLOT_COUNT << SLOT_SPACING_SHIFT);
+			}
+		}
+
+		/**
+		 * Creates a rule that limits the rate of events for each call site without sampling.
+		 * @param loggerNamePrefix The logger name prefix; the empty string indicates all loggers.
+		 * @param level The most severe level to which the rule applies.
+		 * @param permitsPerSecond The sustained number of events permitted per second for each call site.
+		 * @param burst The number of events for each call site permitted in a burst.
+		 * @return A new rate-limiting rule.
+		 * @throws IllegalArgumentException if the permits per second or the burst is not positive.
+		 */
+		public static Rule rateLimit(@Nonnull final String loggerNamePrefix, @Nonnull final Level level, final double permitsPerSecond, final int burst) {
+			return new Rule(loggerNamePrefix, level, permitsPerSecond, burst, 1.0);
+		}
+
+		/**
+		 * Creates a rule that samples events without limiting their rate.
+		 * @param loggerNamePrefix The logger name prefix; the empty string indicates all loggers.
+		 * @param level The most severe level to which the rule applies.
+		 * @param sampleRate The probability, from <code>0.0</code> to <code>1.0</code>, that an event will be logged.
+		 * @return A new sampling rule.
+		 * @throws IllegalArgumentException if the sample rate is not in the range <code>0.0</code> to <code>1.0</code>.
+		 */
+		public static Rule sample(@Nonnull final String loggerNamePrefix, @Nonnull final Level level, final double sampleRate) {
+			return new Rule(loggerNamePrefix, level, Double.POSITIVE_INFINITY, 1, sampleRate);
+		}
+
+		/**
+		 * Determines whether this rule applies to the logger with the given name; that is, whether the logger name equals or descends from the prefix.
+		 * @param loggerName The logger name.
+		 * @return <code>true</code> if the rule applies to the named logger.
+		 */
+		boolean appliesTo(@Nonnull final String loggerName) {
+			final int prefixLength = loggerNamePrefix.length();
+			return prefixLength == 0
+					|| (loggerName.startsWith(loggerNamePrefix) && (loggerName.length() == prefixLength || loggerName.charAt(prefixLength) == '.'));
+		}
+
+		/**
+		 * Determines whether this rule applies to events at the given level.
+		 * @param eventLevel The level of the event.
+		 * @return <code>true</code> if the level is the same or less severe than the level of the rule.
+		 */
+		boolean appliesTo(@Nonnull final Level eventLevel) {
+			return eventLevel.toInt() <= level.toInt();
+		}
+
+		/**
+		 * Determines whether an event from the given call site is permitted, recording the event as suppressed if not.
+		 * @implNote This method does not allocate or lock.
+		 * @param callSite The hash code identifying the call site.
+		 * @return <code>true</code> if the event should be logged.
+		 */
+		boolean permits(final int callSite) {
+			if(sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+				suppressedCount.increment();
+				return false;
+			}
+			if(arrivalTimes != null && !tryAcquire(callSite)) {
+				suppressedCount.increment();
+				return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Attempts to acquire a permit for the given call site using the generic cell rate algorithm.
+		 * @param callSite The hash code identifying the call site.
+		 * @return <code>true</code> if a permit was acquired.
+		 */
+		private boolean tryAcquire(final int callSite) {
+			final int index = (spread(callSite) & (SLOT_COUNT - 1)) << SLOT_SPACING_SHIFT;
+			final long now = System.nanoTime() - ORIGIN_NANOS;
+			while(true) {
+				final long arrivalTime = arrivalTimes.get(index);
+				final long newArrivalTime = Math.max(arrivalTime, now) + intervalNanos;
+				if(newArrivalTime - now > toleranceNanos) {
+					return false;
+				}
+				if(arrivalTimes.compareAndSet(index, arrivalTime, newArrivalTime)) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * Spreads the bits of a hash code so that the low bits used for slot selection depend on all bits.
+		 * @param hash The hash code.
+		 * @return The spread hash code.
+		 */
+		private static int spread(final int hash) {
+			final int h = hash * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+
+		/**
+		 * Returns the number of events suppressed since this method was last called, marking them as reported.
+		 * @return The number of suppressed events not yet reported.
+		 */
+		long takeUnreportedSuppressedCount() {
+			final long count = suppressedCount.sum();
+			return Math.max(0, count - reportedSuppressedCount.getAndAccumulate(count, Math::max));
+		}
+
+		@Override
+		public String toString() {
+			return "`" + loggerNamePrefix + "` " + level + ": " + permitsPerSecond + "/s burst " + burst + " sample " + sampleRate;
+		}
+
+	}
+
+}
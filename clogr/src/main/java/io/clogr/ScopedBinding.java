@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.*;
+import java.util.concurrent.Callable;
+
+import javax.annotation.*;
+
+/**
+ * Binds a value to the current thread for the duration of some operation.
+ * <p>
+ * If the Java platform provides <code>java.lang.ScopedValue</code>, the binding is made using a scoped value, which consumes no per-thread storage and is
+ * inherited by subtasks forked in a structured task scope, making it appropriate for virtual threads. Otherwise the binding falls back to a
+ * {@link ThreadLocal}, which is set for the duration of the operation and then restored.
+ * </p>
+ * @implNote Scoped values are accessed via method handles so that this library may still be compiled for and run on Java versions that do not provide them.
+ * @param <T> The type of value bound.
+ * @author Garret Wilson
+ */
+abstract class ScopedBinding<T> {
+
+	/**
+	 * Creates a new binding, using scoped values if available and functional.
+	 * @param <T> The type of value bound.
+	 * @return A new binding.
+	 */
+	static <T> ScopedBinding<T> create() {
+		try {
+			final ScopedBinding<Object> scopedValueBinding = new ScopedValueBinding<>();
+			final Object testValue = new Object();
+			scopedValueBinding.run(testValue, () -> { //verify that scoped values work, e.g. that preview features are enabled if required
+				if(scopedValueBinding.find() != testValue) {
+					throw new IllegalStateException("Scoped value not bound.");
+				}
+			});
+			@SuppressWarnings("unchecked")
+			final ScopedBinding<T> binding = (ScopedBinding<T>)scopedValueBinding;
+			return binding;
+		} catch(final Throwable throwable) {
+			return new ThreadLocalBinding<>();
+		}
+	}
+
+	/** @return <code>true</code> if this binding uses <code>java.lang.ScopedValue</code>, or <code>false</code> if it uses a thread-local variable. */
+	boolean isScopedValue() {
+		return this instanceof ScopedValueBinding;
+	}
+
+	/** @return The bound value, or <code>null</code> if no value is bound. */
+	@Nullable
+	abstract T find();
+
+	/**
+	 * Runs an operation with the given value bound.
+	 * @param value The value to bind.
+	 * @param runnable The operation to run.
+	 */
+	abstract void run(@Nonnull T value, @Nonnull Runnable runnable);
+
+	/**
+	 * Calls an operation with the given value bound.
+	 * @param <V> The type of value returned.
+	 * @param value The value to bind.
+	 * @param callable The operation to call.
+	 * @return The result of the operation.
+	 * @throws Exception if the operation throws an exception.
+	 */
+	abstract <V> V call(@Nonnull T value, @Nonnull Callable<V> callable) throws Exception;
+
+	/**
+	 * Binding using a thread-local variable, restoring any previous binding when the operation completes.
+	 * @param <T> The type of value bound.
+	 */
+	private static final class ThreadLocalBinding<T> extends ScopedBinding<T> {
+
+		private final ThreadLocal<T> threadLocal = new ThreadLocal<>();
+
+		@Override
+		T find() {
+			return threadLocal.get();
+		}
+
+		@Override
+		void run(final T value, final Runnable runnable) {
+			final T previousValue = threadLocal.get();
+			threadLocal.set(value);
+			try {
+				runnable.run();
+			} finally {
+				restore(previousValue);
+			}
+		}
+
+		@Override
+		<V> V call(final T value, final Callable<V> callable) throws Exception {
+			final T previousValue = threadLocal.get();
+			threadLocal.set(value);
+			try {
+				return callable.call();
+			} finally {
+				restore(previousValue);
+			}
+		}
+
+		/**
+		 * Restores a previous binding, removing the thread-local value altogether if there was none so as not to retain per-thread storage.
+		 * @param previousValue The previously bound value, or <code>null</code> if there was none.
+		 */
+		private void restore(@Nullable final T previousValue) {
+			if(previousValue != null) {
+				threadLocal.set(previousValue);
+			} else {
+				threadLocal.remove();
+			}
+		}
+
+	}
+
+	/**
+	 * Binding using <code>java.lang.ScopedValue</code>, accessed via method handles.
+	 * @implNote Only the methods <code>ScopedValue.newInstance()</code>, <code>ScopedValue.where(ScopedValue, Object)</code>,
+	 *           <code>ScopedValue.isBound()</code>, <code>ScopedValue.get()</code>, and <code>ScopedValue.Carrier.run(Runnable)</code> are used, as these are
+	 *           present with the same signatures in all Java versions providing scoped values. A call is implemented in terms of running.
+	 * @param <T> The type of value bound.
+	 */
+	private static final class ScopedValueBinding<T> extends ScopedBinding<T> {
+
+		private final Object scopedValue;
+
+		private final MethodHandle isBoundMethodHandle;
+
+		private final MethodHandle getMethodHandle;
+
+		private final MethodHandle whereMethodHandle;
+
+		private final MethodHandle runMethodHandle;
+
+		/**
+		 * Constructor.
+		 * @throws ReflectiveOperationException if scoped values are not available.
+		 * @throws Throwable if there is an error creating the scoped value.
+		 */
+		ScopedValueBinding() throws Throwable {
+			final Class<?> scopedValueClass = Class.forName("java.lang.ScopedValue");
+			final Class<?> carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+			final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			scopedValue = lookup.findStatic(scopedValueClass, "newInstance", methodType(scopedValueClass)).invoke();
+			isBoundMethodHandle = lookup.findVirtual(scopedValueClass, "isBound", methodType(boolean.class)).bindTo(scopedValue)
+					.asType(methodType(boolean.class));
+			getMethodHandle = lookup.findVirtual(scopedValueClass, "get", methodType(Object.class)).bindTo(scopedValue).asType(methodType(Object.class));
+			whereMethodHandle = MethodHandles.insertArguments(lookup.findStatic(scopedValueClass, "where", methodType(carrierClass, scopedValueClass, Object.class)),
+					0, scopedValue).asType(methodType(Object.class, Object.class));
+			runMethodHandle = lookup.findVirtual(carrierClass, "run", methodType(void.class, Runnable.class))
+					.asType(methodType(void.class, Object.class, Runnable.class));
+		}
+
+		@Override
+		T find() {
+			try {
+				if(!(boolean)isBoundMethodHandle.invokeExact()) {
+					return null;
+				}
+				@SuppressWarnings("unchecked")
+				final T value = (T)(Object)getMethodHandle.invokeExact();
+				return value;
+			} catch(final RuntimeException | Error unchecked) {
+				throw unchecked;
+			} catch(final Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+		}
+
+		@Override
+		void run(final T value, final Runnable runnable) {
+			try {
+				final Object carrier = (Object)whereMethodHandle.invokeExact((Object)value);
+				runMethodHandle.invokeExact(carrier, runnable);
+			} catch(final RuntimeException | Error unchecked) {
+				throw unchecked;
+			} catch(final Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+		}
+
+		@Override
+		<V> V call(final T value, final Callable<V> callable) throws Exception {
+			final Object[] result = new Object[1];
+			final Exception[] exception = new Exception[1];
+			run(value, () -> {
+				try {
+					result[0] = callable.call();
+				} catch(final RuntimeException runtimeException) {
+					throw runtimeException;
+				} catch(final Exception checkedException) {
+					exception[0] = checkedException;
+				}
+			});
+			if(exception[0] != null) {
+				throw exception[0];
+			}
+			@SuppressWarnings("unchecked")
+			final V resultValue = (V)result[0];
+			return resultValue;
+		}
+
+	}
+
+}
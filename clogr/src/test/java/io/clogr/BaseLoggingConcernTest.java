@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.*;
+import org.slf4j.*;
+
+/**
+ * Tests for {@link BaseLoggingConcern}.
+ * @author Garret Wilson
+ */
+public class BaseLoggingConcernTest {
+
+	/** Suppresses SLF4J warnings about a missing provider. */
+	@BeforeAll
+	public static void setSystemDefaultLoggingProvider() {
+		Clogr.setSystemDefaultLoggingProviderNop();
+	}
+
+	/** @see BaseLoggingConcern#getLoggerFactory() */
+	@Test
+	public void testLoggersCachedByName() {
+		final BaseLoggingConcern loggingConcern = (BaseLoggingConcern)LoggingConcern.DEFAULT;
+		final Logger logger = loggingConcern.getLogger(BaseLoggingConcernTest.class);
+		assertThat(logger.getName(), is(LoggerFactory.getLogger(BaseLoggingConcernTest.class).getName()));
+		assertThat(loggingConcern.getLogger(BaseLoggingConcernTest.class), is(sameInstance(logger)));
+		assertThat(loggingConcern.getLoggerFactory().getLogger(BaseLoggingConcernTest.class.getName()), is(sameInstance(logger)));
+	}
+
+	/** @see BaseLoggingConcern#refresh() */
+	@Test
+	public void testRefresh() {
+		final BaseLoggingConcern loggingConcern = (BaseLoggingConcern)LoggingConcern.DEFAULT;
+		final ILoggerFactory loggerFactory = loggingConcern.getLoggerFactory();
+		final Logger logger = loggingConcern.getLogger(BaseLoggingConcernTest.class);
+		loggingConcern.refresh();
+		assertThat(loggingConcern.getLoggerFactory(), is(sameInstance(loggerFactory)));
+		assertThat(loggingConcern.getLogger(BaseLoggingConcernTest.class).getName(), is(logger.getName()));
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+/**
+ * Tests for binding a logging concern using {@link Clogr#runWith(LoggingConcern, Runnable)} and {@link Clogr#callWith(LoggingConcern, Callable)}, and for
+ * propagating the logging concern to executors.
+ * @author Garret Wilson
+ */
+public class ClogrScopeTest {
+
+	/**
+	 * @see Clogr#runWith(LoggingConcern, Runnable)
+	 * @see Clogr#getLoggingConcern()
+	 */
+	@Test
+	public void testRunWithNested() {
+		final LoggingConcern outerLoggingConcern = new CountingLoggingConcern();
+		final LoggingConcern innerLoggingConcern = new CountingLoggingConcern();
+		final LoggingConcern unscopedLoggingConcern = Clogr.getLoggingConcern();
+		Clogr.runWith(outerLoggingConcern, () -> {
+			assertThat(Clogr.getLoggingConcern(), is(sameInstance(outerLoggingConcern)));
+			Clogr.runWith(innerLoggingConcern, () -> assertThat(Clogr.getLoggingConcern(), is(sameInstance(innerLoggingConcern))));
+			assertThat(Clogr.getLoggingConcern(), is(sameInstance(outerLoggingConcern)));
+		});
+		assertThat(Clogr.getLoggingConcern(), is(sameInstance(unscopedLoggingConcern)));
+	}
+
+	/** @see Clogr#callWith(LoggingConcern, Callable) */
+	@Test
+	public void testCallWith() throws Exception {
+		final LoggingConcern loggingConcern = new CountingLoggingConcern();
+		assertThat(Clogr.callWith(loggingConcern, Clogr::getLoggingConcern), is(sameInstance(loggingConcern)));
+		assertThrows(IOException.class, () -> Clogr.callWith(loggingConcern, () -> {
+			throw new IOException("test");
+		}));
+		assertThat(Clogr.getLoggingConcern(), is(not(sameInstance(loggingConcern))));
+	}
+
+	/**
+	 * Runs a million tasks, each logging under its own logging concern, and verifies that each task's message was routed to its own concern.
+	 * @implNote On Java versions providing virtual threads, each task runs in its own virtual thread; otherwise the tasks are run using a fixed thread pool.
+	 */
+	@Test
+	public void testMillionTasksEachWithOwnConcern() throws Exception {
+		final int taskCount = 1_000_000;
+		final AtomicLong routedCount = new AtomicLong();
+		final Semaphore inFlight = new Semaphore(10_000); //keep the number of pending tasks bounded
+		final ExecutorService executorService = newTaskExecutorService();
+		try {
+			for(int i = 0; i < taskCount; i++) {
+				inFlight.acquire();
+				final int taskIndex = i;
+				executorService.execute(() -> {
+					try {
+						final CountingLoggingConcern loggingConcern = new CountingLoggingConcern();
+						Clogr.runWith(loggingConcern, () -> {
+							Clogr.getLogger(ClogrScopeTest.class).info("Task {}.", taskIndex);
+							if(Clogr.getLoggingConcern() == loggingConcern && loggingConcern.getCount() == 1) {
+								routedCount.incrementAndGet();
+							}
+						});
+					} finally {
+						inFlight.release();
+					}
+				});
+			}
+		} finally {
+			executorService.shutdown();
+		}
+		assertThat(executorService.awaitTermination(5, TimeUnit.MINUTES), is(true));
+		assertThat(routedCount.get(), is((long)taskCount));
+	}
+
+	/**
+	 * @see Clogr#wrap(ExecutorService)
+	 * @see Clogr#wrap(Executor)
+	 */
+	@Test
+	public void testWrapExecutorService() throws Exception {
+		final LoggingConcern loggingConcern = new CountingLoggingConcern();
+		final ExecutorService executorService = Clogr.wrap(Executors.newSingleThreadExecutor());
+		try {
+			final LoggingConcern unscopedLoggingConcern = executorService.submit(Clogr::getLoggingConcern).get();
+			assertThat(unscopedLoggingConcern, is(not(sameInstance(loggingConcern))));
+			Clogr.runWith(loggingConcern, () -> {
+				try {
+					assertThat(executorService.submit(Clogr::getLoggingConcern).get(), is(sameInstance(loggingConcern)));
+					assertThat(executorService.invokeAny(List.of(Clogr::getLoggingConcern)), is(sameInstance(loggingConcern)));
+					assertThat(CompletableFuture.supplyAsync(Clogr::getLoggingConcern, Clogr.wrap((Executor)executorService)).get(),
+							is(sameInstance(loggingConcern)));
+				} catch(final InterruptedException | ExecutionException exception) {
+					throw new AssertionError(exception);
+				}
+			});
+			//the pool thread must not retain the concern after the task completes
+			assertThat(executorService.submit(Clogr::getLoggingConcern).get(), is(sameInstance(unscopedLoggingConcern)));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/** @see Clogr#newForkJoinPool(int) */
+	@Test
+	public void testNewForkJoinPool() throws Exception {
+		final CountingLoggingConcern loggingConcern = new CountingLoggingConcern();
+		final ForkJoinPool forkJoinPool = Clogr.callWith(loggingConcern, () -> Clogr.newForkJoinPool(2));
+		try {
+			final long routedCount = forkJoinPool.submit(() -> IntStream.range(0, 1000).parallel().filter(i -> {
+				Clogr.getLogger(ClogrScopeTest.class).info("Item {}.", i);
+				return Clogr.getLoggingConcern() == loggingConcern;
+			}).count()).get();
+			assertThat(routedCount, is(1000L));
+			assertThat(loggingConcern.getCount(), is(1000));
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	/**
+	 * Creates an executor service that runs each task in a new virtual thread if virtual threads are supported by the platform, falling back to a fixed thread
+	 * pool otherwise.
+	 * @return A new executor service.
+	 */
+	private static ExecutorService newTaskExecutorService() {
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(final ReflectiveOperationException reflectiveOperationException) {
+			return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		}
+	}
+
+	/** Logging concern that provides loggers counting the messages logged to the concern. */
+	private static final class CountingLoggingConcern implements LoggingConcern {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private final Logger logger = new LegacyAbstractLogger() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean isTraceEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isDebugEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isInfoEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isWarnEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isErrorEnabled() {
+				return true;
+			}
+
+			@Override
+			protected String getFullyQualifiedCallerName() {
+				return null;
+			}
+
+			@Override
+			protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern, final Object[] arguments,
+					final Throwable throwable) {
+				count.incrementAndGet();
+			}
+
+		};
+
+		/** @return The number of messages logged to this concern. */
+		public int getCount() {
+			return count.get();
+		}
+
+		@Override
+		public ILoggerFactory getLoggerFactory() {
+			return name -> logger;
+		}
+
+		@Override
+		public void setLogLevel(final Logger logger, final Level level) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+import io.clogr.ClogrEvents.LevelSetting;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
+
+/**
+ * Tests of {@link JfrLoggingConcern} and the flight recorder events of {@link ClogrEvents}.
+ * @author Garret Wilson
+ */
+public class JfrLoggingConcernTest {
+
+	/**
+	 * Records the Clogr events emitted by an operation.
+	 * @param logLevel The minimum level of log events to record.
+	 * @param tempDir The directory in which to store the recording.
+	 * @param runnable The operation to record.
+	 * @return The recorded Clogr events.
+	 */
+	private static List<RecordedEvent> record(final Level logLevel, final Path tempDir, final Runnable runnable) throws Exception {
+		final Path file = tempDir.resolve("recording.jfr");
+		try (final Recording recording = new Recording()) {
+			recording.enable(ClogrEvents.LOG_EVENT_NAME).with("level", logLevel.name());
+			recording.enable(ClogrEvents.CONCERN_RESOLUTION_EVENT_NAME);
+			recording.enable(ClogrEvents.CONCERN_SWITCH_EVENT_NAME);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file).stream().filter(event -> event.getEventType().getCategoryNames().contains(ClogrEvents.CATEGORY))
+				.collect(toList());
+	}
+
+	/** Tests that a log event is recorded for each logging call at or above the configured level that the delegate logger has enabled. */
+	@Test
+	void testLogEventsRecorded(@TempDir final Path tempDir) throws Exception {
+		final JfrLoggingConcern concern = new JfrLoggingConcern(new TestLoggingConcern());
+		final Logger logger = concern.getLoggerFactory().getLogger("com.example.foo");
+		final List<RecordedEvent> events = record(Level.DEBUG, tempDir, () -> {
+			logger.trace("trace"); //disabled in delegate
+			logger.debug("debug {}", 1);
+			logger.info("info");
+			logger.error("error", new IllegalStateException());
+		});
+		assertThat(events.stream().map(event -> event.getString("format")).collect(toList()), contains("debug {}", "info", "error"));
+		final RecordedEvent event = events.get(0);
+		assertThat(event.getEventType().getName(), is(ClogrEvents.LOG_EVENT_NAME));
+		assertThat(event.getString("level"), is("DEBUG"));
+		assertThat(event.getString("logger"), is("com.example.foo"));
+		assertThat(event.getString("concern"), is(TestLoggingConcern.DESCRIPTION));
+		assertThat(event.getEventType().getField("levelValue"), is(nullValue()));
+		assertThat(concern.toString(), is(TestLoggingConcern.DESCRIPTION));
+
+		final List<RecordedEvent> infoEvents = record(Level.INFO, tempDir, () -> {
+			logger.debug("debug {}", 1);
+			logger.warn("warn");
+		});
+		assertThat(infoEvents.stream().map(infoEvent -> infoEvent.getString("format")).collect(toList()), contains("warn"));
+	}
+
+	/**
+	 * Tests that resolving and switching logging concerns are recorded.
+	 * @see Clogr#runWith(LoggingConcern, Runnable)
+	 * @see Clogr#getLoggingConcern()
+	 */
+	@Test
+	void testConcernEventsRecorded(@TempDir final Path tempDir) throws Exception {
+		final TestLoggingConcern concern = new TestLoggingConcern();
+		final List<RecordedEvent> events = record(Level.INFO, tempDir, () -> Clogr.runWith(concern, () -> {
+			assertThat(Clogr.getLoggingConcern(), is(sameInstance(concern)));
+		}));
+		assertThat(events.stream().map(event -> event.getEventType().getName()).collect(toList()),
+				contains(ClogrEvents.CONCERN_RESOLUTION_EVENT_NAME, ClogrEvents.CONCERN_SWITCH_EVENT_NAME));
+		final RecordedEvent resolutionEvent = events.get(0);
+		assertThat(resolutionEvent.getString("concern"), is(TestLoggingConcern.DESCRIPTION));
+		assertThat(resolutionEvent.getString("source"), is(ClogrEvents.SOURCE_SCOPE));
+		final RecordedEvent switchEvent = events.get(1);
+		assertThat(switchEvent.getString("scope"), is(ClogrEvents.SCOPE_THREAD));
+		assertThat(switchEvent.getString("concern"), is(TestLoggingConcern.DESCRIPTION));
+		assertThat(switchEvent.getString("previousConcern"), is(nullValue()));
+		assertThat(switchEvent.getStartTime(), is(lessThanOrEqualTo(resolutionEvent.getStartTime())));
+	}
+
+	/** Tests that the level setting combines the levels of several recordings using the least severe level. */
+	@Test
+	void testLevelSettingCombine() {
+		final LevelSetting levelSetting = new LevelSetting();
+		assertThat(levelSetting.combine(Set.of("warn", "DEBUG", "bad")), is("DEBUG"));
+		assertThat(levelSetting.combine(Set.of()), is("INFO"));
+		levelSetting.setValue("trace");
+		assertThat(levelSetting.getValue(), is("TRACE"));
+		levelSetting.setValue("bad");
+		assertThat(levelSetting.getValue(), is("TRACE"));
+	}
+
+	/** Logging concern with loggers that discard messages, enabled for all levels except {@link Level#TRACE}. */
+	private static final class TestLoggingConcern implements LoggingConcern {
+
+		static final String DESCRIPTION = "test-concern";
+
+		@Override
+		public ILoggerFactory getLoggerFactory() {
+			return TestLogger::new;
+		}
+
+		@Override
+		public void setLogLevel(final Logger logger, final Level level) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toString() {
+			return DESCRIPTION;
+		}
+
+		/** Logger that discards messages. */
+		private static final class TestLogger extends LegacyAbstractLogger {
+
+			private static final long serialVersionUID = 1L;
+
+			TestLogger(final String name) {
+				this.name = name;
+			}
+
+			@Override
+			public boolean isTraceEnabled() {
+				return false;
+			}
+
+			@Override
+			public boolean isDebugEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isInfoEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isWarnEnabled() {
+				return true;
+			}
+
+			@Override
+			public boolean isErrorEnabled() {
+				return true;
+			}
+
+			@Override
+			protected String getFullyQualifiedCallerName() {
+				return null;
+			}
+
+			@Override
+			protected void handleNormalizedLoggingCall(final org.slf4j.event.Level level, final Marker marker, final String messagePattern,
+					final Object[] arguments, final Throwable throwable) {
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.*;
+
+import org.junit.jupiter.api.*;
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.NOPLoggerFactory;
+
+/**
+ * Tests for {@link LoggerCache}.
+ * @author Garret Wilson
+ */
+public class LoggerCacheTest {
+
+	/** Logging concern that counts the loggers it resolves. */
+	private static final class CountingLoggingConcern implements LoggingConcern {
+
+		private final ILoggerFactory loggerFactory = new NOPLoggerFactory();
+
+		final AtomicInteger resolvedLoggerCount = new AtomicInteger();
+
+		@Override
+		public ILoggerFactory getLoggerFactory() {
+			return loggerFactory;
+		}
+
+		@Override
+		public Logger getLogger(@Nonnull final Class<?> contextClass) {
+			resolvedLoggerCount.incrementAndGet();
+			return LoggingConcern.super.getLogger(contextClass);
+		}
+
+		@Override
+		public void setLogLevel(final Logger logger, final Level level) {
+		}
+
+	}
+
+	/** Tests that loggers of several alternating concerns remain cached for the same class. */
+	@Test
+	public void testAlternatingConcernsCached() {
+		final CountingLoggingConcern[] loggingConcerns = new CountingLoggingConcern[LoggerCache.WAY_COUNT];
+		for(int i = 0; i < loggingConcerns.length; i++) {
+			loggingConcerns[i] = new CountingLoggingConcern();
+		}
+		for(int round = 0; round < 10; round++) {
+			for(final CountingLoggingConcern loggingConcern : loggingConcerns) {
+				LoggerCache.getLogger(loggingConcern, LoggerCacheTest.class);
+			}
+		}
+		for(final CountingLoggingConcern loggingConcern : loggingConcerns) {
+			assertThat(loggingConcern.resolvedLoggerCount.get(), is(1));
+		}
+	}
+
+	/** Tests that invalidating the cache causes loggers to be resolved again. */
+	@Test
+	public void testInvalidate() {
+		final CountingLoggingConcern loggingConcern = new CountingLoggingConcern();
+		LoggerCache.getLogger(loggingConcern, LoggerCacheTest.class);
+		LoggerCache.getLogger(loggingConcern, LoggerCacheTest.class);
+		assertThat(loggingConcern.resolvedLoggerCount.get(), is(1));
+		LoggerCache.invalidate();
+		LoggerCache.getLogger(loggingConcern, LoggerCacheTest.class);
+		assertThat(loggingConcern.resolvedLoggerCount.get(), is(2));
+	}
+
+}
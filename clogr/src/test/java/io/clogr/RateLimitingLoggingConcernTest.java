@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 GlobalMentor, Inc. <https://www.globalmentor.com/>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.clogr;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.*;
+import org.slf4j.*;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+import io.clogr.RateLimitingLoggingConcern.Rule;
+
+/**
+ * Tests of {@link RateLimitingLoggingConcern}.
+ * @author Garret Wilson
+ */
+public class RateLimitingLoggingConcernTest {
+
+	@Test
+	void testRateLimitAppliesPerCallSiteUpToBurst() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern).addRule(Rule.rateLimit("com.example", Level.INFO, 0.001, 3));
+		final Logger logger = concern.getLoggerFactory().getLogger("com.example.foo");
+		for(int i = 0; i < 10; i++) {
+			logger.info("limited {}", i);
+			logger.warn("not limited {}", i);
+			logger.atDebug().log("fluent");
+		}
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.INFO), contains("limited {}", "limited {}", "limited {}"));
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.WARN), hasSize(10));
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.DEBUG), hasSize(3));
+		assertThat(concern.getSuppressedCount(), is(14L));
+	}
+
+	@Test
+	void testRulesApplyToLoggerAndDescendants() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern).addRule(Rule.sample("com.example", Level.ERROR, 0.0));
+		for(final String loggerName : List.of("com.example", "com.example.foo", "com.examples", "org.example")) {
+			concern.getLoggerFactory().getLogger(loggerName).error("test");
+		}
+		assertThat(recordingConcern.getMessages("com.example", Level.ERROR), is(empty()));
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.ERROR), is(empty()));
+		assertThat(recordingConcern.getMessages("com.examples", Level.ERROR), hasSize(1));
+		assertThat(recordingConcern.getMessages("org.example", Level.ERROR), hasSize(1));
+	}
+
+	@Test
+	void testMostSpecificRuleApplies() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final Logger logger = recordingConcern.getLoggerFactory().getLogger("com.example.foo");
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern);
+		final Logger rateLimitingLogger = concern.getLoggerFactory().getLogger(logger.getName());
+		rateLimitingLogger.info("before rules");
+		concern.addRule(Rule.sample(Logger.ROOT_LOGGER_NAME, Level.ERROR, 0.0)).addRule(Rule.sample("com.example", Level.ERROR, 1.0));
+		rateLimitingLogger.info("after rules");
+		concern.getLoggerFactory().getLogger("org.example").info("other");
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.INFO), contains("before rules", "after rules"));
+		assertThat(recordingConcern.getMessages("org.example", Level.INFO), is(empty()));
+	}
+
+	@Test
+	void testSampleRate() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern).addRule(Rule.sample("", Level.INFO, 0.5));
+		final Logger logger = concern.getLoggerFactory().getLogger("com.example.foo");
+		for(int i = 0; i < 10_000; i++) {
+			logger.info("sampled");
+		}
+		final int sampledCount = recordingConcern.getMessages("com.example.foo", Level.INFO).size();
+		assertThat(sampledCount, is(both(greaterThan(4_000)).and(lessThan(6_000))));
+		assertThat(concern.getSuppressedCount(), is(10_000L - sampledCount));
+	}
+
+	@Test
+	void testReportSuppressed() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern).addRule(Rule.sample("com.example", Level.INFO, 0.0));
+		final Logger logger = concern.getLoggerFactory().getLogger("com.example.foo");
+		for(int i = 0; i < 5; i++) {
+			logger.info("suppressed");
+		}
+		assertThat(concern.reportSuppressed(), is(5L));
+		assertThat(recordingConcern.getMessages(RateLimitingLoggingConcern.class.getName(), Level.WARN), hasSize(1));
+		assertThat(concern.reportSuppressed(), is(0L));
+		assertThat(recordingConcern.getMessages(RateLimitingLoggingConcern.class.getName(), Level.WARN), hasSize(1));
+		assertThat(concern.getSuppressedCount(), is(5L));
+	}
+
+	@Test
+	void testDisabledLevelConsumesNoPermits() {
+		final RecordingLoggingConcern recordingConcern = new RecordingLoggingConcern();
+		final RateLimitingLoggingConcern concern = new RateLimitingLoggingConcern(recordingConcern).addRule(Rule.rateLimit("com.example", Level.DEBUG, 0.001, 1));
+		final Logger logger = concern.getLoggerFactory().getLogger("com.example.foo");
+		recordingConcern.setLogLevel(Level.INFO);
+		for(int i = 0; i < 3; i++) {
+			logger.debug("disabled");
+			logger.atDebug().log("disabled fluent");
+			logger.makeLoggingEventBuilder(Level.DEBUG).log("disabled builder");
+		}
+		assertThat(concern.getSuppressedCount(), is(0L));
+		recordingConcern.setLogLevel(Level.TRACE);
+		logger.debug("enabled");
+		assertThat(recordingConcern.getMessages("com.example.foo", Level.DEBUG), contains("enabled"));
+	}
+
+	@Test
+	void testInvalidRules() {
+		assertThrows(IllegalArgumentException.class, () -> Rule.rateLimit("", Level.INFO, 0.0, 1));
+		assertThrows(IllegalArgumentException.class, () -> Rule.rateLimit("", Level.INFO, 1.0, 0));
+		assertThrows(IllegalArgumentException.class, () -> Rule.sample("", Level.INFO, 1.5));
+	}
+
+	/**
+	 * Logging concern that records the message patterns logged to each logger and level.
+	 * @author Garret Wilson
+	 */
+	private static final class RecordingLoggingConcern implements LoggingConcern {
+
+		private final Map<String, List<String>> messages = new ConcurrentHashMap<>();
+
+		private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+
+		/** The minimum level enabled for all loggers. */
+		private volatile Level level = Level.TRACE;
+
+		/**
+		 * Returns the message patterns logged to the given logger at the given level.
+		 * @param loggerName The name of the logger.
+		 * @param level The level of the messages.
+		 * @return The messages logged, in order.
+		 */
+		public List<String> getMessages(final String loggerName, final Level level) {
+			return messages.getOrDefault(loggerName + ':' + level, List.of());
+		}
+
+		@Override
+		public ILoggerFactory getLoggerFactory() {
+			return name -> loggers.computeIfAbsent(name, RecordingLogger::new);
+		}
+
+		@Override
+		public void setLogLevel(final Logger logger, final Level level) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @implSpec This implementation sets the minimum level enabled for all loggers.
+		 */
+		@Override
+		public void setLogLevel(final Level level) {
+			this.level = level;
+		}
+
+		/** Logger that records messages at the enabled levels. */
+		private final class RecordingLogger extends LegacyAbstractLogger {
+
+			private static final long serialVersionUID = 1L;
+
+			RecordingLogger(final String name) {
+				this.name = name;
+			}
+
+			@Override
+			public boolean isTraceEnabled() {
+				return Level.TRACE.toInt() >= level.toInt();
+			}
+
+			@Override
+			public boolean isDebugEnabled() {
+				return Level.DEBUG.toInt() >= level.toInt();
+			}
+
+			@Override
+			public boolean isInfoEnabled() {
+				return Level.INFO.toInt() >= level.toInt();
+			}
+
+			@Override
+			public boolean isWarnEnabled() {
+				return Level.WARN.toInt() >= level.toInt();
+			}
+
+			@Override
+			public boolean isErrorEnabled() {
+				return Level.ERROR.toInt() >= level.toInt();
+			}
+
+			@Override
+			protected String getFullyQualifiedCallerName() {
+				return null;
+			}
+
+			@Override
+			protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern, final Object[] arguments,
+					final Throwable throwable) {
+				messages.computeIfAbsent(name + ':' + level, key -> Collections.synchronizedList(new ArrayList<>())).add(messagePattern);
+			}
+
+		}
+
+	}
+
+}